@@ -0,0 +1,87 @@
+package com.linkedin.datahub.graphql;
+
+import com.codahale.metrics.Timer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+
+/**
+ * Keeps the parsed and validated documents of recently executed queries, keyed by the SHA-256 hash of the query text.
+ *
+ * <p>The hash is the persisted query id of the Apollo protocol, so when persisted queries are enabled clients may send
+ * only the hash in the "persistedQuery" extension of a query executed before. If it is no longer cached a
+ * PersistedQueryNotFound error asks the client to send the query text along with the hash.
+ */
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    private static final String SHA256_HASH_FIELD = "sha256Hash";
+
+    private final Cache<String, PreparsedDocumentEntry> _documentCache;
+    private final boolean _persistedQueriesEnabled;
+
+    public CachingPreparsedDocumentProvider(final long maxSize, final boolean persistedQueriesEnabled) {
+        _documentCache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+        _persistedQueriesEnabled = persistedQueriesEnabled;
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+        Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        final String persistedQueryId = _persistedQueriesEnabled ? getPersistedQueryId(executionInput) : null;
+        final String query = executionInput.getQuery();
+        final String queryHash;
+        if (query == null || query.isEmpty()) {
+            if (persistedQueryId == null) {
+                return parseAndValidateFunction.apply(executionInput);
+            }
+            queryHash = persistedQueryId;
+        } else {
+            queryHash = Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+            if (persistedQueryId != null && !persistedQueryId.equalsIgnoreCase(queryHash)) {
+                return new PreparsedDocumentEntry(new PersistedQueryIdInvalid(persistedQueryId));
+            }
+        }
+
+        final PreparsedDocumentEntry cachedEntry = _documentCache.getIfPresent(queryHash.toLowerCase());
+        if (cachedEntry != null) {
+            MetricUtils.counter(this.getClass(), "cacheHit").inc();
+            return cachedEntry;
+        }
+        MetricUtils.counter(this.getClass(), "cacheMiss").inc();
+        if (query == null || query.isEmpty()) {
+            return new PreparsedDocumentEntry(new PersistedQueryNotFound(persistedQueryId));
+        }
+
+        final PreparsedDocumentEntry entry;
+        try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "parseAndValidate").time()) {
+            entry = parseAndValidateFunction.apply(executionInput);
+        }
+        // Invalid queries are not cached, they would only push out the queries of well behaved clients
+        if (!entry.hasErrors()) {
+            _documentCache.put(queryHash, entry);
+        }
+        return entry;
+    }
+
+    @Nullable
+    private static String getPersistedQueryId(ExecutionInput executionInput) {
+        final Map<String, Object> extensions = executionInput.getExtensions();
+        if (extensions == null || !(extensions.get(PERSISTED_QUERY_EXTENSION) instanceof Map)) {
+            return null;
+        }
+        final Object hash = ((Map<?, ?>) extensions.get(PERSISTED_QUERY_EXTENSION)).get(SHA256_HASH_FIELD);
+        return hash instanceof String ? (String) hash : null;
+    }
+}
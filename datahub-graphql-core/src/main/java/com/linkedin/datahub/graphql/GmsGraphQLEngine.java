@@ -18,6 +18,7 @@ import com.linkedin.datahub.graphql.analytics.resolver.GetHighlightsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.GetMetadataAnalyticsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.IsAnalyticsEnabledResolver;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.datahub.graphql.generated.AccessToken;
 import com.linkedin.datahub.graphql.generated.AccessTokenMetadata;
@@ -253,6 +254,8 @@ import com.linkedin.datahub.graphql.resolvers.view.DeleteViewResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListGlobalViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListMyViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.UpdateViewResolver;
+import com.linkedin.datahub.graphql.types.AspectProjectedType;
+import com.linkedin.datahub.graphql.types.AspectProjectedType.ProjectedKey;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.EntityType;
 import com.linkedin.datahub.graphql.types.LoadableType;
@@ -331,7 +334,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -571,12 +574,18 @@ public class GmsGraphQLEngine {
      * a {@link LoadableType}.
      */
     public Map<String, Function<QueryContext, DataLoader<?, ?>>> loaderSuppliers(final List<LoadableType<?, ?>> loadableTypes) {
-        return loadableTypes
+        final Map<String, Function<QueryContext, DataLoader<?, ?>>> loaderSuppliers = loadableTypes
             .stream()
             .collect(Collectors.toMap(
                 LoadableType::name,
                 (graphType) -> (context) -> createDataLoader(graphType, context)
             ));
+        loadableTypes.stream()
+            .filter(type -> (type instanceof AspectProjectedType<?, ?>))
+            .map(type -> (AspectProjectedType<?, ?>) type)
+            .forEach(graphType -> loaderSuppliers.put(graphType.projectedName(),
+                (context) -> createProjectedDataLoader(graphType, context)));
+        return loaderSuppliers;
     }
 
     public void configureRuntimeWiring(final RuntimeWiring.Builder builder) {
@@ -1707,7 +1716,7 @@ public class GmsGraphQLEngine {
     private <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType, final QueryContext queryContext) {
         BatchLoaderContextProvider contextProvider = () -> queryContext;
         DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
-        return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
+        return DataLoader.newDataLoader((keys, context) -> GraphQLConcurrencyUtils.supplyAsync(() -> {
             try {
                 log.debug(String.format("Batch loading entities of type: %s, keys: %s", graphType.name(), keys));
                 return graphType.batchLoad(keys, context.getContext());
@@ -1715,7 +1724,28 @@ public class GmsGraphQLEngine {
                 log.error(String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys) + " " + e.getMessage());
                 throw new RuntimeException(String.format("Failed to retrieve entities of type %s", graphType.name()), e);
             }
-        }), loaderOptions);
+        }, "GmsGraphQLEngine", "createDataLoader"), loaderOptions);
+    }
+
+    private <T, K> DataLoader<ProjectedKey<K>, DataFetcherResult<T>> createProjectedDataLoader(
+        final AspectProjectedType<T, K> graphType, final QueryContext queryContext) {
+        BatchLoaderContextProvider contextProvider = () -> queryContext;
+        DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
+        return DataLoader.newDataLoader((projectedKeys, context) -> GraphQLConcurrencyUtils.supplyAsync(() -> {
+            // The entities of a batch are fetched in one call, with the aspects required by any of them
+            final List<K> keys = projectedKeys.stream().map(ProjectedKey::getKey).collect(Collectors.toList());
+            final Set<String> aspectNames = projectedKeys.stream()
+                .flatMap(projectedKey -> projectedKey.getAspectNames().stream())
+                .collect(Collectors.toSet());
+            try {
+                log.debug(String.format("Batch loading entities of type: %s, keys: %s, aspects: %s", graphType.name(), keys,
+                    aspectNames));
+                return graphType.batchLoad(keys, aspectNames, context.getContext());
+            } catch (Exception e) {
+                log.error(String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys) + " " + e.getMessage());
+                throw new RuntimeException(String.format("Failed to retrieve entities of type %s", graphType.name()), e);
+            }
+        }, "GmsGraphQLEngine", "createProjectedDataLoader"), loaderOptions);
     }
 
     private void configureIngestionSourceResolvers(final RuntimeWiring.Builder builder) {
@@ -1,19 +1,35 @@
 package com.linkedin.datahub.graphql;
 
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
+import com.linkedin.datahub.graphql.exception.DataHubGraphQLError;
+import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
+import graphql.execution.ResultPath;
 import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Field;
+import graphql.language.OperationDefinition;
+import graphql.language.SourceLocation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -35,14 +51,23 @@ import static graphql.schema.idl.RuntimeWiring.*;
  */
 public class GraphQLEngine {
 
+    // Key of the GraphQL context entry receiving the name of the root field of the executed operation
+    private static final String ROOT_FIELD_NAME_CONSUMER = "rootFieldNameConsumer";
+
     private final GraphQL _graphQL;
+    private final GraphQL _tracingGraphQL;
     private final Map<String, Function<QueryContext, DataLoader<?, ?>>> _dataLoaderSuppliers;
+    private final long _queryTimeoutSeconds;
 
     private GraphQLEngine(@Nonnull final List<String> schemas,
                           @Nonnull final RuntimeWiring runtimeWiring,
-                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers) {
+                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
+                          final long queryTimeoutSeconds,
+                          final long queryCacheSize,
+                          final boolean persistedQueriesEnabled) {
 
         _dataLoaderSuppliers = dataLoaderSuppliers;
+        _queryTimeoutSeconds = queryTimeoutSeconds;
 
         /*
          * Parse schema
@@ -58,17 +83,60 @@ public class GraphQLEngine {
         GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
 
         /*
-         * Instantiate engine
+         * Instantiate engines, tracing is only collected when requested as it is costly for large results.
+         * Both share the cache of parsed and validated queries.
          */
+        final PreparsedDocumentProvider documentProvider = queryCacheSize > 0
+            ? new CachingPreparsedDocumentProvider(queryCacheSize, persistedQueriesEnabled)
+            : NoOpPreparsedDocumentProvider.INSTANCE;
         _graphQL = new GraphQL.Builder(graphQLSchema)
             .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(new TracingInstrumentation())
+            .preparsedDocumentProvider((executionInput, parseAndValidateFunction) -> {
+                final PreparsedDocumentEntry entry =
+                    documentProvider.getDocument(executionInput, parseAndValidateFunction);
+                notifyRootFieldName(executionInput, entry);
+                return entry;
+            })
             .build();
+        _tracingGraphQL = _graphQL.transform(builder -> builder.instrumentation(new TracingInstrumentation()));
     }
 
     public ExecutionResult execute(@Nonnull final String query,
                                    @Nullable final Map<String, Object> variables,
                                    @Nonnull final QueryContext context) {
+        return execute(query, variables, null, false, context);
+    }
+
+    /**
+     * Executes a query.
+     *
+     * @param query the query text, may be empty when the extensions reference a persisted query
+     * @param variables the variables of the query
+     * @param extensions the extensions of the request, e.g. "persistedQuery"
+     * @param tracing whether to add tracing information to the extensions of the result
+     * @param context the {@link QueryContext} of the request
+     */
+    public ExecutionResult execute(@Nullable final String query,
+                                   @Nullable final Map<String, Object> variables,
+                                   @Nullable final Map<String, Object> extensions,
+                                   final boolean tracing,
+                                   @Nonnull final QueryContext context) {
+        return execute(query, variables, extensions, tracing, context, null);
+    }
+
+    /**
+     * Executes a query, see {@link #execute(String, Map, Map, boolean, QueryContext)}.
+     *
+     * @param rootFieldNameConsumer receives the name of the first root field of the operation once the query is parsed
+     *     and validated, not its alias, so that it is one of the fields of the schema. It is not called for invalid
+     *     queries.
+     */
+    public ExecutionResult execute(@Nullable final String query,
+                                   @Nullable final Map<String, Object> variables,
+                                   @Nullable final Map<String, Object> extensions,
+                                   final boolean tracing,
+                                   @Nonnull final QueryContext context,
+                                   @Nullable final Consumer<String> rootFieldNameConsumer) {
         /*
          * Init DataLoaderRegistry - should be created for each request.
          */
@@ -78,16 +146,58 @@ public class GraphQLEngine {
          * Construct execution input
          */
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
-            .query(query)
+            .query(query != null ? query : "")
             .variables(variables)
+            .extensions(extensions != null ? extensions : Collections.emptyMap())
             .dataLoaderRegistry(register)
             .context(context)
+            .graphQLContext(rootFieldNameConsumer != null
+                ? Collections.<String, Object>singletonMap(ROOT_FIELD_NAME_CONSUMER, rootFieldNameConsumer)
+                : Collections.<String, Object>emptyMap())
             .build();
 
         /*
          * Execute GraphQL Query
          */
-        return _graphQL.execute(executionInput);
+        final GraphQL graphQL = tracing ? _tracingGraphQL : _graphQL;
+        if (_queryTimeoutSeconds <= 0) {
+            return graphQL.execute(executionInput);
+        }
+        final CompletableFuture<ExecutionResult> executionResult = graphQL.executeAsync(executionInput);
+        try {
+            return executionResult.get(_queryTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // Cancelling only completes the future, it does not interrupt anything: resolvers already running complete in
+            // the background and keep their threads, their results are dropped
+            executionResult.cancel(true);
+            MetricUtils.counter(this.getClass(), "query_timeout").inc();
+            return ExecutionResultImpl.newExecutionResult()
+                .addError(new DataHubGraphQLError(
+                    String.format("Query did not complete within %s seconds", _queryTimeoutSeconds),
+                    ResultPath.rootPath(),
+                    SourceLocation.EMPTY,
+                    DataHubGraphQLErrorCode.SERVER_ERROR))
+                .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while executing GraphQL query", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to execute GraphQL query", e.getCause());
+        }
+    }
+
+    private static void notifyRootFieldName(@Nonnull final ExecutionInput executionInput,
+                                            @Nonnull final PreparsedDocumentEntry entry) {
+        final Consumer<String> rootFieldNameConsumer = executionInput.getGraphQLContext().get(ROOT_FIELD_NAME_CONSUMER);
+        if (rootFieldNameConsumer == null || entry.hasErrors() || entry.getDocument() == null) {
+            return;
+        }
+        final String operationName = executionInput.getOperationName();
+        entry.getDocument().getDefinitionsOfType(OperationDefinition.class).stream()
+            .filter(operation -> operationName == null || operationName.equals(operation.getName()))
+            .findFirst()
+            .flatMap(operation -> operation.getSelectionSet().getSelectionsOfType(Field.class).stream().findFirst())
+            .ifPresent(field -> rootFieldNameConsumer.accept(field.getName()));
     }
 
     public GraphQL getGraphQL() {
@@ -106,6 +216,9 @@ public class GraphQLEngine {
         private final List<String> _schemas = new ArrayList<>();
         private final Map<String, Function<QueryContext, DataLoader<?, ?>>> _loaderSuppliers = new HashMap<>();
         private final RuntimeWiring.Builder _runtimeWiringBuilder = newRuntimeWiring();
+        private long _queryTimeoutSeconds = 0;
+        private long _queryCacheSize = 0;
+        private boolean _persistedQueriesEnabled = false;
 
         /**
          * Used to add a schema file containing the GQL types resolved by the engine.
@@ -153,11 +266,38 @@ public class GraphQLEngine {
             return this;
         }
 
+        /**
+         * Used to bound the time a query may take. Requests exceeding it are answered with an error, 0 disables the
+         * timeout.
+         */
+        public Builder setQueryTimeoutSeconds(final long queryTimeoutSeconds) {
+            _queryTimeoutSeconds = queryTimeoutSeconds;
+            return this;
+        }
+
+        /**
+         * Used to cache the parsed and validated documents of up to the given number of queries, 0 disables the cache.
+         */
+        public Builder setQueryCacheSize(final long queryCacheSize) {
+            _queryCacheSize = queryCacheSize;
+            return this;
+        }
+
+        /**
+         * Used to let clients send the hash of a cached query instead of its text, see
+         * {@link CachingPreparsedDocumentProvider}. Requires the query cache.
+         */
+        public Builder setPersistedQueriesEnabled(final boolean persistedQueriesEnabled) {
+            _persistedQueriesEnabled = persistedQueriesEnabled;
+            return this;
+        }
+
         /**
          * Builds a {@link GraphQLEngine}.
          */
         public GraphQLEngine build() {
-            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers);
+            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers, _queryTimeoutSeconds,
+                _queryCacheSize, _persistedQueriesEnabled);
         }
     }
 
@@ -0,0 +1,80 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Runs the blocking work of asynchronous resolvers on a dedicated executor rather than the common ForkJoinPool, whose
+ * few threads are easily exhausted by blocking entity, search and graph calls.
+ *
+ * The executor is installed once at startup, see GraphQLEngineFactory. Until then, for instance in unit tests,
+ * resolvers run on the common pool as before.
+ *
+ * For every resolver, the time spent waiting for a thread and the execution time are reported.
+ */
+public class GraphQLConcurrencyUtils {
+
+  private static volatile ExecutorService graphQLExecutorService = null;
+
+  private GraphQLConcurrencyUtils() {
+  }
+
+  public static void setExecutorService(@Nullable final ExecutorService executorService) {
+    graphQLExecutorService = executorService;
+  }
+
+  @Nonnull
+  public static ExecutorService getExecutorService() {
+    final ExecutorService executorService = graphQLExecutorService;
+    return executorService != null ? executorService : ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Runs a supplier on the resolver executor.
+   *
+   * @param supplier the blocking work of the resolver
+   * @param caller name of the resolver, used to tag its metrics
+   * @param task name of the method of the resolver doing the work
+   */
+  @Nonnull
+  public static <T> CompletableFuture<T> supplyAsync(@Nonnull final Supplier<T> supplier, @Nonnull final String caller,
+      @Nonnull final String task) {
+    final long submittedAt = System.nanoTime();
+    return CompletableFuture.supplyAsync(() -> {
+      recordQueueWait(caller, task, submittedAt);
+      try (Timer.Context ignored = MetricUtils.get().timer(MetricRegistry.name(caller, task, "execute")).time()) {
+        return supplier.get();
+      }
+    }, getExecutorService());
+  }
+
+  /**
+   * Runs a runnable on the resolver executor, see {@link #supplyAsync(Supplier, String, String)}.
+   */
+  @Nonnull
+  public static CompletableFuture<Void> runAsync(@Nonnull final Runnable runnable, @Nonnull final String caller,
+      @Nonnull final String task) {
+    final long submittedAt = System.nanoTime();
+    return CompletableFuture.runAsync(() -> {
+      recordQueueWait(caller, task, submittedAt);
+      try (Timer.Context ignored = MetricUtils.get().timer(MetricRegistry.name(caller, task, "execute")).time()) {
+        runnable.run();
+      }
+    }, getExecutorService());
+  }
+
+  private static void recordQueueWait(@Nonnull final String caller, @Nonnull final String task, final long submittedAt) {
+    MetricUtils.get()
+        .timer(MetricRegistry.name(caller, task, "queueWait"))
+        .update(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+  }
+}
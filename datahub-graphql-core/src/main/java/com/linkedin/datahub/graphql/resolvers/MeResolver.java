@@ -6,6 +6,7 @@ import com.datahub.plugins.auth.authorization.Authorizer;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.datahub.graphql.generated.AuthenticatedUser;
 import com.linkedin.datahub.graphql.generated.CorpUser;
@@ -48,7 +49,7 @@ public class MeResolver implements DataFetcher<CompletableFuture<AuthenticatedUs
   @Override
   public CompletableFuture<AuthenticatedUser> get(DataFetchingEnvironment environment) {
     final QueryContext context = environment.getContext();
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         // 1. Get currently logged in user profile.
         final Urn userUrn = Urn.createFromString(context.getActorUrn());
@@ -83,7 +84,7 @@ public class MeResolver implements DataFetcher<CompletableFuture<AuthenticatedUs
       } catch (URISyntaxException | RemoteInvocationException e) {
         throw new RuntimeException("Failed to fetch authenticated user!", e);
       }
-    });
+    }, "MeResolver", "get");
   }
 
   /**
@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.assertion;
 
 import com.google.common.collect.ImmutableList;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Assertion;
 import com.linkedin.datahub.graphql.generated.AssertionResultType;
 import com.linkedin.datahub.graphql.generated.AssertionRunEvent;
@@ -42,7 +43,7 @@ public class AssertionRunEventResolver implements DataFetcher<CompletableFuture<
 
   @Override
   public CompletableFuture<AssertionRunEventsResult> get(DataFetchingEnvironment environment) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       final QueryContext context = environment.getContext();
 
@@ -89,7 +90,7 @@ public class AssertionRunEventResolver implements DataFetcher<CompletableFuture<
       } catch (RemoteInvocationException e) {
         throw new RuntimeException("Failed to retrieve Assertion Run Events from GMS", e);
       }
-    });
+    }, "AssertionRunEventResolver", "get");
   }
 
   @Nullable
@@ -5,6 +5,7 @@ import com.linkedin.assertion.AssertionInfo;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
@@ -39,7 +40,7 @@ public class DeleteAssertionResolver implements DataFetcher<CompletableFuture<Bo
   public CompletableFuture<Boolean> get(final DataFetchingEnvironment environment) throws Exception {
     final QueryContext context = environment.getContext();
     final Urn assertionUrn = Urn.createFromString(environment.getArgument("urn"));
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // 1. check the entity exists. If not, return false.
       if (!_entityService.exists(assertionUrn)) {
@@ -51,13 +52,13 @@ public class DeleteAssertionResolver implements DataFetcher<CompletableFuture<Bo
             _entityClient.deleteEntity(assertionUrn, context.getAuthentication());
 
             // Asynchronously Delete all references to the entity (to return quickly)
-            CompletableFuture.runAsync(() -> {
+            GraphQLConcurrencyUtils.runAsync(() -> {
               try {
                 _entityClient.deleteEntityReferences(assertionUrn, context.getAuthentication());
               } catch (RemoteInvocationException e) {
                 log.error(String.format("Caught exception while attempting to clear all entity references for assertion with urn %s", assertionUrn), e);
               }
-            });
+            }, "DeleteAssertionResolver", "get");
 
             return true;
           } catch (Exception e) {
@@ -65,7 +66,7 @@ public class DeleteAssertionResolver implements DataFetcher<CompletableFuture<Bo
           }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "DeleteAssertionResolver", "get");
   }
 
   /**
@@ -7,6 +7,7 @@ import com.datahub.authentication.token.TokenType;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.AccessToken;
 import com.linkedin.datahub.graphql.generated.AccessTokenType;
@@ -35,7 +36,7 @@ public class GetAccessTokenResolver implements DataFetcher<CompletableFuture<Acc
 
   @Override
   public CompletableFuture<AccessToken> get(final DataFetchingEnvironment environment) throws Exception {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final QueryContext context = environment.getContext();
       final GetAccessTokenInput input = bindArgument(environment.getArgument("input"), GetAccessTokenInput.class);
 
@@ -52,7 +53,7 @@ public class GetAccessTokenResolver implements DataFetcher<CompletableFuture<Acc
       }
       throw new AuthorizationException(
           "Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "GetAccessTokenResolver", "get");
   }
 
   private boolean isAuthorizedToGenerateToken(final QueryContext context, final GetAccessTokenInput input) {
@@ -7,6 +7,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.EntityClient;
@@ -37,7 +38,7 @@ public class RevokeAccessTokenResolver implements DataFetcher<CompletableFuture<
 
   @Override
   public CompletableFuture<Boolean> get(DataFetchingEnvironment environment) throws Exception {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final QueryContext context = environment.getContext();
       final String tokenId = bindArgument(environment.getArgument("tokenId"), String.class);
 
@@ -53,7 +54,7 @@ public class RevokeAccessTokenResolver implements DataFetcher<CompletableFuture<
       }
       throw new AuthorizationException(
           "Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "RevokeAccessTokenResolver", "get");
   }
 
   private boolean isAuthorizedToRevokeToken(final QueryContext context, final String tokenId) {
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.browse;
 
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.generated.BrowseInput;
 import com.linkedin.datahub.graphql.generated.BrowseResults;
@@ -40,7 +41,7 @@ public class BrowseResolver implements DataFetcher<CompletableFuture<BrowseResul
         final int start = input.getStart() != null ? input.getStart() : DEFAULT_START;
         final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
 
-        return CompletableFuture.supplyAsync(() -> {
+        return GraphQLConcurrencyUtils.supplyAsync(() -> {
             try {
                 _logger.debug(
                     String.format("Executing browse. entity type: %s, path: %s, filters: %s, start: %s, count: %s",
@@ -72,6 +73,6 @@ public class BrowseResolver implements DataFetcher<CompletableFuture<BrowseResul
                         start,
                         count), e);
             }
-        });
+        }, "BrowseResolver", "get");
     }
 }
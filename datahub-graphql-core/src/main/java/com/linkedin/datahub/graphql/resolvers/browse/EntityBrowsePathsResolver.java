@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.browse;
 
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.generated.BrowsePath;
@@ -24,12 +25,12 @@ public class EntityBrowsePathsResolver implements DataFetcher<CompletableFuture<
     final QueryContext context = environment.getContext();
     final String urn = ((Entity) environment.getSource()).getUrn();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         return _browsableType.browsePaths(urn, context);
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to retrieve browse paths for entity with urn %s", urn), e);
       }
-    });
+    }, "EntityBrowsePathsResolver", "get");
   }
 }
\ No newline at end of file
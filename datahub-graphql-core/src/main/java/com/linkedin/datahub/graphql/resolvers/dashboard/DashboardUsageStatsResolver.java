@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.dashboard;
 
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.DashboardUsageAggregation;
 import com.linkedin.datahub.graphql.generated.DashboardUsageMetrics;
 import com.linkedin.datahub.graphql.generated.DashboardUsageQueryResult;
@@ -51,7 +52,7 @@ public class DashboardUsageStatsResolver implements DataFetcher<CompletableFutur
     // Max number of aspects to return for absolute dashboard usage.
     final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       DashboardUsageQueryResult usageQueryResult = new DashboardUsageQueryResult();
 
       // Time Bucket Stats
@@ -67,7 +68,7 @@ public class DashboardUsageStatsResolver implements DataFetcher<CompletableFutur
           getDashboardUsageMetrics(dashboardUrn, maybeStartTimeMillis, maybeEndTimeMillis, maybeLimit);
       usageQueryResult.setMetrics(dashboardUsageMetrics);
       return usageQueryResult;
-    });
+    }, "DashboardUsageStatsResolver", "get");
   }
 
   private List<DashboardUsageMetrics> getDashboardUsageMetrics(String dashboardUrn, Long maybeStartTimeMillis,
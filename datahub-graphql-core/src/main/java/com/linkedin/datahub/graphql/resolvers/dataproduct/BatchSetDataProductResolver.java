@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.dataproduct;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchSetDataProductInput;
 import com.linkedin.metadata.service.DataProductService;
@@ -31,7 +32,7 @@ public class BatchSetDataProductResolver implements DataFetcher<CompletableFutur
     final String maybeDataProductUrn = input.getDataProductUrn();
     final List<String> resources = input.getResourceUrns();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
   
       verifyResources(resources, context);
       verifyDataProduct(maybeDataProductUrn, context);
@@ -48,7 +49,7 @@ public class BatchSetDataProductResolver implements DataFetcher<CompletableFutur
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchSetDataProductResolver", "get");
   }
 
   private void verifyResources(List<String> resources, QueryContext context) {
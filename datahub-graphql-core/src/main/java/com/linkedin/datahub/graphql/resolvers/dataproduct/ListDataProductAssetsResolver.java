@@ -5,6 +5,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.SearchAcrossEntitiesInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
@@ -90,7 +91,7 @@ public class ListDataProductAssetsResolver implements DataFetcher<CompletableFut
     final int start = input.getStart() != null ? input.getStart() : DEFAULT_START;
     final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       // if no assets in data product properties, exit early before search and return empty results
       if (assetUrns.size() == 0) {
         SearchResults results = new SearchResults();
@@ -132,6 +133,6 @@ public class ListDataProductAssetsResolver implements DataFetcher<CompletableFut
             "Failed to execute search: " + String.format("entity types %s, query %s, filters: %s, start: %s, count: %s",
                 input.getTypes(), input.getQuery(), input.getOrFilters(), start, count), e);
       }
-    });
+    }, "ListDataProductAssetsResolver", "get");
   }
 }
@@ -4,6 +4,7 @@ import com.datahub.authentication.Authentication;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.DataProduct;
 import com.linkedin.datahub.graphql.generated.UpdateDataProductInput;
@@ -34,7 +35,7 @@ public class UpdateDataProductResolver implements DataFetcher<CompletableFuture<
     final Urn dataProductUrn = UrnUtils.getUrn(environment.getArgument("urn"));
     final Authentication authentication = context.getAuthentication();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (!_dataProductService.verifyEntityExists(dataProductUrn, context.getAuthentication())) {
         throw new IllegalArgumentException("The Data Product provided dos not exist");
       }
@@ -64,6 +65,6 @@ public class UpdateDataProductResolver implements DataFetcher<CompletableFuture<
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to update DataProduct with urn %s", dataProductUrn), e);
       }
-    });
+    }, "UpdateDataProductResolver", "get");
   }
 }
@@ -7,6 +7,7 @@ import com.linkedin.common.EntityRelationships;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.data.template.StringArrayArray;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Dataset;
 import com.linkedin.datahub.graphql.generated.Health;
 import com.linkedin.datahub.graphql.generated.HealthStatus;
@@ -81,7 +82,7 @@ public class DatasetHealthResolver implements DataFetcher<CompletableFuture<List
   @Override
   public CompletableFuture<List<Health>> get(final DataFetchingEnvironment environment) throws Exception {
     final Dataset parent = environment.getSource();
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           final CachedHealth cachedStatus = _statusCache.get(parent.getUrn(), () -> (
               computeHealthStatusForDataset(parent.getUrn(), environment.getContext())));
@@ -89,7 +90,7 @@ public class DatasetHealthResolver implements DataFetcher<CompletableFuture<List
         } catch (Exception e) {
           throw new RuntimeException("Failed to resolve dataset's health status.", e);
         }
-    });
+    }, "DatasetHealthResolver", "get");
   }
 
   /**
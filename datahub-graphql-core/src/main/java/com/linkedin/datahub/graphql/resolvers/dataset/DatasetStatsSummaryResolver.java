@@ -5,6 +5,7 @@ import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.CorpUser;
 import com.linkedin.datahub.graphql.generated.DatasetStatsSummary;
 import com.linkedin.datahub.graphql.generated.Entity;
@@ -47,7 +48,7 @@ public class DatasetStatsSummaryResolver implements DataFetcher<CompletableFutur
     final QueryContext context = environment.getContext();
     final Urn resourceUrn = UrnUtils.getUrn(((Entity) environment.getSource()).getUrn());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (this.summaryCache.getIfPresent(resourceUrn) != null) {
         return this.summaryCache.getIfPresent(resourceUrn);
@@ -75,7 +76,7 @@ public class DatasetStatsSummaryResolver implements DataFetcher<CompletableFutur
           log.error(String.format("Failed to load Usage Stats summary for resource %s", resourceUrn.toString()), e);
           return null; // Do not throw when loading usage summary fails.
       }
-    });
+    }, "DatasetStatsSummaryResolver", "get");
   }
 
   private List<CorpUser> trimUsers(final List<CorpUser> originalUsers) {
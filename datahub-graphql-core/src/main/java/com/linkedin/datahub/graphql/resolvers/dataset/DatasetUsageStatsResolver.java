@@ -5,6 +5,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.UsageQueryResult;
 import com.linkedin.datahub.graphql.types.usage.UsageQueryResultMapper;
@@ -35,7 +36,7 @@ public class DatasetUsageStatsResolver implements DataFetcher<CompletableFuture<
     final Urn resourceUrn = UrnUtils.getUrn(((Entity) environment.getSource()).getUrn());
     final UsageTimeRange range = UsageTimeRange.valueOf(environment.getArgument("range"));
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (!isAuthorized(resourceUrn, context)) {
         log.debug("User {} is not authorized to view usage information for dataset {}",
             context.getActorUrn(),
@@ -49,7 +50,7 @@ public class DatasetUsageStatsResolver implements DataFetcher<CompletableFuture<
       } catch (RemoteInvocationException | URISyntaxException e) {
         throw new RuntimeException(String.format("Failed to load Usage Stats for resource %s", resourceUrn.toString()), e);
       }
-    });
+    }, "DatasetUsageStatsResolver", "get");
   }
 
   private boolean isAuthorized(final Urn resourceUrn, final QueryContext context) {
@@ -6,6 +6,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
@@ -45,7 +46,7 @@ public class UpdateDeprecationResolver implements DataFetcher<CompletableFuture<
     final UpdateDeprecationInput input = bindArgument(environment.getArgument("input"), UpdateDeprecationInput.class);
     final Urn entityUrn = Urn.createFromString(input.getUrn());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!isAuthorizedToUpdateDeprecationForEntity(environment.getContext(), entityUrn)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -70,7 +71,7 @@ public class UpdateDeprecationResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to update Deprecation for resource with entity urn {}: {}", entityUrn, e.getMessage());
         throw new RuntimeException(String.format("Failed to update Deprecation for resource with entity urn %s", entityUrn), e);
       }
-    });
+    }, "UpdateDeprecationResolver", "get");
   }
 
   private boolean isAuthorizedToUpdateDeprecationForEntity(final QueryContext context, final Urn entityUrn) {
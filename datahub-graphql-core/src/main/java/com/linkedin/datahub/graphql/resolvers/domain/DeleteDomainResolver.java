@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.domain;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.r2.RemoteInvocationException;
@@ -29,7 +30,7 @@ public class DeleteDomainResolver implements DataFetcher<CompletableFuture<Boole
     final QueryContext context = environment.getContext();
     final String domainUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(domainUrn);
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (AuthorizationUtils.canManageDomains(context) || AuthorizationUtils.canDeleteEntity(urn, context)) {
         try {
@@ -37,13 +38,13 @@ public class DeleteDomainResolver implements DataFetcher<CompletableFuture<Boole
           log.info(String.format("I've successfully deleted the entity %s with urn", domainUrn));
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
+          GraphQLConcurrencyUtils.runAsync(() -> {
             try {
               _entityClient.deleteEntityReferences(urn, context.getAuthentication());
             } catch (RemoteInvocationException e) {
               log.error(String.format("Caught exception while attempting to clear all entity references for Domain with urn %s", urn), e);
             }
-          });
+          }, "DeleteDomainResolver", "get");
 
           return true;
         } catch (Exception e) {
@@ -51,6 +52,6 @@ public class DeleteDomainResolver implements DataFetcher<CompletableFuture<Boole
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "DeleteDomainResolver", "get");
   }
 }
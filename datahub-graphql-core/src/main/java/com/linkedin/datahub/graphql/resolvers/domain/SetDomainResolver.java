@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.domain;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.DomainUtils;
 import com.linkedin.domain.Domains;
@@ -36,7 +37,7 @@ public class SetDomainResolver implements DataFetcher<CompletableFuture<Boolean>
     final Urn entityUrn = Urn.createFromString(environment.getArgument("entityUrn"));
     final Urn domainUrn = Urn.createFromString(environment.getArgument("domainUrn"));
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DomainUtils.isAuthorizedToUpdateDomainsForEntity(environment.getContext(), entityUrn)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -62,7 +63,7 @@ public class SetDomainResolver implements DataFetcher<CompletableFuture<Boolean>
         log.error("Failed to set Domain to resource with entity urn {}, domain urn {}: {}", entityUrn, domainUrn, e.getMessage());
         throw new RuntimeException(String.format("Failed to set Domain to resource with entity urn %s, domain urn %s", entityUrn, domainUrn), e);
       }
-    });
+    }, "SetDomainResolver", "get");
   }
 
   public static Boolean validateSetDomainInput(
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.domain;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.DomainUtils;
 import com.linkedin.domain.Domains;
@@ -36,7 +37,7 @@ public class UnsetDomainResolver implements DataFetcher<CompletableFuture<Boolea
     final QueryContext context = environment.getContext();
     final Urn entityUrn = Urn.createFromString(environment.getArgument("entityUrn"));
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DomainUtils.isAuthorizedToUpdateDomainsForEntity(environment.getContext(), entityUrn)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -62,7 +63,7 @@ public class UnsetDomainResolver implements DataFetcher<CompletableFuture<Boolea
         log.error("Failed to unset Domains for resource with entity urn {}: {}", entityUrn, e.getMessage());
         throw new RuntimeException(String.format("Failed to unset Domains for resource with entity urn %s", entityUrn), e);
       }
-    });
+    }, "UnsetDomainResolver", "get");
   }
 
   public static Boolean validateUnsetDomainInput(
@@ -7,6 +7,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityPrivileges;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
@@ -36,7 +37,7 @@ public class EntityPrivilegesResolver implements DataFetcher<CompletableFuture<E
     final String urnString = ((Entity) environment.getSource()).getUrn();
     final Urn urn = UrnUtils.getUrn(urnString);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       switch (urn.getEntityType()) {
         case Constants.GLOSSARY_TERM_ENTITY_NAME:
           return getGlossaryTermPrivileges(urn, context);
@@ -54,7 +55,7 @@ public class EntityPrivilegesResolver implements DataFetcher<CompletableFuture<E
           log.warn("Tried to get entity privileges for entity type {} but nothing is implemented for it yet", urn.getEntityType());
           return new EntityPrivileges();
       }
-    });
+    }, "EntityPrivilegesResolver", "get");
   }
 
   private EntityPrivileges getGlossaryTermPrivileges(Urn termUrn, QueryContext context) {
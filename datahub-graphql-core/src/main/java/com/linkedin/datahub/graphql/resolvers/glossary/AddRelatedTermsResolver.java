@@ -5,6 +5,7 @@ import com.linkedin.common.urn.GlossaryTermUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RelatedTermsInput;
 import com.linkedin.datahub.graphql.generated.TermRelationshipType;
@@ -37,7 +38,7 @@ public class AddRelatedTermsResolver implements DataFetcher<CompletableFuture<Bo
     final QueryContext context = environment.getContext();
     final RelatedTermsInput input = bindArgument(environment.getArgument("input"), RelatedTermsInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (GlossaryUtils.canManageGlossaries(context)) {
         try {
           final TermRelationshipType relationshipType = input.getRelationshipType();
@@ -78,7 +79,7 @@ public class AddRelatedTermsResolver implements DataFetcher<CompletableFuture<Bo
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "AddRelatedTermsResolver", "get");
   }
 
   public Boolean validateRelatedTermsInput(Urn urn, List<Urn> termUrns) {
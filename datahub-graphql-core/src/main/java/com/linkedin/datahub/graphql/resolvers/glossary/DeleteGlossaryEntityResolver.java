@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -30,7 +31,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
     final Urn entityUrn = Urn.createFromString(environment.getArgument("urn"));
     final Urn parentNodeUrn = GlossaryUtils.getParentUrn(entityUrn, context, _entityClient);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (GlossaryUtils.canManageChildrenEntities(context, parentNodeUrn, _entityClient)) {
         if (!_entityService.exists(entityUrn)) {
           throw new RuntimeException(String.format("This urn does not exist: %s", entityUrn));
@@ -40,13 +41,13 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
           _entityClient.deleteEntity(entityUrn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
+          GraphQLConcurrencyUtils.runAsync(() -> {
             try {
               _entityClient.deleteEntityReferences(entityUrn, context.getAuthentication());
             } catch (RemoteInvocationException e) {
               log.error(String.format("Caught exception while attempting to clear all entity references for glossary entity with urn %s", entityUrn), e);
             }
-          });
+          }, "DeleteGlossaryEntityResolver", "get");
 
           return true;
         } catch (Exception e) {
@@ -54,7 +55,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "DeleteGlossaryEntityResolver", "get");
   }
 }
 
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.GetRootGlossaryEntitiesInput;
 import com.linkedin.datahub.graphql.generated.GetRootGlossaryNodesResult;
@@ -41,7 +42,7 @@ public class GetRootGlossaryNodesResolver implements DataFetcher<CompletableFutu
 
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final GetRootGlossaryEntitiesInput input = bindArgument(environment.getArgument("input"), GetRootGlossaryEntitiesInput.class);
       final Integer start = input.getStart();
       final Integer count = input.getCount();
@@ -71,7 +72,7 @@ public class GetRootGlossaryNodesResolver implements DataFetcher<CompletableFutu
       } catch (RemoteInvocationException e) {
         throw new RuntimeException("Failed to retrieve root glossary nodes from GMS", e);
       }
-    });
+    }, "GetRootGlossaryNodesResolver", "get");
   }
 
   private Filter buildGlossaryEntitiesFilter() {
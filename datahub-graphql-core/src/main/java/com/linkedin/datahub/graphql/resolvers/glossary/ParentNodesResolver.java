@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.GlossaryNode;
@@ -95,7 +96,7 @@ public class ParentNodesResolver  implements DataFetcher<CompletableFuture<Paren
     final String urn = ((Entity) environment.getSource()).getUrn();
     final List<GlossaryNode> nodes = new ArrayList<>();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         final String type = Urn.createFromString(urn).getEntityType();
 
@@ -116,6 +117,6 @@ public class ParentNodesResolver  implements DataFetcher<CompletableFuture<Paren
       } catch (DataHubGraphQLException | URISyntaxException e) {
         throw new RuntimeException(("Failed to load parent nodes"));
       }
-    });
+    }, "ParentNodesResolver", "get");
   }
 }
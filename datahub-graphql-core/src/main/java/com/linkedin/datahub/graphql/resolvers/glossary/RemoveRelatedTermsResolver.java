@@ -4,6 +4,7 @@ import com.linkedin.common.GlossaryTermUrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RelatedTermsInput;
 import com.linkedin.datahub.graphql.generated.TermRelationshipType;
@@ -36,7 +37,7 @@ public class RemoveRelatedTermsResolver implements DataFetcher<CompletableFuture
     final QueryContext context = environment.getContext();
     final RelatedTermsInput input = bindArgument(environment.getArgument("input"), RelatedTermsInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (GlossaryUtils.canManageGlossaries(context)) {
         try {
           final TermRelationshipType relationshipType = input.getRelationshipType();
@@ -85,6 +86,6 @@ public class RemoveRelatedTermsResolver implements DataFetcher<CompletableFuture
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "RemoveRelatedTermsResolver", "get");
   }
 }
@@ -7,6 +7,7 @@ import com.linkedin.common.OriginType;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
@@ -52,7 +53,7 @@ public class AddGroupMembersResolver implements DataFetcher<CompletableFuture<Bo
           String.format("Failed to add members to group %s. Group does not exist.", groupUrnStr),
           DataHubGraphQLErrorCode.NOT_FOUND);
     }
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       Origin groupOrigin = _groupService.getGroupOrigin(groupUrn);
       if (groupOrigin == null || !groupOrigin.hasType()) {
         try {
@@ -76,6 +77,6 @@ public class AddGroupMembersResolver implements DataFetcher<CompletableFuture<Bo
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to add group members to group %s", groupUrnStr));
       }
-    });
+    }, "AddGroupMembersResolver", "get");
   }
 }
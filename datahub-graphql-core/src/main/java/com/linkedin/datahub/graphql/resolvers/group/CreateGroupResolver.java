@@ -4,6 +4,7 @@ import com.datahub.authentication.Authentication;
 import com.datahub.authentication.group.GroupService;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateGroupInput;
 import com.linkedin.metadata.key.CorpGroupKey;
@@ -35,7 +36,7 @@ public class CreateGroupResolver implements DataFetcher<CompletableFuture<String
     }
     final CreateGroupInput input = bindArgument(environment.getArgument("input"), CreateGroupInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         // First, check if the group already exists.
         // Create the Group key.
@@ -46,6 +47,6 @@ public class CreateGroupResolver implements DataFetcher<CompletableFuture<String
       } catch (Exception e) {
         throw new RuntimeException("Failed to create group", e);
       }
-    });
+    }, "CreateGroupResolver", "get");
   }
 }
\ No newline at end of file
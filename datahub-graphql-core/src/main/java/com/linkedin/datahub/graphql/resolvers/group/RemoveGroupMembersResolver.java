@@ -7,6 +7,7 @@ import com.linkedin.common.OriginType;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
@@ -52,7 +53,7 @@ public class RemoveGroupMembersResolver implements DataFetcher<CompletableFuture
           DataHubGraphQLErrorCode.NOT_FOUND);
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       Origin groupOrigin = _groupService.getGroupOrigin(groupUrn);
       if (groupOrigin == null || !groupOrigin.hasType()) {
         try {
@@ -74,6 +75,6 @@ public class RemoveGroupMembersResolver implements DataFetcher<CompletableFuture
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
-    });
+    }, "RemoveGroupMembersResolver", "get");
   }
 }
\ No newline at end of file
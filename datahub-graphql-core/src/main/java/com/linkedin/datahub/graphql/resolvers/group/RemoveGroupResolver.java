@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.group;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.r2.RemoteInvocationException;
@@ -30,24 +31,24 @@ public class RemoveGroupResolver implements DataFetcher<CompletableFuture<Boolea
     if (AuthorizationUtils.canManageUsersAndGroups(context)) {
       final String groupUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(groupUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
+          GraphQLConcurrencyUtils.runAsync(() -> {
             try {
               _entityClient.deleteEntityReferences(urn, context.getAuthentication());
             } catch (RemoteInvocationException e) {
               log.error(String.format("Caught exception while attempting to clear all entity references for group with urn %s", urn), e);
             }
-          });
+          }, "RemoveGroupResolver", "get");
 
           return true;
         } catch (Exception e) {
           throw new RuntimeException(String.format("Failed to perform delete against group with urn %s", groupUrn), e);
         }
-      });
+      }, "RemoveGroupResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.ingest.execution;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateTestConnectionRequestInput;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionAuthUtils;
@@ -50,7 +51,7 @@ public class CreateTestConnectionRequestResolver implements DataFetcher<Completa
   public CompletableFuture<String> get(final DataFetchingEnvironment environment) throws Exception {
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!IngestionAuthUtils.canManageIngestion(context)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -85,6 +86,6 @@ public class CreateTestConnectionRequestResolver implements DataFetcher<Completa
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to create new test ingestion connection request %s", input.toString()), e);
       }
-    });
+    }, "CreateTestConnectionRequestResolver", "get");
   }
 }
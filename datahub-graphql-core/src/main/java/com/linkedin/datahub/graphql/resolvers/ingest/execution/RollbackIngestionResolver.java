@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.ingest.execution;
 
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RollbackIngestionInput;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionAuthUtils;
@@ -23,7 +24,7 @@ public class RollbackIngestionResolver implements DataFetcher<CompletableFuture<
   public CompletableFuture<Boolean> get(final DataFetchingEnvironment environment) throws Exception {
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!IngestionAuthUtils.canManageIngestion(context)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -34,18 +35,18 @@ public class RollbackIngestionResolver implements DataFetcher<CompletableFuture<
 
       rollbackIngestion(runId, context);
       return true;
-    });
+    }, "RollbackIngestionResolver", "get");
   }
 
   public CompletableFuture<Boolean> rollbackIngestion(final String runId, final QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         _entityClient.rollbackIngestion(runId, context.getAuthentication());
         return true;
       } catch (Exception e) {
         throw new RuntimeException("Failed to rollback ingestion execution", e);
       }
-    });
+    }, "RollbackIngestionResolver", "rollbackIngestion");
 
   }
 
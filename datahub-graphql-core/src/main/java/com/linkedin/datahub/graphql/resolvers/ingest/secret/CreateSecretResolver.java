@@ -4,6 +4,7 @@ import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateSecretInput;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionAuthUtils;
@@ -43,7 +44,7 @@ public class CreateSecretResolver implements DataFetcher<CompletableFuture<Strin
     final QueryContext context = environment.getContext();
     final CreateSecretInput input = bindArgument(environment.getArgument("input"), CreateSecretInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (IngestionAuthUtils.canManageSecrets(context)) {
 
@@ -71,6 +72,6 @@ public class CreateSecretResolver implements DataFetcher<CompletableFuture<Strin
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "CreateSecretResolver", "get");
   }
 }
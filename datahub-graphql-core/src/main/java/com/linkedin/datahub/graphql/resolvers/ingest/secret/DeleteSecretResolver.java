@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.ingest.secret;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionAuthUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -27,14 +28,14 @@ public class DeleteSecretResolver implements DataFetcher<CompletableFuture<Strin
     if (IngestionAuthUtils.canManageSecrets(context)) {
       final String secretUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(secretUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
           return secretUrn;
         } catch (Exception e) {
           throw new RuntimeException(String.format("Failed to perform delete against secret with urn %s", secretUrn), e);
         }
-      });
+      }, "DeleteSecretResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
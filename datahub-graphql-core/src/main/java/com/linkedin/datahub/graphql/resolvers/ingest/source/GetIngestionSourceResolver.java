@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.ingest.source;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
@@ -38,7 +39,7 @@ public class GetIngestionSourceResolver implements DataFetcher<CompletableFuture
 
     if (IngestionAuthUtils.canManageIngestion(context)) {
       final String urnStr = environment.getArgument("urn");
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           final Urn urn = Urn.createFromString(urnStr);
           final Map<Urn, EntityResponse> entities = _entityClient.batchGetV2(
@@ -55,7 +56,7 @@ public class GetIngestionSourceResolver implements DataFetcher<CompletableFuture
         } catch (Exception e) {
           throw new RuntimeException("Failed to retrieve ingestion source", e);
         }
-      });
+      }, "GetIngestionSourceResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
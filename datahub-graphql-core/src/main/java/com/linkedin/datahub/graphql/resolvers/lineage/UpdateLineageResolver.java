@@ -7,6 +7,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.LineageEdge;
 import com.linkedin.datahub.graphql.generated.UpdateLineageInput;
@@ -57,7 +58,7 @@ public class UpdateLineageResolver implements DataFetcher<CompletableFuture<Bool
     downstreamUrns.addAll(downstreamToUpstreamsToAdd.keySet());
     downstreamUrns.addAll(downstreamToUpstreamsToRemove.keySet());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       // build MCP for every downstreamUrn
       for (Urn downstreamUrn : downstreamUrns) {
         if (!_entityService.exists(downstreamUrn)) {
@@ -121,7 +122,7 @@ public class UpdateLineageResolver implements DataFetcher<CompletableFuture<Bool
       }
 
       return true;
-    });
+    }, "UpdateLineageResolver", "get");
   }
 
   private List<Urn> filterOutDataJobUrns(@Nonnull final List<Urn> urns) {
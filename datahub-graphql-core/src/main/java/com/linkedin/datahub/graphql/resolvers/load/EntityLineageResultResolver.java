@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.load;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityLineageResult;
 import com.linkedin.datahub.graphql.generated.LineageDirection;
@@ -53,7 +54,7 @@ public class EntityLineageResultResolver implements DataFetcher<CompletableFutur
     com.linkedin.metadata.graph.LineageDirection resolvedDirection =
         com.linkedin.metadata.graph.LineageDirection.valueOf(lineageDirection.toString());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         return mapEntityRelationships(
             _siblingGraphService.getLineage(
@@ -70,7 +71,7 @@ public class EntityLineageResultResolver implements DataFetcher<CompletableFutur
         log.error("Failed to fetch lineage for {}", urn);
         throw new RuntimeException(String.format("Failed to fetch lineage for {}", urn), e);
       }
-    });
+    }, "EntityLineageResultResolver", "get");
   }
 
   private EntityLineageResult mapEntityRelationships(
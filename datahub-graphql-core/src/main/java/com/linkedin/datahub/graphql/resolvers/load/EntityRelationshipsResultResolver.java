@@ -4,6 +4,7 @@ import com.linkedin.common.EntityRelationship;
 
 import com.linkedin.common.EntityRelationships;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityRelationshipsResult;
 import com.linkedin.datahub.graphql.generated.RelationshipsInput;
@@ -42,7 +43,7 @@ public class EntityRelationshipsResultResolver implements DataFetcher<Completabl
     final Integer start = input.getStart(); // Optional!
     final Integer count = input.getCount(); // Optional!
     final RelationshipDirection resolvedDirection = RelationshipDirection.valueOf(relationshipDirection.toString());
-    return CompletableFuture.supplyAsync(() -> mapEntityRelationships(
+    return GraphQLConcurrencyUtils.supplyAsync(() -> mapEntityRelationships(
           fetchEntityRelationships(
             urn,
             relationshipTypes,
@@ -52,7 +53,7 @@ public class EntityRelationshipsResultResolver implements DataFetcher<Completabl
             context.getActorUrn()
           ),
         resolvedDirection
-    ));
+    ), "EntityRelationshipsResultResolver", "get");
   }
 
   private EntityRelationships fetchEntityRelationships(
@@ -3,11 +3,14 @@ package com.linkedin.datahub.graphql.resolvers.load;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.AspectProjectedType;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
 import org.dataloader.DataLoader;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -60,9 +63,28 @@ public class EntityTypeResolver implements DataFetcher<CompletableFuture<Entity>
         final com.linkedin.datahub.graphql.types.EntityType filteredEntity = Iterables.getOnlyElement(_entityTypes.stream()
                 .filter(entity -> javaObject.getClass().isAssignableFrom(entity.objectClass()))
                 .collect(Collectors.toList()));
-        final DataLoader loader = environment.getDataLoaderRegistry().getDataLoader(filteredEntity.name());
         final Object key = filteredEntity.getKeyProvider().apply(resolvedEntity);
 
+        if (filteredEntity instanceof AspectProjectedType) {
+            final AspectProjectedType projectedEntity = (AspectProjectedType) filteredEntity;
+            final Set<String> aspectNames = projectedEntity.getAspectsToResolve(getSelectedFields(environment, filteredEntity.name()));
+            if (aspectNames != null) {
+                final DataLoader loader = environment.getDataLoaderRegistry().getDataLoader(projectedEntity.projectedName());
+                return loader.load(new AspectProjectedType.ProjectedKey<>(key, aspectNames));
+            }
+        }
+
+        final DataLoader loader = environment.getDataLoaderRegistry().getDataLoader(filteredEntity.name());
         return loader.load(key);
     }
+
+    /**
+     * Returns the names of the fields selected on the given object type, including those of fragments.
+     */
+    private Set<String> getSelectedFields(DataFetchingEnvironment environment, String typeName) {
+        return environment.getSelectionSet().getImmediateFields().stream()
+            .filter(field -> field.getObjectTypeNames().contains(typeName))
+            .map(SelectedField::getName)
+            .collect(Collectors.toSet());
+    }
 }
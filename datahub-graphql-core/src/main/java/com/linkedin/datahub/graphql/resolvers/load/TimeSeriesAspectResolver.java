@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.load;
 import com.datahub.authorization.ResourceSpec;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.FilterInput;
 import com.linkedin.datahub.graphql.generated.TimeSeriesAspect;
@@ -87,7 +88,7 @@ public class TimeSeriesAspectResolver implements DataFetcher<CompletableFuture<L
 
   @Override
   public CompletableFuture<List<TimeSeriesAspect>> get(DataFetchingEnvironment environment) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       final QueryContext context = environment.getContext();
       // Fetch the urn, assuming the parent has an urn field.
@@ -118,7 +119,7 @@ public class TimeSeriesAspectResolver implements DataFetcher<CompletableFuture<L
       } catch (RemoteInvocationException e) {
         throw new RuntimeException("Failed to retrieve aspects from GMS", e);
       }
-    });
+    }, "TimeSeriesAspectResolver", "get");
   }
 
   private Filter buildFilters(@Nullable FilterInput maybeFilters) {
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.CorpuserUrn;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.AddLinkInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
@@ -39,7 +40,7 @@ public class AddLinkResolver implements DataFetcher<CompletableFuture<Boolean>>
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       LinkUtils.validateAddRemoveInput(
           linkUrl,
           targetUrn,
@@ -62,7 +63,7 @@ public class AddLinkResolver implements DataFetcher<CompletableFuture<Boolean>>
         log.error("Failed to add link to resource with input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to add link to resource with input %s", input.toString()), e);
       }
-    });
+    }, "AddLinkResolver", "get");
   }
 
   // Returns whether this is a glossary entity and whether you can edit this glossary entity with the
@@ -5,6 +5,7 @@ import com.linkedin.common.urn.CorpuserUrn;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.AddOwnerInput;
 import com.linkedin.datahub.graphql.generated.OwnerEntityType;
@@ -43,7 +44,7 @@ public class AddOwnerResolver implements DataFetcher<CompletableFuture<Boolean>>
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       OwnerUtils.validateAddInput(
           ownerUrn, input.getOwnershipTypeUrn(), ownerEntityType,
           targetUrn,
@@ -65,6 +66,6 @@ public class AddOwnerResolver implements DataFetcher<CompletableFuture<Boolean>>
         log.error("Failed to add owner to resource with input {}, {}", input, e.getMessage());
         throw new RuntimeException(String.format("Failed to add owner to resource with input %s", input), e);
       }
-    });
+    }, "AddOwnerResolver", "get");
   }
 }
@@ -5,6 +5,7 @@ import com.linkedin.common.urn.CorpuserUrn;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.AddOwnersInput;
 import com.linkedin.datahub.graphql.generated.OwnerInput;
@@ -33,7 +34,7 @@ public class AddOwnersResolver implements DataFetcher<CompletableFuture<Boolean>
     List<OwnerInput> owners = input.getOwners();
     Urn targetUrn = Urn.createFromString(input.getResourceUrn());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!OwnerUtils.isAuthorizedToUpdateOwners(environment.getContext(), targetUrn)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -60,6 +61,6 @@ public class AddOwnersResolver implements DataFetcher<CompletableFuture<Boolean>
         log.error("Failed to add owners to resource with input {}, {}", input, e.getMessage());
         throw new RuntimeException(String.format("Failed to add owners to resource with input %s", input), e);
       }
-    });
+    }, "AddOwnersResolver", "get");
   }
 }
\ No newline at end of file
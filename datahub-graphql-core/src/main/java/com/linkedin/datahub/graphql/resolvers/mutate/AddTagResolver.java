@@ -5,6 +5,7 @@ import com.linkedin.common.urn.CorpuserUrn;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
 import com.linkedin.datahub.graphql.generated.TagAssociationInput;
@@ -35,7 +36,7 @@ public class AddTagResolver implements DataFetcher<CompletableFuture<Boolean>> {
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       LabelUtils.validateResourceAndLabel(
           tagUrn,
           targetUrn,
@@ -65,6 +66,6 @@ public class AddTagResolver implements DataFetcher<CompletableFuture<Boolean>> {
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "AddTagResolver", "get");
   }
 }
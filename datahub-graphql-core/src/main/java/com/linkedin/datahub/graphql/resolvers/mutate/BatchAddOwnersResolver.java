@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchAddOwnersInput;
 import com.linkedin.datahub.graphql.generated.OwnerInput;
@@ -34,7 +35,7 @@ public class BatchAddOwnersResolver implements DataFetcher<CompletableFuture<Boo
     final List<ResourceRefInput> resources = input.getResources();
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the batch
       validateOwners(owners);
@@ -48,7 +49,7 @@ public class BatchAddOwnersResolver implements DataFetcher<CompletableFuture<Boo
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input), e);
       }
-    });
+    }, "BatchAddOwnersResolver", "get");
   }
 
   private void validateOwners(List<OwnerInput> owners) {
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchAddTagsInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -42,7 +43,7 @@ public class BatchAddTagsResolver implements DataFetcher<CompletableFuture<Boole
         .collect(Collectors.toList());
     final List<ResourceRefInput> resources = input.getResources();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the batch
       validateTags(tagUrns);
@@ -61,7 +62,7 @@ public class BatchAddTagsResolver implements DataFetcher<CompletableFuture<Boole
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchAddTagsResolver", "get");
   }
 
   /**
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchAddTermsInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -42,7 +43,7 @@ public class BatchAddTermsResolver implements DataFetcher<CompletableFuture<Bool
         .collect(Collectors.toList());
     final List<ResourceRefInput> resources = input.getResources();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the batch
       validateTerms(termUrns);
@@ -61,7 +62,7 @@ public class BatchAddTermsResolver implements DataFetcher<CompletableFuture<Bool
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchAddTermsResolver", "get");
   }
 
   /**
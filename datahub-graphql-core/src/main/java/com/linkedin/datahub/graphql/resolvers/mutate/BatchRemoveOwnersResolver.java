@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchRemoveOwnersInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -36,7 +37,7 @@ public class BatchRemoveOwnersResolver implements DataFetcher<CompletableFuture<
         : Optional.of(Urn.createFromString(input.getOwnershipTypeUrn()));
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the batch
       validateInputResources(resources, context);
@@ -49,7 +50,7 @@ public class BatchRemoveOwnersResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchRemoveOwnersResolver", "get");
   }
 
   private void validateInputResources(List<ResourceRefInput> resources, QueryContext context) {
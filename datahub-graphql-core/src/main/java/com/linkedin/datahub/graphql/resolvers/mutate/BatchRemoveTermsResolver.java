@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchRemoveTermsInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -34,7 +35,7 @@ public class BatchRemoveTermsResolver implements DataFetcher<CompletableFuture<B
         .collect(Collectors.toList());
     final List<ResourceRefInput> resources = input.getResources();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the batch
       validateInputResources(resources, context);
@@ -47,7 +48,7 @@ public class BatchRemoveTermsResolver implements DataFetcher<CompletableFuture<B
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchRemoveTermsResolver", "get");
   }
 
   private void validateInputResources(List<ResourceRefInput> resources, QueryContext context) {
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchSetDomainInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -34,7 +35,7 @@ public class BatchSetDomainResolver implements DataFetcher<CompletableFuture<Boo
     final String maybeDomainUrn = input.getDomainUrn();
     final List<ResourceRefInput> resources = input.getResources();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the domain
       validateDomain(maybeDomainUrn);
@@ -48,7 +49,7 @@ public class BatchSetDomainResolver implements DataFetcher<CompletableFuture<Boo
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchSetDomainResolver", "get");
   }
 
   private void validateDomain(@Nullable String maybeDomainUrn) {
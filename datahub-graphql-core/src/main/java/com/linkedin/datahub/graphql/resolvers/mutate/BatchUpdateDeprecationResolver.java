@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.BatchUpdateDeprecationInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -33,7 +34,7 @@ public class BatchUpdateDeprecationResolver implements DataFetcher<CompletableFu
     final BatchUpdateDeprecationInput input = bindArgument(environment.getArgument("input"), BatchUpdateDeprecationInput.class);
     final List<ResourceRefInput> resources = input.getResources();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // First, validate the resources
       validateInputResources(resources, context);
@@ -46,7 +47,7 @@ public class BatchUpdateDeprecationResolver implements DataFetcher<CompletableFu
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "BatchUpdateDeprecationResolver", "get");
   }
 
   private void validateInputResources(List<ResourceRefInput> resources, QueryContext context) {
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.mutate;
 
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.types.MutableType;
 import graphql.schema.DataFetcher;
@@ -30,7 +31,7 @@ public class MutableTypeResolver<I, T> implements DataFetcher<CompletableFuture<
     public CompletableFuture<T> get(DataFetchingEnvironment environment) throws Exception {
         final String urn = environment.getArgument("urn");
         final I input = bindArgument(environment.getArgument("input"), _mutableType.inputClass());
-        return CompletableFuture.supplyAsync(() -> {
+        return GraphQLConcurrencyUtils.supplyAsync(() -> {
             try {
                 _logger.debug(String.format("Mutating entity. input: %s", input));
                 return _mutableType.update(urn, input, environment.getContext());
@@ -40,6 +41,6 @@ public class MutableTypeResolver<I, T> implements DataFetcher<CompletableFuture<
                 _logger.error(String.format("Failed to perform update against input %s", input) + " " + e.getMessage());
                 throw new RuntimeException(String.format("Failed to perform update against input %s", input), e);
             }
-        });
+        }, "MutableTypeResolver", "get");
     }
 }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RemoveLinkInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.LinkUtils;
@@ -33,7 +34,7 @@ public class RemoveLinkResolver implements DataFetcher<CompletableFuture<Boolean
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       LinkUtils.validateAddRemoveInput(
           linkUrl,
           targetUrn,
@@ -54,6 +55,6 @@ public class RemoveLinkResolver implements DataFetcher<CompletableFuture<Boolean
         log.error("Failed to remove link from resource with input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to remove link from resource with input  %s", input.toString()), e);
       }
-    });
+    }, "RemoveLinkResolver", "get");
   }
 }
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RemoveOwnerInput;
 import com.linkedin.datahub.graphql.generated.ResourceRefInput;
@@ -38,7 +39,7 @@ public class RemoveOwnerResolver implements DataFetcher<CompletableFuture<Boolea
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       OwnerUtils.validateRemoveInput(
           targetUrn,
           _entityService
@@ -57,6 +58,6 @@ public class RemoveOwnerResolver implements DataFetcher<CompletableFuture<Boolea
         log.error("Failed to remove owner from resource with input {}", input);
         throw new RuntimeException(String.format("Failed to remove owner from resource with input  %s", input.toString()), e);
       }
-    });
+    }, "RemoveOwnerResolver", "get");
   }
 }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.mutate;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.DescriptionUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
@@ -72,7 +73,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
   }
 
   private CompletableFuture<Boolean> updateContainerDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateContainerDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -93,11 +94,11 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateContainerDescription");
   }
 
   private CompletableFuture<Boolean> updateDomainDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDomainDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -117,7 +118,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
           log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
           throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
         }
-    });
+    }, "UpdateDescriptionResolver", "updateDomainDescription");
   }
 
   // If updating schema field description fails, try again on a sibling until there are no more siblings to try. Then throw if necessary.
@@ -152,7 +153,7 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
 
   private CompletableFuture<Boolean> updateDatasetSchemaFieldDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateFieldDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -166,11 +167,11 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
       List<Urn> siblingUrns = SiblingsUtils.getSiblingUrns(targetUrn, _entityService);
 
       return attemptUpdateDatasetSchemaFieldDescription(targetUrn, input, context, new HashSet<>(), siblingUrns);
-    });
+    }, "UpdateDescriptionResolver", "updateDatasetSchemaFieldDescription");
   }
 
   private CompletableFuture<Boolean> updateTagDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -190,11 +191,11 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateTagDescription");
   }
 
   private CompletableFuture<Boolean> updateGlossaryTermDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Urn parentNodeUrn = GlossaryUtils.getParentUrn(targetUrn, context, _entityClient);
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)
           && !GlossaryUtils.canManageChildrenEntities(context, parentNodeUrn, _entityClient)
@@ -216,11 +217,11 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateGlossaryTermDescription");
   }
 
   private CompletableFuture<Boolean> updateGlossaryNodeDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Urn parentNodeUrn = GlossaryUtils.getParentUrn(targetUrn, context, _entityClient);
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)
           && !GlossaryUtils.canManageChildrenEntities(context, parentNodeUrn, _entityClient)
@@ -242,11 +243,11 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateGlossaryNodeDescription");
   }
 
   private CompletableFuture<Boolean> updateCorpGroupDescription(Urn targetUrn, DescriptionUpdateInput input, QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -266,12 +267,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateCorpGroupDescription");
   }
 
   private CompletableFuture<Boolean> updateNotebookDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -291,12 +292,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateNotebookDescription");
   }
 
   private CompletableFuture<Boolean> updateMlModelDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -316,12 +317,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateMlModelDescription");
   }
 
   private CompletableFuture<Boolean> updateMlModelGroupDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -341,12 +342,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateMlModelGroupDescription");
   }
 
   private CompletableFuture<Boolean> updateMlFeatureDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -366,12 +367,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateMlFeatureDescription");
   }
 
   private CompletableFuture<Boolean> updateMlPrimaryKeyDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -391,12 +392,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateMlPrimaryKeyDescription");
   }
 
   private CompletableFuture<Boolean> updateMlFeatureTableDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -416,12 +417,12 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateMlFeatureTableDescription");
   }
 
   private CompletableFuture<Boolean> updateDataProductDescription(Urn targetUrn, DescriptionUpdateInput input,
       QueryContext context) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!DescriptionUtils.isAuthorizedToUpdateDescription(context, targetUrn)) {
         throw new AuthorizationException(
@@ -441,6 +442,6 @@ public class UpdateDescriptionResolver implements DataFetcher<CompletableFuture<
         log.error("Failed to perform update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateDescriptionResolver", "updateDataProductDescription");
   }
 }
@@ -5,6 +5,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.UpdateNameInput;
 import com.linkedin.datahub.graphql.resolvers.dataproduct.DataProductAuthorizationUtils;
@@ -42,7 +43,7 @@ public class UpdateNameResolver implements DataFetcher<CompletableFuture<Boolean
     Urn targetUrn = Urn.createFromString(input.getUrn());
     log.info("Updating name. input: {}", input);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (!_entityService.exists(targetUrn)) {
         throw new IllegalArgumentException(String.format("Failed to update %s. %s does not exist.", targetUrn, targetUrn));
       }
@@ -62,7 +63,7 @@ public class UpdateNameResolver implements DataFetcher<CompletableFuture<Boolean
           throw new RuntimeException(
               String.format("Failed to update name. Unsupported resource type %s provided.", targetUrn));
       }
-    });
+    }, "UpdateNameResolver", "get");
   }
 
   private Boolean updateGlossaryTermName(
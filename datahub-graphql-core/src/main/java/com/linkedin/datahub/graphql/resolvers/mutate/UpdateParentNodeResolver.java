@@ -4,6 +4,7 @@ import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.GlossaryNodeUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.UpdateParentNodeInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
@@ -50,7 +51,7 @@ public class UpdateParentNodeResolver implements DataFetcher<CompletableFuture<B
     }
 
     GlossaryNodeUrn finalParentNodeUrn = parentNodeUrn;
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       Urn currentParentUrn = GlossaryUtils.getParentUrn(targetUrn, context, _entityClient);
       // need to be able to manage current parent node and new parent node
       if (GlossaryUtils.canManageChildrenEntities(context, currentParentUrn, _entityClient)
@@ -66,7 +67,7 @@ public class UpdateParentNodeResolver implements DataFetcher<CompletableFuture<B
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "UpdateParentNodeResolver", "get");
   }
 
   private Boolean updateGlossaryTermParentNode(
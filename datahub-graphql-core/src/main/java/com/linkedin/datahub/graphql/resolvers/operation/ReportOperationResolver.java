@@ -10,6 +10,7 @@ import com.linkedin.data.template.SetMode;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
@@ -55,7 +56,7 @@ public class ReportOperationResolver implements DataFetcher<CompletableFuture<Bo
     final QueryContext context = environment.getContext();
     final ReportOperationInput input = bindArgument(environment.getArgument("input"), ReportOperationInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       Urn entityUrn = UrnUtils.getUrn(input.getUrn());
 
@@ -75,7 +76,7 @@ public class ReportOperationResolver implements DataFetcher<CompletableFuture<Bo
         log.error("Failed to report operation. {}", e.getMessage());
         throw new RuntimeException("Failed to report operation", e);
       }
-    });
+    }, "ReportOperationResolver", "get");
   }
 
   private Operation mapOperation(final ReportOperationInput input, final QueryContext context) throws URISyntaxException {
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.metadata.service.OwnershipTypeService;
 import graphql.schema.DataFetcher;
@@ -33,7 +34,7 @@ public class DeleteOwnershipTypeResolver implements DataFetcher<CompletableFutur
           "Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         _ownershipTypeService.deleteOwnershipType(urn, deleteReferences, context.getAuthentication());
         log.info(String.format("Successfully deleted ownership type %s with urn", urn));
@@ -41,6 +42,6 @@ public class DeleteOwnershipTypeResolver implements DataFetcher<CompletableFutur
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to delete ownership type with urn %s", ownershipTypeUrn), e);
       }
-    });
+    }, "DeleteOwnershipTypeResolver", "get");
   }
 }
\ No newline at end of file
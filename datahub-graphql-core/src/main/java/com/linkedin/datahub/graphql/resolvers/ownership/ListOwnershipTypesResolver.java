@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.ownership;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.OwnershipTypeEntity;
 import com.linkedin.datahub.graphql.generated.EntityType;
@@ -49,7 +50,7 @@ public class ListOwnershipTypesResolver implements
     final ListOwnershipTypesInput input = bindArgument(environment.getArgument("input"),
         ListOwnershipTypesInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Integer start = input.getStart() == null ? DEFAULT_START : input.getStart();
       final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
       final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
@@ -80,7 +81,7 @@ public class ListOwnershipTypesResolver implements
         throw new RuntimeException("Failed to list custom ownership types", e);
       }
 
-    });
+    }, "ListOwnershipTypesResolver", "get");
   }
 
   private List<OwnershipTypeEntity> mapUnresolvedOwnershipTypes(List<Urn> entityUrns) {
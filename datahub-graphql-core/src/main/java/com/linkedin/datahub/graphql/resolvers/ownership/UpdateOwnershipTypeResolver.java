@@ -4,6 +4,7 @@ import com.datahub.authentication.Authentication;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.OwnershipTypeEntity;
 import com.linkedin.datahub.graphql.generated.UpdateOwnershipTypeInput;
@@ -39,7 +40,7 @@ public class UpdateOwnershipTypeResolver implements DataFetcher<CompletableFutur
           "Unauthorized to perform this action. Please contact your DataHub administrator.");
     }
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         _ownershipTypeService.updateOwnershipType(urn, input.getName(), input.getDescription(),
             context.getAuthentication(), System.currentTimeMillis());
@@ -50,7 +51,7 @@ public class UpdateOwnershipTypeResolver implements DataFetcher<CompletableFutur
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to perform update against View with urn %s", urn), e);
       }
-    });
+    }, "UpdateOwnershipTypeResolver", "get");
   }
 
   private OwnershipTypeEntity getOwnershipType(@Nonnull final Urn urn,
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.policy;
 import com.datahub.authorization.AuthorizerChain;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import graphql.schema.DataFetcher;
@@ -27,7 +28,7 @@ public class DeletePolicyResolver implements DataFetcher<CompletableFuture<Strin
     if (PolicyAuthUtils.canManagePolicies(context)) {
       final String policyUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(policyUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
           if (context.getAuthorizer() instanceof AuthorizerChain) {
@@ -37,7 +38,7 @@ public class DeletePolicyResolver implements DataFetcher<CompletableFuture<Strin
         } catch (Exception e) {
           throw new RuntimeException(String.format("Failed to perform delete against policy with urn %s", policyUrn), e);
         }
-      });
+      }, "DeletePolicyResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
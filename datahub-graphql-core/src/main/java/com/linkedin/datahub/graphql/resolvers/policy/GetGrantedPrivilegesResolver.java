@@ -4,6 +4,7 @@ import com.datahub.authorization.AuthorizerChain;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.datahub.authorization.ResourceSpec;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.GetGrantedPrivilegesInput;
 import com.linkedin.datahub.graphql.generated.Privileges;
@@ -39,9 +40,9 @@ public class GetGrantedPrivilegesResolver implements DataFetcher<CompletableFutu
     if (context.getAuthorizer() instanceof AuthorizerChain) {
       DataHubAuthorizer dataHubAuthorizer = ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer();
       List<String> privileges = dataHubAuthorizer.getGrantedPrivileges(actor, resourceSpec);
-      return CompletableFuture.supplyAsync(() -> Privileges.builder()
+      return GraphQLConcurrencyUtils.supplyAsync(() -> Privileges.builder()
           .setPrivileges(privileges)
-          .build());
+          .build(), "GetGrantedPrivilegesResolver", "get");
     }
     throw new UnsupportedOperationException(
         String.format("GetGrantedPrivileges function is not supported on authorizer of type %s",
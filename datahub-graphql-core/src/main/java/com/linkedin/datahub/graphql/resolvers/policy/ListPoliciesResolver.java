@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.policy;
 
 import com.datahub.authorization.PolicyFetcher;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.ListPoliciesInput;
 import com.linkedin.datahub.graphql.generated.ListPoliciesResult;
@@ -40,7 +41,7 @@ public class ListPoliciesResolver implements DataFetcher<CompletableFuture<ListP
       final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
       final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
 
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           // First, get all policy Urns.
           final PolicyFetcher.PolicyFetchResult policyFetchResult =
@@ -56,7 +57,7 @@ public class ListPoliciesResolver implements DataFetcher<CompletableFuture<ListP
         } catch (Exception e) {
           throw new RuntimeException("Failed to list policies", e);
         }
-      });
+      }, "ListPoliciesResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.policy;
 import com.datahub.authorization.AuthorizerChain;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.PolicyUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.policy.mappers.PolicyUpdateInputInfoMapper;
@@ -61,7 +62,7 @@ public class UpsertPolicyResolver implements DataFetcher<CompletableFuture<Strin
         proposal = buildMetadataChangeProposalWithKey(key, POLICY_ENTITY_NAME, POLICY_INFO_ASPECT_NAME, info);
       }
 
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           String urn = _entityClient.ingestProposal(proposal, context.getAuthentication(), false);
           if (context.getAuthorizer() instanceof AuthorizerChain) {
@@ -71,7 +72,7 @@ public class UpsertPolicyResolver implements DataFetcher<CompletableFuture<Strin
         } catch (Exception e) {
           throw new RuntimeException(String.format("Failed to perform update against input %s", input), e);
         }
-      });
+      }, "UpsertPolicyResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
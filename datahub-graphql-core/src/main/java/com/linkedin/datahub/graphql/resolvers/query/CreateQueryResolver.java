@@ -5,6 +5,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateQueryInput;
 import com.linkedin.datahub.graphql.generated.QueryEntity;
@@ -38,7 +39,7 @@ public class CreateQueryResolver implements DataFetcher<CompletableFuture<QueryE
     final CreateQueryInput input = bindArgument(environment.getArgument("input"), CreateQueryInput.class);
     final Authentication authentication = context.getAuthentication();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!AuthorizationUtils.canCreateQuery(input.getSubjects()
           .stream()
@@ -66,6 +67,6 @@ public class CreateQueryResolver implements DataFetcher<CompletableFuture<QueryE
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to create a new Query from input %s", input), e);
       }
-    });
+    }, "CreateQueryResolver", "get");
   }
 }
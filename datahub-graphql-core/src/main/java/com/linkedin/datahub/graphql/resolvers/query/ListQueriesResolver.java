@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.query;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.AndFilterInput;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
@@ -56,7 +57,7 @@ public class ListQueriesResolver implements DataFetcher<CompletableFuture<ListQu
     final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
     final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         final SortCriterion sortCriterion =
             new SortCriterion().setField(CREATED_AT_FIELD).setOrder(SortOrder.DESCENDING);
@@ -76,7 +77,7 @@ public class ListQueriesResolver implements DataFetcher<CompletableFuture<ListQu
       } catch (Exception e) {
         throw new RuntimeException("Failed to list Queries", e);
       }
-    });
+    }, "ListQueriesResolver", "get");
   }
 
   // This method maps urns returned from the list endpoint into Partial Query objects which will be resolved be a separate Batch resolver.
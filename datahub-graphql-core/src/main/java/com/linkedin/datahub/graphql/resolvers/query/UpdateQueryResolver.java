@@ -5,6 +5,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLErrorCode;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
@@ -43,7 +44,7 @@ public class UpdateQueryResolver implements DataFetcher<CompletableFuture<QueryE
     final Urn queryUrn = UrnUtils.getUrn(environment.getArgument("urn"));
     final Authentication authentication = context.getAuthentication();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       final QuerySubjects existingSubjects = _queryService.getQuerySubjects(queryUrn, authentication);
 
@@ -90,6 +91,6 @@ public class UpdateQueryResolver implements DataFetcher<CompletableFuture<QueryE
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to update Query from input %s", input), e);
       }
-    });
+    }, "UpdateQueryResolver", "get");
   }
 }
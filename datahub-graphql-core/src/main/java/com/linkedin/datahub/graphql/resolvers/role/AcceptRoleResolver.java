@@ -5,6 +5,7 @@ import com.datahub.authentication.invite.InviteTokenService;
 import com.datahub.authorization.role.RoleService;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.AcceptRoleInput;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -31,7 +32,7 @@ public class AcceptRoleResolver implements DataFetcher<CompletableFuture<Boolean
     final String inviteTokenStr = input.getInviteToken();
     final Authentication authentication = context.getAuthentication();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         final Urn inviteTokenUrn = _inviteTokenService.getInviteTokenUrn(inviteTokenStr);
         if (!_inviteTokenService.isInviteTokenValid(inviteTokenUrn, authentication)) {
@@ -46,6 +47,6 @@ public class AcceptRoleResolver implements DataFetcher<CompletableFuture<Boolean
       } catch (Exception e) {
         throw new RuntimeException(String.format("Failed to accept role using invite token %s", inviteTokenStr), e);
       }
-    });
+    }, "AcceptRoleResolver", "get");
   }
 }
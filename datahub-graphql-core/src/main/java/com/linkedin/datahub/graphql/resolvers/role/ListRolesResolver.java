@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.role;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.DataHubRole;
 import com.linkedin.datahub.graphql.generated.ListRolesInput;
 import com.linkedin.datahub.graphql.generated.ListRolesResult;
@@ -46,7 +47,7 @@ public class ListRolesResolver implements DataFetcher<CompletableFuture<ListRole
     final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
     final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
         // First, get all role Urns.
         final SearchResult gmsResult =
@@ -67,7 +68,7 @@ public class ListRolesResolver implements DataFetcher<CompletableFuture<ListRole
       } catch (Exception e) {
         throw new RuntimeException("Failed to list roles", e);
       }
-    });
+    }, "ListRolesResolver", "get");
   }
 
   private List<DataHubRole> mapEntitiesToRoles(final Collection<EntityResponse> entities) {
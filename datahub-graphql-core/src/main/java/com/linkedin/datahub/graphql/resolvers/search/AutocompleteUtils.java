@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.search;
 
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.AutoCompleteMultipleInput;
 import com.linkedin.datahub.graphql.generated.AutoCompleteMultipleResults;
 import com.linkedin.datahub.graphql.generated.AutoCompleteResultForEntity;
@@ -36,7 +37,7 @@ public class AutocompleteUtils {
   ) {
     final int limit = input.getLimit() != null ? input.getLimit() : DEFAULT_LIMIT;
 
-    final List<CompletableFuture<AutoCompleteResultForEntity>> autoCompletesFuture = entities.stream().map(entity -> CompletableFuture.supplyAsync(() -> {
+    final List<CompletableFuture<AutoCompleteResultForEntity>> autoCompletesFuture = entities.stream().map(entity -> GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Filter filter = ResolverUtils.buildFilter(input.getFilters(), input.getOrFilters());
       final Filter finalFilter = view != null
           ? SearchUtils.combineFilters(filter, view.getDefinition().getFilter())
@@ -64,7 +65,7 @@ public class AutocompleteUtils {
             input.getLimit()), e);
         return new AutoCompleteResultForEntity(entity.type(), Collections.emptyList(), Collections.emptyList());
       }
-    })).collect(Collectors.toList());
+    }, "AutocompleteUtils", "batchGetAutocompleteResults")).collect(Collectors.toList());
     return CompletableFuture.allOf(autoCompletesFuture.toArray(new CompletableFuture[0]))
         .thenApplyAsync((res) -> {
           AutoCompleteMultipleResults result = new AutoCompleteMultipleResults(sanitizedQuery, new ArrayList<>());
@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.search;
 
 import com.datahub.authentication.Authentication;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.GetQuickFiltersInput;
 import com.linkedin.datahub.graphql.generated.GetQuickFiltersResult;
@@ -51,7 +52,7 @@ public class GetQuickFiltersResolver implements DataFetcher<CompletableFuture<Ge
   public CompletableFuture<GetQuickFiltersResult> get(final DataFetchingEnvironment environment) throws Exception {
     final GetQuickFiltersInput input =  bindArgument(environment.getArgument("input"), GetQuickFiltersInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final GetQuickFiltersResult result = new GetQuickFiltersResult();
       final List<QuickFilter> quickFilters = new ArrayList<>();
 
@@ -68,7 +69,7 @@ public class GetQuickFiltersResolver implements DataFetcher<CompletableFuture<Ge
 
       result.setQuickFilters(quickFilters);
       return result;
-    });
+    }, "GetQuickFiltersResolver", "get");
   }
 
   /**
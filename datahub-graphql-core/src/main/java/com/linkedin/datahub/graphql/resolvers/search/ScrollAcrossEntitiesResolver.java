@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.search;
 
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.ScrollAcrossEntitiesInput;
 import com.linkedin.datahub.graphql.generated.ScrollResults;
@@ -59,7 +60,7 @@ public class ScrollAcrossEntitiesResolver implements DataFetcher<CompletableFutu
     final String scrollId = input.getScrollId();
     final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       final DataHubViewInfo maybeResolvedView = (input.getViewUrn() != null)
           ? resolveView(_viewService, UrnUtils.getUrn(input.getViewUrn()), context.getAuthentication())
@@ -99,6 +100,6 @@ public class ScrollAcrossEntitiesResolver implements DataFetcher<CompletableFutu
             "Failed to execute search: " + String.format("entity types %s, query %s, filters: %s, start: %s, count: %s",
                 input.getTypes(), input.getQuery(), input.getOrFilters(), scrollId, count), e);
       }
-    });
+    }, "ScrollAcrossEntitiesResolver", "get");
   }
 }
@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.search;
 
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.SearchAcrossEntitiesInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
@@ -49,7 +50,7 @@ public class SearchAcrossEntitiesResolver implements DataFetcher<CompletableFutu
     final int start = input.getStart() != null ? input.getStart() : DEFAULT_START;
     final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       final DataHubViewInfo maybeResolvedView = (input.getViewUrn() != null)
           ? resolveView(_viewService, UrnUtils.getUrn(input.getViewUrn()), context.getAuthentication())
@@ -84,6 +85,6 @@ public class SearchAcrossEntitiesResolver implements DataFetcher<CompletableFutu
             "Failed to execute search: " + String.format("entity types %s, query %s, filters: %s, start: %s, count: %s",
                 input.getTypes(), input.getQuery(), input.getOrFilters(), start, count), e);
       }
-    });
+    }, "SearchAcrossEntitiesResolver", "get");
   }
 }
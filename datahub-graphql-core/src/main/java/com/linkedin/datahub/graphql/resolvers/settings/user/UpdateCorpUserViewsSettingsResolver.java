@@ -4,6 +4,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.UpdateCorpUserViewsSettingsInput;
 import com.linkedin.identity.CorpUserAppearanceSettings;
 import com.linkedin.identity.CorpUserSettings;
@@ -32,7 +33,7 @@ public class UpdateCorpUserViewsSettingsResolver implements DataFetcher<Completa
     final QueryContext context = environment.getContext();
     final UpdateCorpUserViewsSettingsInput input = bindArgument(environment.getArgument("input"), UpdateCorpUserViewsSettingsInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       try {
 
         final Urn userUrn = UrnUtils.getUrn(context.getActorUrn());
@@ -59,7 +60,7 @@ public class UpdateCorpUserViewsSettingsResolver implements DataFetcher<Completa
         log.error("Failed to perform user view settings update against input {}, {}", input.toString(), e.getMessage());
         throw new RuntimeException(String.format("Failed to perform update to user view settings against input %s", input.toString()), e);
       }
-    });
+    }, "UpdateCorpUserViewsSettingsResolver", "get");
   }
 
   private static void updateCorpUserSettings(
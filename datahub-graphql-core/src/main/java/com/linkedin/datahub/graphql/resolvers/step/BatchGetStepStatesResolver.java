@@ -4,6 +4,7 @@ import com.datahub.authentication.Authentication;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.BatchGetStepStatesInput;
 import com.linkedin.datahub.graphql.generated.BatchGetStepStatesResult;
 import com.linkedin.datahub.graphql.generated.StepStateResult;
@@ -45,7 +46,7 @@ public class BatchGetStepStatesResolver implements DataFetcher<CompletableFuture
     final BatchGetStepStatesInput input =
         bindArgument(environment.getArgument("input"), BatchGetStepStatesInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       Map<Urn, String> urnsToIdsMap;
       Set<Urn> urns;
       Map<Urn, EntityResponse> entityResponseMap;
@@ -75,7 +76,7 @@ public class BatchGetStepStatesResolver implements DataFetcher<CompletableFuture
       final BatchGetStepStatesResult result = new BatchGetStepStatesResult();
       result.setResults(results);
       return result;
-    });
+    }, "BatchGetStepStatesResolver", "get");
   }
 
   @Nonnull
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateTagInput;
 import com.linkedin.datahub.graphql.generated.OwnerEntityType;
@@ -44,7 +45,7 @@ public class CreateTagResolver implements DataFetcher<CompletableFuture<String>>
     final QueryContext context = environment.getContext();
     final CreateTagInput input = bindArgument(environment.getArgument("input"), CreateTagInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (!AuthorizationUtils.canCreateTags(context)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
@@ -78,7 +79,7 @@ public class CreateTagResolver implements DataFetcher<CompletableFuture<String>>
         log.error("Failed to create Tag with id: {}, name: {}: {}", input.getId(), input.getName(), e.getMessage());
         throw new RuntimeException(String.format("Failed to create Tag with id: %s, name: %s", input.getId(), input.getName()), e);
       }
-    });
+    }, "CreateTagResolver", "get");
   }
 
   private TagProperties mapTagProperties(final CreateTagInput input) {
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.r2.RemoteInvocationException;
@@ -31,21 +32,21 @@ public class DeleteTagResolver implements DataFetcher<CompletableFuture<Boolean>
     final String tagUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(tagUrn);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (AuthorizationUtils.canManageTags(context) || AuthorizationUtils.canDeleteEntity(UrnUtils.getUrn(tagUrn), context)) {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
+          GraphQLConcurrencyUtils.runAsync(() -> {
             try {
               _entityClient.deleteEntityReferences(urn, context.getAuthentication());
             } catch (RemoteInvocationException e) {
               log.error(String.format(
                   "Caught exception while attempting to clear all entity references for Tag with urn %s", urn), e);
             }
-          });
+          }, "DeleteTagResolver", "get");
 
           return true;
         } catch (Exception e) {
@@ -53,6 +54,6 @@ public class DeleteTagResolver implements DataFetcher<CompletableFuture<Boolean>
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "DeleteTagResolver", "get");
   }
 }
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
@@ -41,7 +42,7 @@ public class SetTagColorResolver implements DataFetcher<CompletableFuture<Boolea
     final Urn tagUrn = Urn.createFromString(environment.getArgument("urn"));
     final String colorHex = environment.getArgument("colorHex");
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       // If user is not authorized, then throw exception.
       if (!isAuthorizedToSetTagColor(environment.getContext(), tagUrn)) {
@@ -75,7 +76,7 @@ public class SetTagColorResolver implements DataFetcher<CompletableFuture<Boolea
         log.error("Failed to set color for Tag with urn {}: {}", tagUrn, e.getMessage());
         throw new RuntimeException(String.format("Failed to set color for Tag with urn %s", tagUrn), e);
       }
-    });
+    }, "SetTagColorResolver", "get");
   }
 
   public static boolean isAuthorizedToSetTagColor(@Nonnull QueryContext context, Urn entityUrn) {
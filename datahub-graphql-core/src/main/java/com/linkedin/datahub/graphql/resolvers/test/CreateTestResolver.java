@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.test;
 import com.datahub.authentication.Authentication;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateTestInput;
 import com.linkedin.entity.client.EntityClient;
@@ -38,7 +39,7 @@ public class CreateTestResolver implements DataFetcher<CompletableFuture<String>
     final Authentication authentication = context.getAuthentication();
     final CreateTestInput input = bindArgument(environment.getArgument("input"), CreateTestInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (canManageTests(context)) {
 
@@ -68,7 +69,7 @@ public class CreateTestResolver implements DataFetcher<CompletableFuture<String>
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "CreateTestResolver", "get");
   }
 
   private static TestInfo mapCreateTestInput(final CreateTestInput input) {
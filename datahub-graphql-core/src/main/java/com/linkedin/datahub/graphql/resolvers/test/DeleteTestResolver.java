@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.test;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import graphql.schema.DataFetcher;
@@ -27,7 +28,7 @@ public class DeleteTestResolver implements DataFetcher<CompletableFuture<Boolean
     final QueryContext context = environment.getContext();
     final String testUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(testUrn);
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (canManageTests(context)) {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
@@ -37,6 +38,6 @@ public class DeleteTestResolver implements DataFetcher<CompletableFuture<Boolean
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "DeleteTestResolver", "get");
   }
 }
@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.test;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.Test;
 import com.linkedin.datahub.graphql.generated.EntityType;
@@ -43,7 +44,7 @@ public class ListTestsResolver implements DataFetcher<CompletableFuture<ListTest
 
     final QueryContext context = environment.getContext();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
 
       if (canManageTests(context)) {
         final ListTestsInput input = bindArgument(environment.getArgument("input"), ListTestsInput.class);
@@ -74,7 +75,7 @@ public class ListTestsResolver implements DataFetcher<CompletableFuture<ListTest
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "ListTestsResolver", "get");
   }
 
   // This method maps urns returned from the list endpoint into Partial Test objects which will be resolved be a separate Batch resolver.
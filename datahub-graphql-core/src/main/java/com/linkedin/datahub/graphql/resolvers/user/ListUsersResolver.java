@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.user;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CorpUser;
 import com.linkedin.datahub.graphql.generated.ListUsersInput;
@@ -50,7 +51,7 @@ public class ListUsersResolver implements DataFetcher<CompletableFuture<ListUser
       final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
       final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
 
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           // First, get all policy Urns.
           final SearchResult gmsResult =
@@ -74,7 +75,7 @@ public class ListUsersResolver implements DataFetcher<CompletableFuture<ListUser
         } catch (Exception e) {
           throw new RuntimeException("Failed to list users", e);
         }
-      });
+      }, "ListUsersResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.user;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.r2.RemoteInvocationException;
@@ -30,24 +31,24 @@ public class RemoveUserResolver implements DataFetcher<CompletableFuture<Boolean
     if (AuthorizationUtils.canManageUsersAndGroups(context)) {
       final String userUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(userUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLConcurrencyUtils.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
+          GraphQLConcurrencyUtils.runAsync(() -> {
             try {
               _entityClient.deleteEntityReferences(urn, context.getAuthentication());
             } catch (RemoteInvocationException e) {
               log.error(String.format("Caught exception while attempting to clear all entity references for user with urn %s", urn), e);
             }
-          });
+          }, "RemoveUserResolver", "get");
 
           return true;
         } catch (Exception e) {
           throw new RuntimeException(String.format("Failed to perform delete against user with urn %s", userUrn), e);
         }
-      });
+      }, "RemoveUserResolver", "get");
     }
     throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
   }
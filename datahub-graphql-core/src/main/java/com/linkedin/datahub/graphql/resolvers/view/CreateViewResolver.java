@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.view;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateViewInput;
 import com.linkedin.datahub.graphql.generated.DataHubView;
@@ -38,7 +39,7 @@ public class CreateViewResolver implements DataFetcher<CompletableFuture<DataHub
     final QueryContext context = environment.getContext();
     final CreateViewInput input = bindArgument(environment.getArgument("input"), CreateViewInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       if (ViewUtils.canCreateView(
           DataHubViewType.valueOf(input.getViewType().toString()),
           context)) {
@@ -56,7 +57,7 @@ public class CreateViewResolver implements DataFetcher<CompletableFuture<DataHub
         }
       }
       throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    });
+    }, "CreateViewResolver", "get");
   }
 
   private DataHubView createView(@Nonnull final Urn urn, @Nonnull final CreateViewInput input) {
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.view;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.AndFilterInput;
 import com.linkedin.datahub.graphql.generated.DataHubView;
 import com.linkedin.datahub.graphql.generated.EntityType;
@@ -61,7 +62,7 @@ public class ListMyViewsResolver implements DataFetcher<CompletableFuture<ListVi
     final QueryContext context = environment.getContext();
     final ListMyViewsInput input = bindArgument(environment.getArgument("input"), ListMyViewsInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLConcurrencyUtils.supplyAsync(() -> {
       final Integer start = input.getStart() == null ? DEFAULT_START : input.getStart();
       final Integer count = input.getCount() == null ? DEFAULT_COUNT : input.getCount();
       final String query = input.getQuery() == null ? DEFAULT_QUERY : input.getQuery();
@@ -90,7 +91,7 @@ public class ListMyViewsResolver implements DataFetcher<CompletableFuture<ListVi
       } catch (Exception e) {
         throw new RuntimeException("Failed to list Views", e);
       }
-    });
+    }, "ListMyViewsResolver", "get");
   }
 
   // This method maps urns returned from the list endpoint into Partial View objects which will be resolved be a separate Batch resolver.
@@ -0,0 +1,81 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import graphql.execution.DataFetcherResult;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * GQL graph type that can be loaded with only the aspects required by the fields selected in a query.
+ *
+ * A second {@link org.dataloader.DataLoader}, named by {@link #projectedName()} and keyed by {@link ProjectedKey}, is
+ * registered for these types. Projected loads of different field selections are cached separately, and the aspects
+ * of all keys in a batch are fetched together.
+ *
+ * @param <T>: The GraphQL object type corresponding to the type.
+ * @param <K> the key type for the DataLoader
+ */
+public interface AspectProjectedType<T, K> extends LoadableType<T, K> {
+
+    /**
+     * Returns the name of the projected {@link org.dataloader.DataLoader} of the type.
+     */
+    default String projectedName() {
+        return name() + "Projected";
+    }
+
+    /**
+     * Returns the aspects required to resolve the given fields of the type, or null if any of the fields requires the
+     * full set of aspects.
+     *
+     * @param fieldNames the names of the selected fields of the type
+     */
+    @Nullable
+    Set<String> getAspectsToResolve(@Nonnull final Set<String> fieldNames);
+
+    /**
+     * Retrieves a list of entities, fetching only the given aspects. Fields backed by other aspects are left unset.
+     *
+     * @param keys to retrieve
+     * @param aspectNames the aspects to fetch
+     * @param context the {@link QueryContext} corresponding to the request.
+     */
+    List<DataFetcherResult<T>> batchLoad(@Nonnull final List<K> keys, @Nonnull final Set<String> aspectNames,
+        @Nonnull final QueryContext context) throws Exception;
+
+    /**
+     * Maps selected fields to aspects using the given field to aspects mapping. The key aspect is always included so
+     * entities without any of the other aspects are still found.
+     *
+     * @return the aspects to fetch, or null if a field is missing from the mapping
+     */
+    @Nullable
+    static Set<String> mapFieldsToAspects(@Nonnull final Set<String> fieldNames,
+        @Nonnull final Map<String, Set<String>> fieldAspects, @Nonnull final String keyAspectName) {
+        final Set<String> aspectNames = new HashSet<>();
+        aspectNames.add(keyAspectName);
+        for (String fieldName : fieldNames) {
+            final Set<String> aspects = fieldAspects.get(fieldName);
+            if (aspects == null) {
+                return null;
+            }
+            aspectNames.addAll(aspects);
+        }
+        return aspectNames;
+    }
+
+    /**
+     * Key of the projected {@link org.dataloader.DataLoader}, the entity key and the aspects to fetch for it.
+     */
+    @Value
+    class ProjectedKey<K> {
+        K key;
+        Set<String> aspectNames;
+    }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.types.dataset;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
@@ -22,6 +23,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.generated.BatchDatasetUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.AspectProjectedType;
 import com.linkedin.datahub.graphql.types.BatchMutableType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -61,7 +63,7 @@ import static com.linkedin.metadata.Constants.*;
 
 
 public class DatasetType implements SearchableEntityType<Dataset, String>, BrowsableEntityType<Dataset, String>,
-        BatchMutableType<DatasetUpdateInput, BatchDatasetUpdateInput, Dataset> {
+        BatchMutableType<DatasetUpdateInput, BatchDatasetUpdateInput, Dataset>, AspectProjectedType<Dataset, String> {
 
     private static final Set<String> ASPECTS_TO_RESOLVE = ImmutableSet.of(
         DATASET_KEY_ASPECT_NAME,
@@ -87,6 +89,55 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
         DATA_PRODUCTS_ASPECT_NAME
     );
 
+    /**
+     * Aspects read by {@link DatasetMapper} or by the resolvers of each field. Fields which are missing, e.g.
+     * lastIngested which is derived from all aspects, require the full set of aspects.
+     */
+    private static final Map<String, Set<String>> FIELD_ASPECTS = ImmutableMap.<String, Set<String>>builder()
+        .put("__typename", ImmutableSet.of())
+        .put("urn", ImmutableSet.of())
+        .put("type", ImmutableSet.of())
+        .put("name", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("platform", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("origin", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("properties", ImmutableSet.of(DATASET_KEY_ASPECT_NAME, DATASET_PROPERTIES_ASPECT_NAME))
+        .put("description", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+        .put("editableProperties", ImmutableSet.of(EDITABLE_DATASET_PROPERTIES_ASPECT_NAME))
+        .put("viewProperties", ImmutableSet.of(VIEW_PROPERTIES_ASPECT_NAME))
+        .put("deprecation", ImmutableSet.of(DATASET_DEPRECATION_ASPECT_NAME, DEPRECATION_ASPECT_NAME))
+        .put("schema", ImmutableSet.of(SCHEMA_METADATA_ASPECT_NAME))
+        .put("editableSchemaMetadata", ImmutableSet.of(EDITABLE_SCHEMA_METADATA_ASPECT_NAME))
+        .put("fineGrainedLineages", ImmutableSet.of(UPSTREAM_LINEAGE_ASPECT_NAME))
+        .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+        .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+        .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+        .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+        .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+        .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+        .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+        .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+        .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+        .put("siblings", ImmutableSet.of(SIBLINGS_ASPECT_NAME))
+        .put("embed", ImmutableSet.of(EMBED_ASPECT_NAME))
+        // Resolved from the urn by their own resolvers
+        .put("parentContainers", ImmutableSet.of())
+        .put("schemaMetadata", ImmutableSet.of())
+        .put("usageStats", ImmutableSet.of())
+        .put("statsSummary", ImmutableSet.of())
+        .put("datasetProfiles", ImmutableSet.of())
+        .put("operations", ImmutableSet.of())
+        .put("assertions", ImmutableSet.of())
+        .put("relationships", ImmutableSet.of())
+        .put("lineage", ImmutableSet.of())
+        .put("browsePaths", ImmutableSet.of())
+        .put("health", ImmutableSet.of())
+        .put("subTypes", ImmutableSet.of())
+        .put("aspects", ImmutableSet.of())
+        .put("runs", ImmutableSet.of())
+        .put("privileges", ImmutableSet.of())
+        .put("exists", ImmutableSet.of())
+        .build();
+
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
     private static final String ENTITY_NAME = "dataset";
 
@@ -124,6 +175,18 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
     @Override
     public List<DataFetcherResult<Dataset>> batchLoad(@Nonnull final List<String> urnStrs,
         @Nonnull final QueryContext context) {
+        return batchLoad(urnStrs, ASPECTS_TO_RESOLVE, context);
+    }
+
+    @Nullable
+    @Override
+    public Set<String> getAspectsToResolve(@Nonnull final Set<String> fieldNames) {
+        return AspectProjectedType.mapFieldsToAspects(fieldNames, FIELD_ASPECTS, DATASET_KEY_ASPECT_NAME);
+    }
+
+    @Override
+    public List<DataFetcherResult<Dataset>> batchLoad(@Nonnull final List<String> urnStrs,
+        @Nonnull final Set<String> aspectNames, @Nonnull final QueryContext context) {
         try {
             final List<Urn> urns = urnStrs.stream()
                 .map(UrnUtils::getUrn)
@@ -133,7 +196,7 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
                 _entityClient.batchGetV2(
                     Constants.DATASET_ENTITY_NAME,
                     new HashSet<>(urns),
-                    ASPECTS_TO_RESOLVE,
+                    aspectNames,
                     context.getAuthentication());
 
             final List<EntityResponse> gmsResults = new ArrayList<>();
@@ -0,0 +1,87 @@
+package com.linkedin.datahub.graphql;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.parser.Parser;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class CachingPreparsedDocumentProviderTest {
+
+  private static final String QUERY = "query { me { corpUser { urn } } }";
+  private static final String QUERY_HASH = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString();
+
+  @Test
+  public void testQueriesAreParsedOnce() {
+    CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10, false);
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<ExecutionInput, PreparsedDocumentEntry> parse = countingParser(parseCount);
+
+    PreparsedDocumentEntry first = provider.getDocument(input(QUERY, ImmutableMap.of()), parse);
+    PreparsedDocumentEntry second = provider.getDocument(input(QUERY, ImmutableMap.of()), parse);
+
+    assertEquals(parseCount.get(), 1);
+    assertSame(first, second);
+  }
+
+  @Test
+  public void testPersistedQueries() {
+    CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10, true);
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<ExecutionInput, PreparsedDocumentEntry> parse = countingParser(parseCount);
+
+    // Unknown hash, the client has to send the query text
+    PreparsedDocumentEntry missing = provider.getDocument(input("", persistedQuery(QUERY_HASH)), parse);
+    assertTrue(missing.getErrors().get(0) instanceof PersistedQueryNotFound);
+
+    // Hash not matching the query text
+    PreparsedDocumentEntry invalid = provider.getDocument(input(QUERY, persistedQuery("abc")), parse);
+    assertTrue(invalid.getErrors().get(0) instanceof PersistedQueryIdInvalid);
+
+    PreparsedDocumentEntry registered = provider.getDocument(input(QUERY, persistedQuery(QUERY_HASH)), parse);
+    assertFalse(registered.hasErrors());
+    PreparsedDocumentEntry persisted = provider.getDocument(input("", persistedQuery(QUERY_HASH)), parse);
+    assertSame(persisted, registered);
+    assertEquals(parseCount.get(), 1);
+  }
+
+  @Test
+  public void testPersistedQueriesDisabled() {
+    CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(10, false);
+    AtomicInteger parseCount = new AtomicInteger();
+
+    provider.getDocument(input("", persistedQuery(QUERY_HASH)), executionInput -> {
+      parseCount.incrementAndGet();
+      assertEquals(executionInput.getQuery(), "");
+      return new PreparsedDocumentEntry(Parser.parse(QUERY));
+    });
+
+    // The hash is ignored, the empty query is handed to the parser which reports it as invalid
+    assertEquals(parseCount.get(), 1);
+  }
+
+  private static Function<ExecutionInput, PreparsedDocumentEntry> countingParser(AtomicInteger parseCount) {
+    return executionInput -> {
+      parseCount.incrementAndGet();
+      return new PreparsedDocumentEntry(Parser.parse(executionInput.getQuery()));
+    };
+  }
+
+  private static ExecutionInput input(String query, Map<String, Object> extensions) {
+    return ExecutionInput.newExecutionInput().query(query).extensions(extensions).build();
+  }
+
+  private static Map<String, Object> persistedQuery(String hash) {
+    return ImmutableMap.of("persistedQuery", ImmutableMap.of("version", 1, "sha256Hash", hash));
+  }
+}
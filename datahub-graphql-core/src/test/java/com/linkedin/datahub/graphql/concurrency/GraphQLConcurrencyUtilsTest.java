@@ -0,0 +1,58 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class GraphQLConcurrencyUtilsTest {
+
+  private ExecutorService _executorService;
+
+  @AfterMethod
+  public void teardown() {
+    GraphQLConcurrencyUtils.setExecutorService(null);
+    if (_executorService != null) {
+      _executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testDefaultsToCommonPool() {
+    assertSame(GraphQLConcurrencyUtils.getExecutorService(), ForkJoinPool.commonPool());
+    assertEquals(GraphQLConcurrencyUtils.supplyAsync(() -> "result", "TestResolver", "get").join(), "result");
+  }
+
+  @Test
+  public void testRunsOnConfiguredExecutor() {
+    _executorService = Executors.newFixedThreadPool(1,
+        new ThreadFactoryBuilder().setNameFormat("graphql-resolver-test-%d").build());
+    GraphQLConcurrencyUtils.setExecutorService(_executorService);
+
+    assertEquals(GraphQLConcurrencyUtils.supplyAsync(() -> Thread.currentThread().getName(), "TestResolver", "get")
+        .join(), "graphql-resolver-test-0");
+
+    final String[] threadName = new String[1];
+    GraphQLConcurrencyUtils.runAsync(() -> threadName[0] = Thread.currentThread().getName(), "TestResolver", "get")
+        .join();
+    assertEquals(threadName[0], "graphql-resolver-test-0");
+  }
+
+  @Test
+  public void testPropagatesFailures() {
+    try {
+      GraphQLConcurrencyUtils.supplyAsync(() -> {
+        throw new IllegalStateException("Resolver failure");
+      }, "TestResolver", "get").join();
+      fail("Expected the resolver failure to be propagated");
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+}
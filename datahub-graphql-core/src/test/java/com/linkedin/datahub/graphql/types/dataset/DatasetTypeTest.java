@@ -0,0 +1,101 @@
+package com.linkedin.datahub.graphql.types.dataset;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Dataset;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.key.DatasetKey;
+import graphql.execution.DataFetcherResult;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class DatasetTypeTest {
+
+  private static final String TEST_DATASET_1_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,test1,PROD)";
+  private static final String TEST_DATASET_2_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,test2,PROD)";
+
+  @Test
+  public void testGetAspectsToResolve() {
+    DatasetType type = new DatasetType(Mockito.mock(EntityClient.class));
+
+    assertEquals(type.getAspectsToResolve(ImmutableSet.of("urn", "type", "lineage")),
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME));
+    assertEquals(type.getAspectsToResolve(ImmutableSet.of("urn", "properties", "tags")),
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME, Constants.DATASET_PROPERTIES_ASPECT_NAME,
+            Constants.GLOBAL_TAGS_ASPECT_NAME));
+    // Fields without a mapping need all aspects
+    assertNull(type.getAspectsToResolve(ImmutableSet.of("urn", "lastIngested")));
+  }
+
+  @Test
+  public void testBatchLoadProjected() throws Exception {
+    EntityClient client = Mockito.mock(EntityClient.class);
+    Urn datasetUrn1 = Urn.createFromString(TEST_DATASET_1_URN);
+    Urn datasetUrn2 = Urn.createFromString(TEST_DATASET_2_URN);
+    Set<String> aspectNames = ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME, Constants.DATASET_PROPERTIES_ASPECT_NAME);
+
+    Map<String, EnvelopedAspect> dataset1Aspects = new HashMap<>();
+    dataset1Aspects.put(
+        Constants.DATASET_KEY_ASPECT_NAME,
+        new EnvelopedAspect().setValue(new Aspect(new DatasetKey()
+            .setPlatform(Urn.createFromString("urn:li:dataPlatform:hive"))
+            .setName("test1")
+            .setOrigin(FabricType.PROD).data()))
+    );
+    dataset1Aspects.put(
+        Constants.DATASET_PROPERTIES_ASPECT_NAME,
+        new EnvelopedAspect().setValue(new Aspect(new DatasetProperties().setDescription("test description").data()))
+    );
+    Mockito.when(client.batchGetV2(
+        Mockito.eq(Constants.DATASET_ENTITY_NAME),
+        Mockito.eq(new HashSet<>(ImmutableSet.of(datasetUrn1, datasetUrn2))),
+        Mockito.eq(aspectNames),
+        Mockito.any(Authentication.class)))
+        .thenReturn(ImmutableMap.of(
+            datasetUrn1,
+            new EntityResponse()
+                .setEntityName(Constants.DATASET_ENTITY_NAME)
+                .setUrn(datasetUrn1)
+                .setAspects(new EnvelopedAspectMap(dataset1Aspects))));
+
+    DatasetType type = new DatasetType(client);
+    QueryContext mockContext = Mockito.mock(QueryContext.class);
+    Mockito.when(mockContext.getAuthentication()).thenReturn(Mockito.mock(Authentication.class));
+    List<DataFetcherResult<Dataset>> result = type.batchLoad(ImmutableList.of(TEST_DATASET_1_URN, TEST_DATASET_2_URN),
+        aspectNames, mockContext);
+
+    Mockito.verify(client, Mockito.times(1)).batchGetV2(
+        Mockito.eq(Constants.DATASET_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(datasetUrn1, datasetUrn2)),
+        Mockito.eq(aspectNames),
+        Mockito.any(Authentication.class)
+    );
+
+    assertEquals(result.size(), 2);
+    Dataset dataset1 = result.get(0).getData();
+    assertEquals(dataset1.getUrn(), TEST_DATASET_1_URN);
+    assertEquals(dataset1.getName(), "test1");
+    assertEquals(dataset1.getProperties().getDescription(), "test description");
+    assertNull(dataset1.getOwnership());
+    assertNull(result.get(1));
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.upgrade;
 
+import com.linkedin.datahub.upgrade.compressaspects.CompressAspects;
 import com.linkedin.datahub.upgrade.system.SystemUpdate;
 import com.linkedin.datahub.upgrade.system.elasticsearch.BuildIndices;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeManager;
@@ -52,6 +53,10 @@ public class UpgradeCli implements CommandLineRunner {
   @Named("removeUnknownAspects")
   private RemoveUnknownAspects removeUnknownAspects;
 
+  @Inject
+  @Named("compressAspects")
+  private CompressAspects compressAspects;
+
   @Inject
   @Named("buildIndices")
   private BuildIndices buildIndices;
@@ -71,6 +76,7 @@ public class UpgradeCli implements CommandLineRunner {
     _upgradeManager.register(restoreIndices);
     _upgradeManager.register(restoreBackup);
     _upgradeManager.register(removeUnknownAspects);
+    _upgradeManager.register(compressAspects);
     _upgradeManager.register(buildIndices);
     _upgradeManager.register(cleanIndices);
     _upgradeManager.register(systemUpdate);
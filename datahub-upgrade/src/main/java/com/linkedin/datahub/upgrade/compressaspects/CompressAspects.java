@@ -0,0 +1,45 @@
+package com.linkedin.datahub.upgrade.compressaspects;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import io.ebean.EbeanServer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Compresses the aspects already stored in the aspect table, see {@link com.linkedin.metadata.entity.AspectCodec}.
+ */
+public class CompressAspects implements Upgrade {
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+  public static final String MIN_SIZE_BYTES_ARG_NAME = "minSizeBytes";
+
+  private final List<UpgradeStep> _steps;
+
+  public CompressAspects(final EbeanServer server) {
+    _steps = buildSteps(server);
+  }
+
+  @Override
+  public String id() {
+    return "CompressAspects";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  private List<UpgradeStep> buildSteps(final EbeanServer server) {
+    final List<UpgradeStep> steps = new ArrayList<>();
+    steps.add(new CompressAspectsStep(server));
+    return steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
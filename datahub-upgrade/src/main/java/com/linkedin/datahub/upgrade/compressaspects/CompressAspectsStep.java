@@ -0,0 +1,133 @@
+package com.linkedin.datahub.upgrade.compressaspects;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.AspectCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import io.ebean.ExpressionList;
+import io.ebean.SqlUpdate;
+import io.ebean.Transaction;
+import io.ebean.TxScope;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.persistence.Table;
+
+
+/**
+ * Rewrites the aspects of the aspect table which are stored as plain JSON in the compressed format.
+ *
+ * GMS may update aspects while the step runs, so a row is only rewritten if its metadata is still the one which was
+ * read. Rows skipped this way were written by GMS in the format it is configured with.
+ */
+public class CompressAspectsStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final EbeanServer _server;
+
+  public CompressAspectsStep(final EbeanServer server) {
+    _server = server;
+  }
+
+  @Override
+  public String id() {
+    return "CompressAspectsStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final int batchSize = getInt(context.parsedArgs(), DEFAULT_BATCH_SIZE, CompressAspects.BATCH_SIZE_ARG_NAME);
+      final AspectCodec codec = new AspectCodec(true,
+          getInt(context.parsedArgs(), AspectCodec.DEFAULT_MIN_SIZE_BYTES, CompressAspects.MIN_SIZE_BYTES_ARG_NAME));
+      final String updateSql = String.format("UPDATE %s SET metadata = :metadata WHERE urn = :urn AND aspect = :aspect "
+              + "AND version = :version AND metadata = :previousMetadata",
+          EbeanAspectV2.class.getAnnotation(Table.class).name());
+
+      final long startTime = System.currentTimeMillis();
+      long rowsRead = 0;
+      long rowsCompressed = 0;
+      long rowsSkipped = 0;
+      long bytesBefore = 0;
+      long bytesAfter = 0;
+      EbeanAspectV2.PrimaryKey after = null;
+      List<EbeanAspectV2> rows;
+      do {
+        // Pages start after the key of the last row read, so reading a page does not get slower as the step progresses
+        ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class).where();
+        if (after != null) {
+          // (urn, aspect, version) > after, spelled out as not every database supports row value comparisons
+          exp = exp.or()
+              .gt(EbeanAspectV2.URN_COLUMN, after.getUrn())
+              .and()
+              .eq(EbeanAspectV2.URN_COLUMN, after.getUrn())
+              .gt(EbeanAspectV2.ASPECT_COLUMN, after.getAspect())
+              .endAnd()
+              .and()
+              .eq(EbeanAspectV2.URN_COLUMN, after.getUrn())
+              .eq(EbeanAspectV2.ASPECT_COLUMN, after.getAspect())
+              .gt(EbeanAspectV2.VERSION_COLUMN, after.getVersion())
+              .endAnd()
+              .endOr();
+        }
+        rows = exp.orderBy()
+            .asc(EbeanAspectV2.URN_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.ASPECT_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.VERSION_COLUMN)
+            .setMaxRows(batchSize)
+            .findList();
+        try (Transaction transaction = _server.beginTransaction(TxScope.requiresNew())) {
+          for (EbeanAspectV2 row : rows) {
+            final String metadata = row.getMetadata();
+            final String encoded = codec.encode(metadata);
+            if (encoded.equals(metadata)) {
+              continue;
+            }
+            final SqlUpdate update = _server.createSqlUpdate(updateSql)
+                .setParameter("metadata", encoded)
+                .setParameter("urn", row.getKey().getUrn())
+                .setParameter("aspect", row.getKey().getAspect())
+                .setParameter("version", row.getKey().getVersion())
+                .setParameter("previousMetadata", metadata);
+            if (_server.execute(update, transaction) == 1) {
+              rowsCompressed++;
+              bytesBefore += metadata.length();
+              bytesAfter += encoded.length();
+            } else {
+              rowsSkipped++;
+            }
+          }
+          transaction.commit();
+        }
+        rowsRead += rows.size();
+        if (!rows.isEmpty()) {
+          after = rows.get(rows.size() - 1).getKey();
+        }
+        context.report().addLine(String.format("Read %d rows, compressed %d rows from %d to %d bytes, skipped %d rows "
+                + "modified concurrently. %.2f mins taken.", rowsRead, rowsCompressed, bytesBefore, bytesAfter,
+            rowsSkipped, (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
+      } while (rows.size() == batchSize);
+
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  private static int getInt(final Map<String, Optional<String>> parsedArgs, int defaultVal, String argKey) {
+    if (parsedArgs.containsKey(argKey) && parsedArgs.get(argKey).isPresent()) {
+      return Integer.parseInt(parsedArgs.get(argKey).get());
+    }
+    return defaultVal;
+  }
+}
@@ -0,0 +1,25 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.compressaspects.CompressAspects;
+import io.ebean.EbeanServer;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+
+@Configuration
+public class CompressAspectsConfig {
+  @Autowired
+  ApplicationContext applicationContext;
+
+  @Bean(name = "compressAspects")
+  @DependsOn({"ebeanServer"})
+  @Nonnull
+  public CompressAspects createInstance() {
+    final EbeanServer ebeanServer = applicationContext.getBean(EbeanServer.class);
+    return new CompressAspects(ebeanServer);
+  }
+}
@@ -1,10 +1,18 @@
 package com.linkedin.datahub.upgrade.config;
 
+import com.linkedin.datahub.upgrade.restoreindices.DirectRestoreIndices;
 import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.SettingsBuilder;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import com.linkedin.metadata.shared.ElasticSearchIndexed;
+import com.linkedin.metadata.systemmetadata.SystemMetadataService;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import io.ebean.EbeanServer;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,8 +36,16 @@ public class RestoreIndicesConfig {
     final EntitySearchService entitySearchService = applicationContext.getBean(EntitySearchService.class);
     final GraphService graphService = applicationContext.getBean(GraphService.class);
     final EntityRegistry entityRegistry = applicationContext.getBean(EntityRegistry.class);
+    final DirectRestoreIndices directRestoreIndices = new DirectRestoreIndices(entityService,
+        applicationContext.getBean(BaseElasticSearchComponentsFactory.BaseElasticSearchComponents.class),
+        (ElasticSearchIndexed) entitySearchService, graphService,
+        applicationContext.getBean(TimeseriesAspectService.class),
+        applicationContext.getBean(SystemMetadataService.class), entityRegistry,
+        applicationContext.getBean(SearchDocumentTransformer.class),
+        applicationContext.getBean(SettingsBuilder.class),
+        applicationContext.getBean(ConfigurationProvider.class));
 
     return new RestoreIndices(ebeanServer, entityService, entityRegistry, entitySearchService,
-        graphService);
+        graphService, directRestoreIndices);
   }
 }
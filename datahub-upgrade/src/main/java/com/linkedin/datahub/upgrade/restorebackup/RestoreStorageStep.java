@@ -1,9 +1,8 @@
 package com.linkedin.datahub.upgrade.restorebackup;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableBiMap;
-import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
-import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -14,14 +13,13 @@ import com.linkedin.datahub.upgrade.restorebackup.backupreader.EbeanAspectBackup
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.LocalParquetReader;
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.ReaderWrapper;
 import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
-import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import java.lang.reflect.InvocationTargetException;
-import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -30,20 +28,37 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+import static com.linkedin.metadata.Constants.*;
 
+
+/**
+ * Restores the aspects table from a backup. The files of the backup are read in parallel, and their rows are inserted
+ * as is in batches by a pool of writers, optionally producing MCLs for every inserted batch so that the indices are
+ * restored along the way.
+ */
+@Slf4j
 public class RestoreStorageStep implements UpgradeStep {
 
-  private static final int REPORT_BATCH_SIZE = 1000;
+  static final String BATCH_SIZE_ARG_NAME = "BATCH_SIZE";
+  static final String EMIT_MCL_ARG_NAME = "EMIT_MCL";
+  private static final int DEFAULT_BATCH_SIZE = 1000;
   private static final int DEFAULT_THREAD_POOL = 4;
+  private static final long REPORT_INTERVAL_MS = 30000;
 
   private final EntityService _entityService;
   private final EntityRegistry _entityRegistry;
   private final Map<String, Class<? extends BackupReader<? extends ReaderWrapper<?>>>> _backupReaders;
   private final ExecutorService _fileReaderThreadPool;
   private final ExecutorService _gmsThreadPool;
+  private final int _writerPoolSize;
 
   public RestoreStorageStep(final EntityService entityService, final EntityRegistry entityRegistry) {
     _entityService = entityService;
@@ -65,6 +80,7 @@ public class RestoreStorageStep implements UpgradeStep {
     }
     _fileReaderThreadPool = Executors.newFixedThreadPool(filePoolSize);
     _gmsThreadPool = Executors.newFixedThreadPool(gmsPoolSize);
+    _writerPoolSize = gmsPoolSize;
   }
 
   @Override
@@ -82,7 +98,6 @@ public class RestoreStorageStep implements UpgradeStep {
     return (context) -> {
 
       context.report().addLine("Starting backup restore...");
-      int numRows = 0;
       Optional<String> backupReaderName = context.parsedArgs().get("BACKUP_READER");
       context.report().addLine("Inputs!: " + context.parsedArgs());
       context.report().addLine("BACKUP_READER: " + backupReaderName.toString());
@@ -103,113 +118,203 @@ public class RestoreStorageStep implements UpgradeStep {
         context.report().addLine("Invalid BackupReader, not able to construct instance of " + clazz.getSimpleName());
         throw new IllegalArgumentException("Invalid BackupReader: " + clazz.getSimpleName() + ", need to implement proper constructor.");
       }
+
+      final int batchSize = getInt(context, BATCH_SIZE_ARG_NAME, DEFAULT_BATCH_SIZE);
+      final boolean emitMcl = !context.parsedArgs().containsKey(EMIT_MCL_ARG_NAME)
+          || context.parsedArgs().get(EMIT_MCL_ARG_NAME).map(Boolean::parseBoolean).orElse(true);
+      final RestoreProgress progress = new RestoreProgress();
+      // Bounds the number of batches read ahead of the writers
+      final Semaphore pendingBatches = new Semaphore(_writerPoolSize * 2);
+
       EbeanAspectBackupIterator<? extends ReaderWrapper> iterator = backupReader.getBackupIterator(context);
       ReaderWrapper reader;
       List<Future<?>> futureList = new ArrayList<>();
       while ((reader = iterator.getNextReader()) != null) {
         final ReaderWrapper readerRef = reader;
-        futureList.add(_fileReaderThreadPool.submit(() -> readerExecutable(readerRef, context)));
+        futureList.add(_fileReaderThreadPool.submit(
+            () -> readerExecutable(readerRef, context, batchSize, emitMcl, pendingBatches, progress)));
       }
       for (Future<?> future : futureList) {
-        try {
-          future.get();
-        } catch (InterruptedException | ExecutionException e) {
-          context.report().addLine("Reading interrupted, not able to finish processing.");
-          throw new RuntimeException(e);
+        while (true) {
+          try {
+            future.get(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            break;
+          } catch (TimeoutException e) {
+            progress.report(context);
+          } catch (InterruptedException | ExecutionException e) {
+            context.report().addLine("Reading interrupted, not able to finish processing.");
+            throw new RuntimeException(e);
+          }
         }
       }
+      progress.report(context);
 
-      context.report().addLine(String.format("Added %d rows to the aspect v2 table", numRows));
+      context.report().addLine(String.format("Added %d rows to the aspect v2 table, %d rows failed",
+          progress._rowsInserted.get(), progress._rowsFailed.get()));
       return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
     };
   }
 
-  private void readerExecutable(ReaderWrapper reader, UpgradeContext context) {
+  /**
+   * Reads the rows of a backup file, and hands them to the writer pool in batches. Reading goes on while the previous
+   * batches are being written, up to a bounded number of pending batches shared by all the readers.
+   */
+  private void readerExecutable(ReaderWrapper reader, UpgradeContext context, int batchSize, boolean emitMcl,
+      Semaphore pendingBatches, RestoreProgress progress) {
     EbeanAspectV2 aspect;
-    int numRows = 0;
-    final ArrayList<Future<RecordTemplate>> futureList = new ArrayList<>();
+    List<EbeanAspectV2> batch = new ArrayList<>(batchSize);
+    final List<Future<?>> futureList = new ArrayList<>();
     while ((aspect = reader.next()) != null) {
-      numRows++;
-
-      // 1. Extract an Entity type from the entity Urn
-      final Urn urn;
-      try {
-        urn = Urn.createFromString(aspect.getKey().getUrn());
-      } catch (Exception e) {
-        context.report()
-            .addLine(
-                String.format("Failed to bind Urn with value %s into Urn object", aspect.getKey().getUrn()), e);
+      progress._rowsRead.incrementAndGet();
+      if (!isValid(aspect, context)) {
+        progress._rowsFailed.incrementAndGet();
         continue;
       }
-
-      // 2. Verify that the entity associated with the aspect is found in the registry.
-      final String entityName = urn.getEntityType();
-      final EntitySpec entitySpec;
-      try {
-        entitySpec = _entityRegistry.getEntitySpec(entityName);
-      } catch (Exception e) {
-        context.report()
-            .addLine(String.format("Failed to find Entity with name %s in Entity Registry", entityName), e);
-        continue;
+      batch.add(aspect);
+      if (batch.size() >= batchSize) {
+        futureList.add(submitBatch(batch, context, emitMcl, pendingBatches, progress));
+        batch = new ArrayList<>(batchSize);
       }
-      final String aspectName = aspect.getKey().getAspect();
-
-      // 3. Create record from json aspect
-      final RecordTemplate aspectRecord;
+    }
+    if (!batch.isEmpty()) {
+      futureList.add(submitBatch(batch, context, emitMcl, pendingBatches, progress));
+    }
+    for (Future<?> future : futureList) {
       try {
-        aspectRecord =
-            EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
-      } catch (Exception e) {
-        context.report()
-            .addLine(String.format("Failed to create aspect record with name %s associated with entity named %s",
-                aspectName, entityName), e);
-        continue;
+        future.get();
+      } catch (InterruptedException | ExecutionException e) {
+        context.report().addLine("Writing interrupted, not able to finish processing.");
+        throw new RuntimeException(e);
       }
+    }
+  }
 
-      // 4. Verify that the aspect is a valid aspect associated with the entity
-      final AspectSpec aspectSpec;
-      try {
-        aspectSpec = entitySpec.getAspectSpec(aspectName);
-      } catch (Exception e) {
-        context.report()
-            .addLine(String.format("Failed to find aspect spec with name %s associated with entity named %s",
-                aspectName, entityName), e);
-        continue;
-      }
+  private Future<?> submitBatch(List<EbeanAspectV2> batch, UpgradeContext context, boolean emitMcl,
+      Semaphore pendingBatches, RestoreProgress progress) {
+    try {
+      pendingBatches.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for a writer", e);
+    }
+    try {
+      return _gmsThreadPool.submit(() -> {
+        try {
+          writeBatch(batch, context, emitMcl, progress);
+        } finally {
+          pendingBatches.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      pendingBatches.release();
+      throw e;
+    }
+  }
 
-      // 5. Write the row back using the EntityService
-      final long version = aspect.getKey().getVersion();
-      final AuditStamp auditStamp = toAuditStamp(aspect);
-      futureList.add(_gmsThreadPool.submit(() ->
-          _entityService.updateAspect(urn, entityName, aspectName, aspectSpec, aspectRecord, auditStamp,
-              version, version == 0L)));
-      if (numRows % REPORT_BATCH_SIZE == 0) {
-        for (Future<?> future : futureList) {
-          try {
-            future.get();
-          } catch (InterruptedException | ExecutionException e) {
-            context.report().addLine("Reading interrupted, not able to finish processing.");
-            throw new RuntimeException(e);
-          }
+  /**
+   * Inserts a batch of rows as is with a single batched statement, falling back to writing its rows one by one if it
+   * fails, so that a bad row does not fail a whole batch. Rows which already exist, e.g. created by GMS on bootstrap,
+   * are replaced by their backed up value then, as the restore always did. MCLs are then produced for the written
+   * latest versions if asked to, restating older versions would let them overwrite the latest state in the indices.
+   */
+  @VisibleForTesting
+  void writeBatch(List<EbeanAspectV2> batch, UpgradeContext context, boolean emitMcl,
+      RestoreProgress progress) {
+    List<EbeanAspectV2> inserted = batch;
+    try {
+      _entityService.insertAspects(batch);
+    } catch (Exception batchException) {
+      log.warn("Failed to insert a batch of {} rows, writing them one by one", batch.size(), batchException);
+      inserted = new ArrayList<>(batch.size());
+      for (EbeanAspectV2 aspect : batch) {
+        try {
+          _entityService.upsertAspect(aspect);
+          inserted.add(aspect);
+        } catch (Exception e) {
+          progress._rowsFailed.incrementAndGet();
+          context.report().addLine(String.format("Failed to write aspect %s of %s",
+              aspect.getKey().getAspect(), aspect.getKey().getUrn()), e);
         }
-        futureList.clear();
-        context.report().addLine(String.format("Successfully inserted %d rows", numRows));
+      }
+    }
+    progress._rowsInserted.addAndGet(inserted.size());
+    if (emitMcl) {
+      final List<EbeanAspectV2> latest = inserted.stream()
+          .filter(aspect -> ASPECT_LATEST_VERSION.equals(aspect.getKey().getVersion()))
+          .collect(Collectors.toList());
+      if (!latest.isEmpty()) {
+        _entityService.restoreIndices(latest, context.report()::addLine, future -> { });
       }
     }
   }
 
-  private AuditStamp toAuditStamp(final EbeanAspectV2 aspect) {
-    final AuditStamp auditStamp = new AuditStamp();
-    auditStamp.setTime(aspect.getCreatedOn().getTime());
+  /**
+   * Checks that a row is a valid aspect of an entity of the registry.
+   */
+  private boolean isValid(EbeanAspectV2 aspect, UpgradeContext context) {
+    // 1. Extract an Entity type from the entity Urn
+    final Urn urn;
+    try {
+      urn = Urn.createFromString(aspect.getKey().getUrn());
+    } catch (Exception e) {
+      context.report()
+          .addLine(
+              String.format("Failed to bind Urn with value %s into Urn object", aspect.getKey().getUrn()), e);
+      return false;
+    }
 
+    // 2. Verify that the entity associated with the aspect is found in the registry.
+    final String entityName = urn.getEntityType();
+    final EntitySpec entitySpec;
     try {
-      auditStamp.setActor(new Urn(aspect.getCreatedBy()));
-      if (aspect.getCreatedFor() != null) {
-        auditStamp.setImpersonator(new Urn(aspect.getCreatedFor()));
-      }
-    } catch (URISyntaxException e) {
-      throw new RuntimeException(e);
+      entitySpec = _entityRegistry.getEntitySpec(entityName);
+    } catch (Exception e) {
+      context.report()
+          .addLine(String.format("Failed to find Entity with name %s in Entity Registry", entityName), e);
+      return false;
+    }
+    final String aspectName = aspect.getKey().getAspect();
+
+    // 3. Verify that the aspect is a valid aspect associated with the entity
+    try {
+      entitySpec.getAspectSpec(aspectName);
+    } catch (Exception e) {
+      context.report()
+          .addLine(String.format("Failed to find aspect spec with name %s associated with entity named %s",
+              aspectName, entityName), e);
+      return false;
+    }
+
+    // 4. Verify that the json aspect can be read into its record
+    try {
+      EntityUtils.toAspectRecord(entityName, aspectName, AspectCodec.decode(aspect.getMetadata()), _entityRegistry);
+    } catch (Exception e) {
+      context.report()
+          .addLine(String.format("Failed to create aspect record with name %s associated with entity named %s",
+              aspectName, entityName), e);
+      return false;
+    }
+    return true;
+  }
+
+  private int getInt(UpgradeContext context, String argName, int defaultValue) {
+    return context.parsedArgs().getOrDefault(argName, Optional.empty()).map(Integer::parseInt).orElse(defaultValue);
+  }
+
+  /**
+   * Counts of rows restored so far by all the readers and writers.
+   */
+  @VisibleForTesting
+  static class RestoreProgress {
+    private final long _startTime = System.currentTimeMillis();
+    private final AtomicLong _rowsRead = new AtomicLong();
+    private final AtomicLong _rowsInserted = new AtomicLong();
+    private final AtomicLong _rowsFailed = new AtomicLong();
+
+    private void report(UpgradeContext context) {
+      final double seconds = Math.max(System.currentTimeMillis() - _startTime, 1) / 1000.0;
+      context.report().addLine(String.format("Read %d rows, inserted %d rows (%.0f rows/sec), %d rows failed",
+          _rowsRead.get(), _rowsInserted.get(), _rowsInserted.get() / seconds, _rowsFailed.get()));
     }
-    return auditStamp;
   }
 }
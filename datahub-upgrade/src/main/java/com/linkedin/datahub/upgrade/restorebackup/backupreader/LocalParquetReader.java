@@ -2,10 +2,14 @@ package com.linkedin.datahub.upgrade.restorebackup.backupreader;
 
 import com.google.common.collect.ImmutableList;
 import com.linkedin.datahub.upgrade.UpgradeContext;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
@@ -16,12 +20,14 @@ import org.apache.parquet.hadoop.ParquetReader;
 
 
 /**
- * BackupReader for retrieving EbeanAspectV2 objects from a local parquet file
+ * BackupReader for retrieving EbeanAspectV2 objects from a local parquet file, or from every parquet file of a local
+ * directory
  */
 @Slf4j
 public class LocalParquetReader implements BackupReader<ParquetReaderWrapper> {
 
   public static final String READER_NAME = "LOCAL_PARQUET";
+  private static final String PARQUET_SUFFIX = ".parquet";
 
   public static List<String> argNames() {
     return Collections.emptyList();
@@ -51,11 +57,27 @@ public class LocalParquetReader implements BackupReader<ParquetReaderWrapper> {
           "BACKUP_FILE_PATH must be set to run RestoreBackup through local parquet file");
     }
 
-    try {
-      ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(new Path(path.get())).build();
-      return new EbeanAspectBackupIterator<>(ImmutableList.of(new ParquetReaderWrapper(reader, path.get())));
-    } catch (IOException e) {
-      throw new RuntimeException(String.format("Failed to build ParquetReader: %s", e));
+    // A directory is restored file by file, so that its files can be read in parallel
+    final File backupPath = new File(path.get());
+    final List<String> fileNames;
+    if (backupPath.isDirectory()) {
+      final File[] files = backupPath.listFiles((dir, name) -> name.endsWith(PARQUET_SUFFIX));
+      fileNames = files == null ? Collections.emptyList()
+          : Arrays.stream(files).map(File::getPath).sorted().collect(Collectors.toList());
+      context.report().addLine(String.format("Found %d parquet files in %s", fileNames.size(), path.get()));
+    } else {
+      fileNames = ImmutableList.of(path.get());
     }
+
+    final List<ParquetReaderWrapper> readers = new ArrayList<>(fileNames.size());
+    for (String fileName : fileNames) {
+      try {
+        ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(new Path(fileName)).build();
+        readers.add(new ParquetReaderWrapper(reader, fileName));
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Failed to build ParquetReader for %s: %s", fileName, e));
+      }
+    }
+    return new EbeanAspectBackupIterator<>(readers);
   }
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
+import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.SettingsBuilder;
+import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
+import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import com.linkedin.metadata.service.UpdateIndicesService;
+import com.linkedin.metadata.shared.ElasticSearchIndexed;
+import com.linkedin.metadata.systemmetadata.SystemMetadataService;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.elasticsearch.RedirectingIndexConvention;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.client.RequestOptions;
+
+
+/**
+ * Restores the indices straight from the aspects table, without going through Kafka: the MCLs of the latest aspects
+ * are handed to an {@link UpdateIndicesService} in the process, one page of rows at a time.
+ *
+ * Entity search documents are written with bulk requests into fresh indices, created without refresh nor replicas,
+ * which replace the live ones behind their aliases once fully loaded. The writes go through a dedicated bulk processor
+ * which is drained before the swap, and the swap is skipped if any document failed to be written. Searches keep
+ * hitting the previous indices until then, and a failed restore leaves them untouched. Graph, system metadata and timeseries documents are upserted into
+ * the live indices, which is idempotent.
+ *
+ * The aspects table is walked with keyset pagination, partitioned by entity type across a pool of workers as in
+ * {@link StreamingRestoreIndices}. No checkpoint is kept: the fresh indices are dropped when a restore fails.
+ *
+ * As the fresh indices replace the live ones, the restore always covers every aspect of every entity.
+ */
+@Slf4j
+public class DirectRestoreIndices {
+
+  private static final long REPORT_INTERVAL_MS = 30000;
+  private static final long BULK_CLOSE_TIMEOUT_MINUTES = 30;
+
+  private final EntityService _entityService;
+  private final BaseElasticSearchComponentsFactory.BaseElasticSearchComponents _components;
+  private final ElasticSearchIndexed _entitySearchIndices;
+  private final GraphService _graphService;
+  private final TimeseriesAspectService _timeseriesAspectService;
+  private final SystemMetadataService _systemMetadataService;
+  private final EntityRegistry _entityRegistry;
+  private final SearchDocumentTransformer _searchDocumentTransformer;
+  private final SettingsBuilder _settingsBuilder;
+  private final ConfigurationProvider _configurationProvider;
+
+  public DirectRestoreIndices(@Nonnull final EntityService entityService,
+      @Nonnull final BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components,
+      @Nonnull final ElasticSearchIndexed entitySearchIndices, @Nonnull final GraphService graphService,
+      @Nonnull final TimeseriesAspectService timeseriesAspectService,
+      @Nonnull final SystemMetadataService systemMetadataService, @Nonnull final EntityRegistry entityRegistry,
+      @Nonnull final SearchDocumentTransformer searchDocumentTransformer,
+      @Nonnull final SettingsBuilder settingsBuilder, @Nonnull final ConfigurationProvider configurationProvider) {
+    _entityService = entityService;
+    _components = components;
+    _entitySearchIndices = entitySearchIndices;
+    _graphService = graphService;
+    _timeseriesAspectService = timeseriesAspectService;
+    _systemMetadataService = systemMetadataService;
+    _entityRegistry = entityRegistry;
+    _searchDocumentTransformer = searchDocumentTransformer;
+    _settingsBuilder = settingsBuilder;
+    _configurationProvider = configurationProvider;
+  }
+
+  /**
+   * Loads fresh entity search indices and swaps them in.
+   *
+   * @param context context of the upgrade, to report progress
+   * @param args batching of the restore, which must not filter aspects
+   * @param entityNames names of the entities of the registry, partitioning the aspects table
+   * @param rowCount number of rows to restore, to estimate the time to completion
+   * @return the total result, or null if the restore failed, in which case the live search indices are left as is
+   */
+  @Nullable
+  public RestoreIndicesResult restore(@Nonnull final UpgradeContext context, @Nonnull final RestoreIndicesArgs args,
+      @Nonnull final Collection<String> entityNames, final int rowCount) throws IOException {
+    final Map<ReindexConfig, String> bulkLoadIndices = new HashMap<>();
+    final ESBulkProcessor bulkProcessor = ESBulkProcessor.builder(_components.getSearchClient())
+        .async(true)
+        .numRetries(_components.getNumRetries())
+        .maxConcurrentRequests(args.numThreads)
+        .build();
+    boolean swapped = false;
+    try {
+      for (ReindexConfig config : _entitySearchIndices.getReindexConfigs()) {
+        bulkLoadIndices.put(config, _components.getIndexBuilder().createBulkLoadIndex(config));
+      }
+      final Map<String, String> redirects = bulkLoadIndices.entrySet().stream()
+          .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue));
+      final UpdateIndicesService updateIndicesService = new UpdateIndicesService(_graphService,
+          buildSearchService(new RedirectingIndexConvention(_components.getIndexConvention(), redirects), bulkProcessor),
+          _timeseriesAspectService, _systemMetadataService, _entityRegistry, _searchDocumentTransformer);
+
+      final RestoreIndicesResult result = restorePartitions(context, args, entityNames, rowCount, updateIndicesService);
+      if (result == null) {
+        return null;
+      }
+
+      if (!awaitBulkLoad(context, bulkProcessor, bulkLoadIndices.values(), result)) {
+        return null;
+      }
+      for (Map.Entry<ReindexConfig, String> entry : bulkLoadIndices.entrySet()) {
+        _components.getIndexBuilder().swapIndex(entry.getKey(), entry.getValue());
+      }
+      swapped = true;
+      return result;
+    } finally {
+      if (!swapped) {
+        bulkProcessor.close();
+        deleteIndices(context, bulkLoadIndices.values());
+      }
+    }
+  }
+
+  /**
+   * Waits for all the documents to be written into the fresh indices.
+   *
+   * @return true if every document was written, so that the indices can be swapped in
+   */
+  private boolean awaitBulkLoad(@Nonnull final UpgradeContext context, @Nonnull final ESBulkProcessor bulkProcessor,
+      @Nonnull final Collection<String> indices, @Nonnull final RestoreIndicesResult result) throws IOException {
+    try {
+      if (!bulkProcessor.awaitClose(BULK_CLOSE_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        context.report().addLine(String.format("Bulk requests did not complete within %s minutes, leaving the search "
+            + "indices as they were", BULK_CLOSE_TIMEOUT_MINUTES));
+        return false;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for bulk requests", e);
+    }
+    if (bulkProcessor.getFailedItems() > 0) {
+      context.report().addLine(String.format("Failed to write %s documents, leaving the search indices as they were",
+          bulkProcessor.getFailedItems()));
+      return false;
+    }
+
+    final String[] indexNames = indices.toArray(new String[0]);
+    _components.getSearchClient().indices().refresh(new RefreshRequest(indexNames), RequestOptions.DEFAULT);
+    final long documentCount = _components.getSearchClient()
+        .count(new CountRequest(indexNames), RequestOptions.DEFAULT)
+        .getCount();
+    context.report().addLine(String.format("Loaded %s documents from %s restored rows", documentCount,
+        result.rowsMigrated));
+    if (documentCount == 0 && result.rowsMigrated > 0) {
+      context.report().addLine("No document was loaded, leaving the search indices as they were");
+      return false;
+    }
+    return true;
+  }
+
+  @Nullable
+  private RestoreIndicesResult restorePartitions(@Nonnull final UpgradeContext context,
+      @Nonnull final RestoreIndicesArgs args, @Nonnull final Collection<String> entityNames, final int rowCount,
+      @Nonnull final UpdateIndicesService updateIndicesService) {
+    final List<String> partitions = new ArrayList<>(entityNames);
+    context.report().addLine(String.format("Restoring %s partitions directly with %s threads.",
+        partitions.size(), args.numThreads));
+
+    final AtomicLong rowsRestored = new AtomicLong();
+    final ExecutorService executor = Executors.newFixedThreadPool(args.numThreads);
+    final List<Future<RestoreIndicesResult>> futures = partitions.stream()
+        .map(partition -> executor.submit(
+            () -> restorePartition(context, args, partition, updateIndicesService, rowsRestored)))
+        .collect(Collectors.toList());
+    executor.shutdown();
+
+    final long startTime = System.currentTimeMillis();
+    final RestoreIndicesResult finalResult = new RestoreIndicesResult();
+    for (Future<RestoreIndicesResult> future : futures) {
+      while (true) {
+        try {
+          add(finalResult, future.get(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS));
+          break;
+        } catch (TimeoutException e) {
+          reportProgress(context, rowsRestored.get(), rowCount, startTime);
+        } catch (ExecutionException e) {
+          context.report().addLine("Failed to restore partition, leaving the search indices as they were", e);
+          executor.shutdownNow();
+          return null;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          executor.shutdownNow();
+          throw new RuntimeException("Interrupted while restoring indices", e);
+        }
+      }
+    }
+    reportProgress(context, rowsRestored.get(), rowCount, startTime);
+    return finalResult;
+  }
+
+  private RestoreIndicesResult restorePartition(@Nonnull final UpgradeContext context,
+      @Nonnull final RestoreIndicesArgs args, @Nonnull final String partition,
+      @Nonnull final UpdateIndicesService updateIndicesService, @Nonnull final AtomicLong rowsRestored) {
+    final RestoreIndicesArgs partitionArgs = args.clone();
+    partitionArgs.urnLike = String.format("urn:li:%s:%%", partition);
+    final RestoreIndicesResult result = new RestoreIndicesResult();
+    EbeanAspectV2.PrimaryKey after = null;
+    while (true) {
+      long startTime = System.currentTimeMillis();
+      final List<EbeanAspectV2> rows = _entityService.getPagedAspectsAfter(partitionArgs, after);
+      result.timeSqlQueryMs += System.currentTimeMillis() - startTime;
+      if (rows.isEmpty()) {
+        break;
+      }
+      final List<MetadataChangeLog> events = new ArrayList<>(rows.size());
+      add(result, _entityService.restateAspects(rows, context.report()::addLine,
+          (aspectSpec, event) -> events.add(event)));
+      startTime = System.currentTimeMillis();
+      updateIndicesService.handleChangeEvents(events);
+      result.sendMessageMs += System.currentTimeMillis() - startTime;
+      rowsRestored.addAndGet(rows.size());
+      after = rows.get(rows.size() - 1).getKey();
+      if (rows.size() < partitionArgs.batchSize) {
+        break;
+      }
+      if (partitionArgs.batchDelayMs > 0) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(partitionArgs.batchDelayMs);
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Thread interrupted while sleeping after a batch.");
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Entity search service writing into the given indices. Only its write path is used.
+   */
+  private ElasticSearchService buildSearchService(@Nonnull final IndexConvention indexConvention,
+      @Nonnull final ESBulkProcessor bulkProcessor) {
+    final ElasticSearchConfiguration elasticSearchConfiguration = _configurationProvider.getElasticSearch();
+    final ESSearchDAO esSearchDAO = new ESSearchDAO(_entityRegistry, _components.getSearchClient(), indexConvention,
+        false, elasticSearchConfiguration.getImplementation(), elasticSearchConfiguration.getSearch(), null);
+    return new ElasticSearchService(
+        new EntityIndexBuilders(_components.getIndexBuilder(), _entityRegistry, indexConvention, _settingsBuilder),
+        esSearchDAO,
+        new ESBrowseDAO(_entityRegistry, _components.getSearchClient(), indexConvention),
+        new ESWriteDAO(_entityRegistry, _components.getSearchClient(), indexConvention,
+            bulkProcessor, _components.getNumRetries()));
+  }
+
+  private void deleteIndices(@Nonnull final UpgradeContext context, @Nonnull final Collection<String> indices) {
+    if (indices.isEmpty()) {
+      return;
+    }
+    try {
+      _components.getSearchClient().indices()
+          .delete(new DeleteIndexRequest(indices.toArray(new String[0])), RequestOptions.DEFAULT);
+      context.report().addLine(String.format("Deleted indices %s", indices));
+    } catch (IOException e) {
+      log.error("Failed to delete indices {}", indices, e);
+    }
+  }
+
+  private static void reportProgress(@Nonnull final UpgradeContext context, final long rows, final int rowCount,
+      final long startTime) {
+    final double seconds = Math.max(System.currentTimeMillis() - startTime, 1) / 1000.0;
+    final double rowsPerSecond = rows / seconds;
+    final double etaMinutes = rowsPerSecond > 0 ? Math.max(rowCount - rows, 0) / rowsPerSecond / 60 : -1;
+    context.report().addLine(String.format(
+        "Restored %s/%s rows since start, %.0f rows/sec. %.2f est. mins to completion.",
+        rows, rowCount, rowsPerSecond, etaMinutes));
+  }
+
+  private static void add(@Nonnull final RestoreIndicesResult total, @Nonnull final RestoreIndicesResult result) {
+    total.ignored += result.ignored;
+    total.rowsMigrated += result.rowsMigrated;
+    total.timeSqlQueryMs += result.timeSqlQueryMs;
+    total.timeUrnMs += result.timeUrnMs;
+    total.timeEntityRegistryCheckMs += result.timeEntityRegistryCheckMs;
+    total.aspectCheckMs += result.aspectCheckMs;
+    total.createRecordMs += result.createRecordMs;
+    total.sendMessageMs += result.sendMessageMs;
+  }
+}
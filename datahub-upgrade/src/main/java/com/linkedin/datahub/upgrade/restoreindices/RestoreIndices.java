@@ -24,13 +24,17 @@ public class RestoreIndices implements Upgrade {
   public static final String WRITER_POOL_SIZE = "WRITER_POOL_SIZE";
   public static final String URN_ARG_NAME = "urn";
   public static final String URN_LIKE_ARG_NAME = "urnLike";
+  public static final String STREAMING_ARG_NAME = "streaming";
+  public static final String MAX_IN_FLIGHT_ARG_NAME = "maxInFlight";
+  public static final String DIRECT_ARG_NAME = "direct";
 
   private final List<UpgradeStep> _steps;
 
   public RestoreIndices(final EbeanServer server, final EntityService entityService,
       final EntityRegistry entityRegistry, final EntitySearchService entitySearchService,
-      final GraphService graphService) {
-    _steps = buildSteps(server, entityService, entityRegistry, entitySearchService, graphService);
+      final GraphService graphService, final DirectRestoreIndices directRestoreIndices) {
+    _steps = buildSteps(server, entityService, entityRegistry, entitySearchService, graphService,
+        directRestoreIndices);
   }
 
   @Override
@@ -45,11 +49,11 @@ public class RestoreIndices implements Upgrade {
 
   private List<UpgradeStep> buildSteps(final EbeanServer server, final EntityService entityService,
       final EntityRegistry entityRegistry, final EntitySearchService entitySearchService,
-      final GraphService graphService) {
+      final GraphService graphService, final DirectRestoreIndices directRestoreIndices) {
     final List<UpgradeStep> steps = new ArrayList<>();
     steps.add(new ClearSearchServiceStep(entitySearchService, false));
     steps.add(new ClearGraphServiceStep(graphService, false));
-    steps.add(new SendMAEStep(server, entityService, entityRegistry));
+    steps.add(new SendMAEStep(server, entityService, entityRegistry, directRestoreIndices));
     return steps;
   }
 
@@ -0,0 +1,94 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.key.DataHubUpgradeKey;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Position reached by a streaming restore in every partition of the aspects table, persisted as the result of a
+ * dataHubUpgrade entity so that an interrupted restore can resume where it left off.
+ *
+ * A checkpoint only applies to a restore with the same filters, it is ignored otherwise.
+ */
+public class RestoreIndicesCheckpoint {
+
+  static final String UPGRADE_ID = "restore-indices-checkpoint";
+  private static final String FILTERS_KEY = "filters";
+  private static final String PARTITION_KEY_PREFIX = "partition.";
+
+  private final EntityService _entityService;
+  private final String _filters;
+  private final Urn _checkpointUrn;
+
+  public RestoreIndicesCheckpoint(@Nonnull final EntityService entityService, @Nonnull final String filters) {
+    _entityService = entityService;
+    _filters = filters;
+    _checkpointUrn = EntityKeyUtils.convertEntityKeyToUrn(new DataHubUpgradeKey().setId(UPGRADE_ID),
+        Constants.DATA_HUB_UPGRADE_ENTITY_NAME);
+  }
+
+  /**
+   * Returns the persisted position of every partition, or an empty map if there is no checkpoint for these filters.
+   */
+  @Nonnull
+  public Map<String, String> load() {
+    final RecordTemplate aspect =
+        _entityService.getLatestAspect(_checkpointUrn, Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME);
+    if (aspect == null) {
+      return Collections.emptyMap();
+    }
+    final DataHubUpgradeResult result = new DataHubUpgradeResult(aspect.data());
+    if (!result.hasResult() || !_filters.equals(result.getResult().get(FILTERS_KEY))) {
+      return Collections.emptyMap();
+    }
+    final Map<String, String> positions = new HashMap<>();
+    result.getResult().forEach((key, value) -> {
+      if (key.startsWith(PARTITION_KEY_PREFIX)) {
+        positions.put(key.substring(PARTITION_KEY_PREFIX.length()), value);
+      }
+    });
+    return positions;
+  }
+
+  /**
+   * Persists the position of every partition.
+   */
+  public void save(@Nonnull final Map<String, String> positions) {
+    final StringMap result = new StringMap();
+    result.put(FILTERS_KEY, _filters);
+    positions.forEach((partition, position) -> result.put(PARTITION_KEY_PREFIX + partition, position));
+
+    final MetadataChangeProposal proposal = new MetadataChangeProposal();
+    proposal.setEntityUrn(_checkpointUrn);
+    proposal.setEntityType(Constants.DATA_HUB_UPGRADE_ENTITY_NAME);
+    proposal.setAspectName(Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME);
+    proposal.setAspect(GenericRecordUtils.serializeAspect(
+        new DataHubUpgradeResult().setTimestampMs(System.currentTimeMillis()).setResult(result)));
+    proposal.setChangeType(ChangeType.UPSERT);
+
+    _entityService.ingestProposal(proposal,
+        new AuditStamp().setActor(UrnUtils.getUrn(Constants.SYSTEM_ACTOR)).setTime(System.currentTimeMillis()), false);
+  }
+
+  /**
+   * Removes the checkpoint, once the restore has completed or when it has to start over.
+   */
+  public void clear() {
+    _entityService.deleteUrn(_checkpointUrn);
+  }
+}
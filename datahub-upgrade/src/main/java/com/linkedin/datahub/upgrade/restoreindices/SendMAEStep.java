@@ -4,6 +4,7 @@ import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.datahub.upgrade.nocode.NoCodeUpgrade;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
@@ -12,6 +13,7 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import io.ebean.EbeanServer;
 import io.ebean.ExpressionList;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,9 +33,12 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_BATCH_SIZE = 1000;
   private static final long DEFAULT_BATCH_DELAY_MS = 250;
   private static final int DEFAULT_THREADS = 1;
+  private static final int DEFAULT_MAX_IN_FLIGHT = 10000;
 
   private final EbeanServer _server;
   private final EntityService _entityService;
+  private final EntityRegistry _entityRegistry;
+  private final DirectRestoreIndices _directRestoreIndices;
 
   public class KafkaJob implements Callable<RestoreIndicesResult> {
       UpgradeContext context;
@@ -48,9 +53,12 @@ public class SendMAEStep implements UpgradeStep {
       }
   }
 
-  public SendMAEStep(final EbeanServer server, final EntityService entityService, final EntityRegistry entityRegistry) {
+  public SendMAEStep(final EbeanServer server, final EntityService entityService, final EntityRegistry entityRegistry,
+      final DirectRestoreIndices directRestoreIndices) {
     _server = server;
     _entityService = entityService;
+    _entityRegistry = entityRegistry;
+    _directRestoreIndices = directRestoreIndices;
   }
 
   @Override
@@ -117,6 +125,12 @@ public class SendMAEStep implements UpgradeStep {
     return (context) -> {
       RestoreIndicesResult finalJobResult = new RestoreIndicesResult();
       RestoreIndicesArgs args = getArgs(context);
+      final boolean direct = context.parsedArgs().containsKey(RestoreIndices.DIRECT_ARG_NAME);
+      if (direct && (args.aspectName != null || args.urn != null || args.urnLike != null)) {
+        context.report().addLine("A direct restore replaces the search indices, it cannot be restricted to some "
+            + "aspects or urns.");
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
       ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
 
       context.report().addLine("Sending MAE from local DB");
@@ -124,6 +138,14 @@ public class SendMAEStep implements UpgradeStep {
       final int rowCount = getRowCount(args);
       context.report().addLine(String.format("Found %s latest aspects in aspects table in %.2f minutes.",
               rowCount, (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
+      if (direct) {
+        executor.shutdown();
+        return executeDirect(context, args, rowCount);
+      }
+      if (context.parsedArgs().containsKey(RestoreIndices.STREAMING_ARG_NAME)) {
+        executor.shutdown();
+        return executeStreaming(context, args, rowCount);
+      }
       int start = 0;
 
       List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
@@ -154,6 +176,36 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
+  private UpgradeStepResult executeStreaming(UpgradeContext context, RestoreIndicesArgs args, int rowCount) {
+    final StreamingRestoreIndices restore = new StreamingRestoreIndices(_entityService, context, args,
+        getInt(context.parsedArgs(), DEFAULT_MAX_IN_FLIGHT, RestoreIndices.MAX_IN_FLIGHT_ARG_NAME));
+    // Indices cleared by the previous step have to be restored from the start
+    final RestoreIndicesResult result = restore.restore(_entityRegistry.getEntitySpecs().keySet(), rowCount,
+        context.parsedArgs().containsKey(NoCodeUpgrade.CLEAN_ARG_NAME));
+    if (result == null) {
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+    }
+    context.report().addLine(String.format("Sent MAEs for %s rows, %s rows ignored. Metrics %s",
+        result.rowsMigrated, result.ignored, result));
+    return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+  }
+
+  private UpgradeStepResult executeDirect(UpgradeContext context, RestoreIndicesArgs args, int rowCount) {
+    final RestoreIndicesResult result;
+    try {
+      result = _directRestoreIndices.restore(context, args, _entityRegistry.getEntitySpecs().keySet(), rowCount);
+    } catch (IOException e) {
+      context.report().addLine("Failed to restore indices directly", e);
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+    }
+    if (result == null) {
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+    }
+    context.report().addLine(String.format("Restored indices for %s rows, %s rows ignored. Metrics %s",
+        result.rowsMigrated, result.ignored, result));
+    return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+  }
+
   private static void reportStats(UpgradeContext context, RestoreIndicesResult finalResult, RestoreIndicesResult tmpResult,
                                   int rowCount, long startTime) {
     finalResult.ignored += tmpResult.ignored;
@@ -0,0 +1,272 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Sends MAEs for the latest aspects by walking the aspects table with keyset pagination on (urn, aspect) rather than
+ * offsets, so that reading a page costs the same at the end of the table as at its start.
+ *
+ * Unless the restore is restricted to some urns, the table is partitioned by entity type and the partitions are walked
+ * concurrently by a pool of workers, which deserialize the rows and produce the MAEs. Messages are produced
+ * asynchronously, with at most maxInFlight of them unacknowledged at any time.
+ *
+ * The position of every partition up to which all messages have been acknowledged is persisted periodically, see
+ * {@link RestoreIndicesCheckpoint}, so that an interrupted restore resumes where it left off when run again with the
+ * same filters. A partition stops moving at the first page one of whose messages could not be sent, so that the pages
+ * from there on are sent again when the restore is resumed.
+ */
+@Slf4j
+public class StreamingRestoreIndices {
+
+  // Position of a partition which has been fully restored
+  private static final String DONE = "done";
+  // Partition of a restore restricted to some urns
+  private static final String ALL_PARTITION = "all";
+  private static final long REPORT_INTERVAL_MS = 30000;
+
+  private final EntityService _entityService;
+  private final UpgradeContext _context;
+  private final RestoreIndicesArgs _args;
+  private final int _maxInFlight;
+  private final RestoreIndicesCheckpoint _checkpoint;
+
+  // Positions of the partitions, updated by the workers as their messages get acknowledged
+  private final Map<String, String> _positions = new ConcurrentHashMap<>();
+  private final AtomicLong _inFlight = new AtomicLong();
+  private final AtomicLong _rowsAcknowledged = new AtomicLong();
+  private final AtomicLong _failedMessages = new AtomicLong();
+  // Partitions whose position is kept before a page with messages which could not be sent
+  private final Set<String> _failedPartitions = ConcurrentHashMap.newKeySet();
+
+  public StreamingRestoreIndices(@Nonnull final EntityService entityService, @Nonnull final UpgradeContext context,
+      @Nonnull final RestoreIndicesArgs args, final int maxInFlight) {
+    _entityService = entityService;
+    _context = context;
+    _args = args;
+    _maxInFlight = maxInFlight;
+    _checkpoint = new RestoreIndicesCheckpoint(entityService,
+        String.format("aspectName=%s,urn=%s,urnLike=%s", args.aspectName, args.urn, args.urnLike));
+  }
+
+  /**
+   * Restores every partition, resuming from the persisted checkpoint unless asked to start over.
+   *
+   * @param entityNames names of the entities of the registry, partitioning the aspects table
+   * @param rowCount number of rows to restore, to estimate the time to completion
+   * @param startOver whether to ignore the persisted checkpoint
+   * @return the total result, or null if a partition or some of its messages failed, in which case the checkpoint is
+   *     kept
+   */
+  @Nullable
+  public RestoreIndicesResult restore(@Nonnull final Collection<String> entityNames, final int rowCount,
+      final boolean startOver) {
+    if (startOver) {
+      _checkpoint.clear();
+    } else {
+      _positions.putAll(_checkpoint.load());
+    }
+    final List<String> partitions = _args.urn != null || _args.urnLike != null
+        ? List.of(ALL_PARTITION) : new ArrayList<>(entityNames);
+    final long alreadyDone = partitions.stream().filter(partition -> DONE.equals(_positions.get(partition))).count();
+    _context.report().addLine(String.format("Restoring %s partitions with %s threads, %s already done.",
+        partitions.size(), _args.numThreads, alreadyDone));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(_args.numThreads);
+    final List<Future<RestoreIndicesResult>> futures = partitions.stream()
+        .filter(partition -> !DONE.equals(_positions.get(partition)))
+        .map(partition -> executor.submit(() -> restorePartition(partition)))
+        .collect(Collectors.toList());
+    executor.shutdown();
+
+    final long startTime = System.currentTimeMillis();
+    final RestoreIndicesResult finalResult = new RestoreIndicesResult();
+    boolean failed = false;
+    for (Future<RestoreIndicesResult> future : futures) {
+      while (!failed) {
+        try {
+          add(finalResult, future.get(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS));
+          break;
+        } catch (TimeoutException e) {
+          reportProgress(rowCount, startTime);
+          _checkpoint.save(_positions);
+        } catch (ExecutionException e) {
+          _context.report().addLine("Failed to restore partition", e);
+          failed = true;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          executor.shutdownNow();
+          _checkpoint.save(_positions);
+          throw new RuntimeException("Interrupted while restoring indices", e);
+        }
+      }
+    }
+    reportProgress(rowCount, startTime);
+    if (failed) {
+      // Stop the other partitions, their positions only move past acknowledged pages so the checkpoint stays valid
+      executor.shutdownNow();
+      try {
+        if (!executor.awaitTermination(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          _context.report().addLine("Timed out waiting for the other partitions to stop.");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (_failedMessages.get() > 0) {
+      _context.report().addLine(String.format("Failed to send %s MAEs.", _failedMessages.get()));
+    }
+    if (failed || !_failedPartitions.isEmpty()) {
+      _checkpoint.save(_positions);
+      _context.report().addLine("Saved a checkpoint, run the restore again with the same arguments to resume it.");
+      return null;
+    }
+    _checkpoint.clear();
+    return finalResult;
+  }
+
+  private RestoreIndicesResult restorePartition(@Nonnull final String partition) {
+    final RestoreIndicesArgs partitionArgs = _args.clone();
+    if (!ALL_PARTITION.equals(partition)) {
+      partitionArgs.urnLike = String.format("urn:li:%s:%%", partition);
+    }
+    final RestoreIndicesResult result = new RestoreIndicesResult();
+    final Deque<Page> pending = new ArrayDeque<>();
+    EbeanAspectV2.PrimaryKey after = toKey(_positions.get(partition));
+    while (true) {
+      final long startTime = System.currentTimeMillis();
+      final List<EbeanAspectV2> rows = _entityService.getPagedAspectsAfter(partitionArgs, after);
+      result.timeSqlQueryMs += System.currentTimeMillis() - startTime;
+      if (rows.isEmpty()) {
+        break;
+      }
+      final List<Future<?>> produced = new ArrayList<>(rows.size());
+      add(result, _entityService.restoreIndices(rows, _context.report()::addLine, produced::add));
+      after = rows.get(rows.size() - 1).getKey();
+      pending.add(new Page(after, produced, rows.size()));
+      _inFlight.addAndGet(produced.size());
+      acknowledge(partition, pending, false);
+      if (rows.size() < partitionArgs.batchSize) {
+        break;
+      }
+      if (partitionArgs.batchDelayMs > 0) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(partitionArgs.batchDelayMs);
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Thread interrupted while sleeping after a batch.");
+        }
+      }
+    }
+    acknowledge(partition, pending, true);
+    if (!_failedPartitions.contains(partition)) {
+      _positions.put(partition, DONE);
+    }
+    return result;
+  }
+
+  /**
+   * Moves the position of a partition past the pages whose messages have all been acknowledged. Waits for the oldest
+   * pages when asked to, or when too many messages are in flight.
+   */
+  private void acknowledge(@Nonnull final String partition, @Nonnull final Deque<Page> pending, final boolean all) {
+    while (!pending.isEmpty()) {
+      final Page page = pending.peek();
+      if (!all && _inFlight.get() <= _maxInFlight && !page.isDone()) {
+        return;
+      }
+      for (Future<?> future : page._produced) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          _failedPartitions.add(partition);
+          if (_failedMessages.incrementAndGet() <= 10) {
+            log.error("Failed to send MAE", e.getCause());
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Interrupted while waiting for MAEs to be sent", e);
+        }
+      }
+      pending.poll();
+      _inFlight.addAndGet(-page._produced.size());
+      _rowsAcknowledged.addAndGet(page._rows);
+      if (!_failedPartitions.contains(partition)) {
+        _positions.put(partition, page._lastKey.getUrn() + " " + page._lastKey.getAspect());
+      }
+    }
+  }
+
+  private void reportProgress(final int rowCount, final long startTime) {
+    final long rows = _rowsAcknowledged.get();
+    final double seconds = Math.max(System.currentTimeMillis() - startTime, 1) / 1000.0;
+    final double rowsPerSecond = rows / seconds;
+    final double etaMinutes = rowsPerSecond > 0 ? Math.max(rowCount - rows, 0) / rowsPerSecond / 60 : -1;
+    _context.report().addLine(String.format(
+        "Sent MAEs for %s/%s rows since start, %.0f rows/sec, %s MAEs in flight. %.2f est. mins to completion.",
+        rows, rowCount, rowsPerSecond, _inFlight.get(), etaMinutes));
+  }
+
+  @Nullable
+  private static EbeanAspectV2.PrimaryKey toKey(@Nullable final String position) {
+    if (position == null) {
+      return null;
+    }
+    // Aspect names don't contain spaces, urns may
+    final int separator = position.lastIndexOf(' ');
+    return new EbeanAspectV2.PrimaryKey(position.substring(0, separator), position.substring(separator + 1),
+        0L);
+  }
+
+  private static void add(@Nonnull final RestoreIndicesResult total, @Nonnull final RestoreIndicesResult result) {
+    total.ignored += result.ignored;
+    total.rowsMigrated += result.rowsMigrated;
+    total.timeSqlQueryMs += result.timeSqlQueryMs;
+    total.timeUrnMs += result.timeUrnMs;
+    total.timeEntityRegistryCheckMs += result.timeEntityRegistryCheckMs;
+    total.aspectCheckMs += result.aspectCheckMs;
+    total.createRecordMs += result.createRecordMs;
+    total.sendMessageMs += result.sendMessageMs;
+  }
+
+  /**
+   * A page of rows whose messages have been produced.
+   */
+  private static class Page {
+    private final EbeanAspectV2.PrimaryKey _lastKey;
+    private final List<Future<?>> _produced;
+    private final int _rows;
+
+    private Page(EbeanAspectV2.PrimaryKey lastKey, List<Future<?>> produced, int rows) {
+      _lastKey = lastKey;
+      _produced = produced;
+      _rows = rows;
+    }
+
+    private boolean isDone() {
+      return _produced.stream().allMatch(Future::isDone);
+    }
+  }
+}
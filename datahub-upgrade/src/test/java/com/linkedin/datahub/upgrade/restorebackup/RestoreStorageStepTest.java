@@ -0,0 +1,73 @@
+package com.linkedin.datahub.upgrade.restorebackup;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import java.sql.Timestamp;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class RestoreStorageStepTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testOnlyLatestVersionsAreRestated() {
+    EntityService entityService = Mockito.mock(EntityService.class);
+    UpgradeContext context = Mockito.mock(UpgradeContext.class);
+    Mockito.when(context.report()).thenReturn(Mockito.mock(UpgradeReport.class));
+    RestoreStorageStep step = new RestoreStorageStep(entityService, Mockito.mock(EntityRegistry.class));
+
+    EbeanAspectV2 latest = aspect(0L);
+    List<EbeanAspectV2> batch = ImmutableList.of(aspect(2L), latest, aspect(1L));
+    step.writeBatch(batch, context, true, new RestoreStorageStep.RestoreProgress());
+
+    Mockito.verify(entityService).insertAspects(batch);
+    ArgumentCaptor<List<EbeanAspectV2>> restated = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(entityService, Mockito.times(1)).restoreIndices(restated.capture(), Mockito.any(), Mockito.any());
+    assertEquals(restated.getValue(), ImmutableList.of(latest));
+  }
+
+  @Test
+  public void testOnlyHistoricalVersionsAreNotRestated() {
+    EntityService entityService = Mockito.mock(EntityService.class);
+    UpgradeContext context = Mockito.mock(UpgradeContext.class);
+    RestoreStorageStep step = new RestoreStorageStep(entityService, Mockito.mock(EntityRegistry.class));
+
+    step.writeBatch(ImmutableList.of(aspect(1L), aspect(2L)), context, true, new RestoreStorageStep.RestoreProgress());
+
+    Mockito.verify(entityService, Mockito.never()).restoreIndices(Mockito.anyList(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testExistingRowsAreReplacedWhenTheBatchFails() {
+    EntityService entityService = Mockito.mock(EntityService.class);
+    UpgradeContext context = Mockito.mock(UpgradeContext.class);
+    Mockito.when(context.report()).thenReturn(Mockito.mock(UpgradeReport.class));
+    RestoreStorageStep step = new RestoreStorageStep(entityService, Mockito.mock(EntityRegistry.class));
+    // The latest version already exists, e.g. created by GMS on bootstrap
+    Mockito.doThrow(new RuntimeException("Duplicate key")).when(entityService).insertAspects(Mockito.anyList());
+
+    EbeanAspectV2 latest = aspect(0L);
+    EbeanAspectV2 historical = aspect(1L);
+    step.writeBatch(ImmutableList.of(latest, historical), context, false, new RestoreStorageStep.RestoreProgress());
+
+    Mockito.verify(entityService).upsertAspect(latest);
+    Mockito.verify(entityService).upsertAspect(historical);
+    Mockito.verify(context.report(), Mockito.never()).addLine(Mockito.anyString(), Mockito.any(Exception.class));
+  }
+
+  private static EbeanAspectV2 aspect(long version) {
+    return new EbeanAspectV2(URN, "corpUserInfo", version, "{}", new Timestamp(0), "urn:li:corpuser:datahub", null,
+        null);
+  }
+}
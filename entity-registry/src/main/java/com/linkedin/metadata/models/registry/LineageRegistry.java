@@ -117,6 +117,19 @@ public class LineageRegistry {
     return spec.getDownstreamEdges();
   }
 
+  /**
+   * Returns every relationship type that represents lineage between two entities, in either direction.
+   */
+  public Set<String> getLineageRelationshipTypes() {
+    Set<String> relationshipTypes = _lineageSpecMap.values()
+        .stream()
+        .flatMap(spec -> Streams.concat(spec.getUpstreamEdges().stream(), spec.getDownstreamEdges().stream()))
+        .map(EdgeInfo::getType)
+        .collect(Collectors.toSet());
+    getSchemaFieldRelationships(LineageDirection.UPSTREAM).forEach(edgeInfo -> relationshipTypes.add(edgeInfo.getType()));
+    return relationshipTypes;
+  }
+
   private List<EdgeInfo> getSchemaFieldRelationships(LineageDirection direction) {
     List<EdgeInfo> schemaFieldEdges = new ArrayList<>();
     if (direction == LineageDirection.UPSTREAM) {
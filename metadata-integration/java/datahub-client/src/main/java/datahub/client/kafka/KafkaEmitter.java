@@ -1,7 +1,10 @@
 package datahub.client.kafka;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -35,6 +38,20 @@ public class KafkaEmitter implements Emitter {
   private AvroSerializer _avroSerializer;
   private static final int ADMIN_CLIENT_TIMEOUT_MS = 5000;
 
+  /**
+   * Producer settings applied when batching is enabled: records wait a little for their batch to fill up and batches
+   * are larger and compressed, trading some latency for fewer and smaller requests.
+   */
+  public static final Map<String, String> BATCHING_PRODUCER_CONFIG;
+
+  static {
+    Map<String, String> batchingConfig = new HashMap<>();
+    batchingConfig.put(ProducerConfig.LINGER_MS_CONFIG, "50");
+    batchingConfig.put(ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(256 * 1024));
+    batchingConfig.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "gzip");
+    BATCHING_PRODUCER_CONFIG = Collections.unmodifiableMap(batchingConfig);
+  }
+
   /**
    * The default constructor
    *
@@ -51,6 +68,9 @@ public class KafkaEmitter implements Emitter {
         io.confluent.kafka.serializers.KafkaAvroSerializer.class);
     kafkaConfigProperties.put("schema.registry.url", this.config.getSchemaRegistryUrl());
     kafkaConfigProperties.putAll(config.getSchemaRegistryConfig());
+    if (config.isBatching()) {
+      kafkaConfigProperties.putAll(BATCHING_PRODUCER_CONFIG);
+    }
     kafkaConfigProperties.putAll(config.getProducerConfig());
     producer = new KafkaProducer<>(kafkaConfigProperties);
     _avroSerializer = new AvroSerializer();
@@ -27,6 +27,13 @@ public class KafkaEmitterConfig {
   private final Map<String, String> schemaRegistryConfig = Collections.emptyMap();
   @Builder.Default
   private final Map<String, String> producerConfig = Collections.emptyMap();
+
+  /**
+   * Whether to tune the producer for throughput, see {@link KafkaEmitter#BATCHING_PRODUCER_CONFIG}.
+   * Settings passed in producerConfig take precedence.
+   */
+  @Builder.Default
+  private final boolean batching = false;
   
   @Builder.Default
   private final EventFormatter eventFormatter = new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
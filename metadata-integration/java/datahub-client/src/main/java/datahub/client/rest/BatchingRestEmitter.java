@@ -0,0 +1,367 @@
+package datahub.client.rest;
+
+import com.linkedin.mxe.MetadataChangeProposal;
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.event.UpsertAspectRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * An opt-in wrapper around a {@link RestEmitter} which buffers proposals and sends them to the batch ingestion
+ * endpoint of the server, rather than sending one request per proposal.
+ *
+ * A batch is sent once it holds maxBatchSize proposals or about maxBatchBytes, or once its oldest proposal has waited
+ * for lingerMs. At most maxInFlightBatches batches are sent but not yet acknowledged at any time: emitting blocks
+ * beyond that, which bounds the memory used when the server is slower than the producer.
+ *
+ * Batches are sent in the order they were filled, and a batch is held back while an earlier batch holding a proposal
+ * for one of the same entities is in flight, so that the proposals for an entity are applied in the order they were
+ * emitted even though batches for different entities are ingested concurrently.
+ *
+ * The future and callback of every proposal are resolved individually when its batch completes. Since a batch is
+ * ingested in one request, its proposals succeed or fail together.
+ * e.g.
+ * BatchingRestEmitter emitter = BatchingRestEmitter.create(RestEmitter.createWithDefaults(), b -> b
+ *                                                             .maxBatchSize(500)
+ *                                                             .lingerMs(50)
+ *                                                             );
+ */
+@ThreadSafe
+@Slf4j
+public class BatchingRestEmitter implements Emitter {
+
+  // Rough size of the fields of a proposal other than its urn and aspect, once serialized
+  private static final long PROPOSAL_OVERHEAD_BYTES = 256;
+
+  private final RestEmitter emitter;
+  private final BatchingRestEmitterConfig config;
+  private final ScheduledExecutorService lingerExecutor;
+  private final long startTimeMs = System.currentTimeMillis();
+
+  private final Object lock = new Object();
+  private List<PendingProposal> buffer = new ArrayList<>();
+  private long bufferBytes = 0;
+  // Incremented every time the buffer is drained, so that a linger timer only flushes the batch it was started for
+  private long bufferGeneration = 0;
+  // Sequence of the next non empty batch drained from the buffer
+  private long nextBatchSequence = 0;
+  private boolean closed = false;
+
+  // Guards the state of the batches in flight below, notified whenever a batch is sent or acknowledged
+  private final Object inFlightLock = new Object();
+  private long nextSentSequence = 0;
+  private int inFlightBatches = 0;
+  // Number of batches in flight holding proposals for a given entity
+  private final Map<String, Integer> inFlightEntities = new HashMap<>();
+
+  private final AtomicLong queuedProposals = new AtomicLong();
+  private final AtomicLong succeededProposals = new AtomicLong();
+  private final AtomicLong failedProposals = new AtomicLong();
+  private final AtomicLong sentBatches = new AtomicLong();
+
+  public BatchingRestEmitter(@Nonnull RestEmitter emitter, @Nonnull BatchingRestEmitterConfig config) {
+    this.emitter = emitter;
+    this.config = config;
+    this.lingerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "datahub-batching-emitter");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Wraps a REST emitter with a batching emitter configured through a lambda-based fluent builder.
+   * @param emitter the emitter sending the batches, closed along with the batching emitter
+   * @param builderSupplier
+   * @return a constructed BatchingRestEmitter
+   */
+  public static BatchingRestEmitter create(@Nonnull RestEmitter emitter,
+      Consumer<BatchingRestEmitterConfig.BatchingRestEmitterConfigBuilder> builderSupplier) {
+    return new BatchingRestEmitter(emitter, BatchingRestEmitterConfig.builder().with(builderSupplier).build());
+  }
+
+  @Override
+  public Future<MetadataWriteResponse> emit(@Nonnull MetadataChangeProposalWrapper mcpw, Callback callback)
+      throws IOException {
+    return emit(this.config.getEventFormatter().convert(mcpw), callback);
+  }
+
+  @Override
+  public Future<MetadataWriteResponse> emit(@Nonnull MetadataChangeProposal mcp, Callback callback)
+      throws IOException {
+    PendingProposal pending = new PendingProposal(mcp, callback, estimateSize(mcp));
+    Batch batch = null;
+    synchronized (lock) {
+      if (closed) {
+        throw new IOException("Emitter is closed");
+      }
+      queuedProposals.incrementAndGet();
+      if (buffer.isEmpty()) {
+        long generation = bufferGeneration;
+        lingerExecutor.schedule(() -> flush(generation), config.getLingerMs(), TimeUnit.MILLISECONDS);
+      }
+      buffer.add(pending);
+      bufferBytes += pending.size;
+      if (buffer.size() >= config.getMaxBatchSize() || bufferBytes >= config.getMaxBatchBytes()) {
+        batch = drain();
+      }
+    }
+    if (batch != null) {
+      send(batch);
+    }
+    return pending.future;
+  }
+
+  /**
+   * Sends the buffered proposals right away, without waiting for their batch to fill up.
+   */
+  public void flush() {
+    Batch batch;
+    synchronized (lock) {
+      batch = drain();
+    }
+    send(batch);
+  }
+
+  private void flush(long generation) {
+    Batch batch;
+    synchronized (lock) {
+      if (generation != bufferGeneration) {
+        // The batch this timer was started for has already been sent
+        return;
+      }
+      batch = drain();
+    }
+    send(batch);
+  }
+
+  private Batch drain() {
+    List<PendingProposal> proposals = buffer;
+    buffer = new ArrayList<>();
+    bufferBytes = 0;
+    bufferGeneration++;
+    return new Batch(proposals, proposals.isEmpty() ? -1 : nextBatchSequence++);
+  }
+
+  private void send(Batch batch) {
+    List<PendingProposal> proposals = batch.proposals;
+    if (proposals.isEmpty()) {
+      return;
+    }
+    Set<String> entities = proposals.stream().map(pending -> entityOf(pending.mcp)).collect(Collectors.toSet());
+    synchronized (inFlightLock) {
+      try {
+        while (batch.sequence != nextSentSequence || inFlightBatches >= config.getMaxInFlightBatches()
+            || entities.stream().anyMatch(inFlightEntities::containsKey)) {
+          inFlightLock.wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        // Give way to the next batches
+        nextSentSequence++;
+        inFlightLock.notifyAll();
+        fail(proposals, e);
+        return;
+      }
+      nextSentSequence++;
+      inFlightBatches++;
+      entities.forEach(entity -> inFlightEntities.merge(entity, 1, Integer::sum));
+      inFlightLock.notifyAll();
+    }
+    sentBatches.incrementAndGet();
+    List<MetadataChangeProposal> mcps = proposals.stream().map(pending -> pending.mcp).collect(Collectors.toList());
+    try {
+      emitter.emitBatch(mcps, new Callback() {
+        @Override
+        public void onCompletion(MetadataWriteResponse response) {
+          release(entities);
+          complete(proposals, response);
+        }
+
+        @Override
+        public void onFailure(Throwable exception) {
+          release(entities);
+          fail(proposals, exception);
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      release(entities);
+      fail(proposals, e);
+    }
+  }
+
+  private void release(Set<String> entities) {
+    synchronized (inFlightLock) {
+      inFlightBatches--;
+      entities.forEach(entity ->
+          inFlightEntities.computeIfPresent(entity, (key, count) -> count > 1 ? count - 1 : null));
+      inFlightLock.notifyAll();
+    }
+  }
+
+  private static String entityOf(MetadataChangeProposal mcp) {
+    return mcp.hasEntityUrn() ? mcp.getEntityUrn().toString() : mcp.getEntityType() + ":" + mcp.getEntityKeyAspect();
+  }
+
+  private void complete(List<PendingProposal> batch, MetadataWriteResponse response) {
+    if (response == null) {
+      fail(batch, new IOException("Unable to read the response of the server"));
+      return;
+    }
+    queuedProposals.addAndGet(-batch.size());
+    (response.isSuccess() ? succeededProposals : failedProposals).addAndGet(batch.size());
+    for (PendingProposal pending : batch) {
+      pending.future.complete(response);
+      if (pending.callback != null) {
+        try {
+          pending.callback.onCompletion(response);
+        } catch (Exception e) {
+          log.error("Error executing user callback on completion.", e);
+        }
+      }
+    }
+  }
+
+  private void fail(List<PendingProposal> batch, Throwable exception) {
+    queuedProposals.addAndGet(-batch.size());
+    failedProposals.addAndGet(batch.size());
+    for (PendingProposal pending : batch) {
+      pending.future.completeExceptionally(exception);
+      if (pending.callback != null) {
+        try {
+          pending.callback.onFailure(exception);
+        } catch (Exception e) {
+          log.error("Error executing user callback on failure.", e);
+        }
+      }
+    }
+  }
+
+  private static long estimateSize(MetadataChangeProposal mcp) {
+    long size = PROPOSAL_OVERHEAD_BYTES;
+    if (mcp.hasEntityUrn()) {
+      size += mcp.getEntityUrn().toString().length();
+    }
+    if (mcp.hasAspect()) {
+      size += mcp.getAspect().getValue().length();
+    }
+    return size;
+  }
+
+  /**
+   * @return a snapshot of the throughput and queue depth of this emitter
+   */
+  public Stats getStats() {
+    long sent = succeededProposals.get() + failedProposals.get();
+    double elapsedSec = Math.max(System.currentTimeMillis() - startTimeMs, 1) / 1000.0;
+    int inFlight;
+    synchronized (inFlightLock) {
+      inFlight = inFlightBatches;
+    }
+    return new Stats(queuedProposals.get(), inFlight, sentBatches.get(), succeededProposals.get(),
+        failedProposals.get(), sent / elapsedSec);
+  }
+
+  @Override
+  public boolean testConnection() throws IOException, ExecutionException, InterruptedException {
+    return emitter.testConnection();
+  }
+
+  @Override
+  public Future<MetadataWriteResponse> emit(List<UpsertAspectRequest> request, Callback callback) throws IOException {
+    return emitter.emit(request, callback);
+  }
+
+  /**
+   * Sends the buffered proposals and waits up to closeTimeoutSec for every batch in flight to be acknowledged before
+   * closing the underlying emitter.
+   */
+  @Override
+  public void close() throws IOException {
+    Batch batch;
+    synchronized (lock) {
+      closed = true;
+      batch = drain();
+    }
+    send(batch);
+    try {
+      long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.getCloseTimeoutSec());
+      synchronized (inFlightLock) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        while (inFlightBatches > 0 && remainingMs > 0) {
+          inFlightLock.wait(remainingMs);
+          remainingMs = deadline - System.currentTimeMillis();
+        }
+        if (inFlightBatches > 0) {
+          log.warn("Timed out waiting for {} batches in flight to complete.", inFlightBatches);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lingerExecutor.shutdownNow();
+      emitter.close();
+    }
+  }
+
+  @Value
+  public static class Stats {
+    /**
+     * Number of proposals emitted but not yet acknowledged, whether buffered or in flight
+     */
+    long queuedProposals;
+    long inFlightBatches;
+    long sentBatches;
+    long succeededProposals;
+    long failedProposals;
+    /**
+     * Number of proposals acknowledged per second since the emitter was created
+     */
+    double proposalsPerSecond;
+  }
+
+  private static class Batch {
+    private final List<PendingProposal> proposals;
+    // Order in which the batch was drained from the buffer, -1 when empty
+    private final long sequence;
+
+    private Batch(List<PendingProposal> proposals, long sequence) {
+      this.proposals = proposals;
+      this.sequence = sequence;
+    }
+  }
+
+  private static class PendingProposal {
+    private final MetadataChangeProposal mcp;
+    private final Callback callback;
+    private final long size;
+    private final CompletableFuture<MetadataWriteResponse> future = new CompletableFuture<>();
+
+    private PendingProposal(MetadataChangeProposal mcp, Callback callback, long size) {
+      this.mcp = mcp;
+      this.callback = callback;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package datahub.client.rest;
+
+import datahub.event.EventFormatter;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Value;
+
+
+@Value
+@Builder
+public class BatchingRestEmitterConfig {
+
+  /**
+   * Maximum number of proposals sent in a single request
+   */
+  @Builder.Default
+  private final int maxBatchSize = 100;
+
+  /**
+   * Approximate maximum size in bytes of the proposals sent in a single request
+   */
+  @Builder.Default
+  private final long maxBatchBytes = 4 * 1024 * 1024;
+
+  /**
+   * Maximum time a proposal waits for its batch to fill up before the batch is sent anyway
+   */
+  @Builder.Default
+  private final long lingerMs = 100;
+
+  /**
+   * Maximum number of batches sent but not yet acknowledged. Emitting blocks while this many are in flight.
+   */
+  @Builder.Default
+  private final int maxInFlightBatches = 4;
+
+  /**
+   * Maximum time closing the emitter waits for the batches in flight to be acknowledged
+   */
+  @Builder.Default
+  private final long closeTimeoutSec = 30;
+
+  @Builder.Default
+  private final EventFormatter eventFormatter = new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
+
+  public static class BatchingRestEmitterConfigBuilder {
+
+    public BatchingRestEmitterConfigBuilder with(Consumer<BatchingRestEmitterConfigBuilder> builderFunction) {
+      builderFunction.accept(this);
+      return this;
+    }
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.JacksonDataTemplateCodec;
 import com.linkedin.mxe.MetadataChangeProposal;
@@ -77,6 +78,7 @@ public class RestEmitter implements Emitter {
 
   private final RestEmitterConfig config;
   private final String ingestProposalUrl;
+  private final String ingestProposalBatchUrl;
   private final String ingestOpenApiUrl;
   private final String configUrl;
 
@@ -119,6 +121,7 @@ public class RestEmitter implements Emitter {
     this.httpClient = this.config.getAsyncHttpClientBuilder().build();
     this.httpClient.start();
     this.ingestProposalUrl = this.config.getServer() + "/aspects?action=ingestProposal";
+    this.ingestProposalBatchUrl = this.config.getServer() + "/aspects?action=ingestProposalBatch";
     this.ingestOpenApiUrl = config.getServer() + "/openapi/entities/v1/";
     this.configUrl = this.config.getServer() + "/config";
     this.eventFormatter = this.config.getEventFormatter();
@@ -201,6 +204,25 @@ public class RestEmitter implements Emitter {
     return this.postGeneric(this.ingestProposalUrl, serializedMCP, mcp, callback);
   }
 
+  /**
+   * Asynchronously emit many {@link MetadataChangeProposal} events in a single request, using the batch ingestion
+   * endpoint of the server. The proposals succeed or fail together.
+   * @param mcps the proposals to emit, applied in order
+   * @param callback if not null, is called from the IO thread once for the whole batch. Should be a quick operation.
+   * @return a {@link Future} for callers to inspect the result of the operation or block until one is available
+   * @throws IOException
+   */
+  public Future<MetadataWriteResponse> emitBatch(List<MetadataChangeProposal> mcps, Callback callback)
+      throws IOException {
+    DataList proposals = new DataList();
+    mcps.forEach(mcp -> proposals.add(mcp.data()));
+    DataMap map = new DataMap();
+    map.put("proposals", proposals);
+    String serializedMCPs = dataTemplateCodec.mapToString(map);
+    log.debug("Emit: URL: {}, Proposals: {}\n", this.ingestProposalBatchUrl, mcps.size());
+    return this.postGeneric(this.ingestProposalBatchUrl, serializedMCPs, mcps, callback);
+  }
+
   private Future<MetadataWriteResponse> postGeneric(String urlStr, String payloadJson, Object originalRequest,
       Callback callback) throws IOException {
     HttpPost httpPost = new HttpPost(urlStr);
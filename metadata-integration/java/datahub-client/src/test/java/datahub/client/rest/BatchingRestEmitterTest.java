@@ -0,0 +1,177 @@
+package datahub.client.rest;
+
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.mxe.MetadataChangeProposal;
+import datahub.client.Callback;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.MetadataChangeProposalWrapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchingRestEmitterTest {
+
+  @Mock
+  RestEmitter mockEmitter;
+
+  @Captor
+  ArgumentCaptor<List<MetadataChangeProposal>> batchCaptor;
+
+  @Captor
+  ArgumentCaptor<Callback> callbackCaptor;
+
+  @Test
+  public void testBatchesBySize() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(mockEmitter, b -> b.maxBatchSize(2).lingerMs(60000));
+    AtomicInteger completions = new AtomicInteger();
+    Callback callback = new Callback() {
+      @Override
+      public void onCompletion(MetadataWriteResponse response) {
+        completions.incrementAndGet();
+      }
+
+      @Override
+      public void onFailure(Throwable exception) {
+        Assert.fail("should not be here");
+      }
+    };
+    List<Future<MetadataWriteResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:" + i), callback));
+    }
+    // The first two proposals fill up a batch, the third one waits for more
+    Mockito.verify(mockEmitter, Mockito.times(1)).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    Assert.assertEquals(2, batchCaptor.getValue().size());
+    Assert.assertEquals(3, emitter.getStats().getQueuedProposals());
+
+    MetadataWriteResponse response = MetadataWriteResponse.builder().success(true).build();
+    callbackCaptor.getValue().onCompletion(response);
+    Assert.assertEquals(response, futures.get(0).get());
+    Assert.assertEquals(response, futures.get(1).get());
+    Assert.assertFalse(futures.get(2).isDone());
+    Assert.assertEquals(2, completions.get());
+
+    emitter.flush();
+    Mockito.verify(mockEmitter, Mockito.times(2)).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    Assert.assertEquals(1, batchCaptor.getValue().size());
+    callbackCaptor.getValue().onCompletion(response);
+    Assert.assertEquals(response, futures.get(2).get());
+    Assert.assertEquals(3, completions.get());
+
+    BatchingRestEmitter.Stats stats = emitter.getStats();
+    Assert.assertEquals(0, stats.getQueuedProposals());
+    Assert.assertEquals(2, stats.getSentBatches());
+    Assert.assertEquals(3, stats.getSucceededProposals());
+    Assert.assertEquals(0, stats.getInFlightBatches());
+  }
+
+  @Test
+  public void testBatchFailureResolvesEveryProposal() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(mockEmitter, b -> b.maxBatchSize(2).lingerMs(60000));
+    AtomicInteger failures = new AtomicInteger();
+    Callback callback = new Callback() {
+      @Override
+      public void onCompletion(MetadataWriteResponse response) {
+        Assert.fail("should not be here");
+      }
+
+      @Override
+      public void onFailure(Throwable exception) {
+        failures.incrementAndGet();
+      }
+    };
+    Future<MetadataWriteResponse> first = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:0"), callback);
+    Future<MetadataWriteResponse> second = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:1"), callback);
+    Mockito.verify(mockEmitter).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    callbackCaptor.getValue().onFailure(new IOException("Test failure"));
+
+    for (Future<MetadataWriteResponse> future : new Future[]{first, second}) {
+      try {
+        future.get();
+        Assert.fail("should not be here");
+      } catch (ExecutionException e) {
+        Assert.assertEquals("Test failure", e.getCause().getMessage());
+      }
+    }
+    Assert.assertEquals(2, failures.get());
+    Assert.assertEquals(2, emitter.getStats().getFailedProposals());
+  }
+
+  @Test
+  public void testBatchSentAfterLinger() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(mockEmitter, b -> b.maxBatchSize(100).lingerMs(50));
+    Future<MetadataWriteResponse> future = emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:0"), null);
+    Mockito.verify(mockEmitter, Mockito.timeout(5000)).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    Assert.assertEquals(1, batchCaptor.getValue().size());
+    MetadataWriteResponse response = MetadataWriteResponse.builder().success(true).build();
+    callbackCaptor.getValue().onCompletion(response);
+    Assert.assertEquals(response, future.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCloseFlushesAndRejectsNewProposals() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(mockEmitter,
+        b -> b.maxBatchSize(100).lingerMs(60000).closeTimeoutSec(0));
+    emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:0"), null);
+    emitter.close();
+    Mockito.verify(mockEmitter).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    Mockito.verify(mockEmitter).close();
+    try {
+      emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:1"), null);
+      Assert.fail("should not be here");
+    } catch (IOException e) {
+      Assert.assertEquals("Emitter is closed", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testBatchesForTheSameEntityAreNotInFlightTogether() throws Exception {
+    BatchingRestEmitter emitter = BatchingRestEmitter.create(mockEmitter, b -> b.maxBatchSize(1).lingerMs(60000));
+    emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:0"), null);
+    // A batch for another entity is sent while the first one is in flight
+    emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:1"), null);
+    Mockito.verify(mockEmitter, Mockito.times(2)).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+
+    // A batch for the same entity waits for the first one to be acknowledged
+    Thread second = new Thread(() -> {
+      try {
+        emitter.emit(getMetadataChangeProposalWrapper("urn:li:dataset:0"), null);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    second.start();
+    second.join(200);
+    Assert.assertTrue(second.isAlive());
+    Mockito.verify(mockEmitter, Mockito.times(2)).emitBatch(Mockito.any(), Mockito.any());
+
+    callbackCaptor.getAllValues().get(0).onCompletion(MetadataWriteResponse.builder().success(true).build());
+    second.join(5000);
+    Assert.assertFalse(second.isAlive());
+    Mockito.verify(mockEmitter, Mockito.times(3)).emitBatch(batchCaptor.capture(), callbackCaptor.capture());
+    Assert.assertEquals("urn:li:dataset:0", batchCaptor.getValue().get(0).getEntityUrn().toString());
+  }
+
+  private MetadataChangeProposalWrapper getMetadataChangeProposalWrapper(String urn) {
+    return MetadataChangeProposalWrapper.builder()
+        .entityType("dataset")
+        .entityUrn(urn)
+        .upsert()
+        .aspect(new DatasetProperties().setDescription("Test Dataset"))
+        .build();
+  }
+}
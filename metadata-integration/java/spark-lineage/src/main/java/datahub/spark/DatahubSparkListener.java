@@ -35,6 +35,7 @@ import com.google.common.base.Splitter;
 import com.typesafe.config.Config;
 
 import datahub.spark.consumer.impl.McpEmitter;
+import datahub.spark.consumer.impl.StreamingCoalesceEmitter;
 import datahub.spark.model.AppEndEvent;
 import datahub.spark.model.AppStartEvent;
 import datahub.spark.model.DatasetLineage;
@@ -61,6 +62,7 @@ public class DatahubSparkListener extends SparkListener {
   public static final String PIPELINE_PLATFORM_INSTANCE_KEY = PIPELINE_KEY + ".platformInstance";
 
   public static final String COALESCE_KEY = "coalesce_jobs";
+  public static final String STREAMING_COALESCE_KEY = "coalesce.streaming";
 
   private final Map<String, AppStartEvent> appDetails = new ConcurrentHashMap<>();
   private final Map<String, Map<Long, SQLQueryExecStartEvent>> appSqlDetails = new ConcurrentHashMap<>();
@@ -312,15 +314,23 @@ public class DatahubSparkListener extends SparkListener {
           new AppStartEvent(LineageUtils.getMaster(ctx), getPipelineName(ctx), appId, ctx.startTime(), ctx.sparkUser(),
               pipelineConfig);
 
-      appEmitters.computeIfAbsent(appId,
-          s -> datahubConf.hasPath(COALESCE_KEY) && datahubConf.getBoolean(COALESCE_KEY) ? new CoalesceJobsEmitter(
-              datahubConf) : new McpEmitter(datahubConf)).accept(evt);
+      appEmitters.computeIfAbsent(appId, s -> createEmitter(datahubConf)).accept(evt);
       consumers().forEach(c -> c.accept(evt));
       appDetails.put(appId, evt);
       appSqlDetails.put(appId, new ConcurrentHashMap<>());
     }
   }
 
+  private static McpEmitter createEmitter(Config datahubConf) {
+    if (!datahubConf.hasPath(COALESCE_KEY) || !datahubConf.getBoolean(COALESCE_KEY)) {
+      return new McpEmitter(datahubConf);
+    }
+    if (datahubConf.hasPath(STREAMING_COALESCE_KEY) && datahubConf.getBoolean(STREAMING_COALESCE_KEY)) {
+      return new StreamingCoalesceEmitter(datahubConf);
+    }
+    return new CoalesceJobsEmitter(datahubConf);
+  }
+
   private String getPipelineName(SparkContext cx) {
     Config datahubConfig = appConfig.computeIfAbsent(cx.applicationId(), s -> LineageUtils.parseSparkConfig());
     String name = "";
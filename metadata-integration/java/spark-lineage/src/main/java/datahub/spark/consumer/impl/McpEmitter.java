@@ -27,7 +27,7 @@ public class McpEmitter implements LineageConsumer {
   private static final String GMS_URL_KEY = "rest.server";
   private static final String GMS_AUTH_TOKEN = "rest.token";
   private static final String DISABLE_SSL_VERIFICATION_KEY = "rest.disable_ssl_verification";
-  private Optional<Emitter> getEmitter() {
+  protected Optional<Emitter> getEmitter() {
     Optional<Emitter> emitter = Optional.empty();
     switch (emitterType) {
     case "rest":
@@ -0,0 +1,323 @@
+package datahub.spark.consumer.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.DataJobUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datajob.DataJobInfo;
+import com.linkedin.datajob.JobStatus;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.typesafe.config.Config;
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.client.patch.datajob.DataJobInputOutputPatchBuilder;
+import datahub.event.EventFormatter;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.spark.model.AppEndEvent;
+import datahub.spark.model.AppStartEvent;
+import datahub.spark.model.LineageEvent;
+import datahub.spark.model.SQLQueryExecStartEvent;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Coalesces the lineage of all the queries of a spark application into a single datajob, like
+ * {@link CoalesceJobsEmitter}, but streams it while the application runs instead of keeping every query until the
+ * application ends. Suited to long-running applications, e.g. streaming jobs or notebook sessions.
+ *
+ * Every input and output dataset of a query is an edge of the datajob. Edges not seen recently are buffered and
+ * emitted periodically from a background thread as a patch of the datajob's inputs and outputs, so that only new
+ * edges are sent. The edges already sent are remembered in a bounded LRU set: an edge evicted from it is sent again
+ * the next time it is seen, which is harmless since patches are idempotent. Buffered edges are bounded as well, and
+ * at most a fixed number of patches are in flight at any time, so the memory used does not depend on the lifetime of
+ * the application.
+ */
+@Slf4j
+public class StreamingCoalesceEmitter extends McpEmitter {
+
+  private static final String PARENT_JOB_KEY = "parent.datajob_urn";
+  private static final String FLUSH_INTERVAL_KEY = "coalesce.flush_interval_sec";
+  private static final String MAX_EDGES_KEY = "coalesce.max_edges";
+  private static final String MAX_IN_FLIGHT_KEY = "coalesce.max_in_flight";
+  private static final long DEFAULT_FLUSH_INTERVAL_SEC = 30;
+  private static final int DEFAULT_MAX_EDGES = 10000;
+  private static final int DEFAULT_MAX_IN_FLIGHT = 4;
+  private static final int MAX_EDGES_PER_PATCH = 500;
+  private static final long CLOSE_TIMEOUT_SEC = 30;
+
+  private final String parentJobUrn;
+  private final long flushIntervalSec;
+  private final int maxEdges;
+  private final int maxInFlight;
+  private final Emitter emitter;
+  private final EventFormatter eventFormatter = new EventFormatter(EventFormatter.Format.PEGASUS_JSON);
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService flushExecutor;
+
+  private final Object lock = new Object();
+  // Edges sent or buffered, in access order so that the least recently seen is evicted first
+  private final Map<Edge, Boolean> seenEdges;
+  private Set<Edge> pendingEdges = new LinkedHashSet<>();
+  private AppStartEvent appStartEvent = null;
+  private DataJobUrn jobUrn = null;
+
+  private final AtomicLong sentEdges = new AtomicLong();
+  private final AtomicLong droppedEdges = new AtomicLong();
+
+  public StreamingCoalesceEmitter(Config datahubConf) {
+    this(datahubConf, null);
+  }
+
+  @VisibleForTesting
+  StreamingCoalesceEmitter(Config datahubConf, Emitter emitter) {
+    super(datahubConf);
+    parentJobUrn = datahubConf.hasPath(PARENT_JOB_KEY) ? datahubConf.getString(PARENT_JOB_KEY) : null;
+    flushIntervalSec = datahubConf.hasPath(FLUSH_INTERVAL_KEY) ? datahubConf.getLong(FLUSH_INTERVAL_KEY)
+        : DEFAULT_FLUSH_INTERVAL_SEC;
+    maxEdges = datahubConf.hasPath(MAX_EDGES_KEY) ? datahubConf.getInt(MAX_EDGES_KEY) : DEFAULT_MAX_EDGES;
+    maxInFlight = datahubConf.hasPath(MAX_IN_FLIGHT_KEY) ? datahubConf.getInt(MAX_IN_FLIGHT_KEY)
+        : DEFAULT_MAX_IN_FLIGHT;
+    seenEdges = new LinkedHashMap<Edge, Boolean>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Edge, Boolean> eldest) {
+        return size() > maxEdges;
+      }
+    };
+    this.emitter = emitter != null ? emitter : getEmitter().orElse(null);
+    inFlight = new Semaphore(maxInFlight);
+    flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "datahub-lineage-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    log.info("StreamingCoalesceEmitter initialised with flush interval {}s, max edges {}, max in flight {}",
+        flushIntervalSec, maxEdges, maxInFlight);
+  }
+
+  @Override
+  public void accept(LineageEvent evt) {
+    if (evt instanceof AppStartEvent) {
+      synchronized (lock) {
+        appStartEvent = (AppStartEvent) evt;
+        jobUrn = new DataJobUrn(appStartEvent.getFlowUrn(), appStartEvent.getAppName());
+      }
+      log.debug("AppstartEvent received for processing: " + appStartEvent.getAppId());
+      List<MetadataChangeProposalWrapper> mcpws = new ArrayList<>(appStartEvent.asMetadataEvents());
+      mcpws.add(jobInfo(JobStatus.IN_PROGRESS, null));
+      mcpws.forEach(this::send);
+      sendParentJob();
+      flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalSec, flushIntervalSec, TimeUnit.SECONDS);
+    } else if (evt instanceof SQLQueryExecStartEvent) {
+      SQLQueryExecStartEvent sqlQueryExecStartEvent = (SQLQueryExecStartEvent) evt;
+      if (sqlQueryExecStartEvent.getDatasetLineage() != null) {
+        addEdges(sqlQueryExecStartEvent);
+      }
+    } else if (evt instanceof AppEndEvent) {
+      AppEndEvent appEndEvent = (AppEndEvent) evt;
+      if (appStartEvent == null) {
+        log.error("Application End event received for processing but start event is not received for processing for "
+            + appEndEvent.getAppId() + "-" + appEndEvent.getAppName());
+        return;
+      }
+      log.debug("AppEndEvent received for processing. for app start :" + appEndEvent.getAppId());
+      flush();
+      appEndEvent.asMetadataEvents().forEach(this::send);
+      send(jobInfo(JobStatus.COMPLETED, appEndEvent));
+    }
+  }
+
+  private void addEdges(SQLQueryExecStartEvent evt) {
+    boolean full;
+    synchronized (lock) {
+      if (jobUrn == null) {
+        log.warn("SQLQueryExecStartEvent received before the application start, skipping its lineage");
+        return;
+      }
+      evt.getInputDatasets().forEach(urn -> addEdge(new Edge(true, urn)));
+      evt.getOuputDatasets().forEach(urn -> addEdge(new Edge(false, urn)));
+      full = pendingEdges.size() >= MAX_EDGES_PER_PATCH;
+    }
+    if (full) {
+      flushExecutor.execute(this::flush);
+    }
+  }
+
+  private void addEdge(Edge edge) {
+    // Getting the edge also marks it as recently seen
+    if (seenEdges.get(edge) != null) {
+      return;
+    }
+    if (pendingEdges.size() >= maxEdges) {
+      // Not marked as seen, so that it is buffered again the next time it is seen
+      droppedEdges.incrementAndGet();
+      return;
+    }
+    seenEdges.put(edge, Boolean.TRUE);
+    pendingEdges.add(edge);
+  }
+
+  /**
+   * Sends the buffered edges as patches of the datajob's inputs and outputs.
+   */
+  @VisibleForTesting
+  void flush() {
+    List<Edge> edges;
+    DataJobUrn urn;
+    synchronized (lock) {
+      if (pendingEdges.isEmpty()) {
+        return;
+      }
+      edges = new ArrayList<>(pendingEdges);
+      pendingEdges = new LinkedHashSet<>();
+      urn = jobUrn;
+    }
+    for (int start = 0; start < edges.size(); start += MAX_EDGES_PER_PATCH) {
+      List<Edge> chunk = edges.subList(start, Math.min(start + MAX_EDGES_PER_PATCH, edges.size()));
+      DataJobInputOutputPatchBuilder patchBuilder = new DataJobInputOutputPatchBuilder().urn(urn);
+      for (Edge edge : chunk) {
+        if (edge.isInput()) {
+          patchBuilder.addInputDatasetEdge(edge.getDatasetUrn());
+        } else {
+          patchBuilder.addOutputDatasetEdge(edge.getDatasetUrn());
+        }
+      }
+      send(patchBuilder.build(), chunk);
+    }
+    if (droppedEdges.get() > 0) {
+      log.warn("{} lineage edges were dropped because more than {} edges were buffered, they will be sent when seen "
+          + "again", droppedEdges.getAndSet(0), maxEdges);
+    }
+  }
+
+  private void sendParentJob() {
+    if (parentJobUrn == null) {
+      return;
+    }
+    try {
+      send(new DataJobInputOutputPatchBuilder().urn(jobUrn)
+          .addInputDatajobEdge(DataJobUrn.createFromString(parentJobUrn)).build(), Collections.emptyList());
+    } catch (URISyntaxException e) {
+      log.warn(PARENT_JOB_KEY + " is not a valid URN. Skipping setting up upstream job.");
+    } catch (ClassCastException e) {
+      log.warn(PARENT_JOB_KEY + " is not a valid Datajob URN. Skipping setting up upstream job.");
+    }
+  }
+
+  private MetadataChangeProposalWrapper jobInfo(JobStatus status, AppEndEvent appEndEvent) {
+    StringMap customProps = new StringMap();
+    customProps.put("startedAt", appStartEvent.timeStr());
+    customProps.put("appId", appStartEvent.getAppId());
+    customProps.put("appName", appStartEvent.getAppName());
+    if (appEndEvent != null) {
+      customProps.put("completedAt", appEndEvent.timeStr());
+    }
+    DataJobInfo jobInfo = new DataJobInfo().setName(appStartEvent.getAppName())
+        .setType(DataJobInfo.Type.create("sparkJob"));
+    jobInfo.setCustomProperties(customProps);
+    jobInfo.setStatus(status);
+    return MetadataChangeProposalWrapper.create(b -> b.entityType("dataJob").entityUrn(jobUrn).upsert().aspect(jobInfo));
+  }
+
+  private void send(MetadataChangeProposalWrapper mcpw) {
+    try {
+      send(eventFormatter.convert(mcpw), Collections.emptyList());
+    } catch (IOException e) {
+      log.error("Failed to convert metadata for DataHub", e);
+    }
+  }
+
+  /**
+   * Sends a proposal once fewer than maxInFlight are in flight. If it fails, its edges are forgotten so that they are
+   * sent again the next time they are seen.
+   */
+  private void send(MetadataChangeProposal mcp, List<Edge> edges) {
+    if (emitter == null) {
+      return;
+    }
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      forget(edges);
+      return;
+    }
+    try {
+      emitter.emit(mcp, new Callback() {
+        @Override
+        public void onCompletion(MetadataWriteResponse response) {
+          inFlight.release();
+          if (response != null && response.isSuccess()) {
+            sentEdges.addAndGet(edges.size());
+          } else {
+            log.error("Failed to emit metadata to DataHub: {}", response);
+            forget(edges);
+          }
+        }
+
+        @Override
+        public void onFailure(Throwable exception) {
+          inFlight.release();
+          log.error("Failed to emit metadata to DataHub", exception);
+          forget(edges);
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      inFlight.release();
+      log.error("Failed to emit metadata to DataHub", e);
+      forget(edges);
+    }
+  }
+
+  private void forget(List<Edge> edges) {
+    synchronized (lock) {
+      edges.forEach(seenEdges::remove);
+    }
+  }
+
+  @VisibleForTesting
+  long getSentEdges() {
+    return sentEdges.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    flushExecutor.shutdownNow();
+    flush();
+    try {
+      if (!inFlight.tryAcquire(maxInFlight, CLOSE_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+        log.warn("Timed out waiting for lineage to be emitted to DataHub");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (emitter != null) {
+      emitter.close();
+    }
+    super.close();
+  }
+
+  /**
+   * An input or output dataset of the datajob.
+   */
+  @Value
+  private static class Edge {
+    boolean input;
+    DatasetUrn datasetUrn;
+  }
+}
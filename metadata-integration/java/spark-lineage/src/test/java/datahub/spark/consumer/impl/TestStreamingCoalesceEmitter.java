@@ -0,0 +1,121 @@
+package datahub.spark.consumer.impl;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.spark.model.AppStartEvent;
+import datahub.spark.model.DatasetLineage;
+import datahub.spark.model.SQLQueryExecStartEvent;
+import datahub.spark.model.dataset.HdfsPathDataset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+
+public class TestStreamingCoalesceEmitter {
+
+  private static final String MASTER = "local[1]";
+  private static final String APP_NAME = "streamingCoalesceTestApp";
+  private static final String APP_ID = "app-1";
+
+  private final List<MetadataChangeProposal> emitted = new ArrayList<>();
+  private Emitter emitter;
+
+  @Before
+  public void setupEmitter() throws Exception {
+    emitted.clear();
+    emitter = Mockito.mock(Emitter.class);
+    Mockito.doAnswer(invocation -> {
+      emitted.add(invocation.getArgument(0));
+      ((Callback) invocation.getArgument(1)).onCompletion(MetadataWriteResponse.builder().success(true).build());
+      return null;
+    }).when(emitter).emit(Mockito.any(MetadataChangeProposal.class), Mockito.any(Callback.class));
+  }
+
+  @Test
+  public void testEmitsEachEdgeOnce() throws Exception {
+    StreamingCoalesceEmitter coalescer = new StreamingCoalesceEmitter(config(100), emitter);
+    coalescer.accept(new AppStartEvent(MASTER, APP_NAME, APP_ID, 0L, "user", ConfigFactory.empty()));
+    emitted.clear();
+
+    coalescer.accept(query(1, "out", "in1", "in2"));
+    coalescer.accept(query(2, "out", "in1"));
+    coalescer.flush();
+    List<String> patches = patches();
+    Assert.assertEquals(1, patches.size());
+    Assert.assertTrue(patches.get(0).contains("/inputDatasetEdges/urn:li:dataset:(urn:li:dataPlatform:s3,in1,PROD)"));
+    Assert.assertTrue(patches.get(0).contains("/inputDatasetEdges/urn:li:dataset:(urn:li:dataPlatform:s3,in2,PROD)"));
+    Assert.assertTrue(patches.get(0).contains("/outputDatasetEdges/urn:li:dataset:(urn:li:dataPlatform:s3,out,PROD)"));
+    Assert.assertEquals(3, coalescer.getSentEdges());
+
+    // Only the new edge is sent
+    emitted.clear();
+    coalescer.accept(query(3, "out", "in1", "in3"));
+    coalescer.flush();
+    patches = patches();
+    Assert.assertEquals(1, patches.size());
+    Assert.assertTrue(patches.get(0).contains("in3"));
+    Assert.assertFalse(patches.get(0).contains("in1"));
+    Assert.assertEquals(4, coalescer.getSentEdges());
+
+    // Nothing new, nothing sent
+    emitted.clear();
+    coalescer.accept(query(4, "out", "in2", "in3"));
+    coalescer.flush();
+    Assert.assertTrue(patches().isEmpty());
+    coalescer.close();
+  }
+
+  @Test
+  public void testEvictedEdgesAreSentAgain() throws Exception {
+    StreamingCoalesceEmitter coalescer = new StreamingCoalesceEmitter(config(2), emitter);
+    coalescer.accept(new AppStartEvent(MASTER, APP_NAME, APP_ID, 0L, "user", ConfigFactory.empty()));
+
+    coalescer.accept(query(1, "out", "in1"));
+    coalescer.flush();
+    coalescer.accept(query(2, "out2", "in2"));
+    coalescer.flush();
+    emitted.clear();
+
+    // Only two edges are remembered, the first query's have been evicted
+    coalescer.accept(query(3, "out", "in1"));
+    coalescer.flush();
+    Assert.assertEquals(1, patches().size());
+    Assert.assertEquals(6, coalescer.getSentEdges());
+    coalescer.close();
+  }
+
+  private List<String> patches() {
+    return emitted.stream()
+        .filter(mcp -> mcp.getChangeType() == ChangeType.PATCH)
+        .map(mcp -> mcp.getAspect().getValue().asString(StandardCharsets.UTF_8))
+        .collect(Collectors.toList());
+  }
+
+  private static Config config(int maxEdges) {
+    return ConfigFactory.parseMap(Collections.singletonMap("coalesce.max_edges", maxEdges));
+  }
+
+  private static SQLQueryExecStartEvent query(long id, String output, String... inputs) {
+    DatasetLineage lineage = new DatasetLineage("query " + id, "plan", dataset(output));
+    for (String input : inputs) {
+      lineage.addSource(dataset(input));
+    }
+    return new SQLQueryExecStartEvent(MASTER, APP_NAME, APP_ID, id, id, lineage);
+  }
+
+  private static HdfsPathDataset dataset(String name) {
+    return new HdfsPathDataset(name, null, "s3", FabricType.PROD);
+  }
+}
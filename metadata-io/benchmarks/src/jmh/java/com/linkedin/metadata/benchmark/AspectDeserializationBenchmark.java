@@ -0,0 +1,71 @@
+package com.linkedin.metadata.benchmark;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.metadata.entity.EntityUtils;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Deserialization of stored aspect JSON, done for every aspect read from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AspectDeserializationBenchmark {
+
+  @Param({"10", "200"})
+  public int customProperties;
+
+  private EntityRegistry _entityRegistry;
+  private Urn _urn;
+  private String _jsonAspect;
+
+  @Setup
+  public void setup() {
+    _entityRegistry = SnapshotEntityRegistry.getInstance();
+    _urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)");
+    _jsonAspect = RecordUtils.toJsonString(createDatasetProperties(customProperties));
+  }
+
+  @Benchmark
+  public RecordTemplate toAspectRecord() {
+    return EntityUtils.toAspectRecord(_urn, "datasetProperties", _jsonAspect, _entityRegistry);
+  }
+
+  @Benchmark
+  public DatasetProperties toRecordTemplate() {
+    return RecordUtils.toRecordTemplate(DatasetProperties.class, _jsonAspect);
+  }
+
+  static DatasetProperties createDatasetProperties(final int customProperties) {
+    final Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < customProperties; i++) {
+      properties.put("property" + i, "value of property " + i);
+    }
+    return new DatasetProperties()
+        .setName("table")
+        .setQualifiedName("db.table")
+        .setDescription("A table of the db database, described at some length to resemble real metadata.")
+        .setCustomProperties(new StringMap(properties))
+        .setTags(new StringArray(List.of("tag1", "tag2", "tag3")));
+  }
+}
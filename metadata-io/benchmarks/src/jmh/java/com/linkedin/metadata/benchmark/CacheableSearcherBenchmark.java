@@ -0,0 +1,69 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import com.linkedin.metadata.search.cache.CacheableSearcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+
+/**
+ * Paging through batched search results, with the batches served from the cache or from a search function answering
+ * immediately. The difference between both is the cost of the cache itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CacheableSearcherBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+  private static final int TOTAL = 10000;
+
+  @Param({"true", "false"})
+  public boolean enableCache;
+
+  @Param({"0", "5000"})
+  public int from;
+
+  private CacheableSearcher<CacheableSearcher.QueryPagination> _searcher;
+
+  @Setup
+  public void setup() {
+    _searcher = new CacheableSearcher<>(new ConcurrentMapCache("benchmark"), BATCH_SIZE,
+        CacheableSearcherBenchmark::search, pagination -> pagination, null, enableCache);
+    // Warm up the cache with every batch
+    _searcher.getSearchResults(0, TOTAL);
+  }
+
+  @Benchmark
+  public SearchResult getSearchResults() {
+    return _searcher.getSearchResults(from, 10);
+  }
+
+  private static SearchResult search(final CacheableSearcher.QueryPagination pagination) {
+    final List<SearchEntity> entities = new ArrayList<>(pagination.getSize());
+    for (int i = pagination.getFrom(); i < Math.min(TOTAL, pagination.getFrom() + pagination.getSize()); i++) {
+      entities.add(new SearchEntity().setEntity(
+          UrnUtils.getUrn(String.format("urn:li:dataset:(urn:li:dataPlatform:hive,table%d,PROD)", i))));
+    }
+    return new SearchResult()
+        .setEntities(new SearchEntityArray(entities))
+        .setMetadata(new SearchResultMetadata())
+        .setFrom(pagination.getFrom())
+        .setPageSize(pagination.getSize())
+        .setNumEntities(TOTAL);
+  }
+}
@@ -0,0 +1,102 @@
+package com.linkedin.metadata.benchmark;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.metadata.config.PreProcessHooks;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.mxe.SystemMetadata;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.net.URISyntaxException;
+import java.sql.Timestamp;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+
+/**
+ * Batch reads of latest aspects through the {@link EntityService}, against an in-memory H2 database. This covers the
+ * SQL round trip, the aspect deserialization and the envelope building, not the latency of a real database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EntityServiceBenchmark {
+
+  private static final Set<String> ASPECT_NAMES = Set.of("datasetProperties", "status");
+
+  @Param({"1", "100"})
+  public int batchSize;
+
+  private EbeanServer _server;
+  private EntityService _entityService;
+  private Set<Urn> _urns;
+
+  @Setup
+  public void setup() {
+    _server = EbeanServerFactory.create(createH2ServerConfig());
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(_server);
+    aspectDao.setConnectionValidated(true);
+    // Reads never produce events nor update the indices
+    _entityService = new EntityService(aspectDao, null, SnapshotEntityRegistry.getInstance(), true, null,
+        new PreProcessHooks());
+
+    final String datasetProperties = RecordUtils.toJsonString(AspectDeserializationBenchmark.createDatasetProperties(10));
+    final String status = RecordUtils.toJsonString(new Status().setRemoved(false));
+    final String systemMetadata = RecordUtils.toJsonString(new SystemMetadata().setLastObserved(0).setRunId("benchmark"));
+    final Timestamp createdOn = new Timestamp(System.currentTimeMillis());
+    _urns = new LinkedHashSet<>();
+    for (int i = 0; i < batchSize; i++) {
+      final Urn urn = UrnUtils.getUrn(String.format("urn:li:dataset:(urn:li:dataPlatform:hive,table%d,PROD)", i));
+      aspectDao.saveAspect(new EntityAspect(urn.toString(), "datasetProperties", 0, datasetProperties, systemMetadata,
+          createdOn, "urn:li:corpuser:datahub", null), true);
+      aspectDao.saveAspect(new EntityAspect(urn.toString(), "status", 0, status, systemMetadata, createdOn,
+          "urn:li:corpuser:datahub", null), true);
+      _urns.add(urn);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    _server.shutdown(false, false);
+  }
+
+  @Benchmark
+  public Map<Urn, List<EnvelopedAspect>> getLatestEnvelopedAspects() throws URISyntaxException {
+    return _entityService.getLatestEnvelopedAspects("dataset", _urns, ASPECT_NAMES);
+  }
+
+  private static ServerConfig createH2ServerConfig() {
+    final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("benchmark");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:;IGNORECASE=TRUE;");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    final ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return serverConfig;
+  }
+}
@@ -0,0 +1,72 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.LineageRelationshipUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Path bookkeeping of a multi-hop lineage traversal: a root fanning out to children, each fanning out to
+ * grandchildren, all of them sharing a common sink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LineagePathsBenchmark {
+
+  @Param({"10", "100"})
+  public int fanOut;
+
+  private Urn _root;
+  private Urn _sink;
+  private List<Urn> _children;
+  private List<List<Urn>> _grandChildren;
+
+  @Setup
+  public void setup() {
+    _root = datasetUrn("root");
+    _sink = datasetUrn("sink");
+    _children = new ArrayList<>(fanOut);
+    _grandChildren = new ArrayList<>(fanOut);
+    for (int i = 0; i < fanOut; i++) {
+      _children.add(datasetUrn("child" + i));
+      final List<Urn> grandChildren = new ArrayList<>(fanOut);
+      for (int j = 0; j < fanOut; j++) {
+        grandChildren.add(datasetUrn("child" + i + "_" + j));
+      }
+      _grandChildren.add(grandChildren);
+    }
+  }
+
+  @Benchmark
+  public Map<Urn, UrnArrayArray> addEdgeToPaths() {
+    final Map<Urn, UrnArrayArray> paths = new HashMap<>();
+    for (int i = 0; i < fanOut; i++) {
+      final Urn child = _children.get(i);
+      LineageRelationshipUtils.addEdgeToPaths(paths, _root, child);
+      for (Urn grandChild : _grandChildren.get(i)) {
+        LineageRelationshipUtils.addEdgeToPaths(paths, child, grandChild);
+        LineageRelationshipUtils.addEdgeToPaths(paths, grandChild, _sink);
+      }
+    }
+    return paths;
+  }
+
+  private static Urn datasetUrn(final String name) {
+    return UrnUtils.getUrn(String.format("urn:li:dataset:(urn:li:dataPlatform:hive,%s,PROD)", name));
+  }
+}
@@ -0,0 +1,90 @@
+package com.linkedin.metadata.benchmark;
+
+import com.datahub.authentication.Authentication;
+import com.datahub.authorization.FieldResolver;
+import com.datahub.authorization.PolicyEngine;
+import com.datahub.authorization.ResolvedResourceSpec;
+import com.datahub.authorization.ResourceFieldType;
+import com.datahub.authorization.ResourceSpec;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Evaluation of a metadata policy on a dataset, for an actor named in the policy and for an owner of the dataset. No
+ * group or role has to be resolved, so this measures the policy matching alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PolicyEngineBenchmark {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+
+  @Param({"10", "1000"})
+  public int policyUsers;
+
+  private PolicyEngine _policyEngine;
+  private DataHubPolicyInfo _policy;
+  private Optional<ResolvedResourceSpec> _resource;
+  private Urn _namedUser;
+  private Urn _owner;
+
+  @Setup
+  public void setup() {
+    // Resolving users and owners does not call the entity client
+    _policyEngine = new PolicyEngine(null, null);
+
+    final List<Urn> users = new ArrayList<>(policyUsers);
+    for (int i = 0; i < policyUsers; i++) {
+      users.add(UrnUtils.getUrn("urn:li:corpuser:user" + i));
+    }
+    _namedUser = users.get(policyUsers - 1);
+    _owner = UrnUtils.getUrn("urn:li:corpuser:owner");
+    _policy = new DataHubPolicyInfo()
+        .setType(PoliciesConfig.METADATA_POLICY_TYPE)
+        .setState(PoliciesConfig.ACTIVE_POLICY_STATE)
+        .setDisplayName("benchmark")
+        .setEditable(true)
+        .setPrivileges(new StringArray(List.of("EDIT_ENTITY_OWNERS", "EDIT_ENTITY_DOCS", PRIVILEGE)))
+        .setActors(new DataHubActorFilter().setUsers(new UrnArray(users)).setResourceOwners(true))
+        .setResources(new DataHubResourceFilter().setType("dataset").setAllResources(true));
+
+    final String dataset = "urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)";
+    _resource = Optional.of(new ResolvedResourceSpec(new ResourceSpec("dataset", dataset), Map.of(
+        ResourceFieldType.RESOURCE_TYPE, FieldResolver.getResolverFromValues(Set.of("dataset")),
+        ResourceFieldType.RESOURCE_URN, FieldResolver.getResolverFromValues(Set.of(dataset)),
+        ResourceFieldType.OWNER, FieldResolver.getResolverFromValues(Set.of(_owner.toString(), "urn:li:corpGroup:owners")),
+        ResourceFieldType.DOMAIN, FieldResolver.getResolverFromValues(Set.of()))));
+  }
+
+  @Benchmark
+  public PolicyEngine.PolicyEvaluationResult evaluatePolicyNamedUser() {
+    return _policyEngine.evaluatePolicy(_policy, _namedUser, PRIVILEGE, _resource);
+  }
+
+  @Benchmark
+  public PolicyEngine.PolicyEvaluationResult evaluatePolicyOwner() {
+    return _policyEngine.evaluatePolicy(_policy, _owner, PRIVILEGE, _resource);
+  }
+}
@@ -0,0 +1,49 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Extraction of the search document of an aspect, done for every aspect change by the index updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchDocumentTransformerBenchmark {
+
+  @Param({"10", "200"})
+  public int customProperties;
+
+  private SearchDocumentTransformer _transformer;
+  private Urn _urn;
+  private DatasetProperties _aspect;
+  private AspectSpec _aspectSpec;
+
+  @Setup
+  public void setup() {
+    _transformer = new SearchDocumentTransformer(1000, 1000, 1000);
+    _urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)");
+    _aspect = AspectDeserializationBenchmark.createDatasetProperties(customProperties);
+    _aspectSpec = SnapshotEntityRegistry.getInstance().getEntitySpec("dataset").getAspectSpec("datasetProperties");
+  }
+
+  @Benchmark
+  public Optional<String> transformAspect() {
+    return _transformer.transformAspect(_urn, _aspect, _aspectSpec, false);
+  }
+}
@@ -0,0 +1,34 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Urn parsing, done for nearly every document read from the search and graph indices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UrnBenchmark {
+
+  @Param({
+      "urn:li:corpuser:datahub",
+      "urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)",
+      "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD),column)"
+  })
+  public String rawUrn;
+
+  @Benchmark
+  public Urn createFromString() throws URISyntaxException {
+    return Urn.createFromString(rawUrn);
+  }
+}
@@ -0,0 +1,23 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "timeline" configuration block in application.yml.
+ */
+@Data
+public class TimelineConfiguration {
+  /**
+   * Max number of cached semantic diffs between two versions of an aspect, 0 to disable the cache
+   */
+  private long diffCacheMaxSize;
+  /**
+   * Time to live of the cached semantic diffs, 0 to keep them until evicted
+   */
+  private long diffCacheTtlSeconds;
+  /**
+   * Number of threads diffing the versions of different aspects concurrently, 1 to diff them on the calling thread
+   */
+  private int diffThreads;
+}
@@ -0,0 +1,13 @@
+package com.linkedin.metadata.config.cache;
+
+import lombok.Data;
+
+
+@Data
+public class EntityAspectCacheConfiguration {
+  boolean enabled;
+  long maxSize;
+  long maxBytes;
+  long ttlSeconds;
+  boolean invalidationEnabled;
+}
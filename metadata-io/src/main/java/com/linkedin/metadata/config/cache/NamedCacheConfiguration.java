@@ -0,0 +1,35 @@
+package com.linkedin.metadata.config.cache;
+
+import lombok.Data;
+
+
+/**
+ * Overrides of the primary cache configuration for a single named cache. Unset values fall back to the primary
+ * configuration.
+ */
+@Data
+public class NamedCacheConfiguration {
+  /**
+   * Maximum number of entries.
+   */
+  Long maxSize;
+  /**
+   * Maximum size of the entries in bytes, as serialized. Takes precedence over maxSize.
+   */
+  Long maxBytes;
+  Long ttlSeconds;
+  /**
+   * Whether the time to live restarts on every read (ACCESS) or only on writes (WRITE).
+   */
+  Expiry expiry;
+  /**
+   * Age after which a cached value is recomputed in the background while still being served. Only honored by caches
+   * whose values can be recomputed from their key, currently the lineage cache.
+   */
+  Long refreshAfterWriteSeconds;
+
+  public enum Expiry {
+    ACCESS,
+    WRITE
+  }
+}
@@ -1,5 +1,8 @@
 package com.linkedin.metadata.config.cache;
 
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
 import lombok.Data;
 
 
@@ -7,4 +10,24 @@ import lombok.Data;
 public class PrimaryCacheConfiguration {
   long ttlSeconds;
   long maxSize;
+  /**
+   * Per cache name overrides.
+   */
+  Map<String, NamedCacheConfiguration> caches = new HashMap<>();
+
+  /**
+   * Returns the configuration of a named cache, with the unset values filled in from the primary configuration.
+   */
+  @Nonnull
+  public NamedCacheConfiguration getCacheConfiguration(@Nonnull final String cacheName) {
+    final NamedCacheConfiguration overrides = caches != null ? caches.get(cacheName) : null;
+    final NamedCacheConfiguration result = new NamedCacheConfiguration();
+    result.setMaxSize(overrides != null && overrides.getMaxSize() != null ? overrides.getMaxSize() : maxSize);
+    result.setMaxBytes(overrides != null ? overrides.getMaxBytes() : null);
+    result.setTtlSeconds(overrides != null && overrides.getTtlSeconds() != null ? overrides.getTtlSeconds() : ttlSeconds);
+    result.setExpiry(overrides != null && overrides.getExpiry() != null ? overrides.getExpiry()
+        : NamedCacheConfiguration.Expiry.ACCESS);
+    result.setRefreshAfterWriteSeconds(overrides != null ? overrides.getRefreshAfterWriteSeconds() : null);
+    return result;
+  }
 }
@@ -7,6 +7,10 @@ import lombok.Data;
 public class SearchLineageCacheConfiguration {
   long ttlSeconds;
   long lightningThreshold;
+  // Threads refilling stale entries in the background
+  int refillPoolSize = 1;
+  // Stale entries waiting for a refill, further refills are dropped until the next read
+  int refillQueueSize = 100;
 
   public long getTTLMillis() {
     return ttlSeconds * 1000;
@@ -0,0 +1,15 @@
+package com.linkedin.metadata.config.graphql;
+
+import lombok.Data;
+
+
+@Data
+public class GraphQLConcurrencyConfiguration {
+  /**
+   * Runs each resolver on its own virtual thread when the JVM supports them, ignoring the pool sizes
+   */
+  boolean virtualThreads;
+  int maxPoolSize;
+  int queueSize;
+  long keepAliveSeconds;
+}
@@ -0,0 +1,28 @@
+package com.linkedin.metadata.config.graphql;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "graphQL" configuration block in application.yml.
+ */
+@Data
+public class GraphQLConfiguration {
+  /**
+   * Executor running the asynchronous resolvers
+   */
+  private GraphQLConcurrencyConfiguration concurrency;
+  /**
+   * Maximum time a GraphQL request may take before it is answered with a timeout error, 0 to disable. Resolvers already
+   * running are not stopped, they complete in the background and their results are dropped.
+   */
+  private long queryTimeoutSeconds;
+  /**
+   * Number of parsed and validated queries kept, 0 to disable the cache
+   */
+  private long queryCacheSize;
+  /**
+   * Whether clients may send the hash of a cached query instead of its text
+   */
+  private boolean persistedQueriesEnabled;
+}
@@ -0,0 +1,22 @@
+package com.linkedin.metadata.config.kafka;
+
+import lombok.Data;
+
+
+@Data
+public class BatchListenerConfiguration {
+  /**
+   * Whether records are consumed in batches rather than one at a time
+   */
+  private boolean enabled;
+
+  /**
+   * Maximum number of records returned by a single poll, i.e. the maximum batch size
+   */
+  private int maxPollRecords;
+
+  /**
+   * Number of threads used to process a batch
+   */
+  private int parallelism;
+}
@@ -5,4 +5,8 @@ import lombok.Data;
 @Data
 public class ListenerConfiguration {
   private int concurrency;
+
+  private BatchListenerConfiguration mcpBatch;
+
+  private BatchListenerConfiguration mclBatch;
 }
@@ -0,0 +1,96 @@
+package com.linkedin.metadata.entity;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.io.ByteStreams;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+
+
+/**
+ * Storage format of the metadata of aspect rows.
+ *
+ * Aspects are stored as JSON text by default. With compression enabled, aspects of at least minSizeBytes are stored
+ * as gzip'd JSON, Base64 encoded to fit in the existing text columns and prefixed with a format marker. Reading is
+ * transparent: rows without the marker are plain JSON, so both formats coexist in the same table and compression can
+ * be turned on or off at any time.
+ */
+public class AspectCodec {
+
+  // Marks gzip'd aspects, a JSON document cannot start with it
+  public static final String GZIP_PREFIX = "gz:";
+  public static final int DEFAULT_MIN_SIZE_BYTES = 1024;
+
+  public static final AspectCodec PLAIN = new AspectCodec(false, DEFAULT_MIN_SIZE_BYTES);
+
+  private static final Counter BYTES_SAVED = MetricUtils.counter(AspectCodec.class, "bytesSaved");
+  private static final Timer DECODE_TIMER = MetricUtils.timer(AspectCodec.class, "decode");
+
+  private final boolean _compress;
+  private final int _minSizeBytes;
+
+  public AspectCodec(final boolean compress, final int minSizeBytes) {
+    _compress = compress;
+    _minSizeBytes = minSizeBytes;
+  }
+
+  /**
+   * Encodes the metadata of an aspect for storage. Aspects smaller than minSizeBytes, or which would not get smaller,
+   * are stored as is.
+   */
+  @Nullable
+  public String encode(@Nullable final String metadata) {
+    if (!_compress || metadata == null || metadata.length() < _minSizeBytes || isEncoded(metadata)) {
+      return metadata;
+    }
+    final byte[] json = metadata.getBytes(StandardCharsets.UTF_8);
+    final String encoded = GZIP_PREFIX + Base64.getEncoder().encodeToString(gzip(json));
+    if (encoded.length() >= json.length) {
+      return metadata;
+    }
+    BYTES_SAVED.inc(json.length - encoded.length());
+    return encoded;
+  }
+
+  /**
+   * @return whether the stored metadata of an aspect is compressed
+   */
+  public static boolean isEncoded(@Nullable final String stored) {
+    return stored != null && stored.startsWith(GZIP_PREFIX);
+  }
+
+  /**
+   * Decodes the stored metadata of an aspect, whatever its format, back to JSON.
+   */
+  @Nullable
+  public static String decode(@Nullable final String stored) {
+    if (!isEncoded(stored)) {
+      return stored;
+    }
+    try (Timer.Context ignored = DECODE_TIMER.time()) {
+      final byte[] compressed = Base64.getDecoder().decode(stored.substring(GZIP_PREFIX.length()));
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+        return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      throw new RuntimeException("Failed to decode compressed aspect", e);
+    }
+  }
+
+  private static byte[] gzip(final byte[] json) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(json);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to compress aspect", e);
+    }
+    return out.toByteArray();
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.metadata.entity;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.util.Pair;
 import io.ebean.PagedList;
 
 import javax.annotation.Nonnull;
@@ -41,6 +42,14 @@ public interface AspectDao {
     @Nonnull
     List<EntityAspect> getAspectsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis);
 
+    /**
+     * Same as {@link #getAspectsInRange(Urn, Set, long, long)}, but only reads the keys and creation times of the rows,
+     * their metadata is left out.
+     */
+    @Nonnull
+    List<EntityAspect> getAspectVersionsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis,
+        long endTimeMillis);
+
     @Nullable
     EntityAspect getLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName);
 
@@ -57,6 +66,12 @@ public interface AspectDao {
 
     void saveAspect(@Nonnull final EntityAspect aspect, final boolean insert);
 
+    /**
+     * Inserts many aspect rows in a single transaction, batching the insert statements. Meant for loading rows which
+     * are known not to exist yet, such as when restoring a backup into an empty table.
+     */
+    void insertAspects(@Nonnull final List<EbeanAspectV2> aspects);
+
     long saveLatestAspect(
         @Nonnull final String urn,
         @Nonnull final String aspectName,
@@ -89,6 +104,14 @@ public interface AspectDao {
     @Nonnull
     PagedList<EbeanAspectV2> getPagedAspects(final RestoreIndicesArgs args);
 
+    /**
+     * Returns up to args.batchSize latest aspect rows matching the filters of the args, ordered by urn and aspect, that
+     * come after the given key. Unlike {@link #getPagedAspects(RestoreIndicesArgs)}, the cost of reading a page does not
+     * grow with its position.
+     */
+    @Nonnull
+    List<EbeanAspectV2> getPagedAspectsAfter(final RestoreIndicesArgs args, @Nullable EbeanAspectV2.PrimaryKey after);
+
     int deleteUrn(@Nonnull final String urn);
 
     @Nonnull
@@ -108,8 +131,25 @@ public interface AspectDao {
 
     long getNextVersion(@Nonnull final String urn, @Nonnull final String aspectName);
 
+    /**
+     * Reads the latest version of an aspect along with the version its previous value is saved as on update, which
+     * are otherwise read through {@link #getLatestAspect(String, String)} and {@link #getNextVersion(String, String)}.
+     * Saving the previous value at this version fails if another writer updated the aspect since it was read, so
+     * reading both from the same snapshot lets a write detect concurrent updates.
+     *
+     * @return the latest aspect, null if there is none, and the next version
+     */
+    @Nonnull
+    Pair<EntityAspect, Long> getLatestAspectWithNextVersion(@Nonnull final String urn, @Nonnull final String aspectName);
+
     Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames);
 
+    /**
+     * Same as {@link #getNextVersions(String, Set)} but for many urns at once, keyed by urn and then aspect name.
+     */
+    @Nonnull
+    Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects);
+
     long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName);
 
     void setWritable(boolean canWrite);
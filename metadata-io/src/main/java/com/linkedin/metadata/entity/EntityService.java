@@ -41,11 +41,13 @@ import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.Aspect;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.config.PreProcessHooks;
+import com.linkedin.metadata.entity.cache.EntityAspectCache;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionResult;
+import com.linkedin.metadata.entity.retention.RetentionQueue;
 import com.linkedin.metadata.entity.validation.EntityRegistryUrnValidator;
 import com.linkedin.metadata.entity.validation.RecordTemplateValidator;
 import com.linkedin.metadata.entity.validation.ValidationUtils;
@@ -77,6 +79,7 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -86,6 +89,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -169,6 +174,10 @@ public class EntityService {
   private final EntityRegistry _entityRegistry;
   private final Map<String, Set<String>> _entityToValidAspects;
   private RetentionService _retentionService;
+  @Nullable
+  private RetentionQueue _retentionQueue;
+  @Nullable
+  private EntityAspectCache _aspectCache;
   private final Boolean _alwaysEmitChangeLog;
   private final UpdateIndicesService _updateIndicesService;
   private final PreProcessHooks _preProcessHooks;
@@ -275,7 +284,7 @@ public class EntityService {
 
     version = calculateVersionNumber(urn, aspectName, version);
     final EntityAspectIdentifier primaryKey = new EntityAspectIdentifier(urn.toString(), aspectName, version);
-    final Optional<EntityAspect> maybeAspect = Optional.ofNullable(_aspectDao.getAspect(primaryKey));
+    final Optional<EntityAspect> maybeAspect = Optional.ofNullable(getAspectWithCache(primaryKey));
     return maybeAspect.map(
         aspect -> EntityUtils.toAspectRecord(urn, aspectName, aspect.getMetadata(), getEntityRegistry())).orElse(null);
   }
@@ -481,7 +490,7 @@ public class EntityService {
     version = calculateVersionNumber(urn, aspectName, version);
 
     final EntityAspectIdentifier primaryKey = new EntityAspectIdentifier(urn.toString(), aspectName, version);
-    final Optional<EntityAspect> maybeAspect = Optional.ofNullable(_aspectDao.getAspect(primaryKey));
+    final Optional<EntityAspect> maybeAspect = Optional.ofNullable(getAspectWithCache(primaryKey));
     RecordTemplate aspectRecord =
         maybeAspect.map(aspect -> EntityUtils.toAspectRecord(urn, aspectName, aspect.getMetadata(), getEntityRegistry()))
             .orElse(null);
@@ -589,13 +598,12 @@ public class EntityService {
       @Nonnull final AuditStamp auditStamp,
       @Nonnull final SystemMetadata providedSystemMetadata) {
 
-    return _aspectDao.runInTransactionWithRetry(() -> {
-      final String urnStr = urn.toString();
-      final EntityAspect latest = _aspectDao.getLatestAspect(urnStr, aspectName);
-      long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
+    return runWriteTransaction(cacheWrites -> {
+      final Pair<EntityAspect, Long> latest = _aspectDao.getLatestAspectWithNextVersion(urn.toString(), aspectName);
 
-      return ingestAspectToLocalDBNoTransaction(urn, aspectName, updateLambda, auditStamp, providedSystemMetadata, latest, nextVersion);
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
+      return ingestAspectToLocalDBNoTransaction(cacheWrites, urn, aspectName, updateLambda, auditStamp, providedSystemMetadata,
+          latest.getFirst(), latest.getSecond());
+    }, urn, Collections.singleton(aspectName));
   }
 
   /**
@@ -616,39 +624,54 @@ public class EntityService {
       @Nonnull final AuditStamp auditStamp,
       @Nonnull final SystemMetadata providedSystemMetadata) {
 
-    return _aspectDao.runInTransactionWithRetry(() -> {
-      final String urnStr = urn.toString();
+    return runWriteTransaction(cacheWrites -> {
       final String aspectName = aspectSpec.getName();
-      EntityAspect latest = _aspectDao.getLatestAspect(urnStr, aspectName);
-      if (latest == null) {
-        //TODO: best effort mint
-        RecordTemplate defaultTemplate = _entityRegistry.getAspectTemplateEngine().getDefaultTemplate(aspectSpec.getName());
-
-        if (defaultTemplate != null) {
-          latest = new EntityAspect();
-          latest.setAspect(aspectName);
-          latest.setMetadata(EntityUtils.toJsonAspect(defaultTemplate));
-          latest.setUrn(urnStr);
-          latest.setVersion(ASPECT_LATEST_VERSION);
-          latest.setCreatedOn(new Timestamp(auditStamp.getTime()));
-          latest.setCreatedBy(auditStamp.getActor().toString());
-        } else {
-          throw new UnsupportedOperationException("Patch not supported for empty aspect for aspect name: " + aspectName);
-        }
-      }
+      final Pair<EntityAspect, Long> latestWithNextVersion =
+          _aspectDao.getLatestAspectWithNextVersion(urn.toString(), aspectName);
+      final EntityAspect latest = latestOrDefaultForPatch(urn, aspectSpec, latestWithNextVersion.getFirst(), auditStamp);
 
-      long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
-      try {
-        RecordTemplate currentValue = EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), _entityRegistry);
-        RecordTemplate updatedValue =  _entityRegistry.getAspectTemplateEngine().applyPatch(currentValue, jsonPatch, aspectSpec);
+      long nextVersion = latestWithNextVersion.getSecond();
+      RecordTemplate updatedValue = applyPatch(urn, aspectSpec, jsonPatch, latest);
+      return ingestAspectToLocalDBNoTransaction(cacheWrites, urn, aspectName, ignored -> updatedValue, auditStamp, providedSystemMetadata,
+          latest, nextVersion);
+    }, urn, Collections.singleton(aspectSpec.getName()));
+  }
 
-        validateAspect(urn, updatedValue);
-        return ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> updatedValue, auditStamp, providedSystemMetadata,
-            latest, nextVersion);
-      } catch (JsonProcessingException | JsonPatchException e) {
-        throw new IllegalStateException(e);
-      }
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
+  @Nonnull
+  private EntityAspect latestOrDefaultForPatch(@Nonnull final Urn urn, @Nonnull final AspectSpec aspectSpec,
+      @Nullable final EntityAspect latest, @Nonnull final AuditStamp auditStamp) {
+    if (latest != null) {
+      return latest;
+    }
+    //TODO: best effort mint
+    final String aspectName = aspectSpec.getName();
+    RecordTemplate defaultTemplate = _entityRegistry.getAspectTemplateEngine().getDefaultTemplate(aspectName);
+
+    if (defaultTemplate == null) {
+      throw new UnsupportedOperationException("Patch not supported for empty aspect for aspect name: " + aspectName);
+    }
+    final EntityAspect minted = new EntityAspect();
+    minted.setAspect(aspectName);
+    minted.setMetadata(EntityUtils.toJsonAspect(defaultTemplate));
+    minted.setUrn(urn.toString());
+    minted.setVersion(ASPECT_LATEST_VERSION);
+    minted.setCreatedOn(new Timestamp(auditStamp.getTime()));
+    minted.setCreatedBy(auditStamp.getActor().toString());
+    return minted;
+  }
+
+  @Nonnull
+  private RecordTemplate applyPatch(@Nonnull final Urn urn, @Nonnull final AspectSpec aspectSpec,
+      @Nonnull final Patch jsonPatch, @Nonnull final EntityAspect latest) {
+    try {
+      RecordTemplate currentValue = EntityUtils.toAspectRecord(urn, aspectSpec.getName(), latest.getMetadata(), _entityRegistry);
+      RecordTemplate updatedValue =  _entityRegistry.getAspectTemplateEngine().applyPatch(currentValue, jsonPatch, aspectSpec);
+
+      validateAspect(urn, updatedValue);
+      return updatedValue;
+    } catch (JsonProcessingException | JsonPatchException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   /**
@@ -663,12 +686,12 @@ public class EntityService {
       @Nonnull final AuditStamp auditStamp,
       @Nonnull final SystemMetadata systemMetadata) {
 
-    return _aspectDao.runInTransactionWithRetry(() -> {
+    final Set<String> aspectNames = aspectRecordsToIngest
+        .stream()
+        .map(Pair::getFirst)
+        .collect(Collectors.toSet());
 
-      final Set<String> aspectNames = aspectRecordsToIngest
-          .stream()
-          .map(Pair::getFirst)
-          .collect(Collectors.toSet());
+    return runWriteTransaction(cacheWrites -> {
 
       Map<String, EntityAspect> latestAspects = getLatestAspectForUrn(urn, aspectNames);
       Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), aspectNames);
@@ -679,12 +702,12 @@ public class EntityService {
         RecordTemplate newValue = aspectRecord.getSecond();
         EntityAspect latest = latestAspects.get(aspectName);
         long nextVersion = nextVersions.get(aspectName);
-        UpdateAspectResult updateResult = ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> newValue, auditStamp, systemMetadata,
+        UpdateAspectResult updateResult = ingestAspectToLocalDBNoTransaction(cacheWrites, urn, aspectName, ignored -> newValue, auditStamp, systemMetadata,
             latest, nextVersion);
         result.add(new Pair<>(aspectName, updateResult));
       }
       return result;
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    }, urn, aspectNames);
   }
 
   @Nonnull
@@ -774,20 +797,19 @@ public class EntityService {
     final SystemMetadata internalSystemMetadata = generateSystemMetadataIfEmpty(systemMetadata);
 
     Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestAspectToLocalDB").time();
-    UpdateAspectResult result = _aspectDao.runInTransactionWithRetry(() -> {
-      final String urnStr = urn.toString();
-      final EntityAspect latest = _aspectDao.getLatestAspect(urnStr, aspectName);
+    UpdateAspectResult result = runWriteTransaction(cacheWrites -> {
+      final Pair<EntityAspect, Long> latestWithNextVersion =
+          _aspectDao.getLatestAspectWithNextVersion(urn.toString(), aspectName);
+      final EntityAspect latest = latestWithNextVersion.getFirst();
       if (latest == null) {
-        long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
-
-        return ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> newValue, auditStamp,
-            internalSystemMetadata, latest, nextVersion);
+        return ingestAspectToLocalDBNoTransaction(cacheWrites, urn, aspectName, ignored -> newValue, auditStamp,
+            internalSystemMetadata, latest, latestWithNextVersion.getSecond());
       }
       RecordTemplate oldValue = EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
       SystemMetadata oldMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
       return new UpdateAspectResult(urn, oldValue, oldValue, oldMetadata, oldMetadata, MetadataAuditOperation.UPDATE, auditStamp,
           latest.getVersion());
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    }, urn, Collections.singleton(aspectName));
     ingestToLocalDBTimer.stop();
 
     return sendEventForUpdateAspectResult(urn, aspectName, result);
@@ -803,8 +825,7 @@ public class EntityService {
 
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldValue != updatedValue && oldValue != null && _retentionService != null) {
-      _retentionService.applyRetention(urn, aspectName,
-              Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+      applyRetention(urn, aspectName, result.maxVersion);
     }
 
     // Produce MCL after a successful update
@@ -931,6 +952,202 @@ public class EntityService {
     return new IngestProposalResult(entityUrn, didUpdate, false);
   }
 
+  /**
+   * Ingest a batch of {@link MetadataChangeProposal}s, with the same semantics as calling
+   * {@link #ingestProposal(MetadataChangeProposal, AuditStamp, boolean)} for each proposal in order.
+   *
+   * Proposals written to the primary store are grouped into chunks of distinct urn / aspect pairs. Each chunk is written
+   * in a single transaction which loads the latest rows and the next versions of the whole chunk with one query each,
+   * and whose inserts and updates are flushed as JDBC batches. A proposal touching an aspect already present in the
+   * current chunk starts a new chunk, so repeated proposals for the same aspect are still applied in order.
+   *
+   * Change logs of timeseries aspects and proposals queued with async are held back until the preceding chunk
+   * committed, so that all change logs and queued proposals are produced in the order of the provided proposals.
+   *
+   * All proposals are validated before anything is written.
+   *
+   * @param mcps the proposals to ingest
+   * @param auditStamp an audit stamp representing the time and actor proposing the changes
+   * @param async a flag to control whether we commit to primary store or just write to proposal log before returning
+   * @return one {@link IngestProposalResult} per proposal, in the order of the provided proposals
+   */
+  public List<IngestProposalResult> ingestProposalBatch(@Nonnull List<MetadataChangeProposal> mcps,
+      AuditStamp auditStamp, final boolean async) {
+    return ingestProposalBatch(mcps, auditStamp, async, result -> { });
+  }
+
+  /**
+   * Same as {@link #ingestProposalBatch(List, AuditStamp, boolean)}, additionally handing the result of each proposal
+   * to the given consumer once the proposal was applied and its change log produced. Results are handed over in input
+   * order, so when the batch fails the proposals applied before the failure are the ones whose results were consumed.
+   *
+   * @param appliedResults consumer of the results of the applied proposals
+   */
+  public List<IngestProposalResult> ingestProposalBatch(@Nonnull List<MetadataChangeProposal> mcps,
+      AuditStamp auditStamp, final boolean async, @Nonnull final Consumer<IngestProposalResult> appliedResults) {
+
+    final List<PreparedProposal> proposals = new ArrayList<>(mcps.size());
+    for (int i = 0; i < mcps.size(); i++) {
+      proposals.add(prepareProposal(i, mcps.get(i)));
+    }
+
+    final IngestProposalResult[] results = new IngestProposalResult[mcps.size()];
+    // All proposals since the last flush in input order, and the ones among them written to the primary store
+    final List<PreparedProposal> pending = new ArrayList<>();
+    final List<PreparedProposal> chunk = new ArrayList<>();
+    final Set<EntityAspectIdentifier> chunkKeys = new HashSet<>();
+    for (PreparedProposal proposal : proposals) {
+      if (!proposal.getAspectSpec().isTimeseries() && !async) {
+        final EntityAspectIdentifier key =
+            new EntityAspectIdentifier(proposal.getUrn().toString(), proposal.getAspectSpec().getName(), ASPECT_LATEST_VERSION);
+        if (chunkKeys.contains(key) || chunk.size() >= MAX_KEYS_PER_QUERY) {
+          flushProposals(pending, chunk, auditStamp, results, appliedResults);
+          pending.clear();
+          chunk.clear();
+          chunkKeys.clear();
+        }
+        chunk.add(proposal);
+        chunkKeys.add(key);
+      }
+      pending.add(proposal);
+    }
+    if (!pending.isEmpty()) {
+      flushProposals(pending, chunk, auditStamp, results, appliedResults);
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Writes the chunk of pending proposals that go to the primary store, then produces the change logs and queued
+   * proposals of all pending proposals in input order.
+   */
+  private void flushProposals(@Nonnull final List<PreparedProposal> pending, @Nonnull final List<PreparedProposal> chunk,
+      @Nonnull final AuditStamp auditStamp, @Nonnull final IngestProposalResult[] results,
+      @Nonnull final Consumer<IngestProposalResult> appliedResults) {
+    final Map<Integer, UpdateAspectResult> updateResults = new HashMap<>();
+    if (!chunk.isEmpty()) {
+      final List<UpdateAspectResult> chunkResults = ingestProposalChunk(chunk, auditStamp);
+      for (int i = 0; i < chunk.size(); i++) {
+        updateResults.put(chunk.get(i).getIndex(), chunkResults.get(i));
+      }
+    }
+
+    for (PreparedProposal proposal : pending) {
+      final UpdateAspectResult result = updateResults.get(proposal.getIndex());
+      if (result != null) {
+        // Apply retention policies asynchronously if there was an update to existing aspect value
+        if (result.getOldValue() != result.getNewValue() && result.getOldValue() != null && _retentionService != null) {
+          applyRetention(proposal.getUrn(), proposal.getAspectSpec().getName(), result.getMaxVersion());
+        }
+        final boolean didUpdate = emitChangeLog(result.getOldValue(), result.getOldSystemMetadata(),
+            result.getNewValue(), result.getNewSystemMetadata(), proposal.getMcp(), proposal.getUrn(), auditStamp,
+            proposal.getAspectSpec());
+        results[proposal.getIndex()] = new IngestProposalResult(proposal.getUrn(), didUpdate, false);
+      } else if (proposal.getAspectSpec().isTimeseries()) {
+        final boolean didUpdate = emitChangeLog(null, null, proposal.getAspect(), proposal.getMcp().getSystemMetadata(),
+            proposal.getMcp(), proposal.getUrn(), auditStamp, proposal.getAspectSpec());
+        results[proposal.getIndex()] = new IngestProposalResult(proposal.getUrn(), didUpdate, false);
+      } else {
+        _producer.produceMetadataChangeProposal(proposal.getUrn(), proposal.getMcp());
+        results[proposal.getIndex()] = new IngestProposalResult(proposal.getUrn(), false, true);
+      }
+      appliedResults.accept(results[proposal.getIndex()]);
+    }
+  }
+
+  /**
+   * A validated proposal of {@link #ingestProposalBatch(List, AuditStamp, boolean)}, either carrying the aspect to
+   * upsert or the patch to apply.
+   */
+  @Value
+  private static class PreparedProposal {
+    int index;
+    MetadataChangeProposal mcp;
+    Urn urn;
+    AspectSpec aspectSpec;
+    SystemMetadata systemMetadata;
+    @Nullable
+    RecordTemplate aspect;
+    @Nullable
+    Patch patch;
+  }
+
+  @Nonnull
+  private PreparedProposal prepareProposal(final int index, @Nonnull final MetadataChangeProposal mcp) {
+    EntitySpec entitySpec = getEntityRegistry().getEntitySpec(mcp.getEntityType());
+    Urn entityUrn = EntityKeyUtils.getUrnFromProposal(mcp, entitySpec.getKeyAspectSpec());
+    AspectSpec aspectSpec = validateAspect(mcp, entitySpec);
+
+    if (!isValidChangeType(mcp.getChangeType(), aspectSpec)) {
+      throw new UnsupportedOperationException(
+          "ChangeType not supported: " + mcp.getChangeType() + " for aspect " + mcp.getAspectName());
+    }
+
+    SystemMetadata systemMetadata = generateSystemMetadataIfEmpty(mcp.getSystemMetadata());
+    systemMetadata.setRegistryName(aspectSpec.getRegistryName());
+    systemMetadata.setRegistryVersion(aspectSpec.getRegistryVersion().toString());
+
+    if (ChangeType.PATCH.equals(mcp.getChangeType())) {
+      if (!supportsPatch(aspectSpec)) {
+        throw new UnsupportedOperationException("Aspect: " + aspectSpec.getName() + " does not currently support patch "
+            + "operations.");
+      }
+      return new PreparedProposal(index, mcp, entityUrn, aspectSpec, systemMetadata, null, convertToJsonPatch(mcp));
+    }
+
+    RecordTemplate aspect = convertToRecordTemplate(mcp, aspectSpec);
+    if (!aspectSpec.isTimeseries()) {
+      validateUrn(entityUrn);
+      validateAspect(entityUrn, aspect);
+    }
+    return new PreparedProposal(index, mcp, entityUrn, aspectSpec, systemMetadata, aspect, null);
+  }
+
+  /**
+   * Writes one chunk of proposals with distinct urn / aspect pairs in a single transaction.
+   *
+   * @return the result of each proposal of the chunk, in order
+   */
+  @Nonnull
+  private List<UpdateAspectResult> ingestProposalChunk(@Nonnull final List<PreparedProposal> chunk,
+      @Nonnull final AuditStamp auditStamp) {
+    final Map<Urn, Set<String>> urnAspects = new HashMap<>();
+    chunk.forEach(proposal ->
+        urnAspects.computeIfAbsent(proposal.getUrn(), urn -> new HashSet<>()).add(proposal.getAspectSpec().getName()));
+
+    Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalBatchToLocalDB").time();
+    final List<UpdateAspectResult> updateResults = runWriteTransaction(cacheWrites -> {
+      final Set<EntityAspectIdentifier> keys = chunk.stream()
+          .map(proposal -> new EntityAspectIdentifier(proposal.getUrn().toString(), proposal.getAspectSpec().getName(),
+              ASPECT_LATEST_VERSION))
+          .collect(Collectors.toSet());
+      final Map<EntityAspectIdentifier, EntityAspect> latestAspects = _aspectDao.batchGet(keys);
+      final Map<String, Map<String, Long>> nextVersions = _aspectDao.getNextVersions(urnAspects.entrySet()
+          .stream()
+          .collect(Collectors.toMap(entry -> entry.getKey().toString(), Map.Entry::getValue)));
+
+      final List<UpdateAspectResult> chunkResults = new ArrayList<>(chunk.size());
+      for (PreparedProposal proposal : chunk) {
+        final Urn urn = proposal.getUrn();
+        final String aspectName = proposal.getAspectSpec().getName();
+        EntityAspect latest = latestAspects.get(new EntityAspectIdentifier(urn.toString(), aspectName, ASPECT_LATEST_VERSION));
+        final RecordTemplate newValue;
+        if (proposal.getPatch() != null) {
+          latest = latestOrDefaultForPatch(urn, proposal.getAspectSpec(), latest, auditStamp);
+          newValue = applyPatch(urn, proposal.getAspectSpec(), proposal.getPatch(), latest);
+        } else {
+          newValue = proposal.getAspect();
+        }
+        chunkResults.add(ingestAspectToLocalDBNoTransaction(cacheWrites, urn, aspectName, ignored -> newValue, auditStamp,
+            proposal.getSystemMetadata(), latest, nextVersions.get(urn.toString()).get(aspectName)));
+      }
+      return chunkResults;
+    }, urnAspects);
+    ingestToLocalDBTimer.stop();
+    MetricUtils.histogram(this.getClass(), "ingestProposalBatchChunkSize").update(chunk.size());
+    return updateResults;
+  }
+
   private AspectSpec validateAspect(MetadataChangeProposal mcp, EntitySpec entitySpec) {
     if (!mcp.hasAspectName() || !mcp.hasAspect()) {
       throw new UnsupportedOperationException("Aspect and aspect name is required for create and update operations");
@@ -1010,8 +1227,7 @@ public class EntityService {
     RecordTemplate newAspect = result.getNewValue();
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldAspect != newAspect && oldAspect != null && _retentionService != null) {
-      _retentionService.applyRetention(entityUrn, aspectSpec.getName(),
-          Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+      applyRetention(entityUrn, aspectSpec.getName(), result.maxVersion);
     }
     return result;
   }
@@ -1025,12 +1241,23 @@ public class EntityService {
     RecordTemplate newAspect = result.getNewValue();
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldAspect != newAspect && oldAspect != null && _retentionService != null) {
-      _retentionService.applyRetention(entityUrn, aspectSpec.getName(),
-          Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+      applyRetention(entityUrn, aspectSpec.getName(), result.maxVersion);
     }
     return result;
   }
 
+  /**
+   * Applies retention after a new version of an aspect was written, off the request path if a retention queue is set.
+   */
+  private void applyRetention(@Nonnull final Urn urn, @Nonnull final String aspectName, final long maxVersion) {
+    if (_retentionQueue != null) {
+      _retentionQueue.enqueue(urn, aspectName, maxVersion);
+    } else {
+      _retentionService.applyRetention(urn, aspectName,
+          Optional.of(new RetentionService.RetentionContext(Optional.of(maxVersion))));
+    }
+  }
+
   public String batchApplyRetention(Integer start, Integer count, Integer attemptWithVersion, String aspectName,
       String urn) {
     BulkApplyRetentionArgs args = new BulkApplyRetentionArgs();
@@ -1097,20 +1324,93 @@ public class EntityService {
 
   @Nonnull
   public RestoreIndicesResult restoreIndices(@Nonnull RestoreIndicesArgs args, @Nonnull Consumer<String> logger) {
-    RestoreIndicesResult result = new RestoreIndicesResult();
-    int ignored = 0;
-    int rowsMigrated = 0;
     logger.accept(String.format("Args are %s", args));
     logger.accept(String.format(
         "Reading rows %s through %s from the aspects table started.", args.start, args.start + args.batchSize));
     long startTime = System.currentTimeMillis();
     PagedList<EbeanAspectV2> rows = _aspectDao.getPagedAspects(args);
-    result.timeSqlQueryMs = System.currentTimeMillis() - startTime;
-    startTime = System.currentTimeMillis();
+    final long timeSqlQueryMs = System.currentTimeMillis() - startTime;
     logger.accept(String.format(
         "Reading rows %s through %s from the aspects table completed.", args.start, args.start + args.batchSize));
 
-    for (EbeanAspectV2 aspect : rows != null ? rows.getList() : List.<EbeanAspectV2>of()) {
+    RestoreIndicesResult result =
+        restoreIndices(rows != null ? rows.getList() : List.<EbeanAspectV2>of(), logger, produced -> { });
+    result.timeSqlQueryMs = timeSqlQueryMs;
+    try {
+      TimeUnit.MILLISECONDS.sleep(args.batchDelayMs);
+    } catch (InterruptedException e) {
+      throw new RuntimeException("Thread interrupted while sleeping after successful batch migration.");
+    }
+    return result;
+  }
+
+  /**
+   * Returns the page of latest aspect rows to restore following the given key, see
+   * {@link AspectDao#getPagedAspectsAfter(RestoreIndicesArgs, EbeanAspectV2.PrimaryKey)}.
+   */
+  @Nonnull
+  public List<EbeanAspectV2> getPagedAspectsAfter(@Nonnull RestoreIndicesArgs args,
+      @Nullable EbeanAspectV2.PrimaryKey after) {
+    return _aspectDao.getPagedAspectsAfter(args, after);
+  }
+
+  /**
+   * Inserts aspect rows as they are, without producing any MCL, see {@link AspectDao#insertAspects(List)}.
+   */
+  public void insertAspects(@Nonnull List<EbeanAspectV2> aspects) {
+    _aspectDao.insertAspects(aspects);
+  }
+
+  /**
+   * Writes an aspect row as it is, replacing the row with the same key if there is one, without producing any MCL.
+   */
+  public void upsertAspect(@Nonnull EbeanAspectV2 aspect) {
+    final EntityAspect entityAspect = aspect.toEntityAspect();
+    _aspectDao.runInTransactionWithRetry(() -> {
+      _aspectDao.saveAspect(entityAspect, _aspectDao.getAspect(entityAspect.toAspectIdentifier()) == null);
+      return null;
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    if (_aspectCache != null && entityAspect.getVersion() == ASPECT_LATEST_VERSION) {
+      _aspectCache.invalidate(entityAspect.getUrn(), entityAspect.getAspect());
+    }
+  }
+
+  /**
+   * Produces MCLs restating a batch of latest aspect rows, skipping the rows that can't be restated. Messages are
+   * produced asynchronously, the futures reporting when they have been sent are passed to the given consumer.
+   *
+   * @param rows latest aspect rows to restate
+   * @param logger consumer of progress and error messages
+   * @param produced consumer of the futures of the produced messages
+   */
+  @Nonnull
+  public RestoreIndicesResult restoreIndices(@Nonnull List<EbeanAspectV2> rows, @Nonnull Consumer<String> logger,
+      @Nonnull Consumer<Future<?>> produced) {
+    return restateAspects(rows, logger, (aspectSpec, metadataChangeLog) -> {
+      final Future<?> future = produceMetadataChangeLog(metadataChangeLog.getEntityUrn(), aspectSpec,
+          metadataChangeLog);
+      if (future != null) {
+        produced.accept(future);
+      }
+    });
+  }
+
+  /**
+   * Builds the MCLs restating a batch of latest aspect rows, skipping the rows that can't be restated, and passes
+   * them to the given consumer along with the spec of their aspect.
+   *
+   * @param rows latest aspect rows to restate
+   * @param logger consumer of progress and error messages
+   * @param consumer consumer of the MCLs, whose time is reported as the time to send messages
+   */
+  @Nonnull
+  public RestoreIndicesResult restateAspects(@Nonnull List<EbeanAspectV2> rows, @Nonnull Consumer<String> logger,
+      @Nonnull BiConsumer<AspectSpec, MetadataChangeLog> consumer) {
+    RestoreIndicesResult result = new RestoreIndicesResult();
+    int ignored = 0;
+    int rowsMigrated = 0;
+    long startTime = System.currentTimeMillis();
+    for (EbeanAspectV2 aspect : rows) {
       // 1. Extract an Entity type from the entity Urn
       result.timeGetRowMs = System.currentTimeMillis() - startTime;
       startTime = System.currentTimeMillis();
@@ -1155,7 +1455,8 @@ public class EntityService {
       // 4. Create record from json aspect
       final RecordTemplate aspectRecord;
       try {
-        aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
+        aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, AspectCodec.decode(aspect.getMetadata()),
+            _entityRegistry);
       } catch (Exception e) {
         logger.accept(String.format("Failed to deserialize row %s for entity %s, aspect %s: %s. Ignoring row.",
             aspect.getMetadata(), entityName, aspectName, e));
@@ -1173,19 +1474,13 @@ public class EntityService {
       latestSystemMetadata.setProperties(properties);
 
       // 5. Produce MAE events for the aspect record
-      produceMetadataChangeLog(urn, entityName, aspectName, aspectSpec, null, aspectRecord, null,
-          latestSystemMetadata,
+      consumer.accept(aspectSpec, constructMCL(null, entityName, urn, ChangeType.RESTATE, aspectName,
           new AuditStamp().setActor(UrnUtils.getUrn(SYSTEM_ACTOR)).setTime(System.currentTimeMillis()),
-          ChangeType.RESTATE);
+          aspectRecord, latestSystemMetadata, null, null));
       result.sendMessageMs += System.currentTimeMillis() - startTime;
 
       rowsMigrated++;
     }
-    try {
-      TimeUnit.MILLISECONDS.sleep(args.batchDelayMs);
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Thread interrupted while sleeping after successful batch migration.");
-    }
     result.ignored = ignored;
     result.rowsMigrated = rowsMigrated;
     return result;
@@ -1323,18 +1618,18 @@ public class EntityService {
    * @param aspectSpec AspectSpec of the aspect being updated
    * @param metadataChangeLog metadata change log to push into MCL kafka topic
    */
-  public void produceMetadataChangeLog(@Nonnull final Urn urn, AspectSpec aspectSpec,
+  public Future<?> produceMetadataChangeLog(@Nonnull final Urn urn, AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
-    _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+    return _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
   }
 
-  public void produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull String entityName, @Nonnull String aspectName,
+  public Future<?> produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull String entityName, @Nonnull String aspectName,
       @Nonnull final AspectSpec aspectSpec, @Nullable final RecordTemplate oldAspectValue,
       @Nullable final RecordTemplate newAspectValue, @Nullable final SystemMetadata oldSystemMetadata,
       @Nullable final SystemMetadata newSystemMetadata, @Nonnull AuditStamp auditStamp, @Nonnull final ChangeType changeType) {
     final MetadataChangeLog metadataChangeLog = constructMCL(null, entityName, urn, changeType, aspectName, auditStamp,
         newAspectValue, newSystemMetadata, oldAspectValue, oldSystemMetadata);
-    produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+    return produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
   }
 
   public RecordTemplate getLatestAspect(@Nonnull final Urn urn, @Nonnull final String aspectName) {
@@ -1562,6 +1857,14 @@ public class EntityService {
     _retentionService = retentionService;
   }
 
+  public void setRetentionQueue(@Nullable RetentionQueue retentionQueue) {
+    _retentionQueue = retentionQueue;
+  }
+
+  public void setAspectCache(@Nullable EntityAspectCache aspectCache) {
+    _aspectCache = aspectCache;
+  }
+
   protected Set<String> getEntityAspectNames(final Urn entityUrn) {
     return getEntityAspectNames(urnToEntityName(entityUrn));
   }
@@ -1573,6 +1876,10 @@ public class EntityService {
   public void setWritable(boolean canWrite) {
     log.debug("Setting writable to {}", canWrite);
     _aspectDao.setWritable(canWrite);
+    if (_aspectCache != null) {
+      // Rows may be rewritten underneath us while storage is being migrated
+      _aspectCache.invalidateAll();
+    }
   }
 
   public RollbackRunResult rollbackRun(List<AspectRowSummary> aspectRows, String runId, boolean hardDelete) {
@@ -1660,7 +1967,7 @@ public class EntityService {
         .map(aspectName -> new EntityAspectIdentifier(urn.toString(), aspectName, ASPECT_LATEST_VERSION))
         .collect(Collectors.toList());
 
-    Map<EntityAspectIdentifier, EntityAspect> aspects = _aspectDao.batchGet(new HashSet(dbKeys));
+    Map<EntityAspectIdentifier, EntityAspect> aspects = batchGetWithCache(new HashSet<>(dbKeys));
     return aspects.values().stream().anyMatch(aspect -> aspect != null);
   }
 
@@ -1803,6 +2110,14 @@ public class EntityService {
       }
     }, DEFAULT_MAX_TRANSACTION_RETRY);
 
+    if (_aspectCache != null) {
+      if (hardDelete && result != null && Boolean.TRUE.equals(result.getKeyAffected())) {
+        _aspectCache.invalidateUrn(urn);
+      } else {
+        _aspectCache.invalidate(urn, aspectName);
+      }
+    }
+
     return result;
   }
 
@@ -1836,6 +2151,12 @@ public class EntityService {
 
   @Nonnull
   private Map<EntityAspectIdentifier, EntityAspect> getLatestAspect(@Nonnull final Set<Urn> urns, @Nonnull final Set<String> aspectNames) {
+    return getLatestAspect(urns, aspectNames, true);
+  }
+
+  @Nonnull
+  private Map<EntityAspectIdentifier, EntityAspect> getLatestAspect(@Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames, final boolean useCache) {
 
     log.debug("Invoked getLatestAspects with urns: {}, aspectNames: {}", urns, aspectNames);
 
@@ -1849,10 +2170,78 @@ public class EntityService {
 
     Map<EntityAspectIdentifier, EntityAspect> batchGetResults = new HashMap<>();
     Iterators.partition(dbKeys.iterator(), MAX_KEYS_PER_QUERY)
-        .forEachRemaining(batch -> batchGetResults.putAll(_aspectDao.batchGet(ImmutableSet.copyOf(batch))));
+        .forEachRemaining(batch -> batchGetResults.putAll(useCache ? batchGetWithCache(ImmutableSet.copyOf(batch))
+            : _aspectDao.batchGet(ImmutableSet.copyOf(batch))));
     return batchGetResults;
   }
 
+  /**
+   * Fetches the given rows, serving latest-version rows from the aspect cache when one is configured. Rows missing from
+   * the cache are read in one {@link AspectDao#batchGet(Set)} and cached for subsequent reads, unless a concurrent
+   * write cached a newer row or the row was invalidated meanwhile.
+   *
+   * Note: this must not be used inside write transactions, which need to read the row they are about to replace from
+   * the database.
+   */
+  @Nonnull
+  private Map<EntityAspectIdentifier, EntityAspect> batchGetWithCache(@Nonnull final Set<EntityAspectIdentifier> keys) {
+    if (_aspectCache == null) {
+      return _aspectDao.batchGet(keys);
+    }
+    final Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>(_aspectCache.getAll(keys));
+    final Set<EntityAspectIdentifier> misses = keys.stream()
+        .filter(key -> !result.containsKey(key))
+        .collect(Collectors.toSet());
+    if (!misses.isEmpty()) {
+      // Read before the database, rows invalidated while being read may be stale and are not cached
+      final Map<EntityAspectIdentifier, Long> generations = misses.stream()
+          .collect(Collectors.toMap(Function.identity(), _aspectCache::getGeneration));
+      final Map<EntityAspectIdentifier, EntityAspect> fetched = _aspectDao.batchGet(misses);
+      fetched.forEach((key, aspect) -> _aspectCache.putIfAbsent(aspect, generations.getOrDefault(key, -1L)));
+      result.putAll(fetched);
+    }
+    return result;
+  }
+
+  @Nullable
+  private EntityAspect getAspectWithCache(@Nonnull final EntityAspectIdentifier key) {
+    if (_aspectCache == null || key.getVersion() != ASPECT_LATEST_VERSION) {
+      return _aspectDao.getAspect(key);
+    }
+    return batchGetWithCache(Collections.singleton(key)).get(key);
+  }
+
+  /**
+   * Runs a write block in a transaction. The block collects the new latest rows it writes, which are only cached once
+   * the transaction commits: rows of attempts which are rolled back and retried are never served to readers. If the
+   * transaction ultimately fails the cached rows of the written aspects are dropped.
+   */
+  private <T> T runWriteTransaction(@Nonnull final Function<List<EntityAspect>, T> block, @Nonnull final Urn urn,
+      @Nonnull final Collection<String> aspectNames) {
+    return runWriteTransaction(block, Collections.singletonMap(urn, aspectNames));
+  }
+
+  private <T> T runWriteTransaction(@Nonnull final Function<List<EntityAspect>, T> block,
+      @Nonnull final Map<Urn, ? extends Collection<String>> urnAspects) {
+    final List<EntityAspect> cacheWrites = new ArrayList<>();
+    try {
+      final T result = _aspectDao.runInTransactionWithRetry(() -> {
+        cacheWrites.clear();
+        return block.apply(cacheWrites);
+      }, DEFAULT_MAX_TRANSACTION_RETRY);
+      if (_aspectCache != null) {
+        _aspectCache.putAll(cacheWrites);
+      }
+      return result;
+    } catch (RuntimeException e) {
+      if (_aspectCache != null) {
+        urnAspects.forEach((urn, aspectNames) ->
+            aspectNames.forEach(aspectName -> _aspectCache.invalidate(urn.toString(), aspectName)));
+      }
+      throw e;
+    }
+  }
+
   /*
    * When a user tries to fetch a negative version, we want to index most recent to least recent snapshots.
    * To do this, we want to fetch the maximum version and subtract the negative version from that. Since -1 represents
@@ -1867,7 +2256,7 @@ public class EntityService {
 
   private Map<EntityAspectIdentifier, EnvelopedAspect> getEnvelopedAspects(final Set<EntityAspectIdentifier> dbKeys) {
     final Map<EntityAspectIdentifier, EnvelopedAspect> result = new HashMap<>();
-    final Map<EntityAspectIdentifier, EntityAspect> dbEntries = _aspectDao.batchGet(dbKeys);
+    final Map<EntityAspectIdentifier, EntityAspect> dbEntries = batchGetWithCache(dbKeys);
 
     for (EntityAspectIdentifier currKey : dbKeys) {
 
@@ -1929,6 +2318,7 @@ public class EntityService {
 
   @Nonnull
   private UpdateAspectResult ingestAspectToLocalDBNoTransaction(
+      @Nonnull final List<EntityAspect> cacheWrites,
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       @Nonnull final Function<Optional<RecordTemplate>, RecordTemplate> updateLambda,
@@ -1951,6 +2341,7 @@ public class EntityService {
       latest.setSystemMetadata(RecordUtils.toJsonString(latestSystemMetadata));
 
       _aspectDao.saveAspect(latest, false);
+      cacheWrites.add(latest);
 
       return new UpdateAspectResult(urn, oldValue, oldValue,
           EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), latestSystemMetadata,
@@ -1959,12 +2350,19 @@ public class EntityService {
 
     // 4. Save the newValue as the latest version
     log.debug("Ingesting aspect with name {}, urn {}", aspectName, urn);
+    final String newMetadata = EntityUtils.toJsonAspect(newValue);
+    final String newSystemMetadata = EntityUtils.toJsonAspect(providedSystemMetadata);
+    final String newActor = auditStamp.getActor().toString();
+    final String newImpersonator = auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null;
+    final Timestamp newTime = new Timestamp(auditStamp.getTime());
     long versionOfOld = _aspectDao.saveLatestAspect(urn.toString(), aspectName, latest == null ? null : EntityUtils.toJsonAspect(oldValue),
         latest == null ? null : latest.getCreatedBy(), latest == null ? null : latest.getCreatedFor(),
         latest == null ? null : latest.getCreatedOn(), latest == null ? null : latest.getSystemMetadata(),
-        EntityUtils.toJsonAspect(newValue), auditStamp.getActor().toString(),
-        auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
-        new Timestamp(auditStamp.getTime()), EntityUtils.toJsonAspect(providedSystemMetadata), nextVersion);
+        newMetadata, newActor, newImpersonator, newTime, newSystemMetadata, nextVersion);
+
+    // 5. Keep the cached latest row in sync with what was just written, once the transaction commits
+    cacheWrites.add(new EntityAspect(urn.toString(), aspectName, ASPECT_LATEST_VERSION, newMetadata,
+        newSystemMetadata, newTime, newActor, newImpersonator));
 
     return new UpdateAspectResult(urn, oldValue, newValue,
         latest == null ? null : EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), providedSystemMetadata,
@@ -1977,7 +2375,8 @@ public class EntityService {
     urns.add(urn);
 
     Map<String, EntityAspect> result = new HashMap<>();
-    getLatestAspect(urns, aspectNames).forEach((key, aspectEntry) -> {
+    // Called from within write transactions, always read through to the database
+    getLatestAspect(urns, aspectNames, false).forEach((key, aspectEntry) -> {
       final String aspectName = key.getAspect();
       result.put(aspectName, aspectEntry);
     });
@@ -2018,6 +2417,10 @@ public class EntityService {
           MetadataAuditOperation.UPDATE, auditStamp, version);
     }, maxTransactionRetry);
 
+    if (_aspectCache != null && version == ASPECT_LATEST_VERSION) {
+      _aspectCache.invalidate(urn.toString(), aspectName);
+    }
+
     final RecordTemplate oldValue = result.getOldValue();
     final RecordTemplate newValue = result.getNewValue();
 
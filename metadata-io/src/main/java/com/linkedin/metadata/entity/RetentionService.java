@@ -176,6 +176,45 @@ public abstract class RetentionService {
   public abstract void applyRetention(@Nonnull Urn urn, @Nonnull String aspectName, Retention retentionPolicy,
       Optional<RetentionContext> retentionContext);
 
+  /**
+   * Apply retention policies to many aspects at once. Policies are looked up once per entity and aspect name, and
+   * the aspects sharing a policy are handed to the storage together.
+   *
+   * @param requests aspects to apply retention to, along with their latest version
+   * @return number of rows deleted, or -1 if the storage does not report it
+   */
+  public long applyRetention(@Nonnull List<RetentionRequest> requests) {
+    Map<String, Map<String, List<RetentionRequest>>> requestsByEntityAndAspect = requests.stream()
+        .collect(Collectors.groupingBy(request -> request.getUrn().getEntityType(),
+            Collectors.groupingBy(RetentionRequest::getAspectName)));
+    long rowsDeleted = 0;
+    for (Map.Entry<String, Map<String, List<RetentionRequest>>> entityRequests : requestsByEntityAndAspect.entrySet()) {
+      for (Map.Entry<String, List<RetentionRequest>> aspectRequests : entityRequests.getValue().entrySet()) {
+        Retention retentionPolicy = getRetention(entityRequests.getKey(), aspectRequests.getKey());
+        if (retentionPolicy.data().isEmpty()) {
+          continue;
+        }
+        long deleted = applyRetention(aspectRequests.getValue(), retentionPolicy);
+        rowsDeleted = deleted < 0 || rowsDeleted < 0 ? -1 : rowsDeleted + deleted;
+      }
+    }
+    return rowsDeleted;
+  }
+
+  /**
+   * Apply a retention policy to many aspects. Storage-specific implementations should batch the deletes, by default
+   * the aspects are handled one at a time.
+   *
+   * @param requests aspects to apply retention to, along with their latest version
+   * @param retentionPolicy Retention policies to apply
+   * @return number of rows deleted, or -1 if the storage does not report it
+   */
+  protected long applyRetention(@Nonnull List<RetentionRequest> requests, @Nonnull Retention retentionPolicy) {
+    requests.forEach(request -> applyRetention(request.getUrn(), request.getAspectName(), retentionPolicy,
+        Optional.of(new RetentionContext(Optional.of(request.getMaxVersion())))));
+    return -1;
+  }
+
   /**
    * Batch apply retention to all records that match the input entityName and aspectName
    *
@@ -194,4 +233,11 @@ public abstract class RetentionService {
   public static class RetentionContext {
     Optional<Long> maxVersion;
   }
+
+  @Value
+  public static class RetentionRequest {
+    Urn urn;
+    String aspectName;
+    long maxVersion;
+  }
 }
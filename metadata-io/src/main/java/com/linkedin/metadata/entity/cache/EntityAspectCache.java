@@ -0,0 +1,63 @@
+package com.linkedin.metadata.entity.cache;
+
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+
+/**
+ * A read-through cache of the latest (version 0) {@link EntityAspect} rows, sitting in front of
+ * {@link com.linkedin.metadata.entity.AspectDao#batchGet(Set)}.
+ *
+ * Implementations only ever hold rows with version {@link com.linkedin.metadata.Constants#ASPECT_LATEST_VERSION}.
+ * Callers are expected to populate the cache on misses, update it on the write path and invalidate entries when a
+ * change is observed elsewhere (e.g. on another GMS replica via the MetadataChangeLog topic).
+ */
+public interface EntityAspectCache {
+
+  /**
+   * Returns the cached rows for the provided keys. Keys that are not cached, or are not latest-version keys, are
+   * simply absent from the result.
+   */
+  @Nonnull
+  Map<EntityAspectIdentifier, EntityAspect> getAll(@Nonnull Set<EntityAspectIdentifier> keys);
+
+  /**
+   * Caches the provided latest-version row, replacing any existing entry for the same key.
+   */
+  void put(@Nonnull EntityAspect aspect);
+
+  /**
+   * Caches the provided latest-version rows.
+   */
+  default void putAll(@Nonnull Iterable<EntityAspect> aspects) {
+    aspects.forEach(this::put);
+  }
+
+  /**
+   * Returns the invalidation generation of the given key, which changes whenever the key is invalidated. Read before
+   * loading a row from the database and handed to {@link #putIfAbsent(EntityAspect, long)}.
+   */
+  long getGeneration(@Nonnull EntityAspectIdentifier key);
+
+  /**
+   * Caches the provided latest-version row unless an entry already exists for its key or the key was invalidated since
+   * the given generation was read. Used to populate the cache from reads, which must neither replace a newer row cached
+   * by a concurrent write nor cache a row deleted or written elsewhere while it was being read.
+   */
+  void putIfAbsent(@Nonnull EntityAspect aspect, long generation);
+
+  /**
+   * Removes the latest-version row of the given aspect.
+   */
+  void invalidate(@Nonnull String urn, @Nonnull String aspectName);
+
+  /**
+   * Removes all cached rows of the given urn.
+   */
+  void invalidateUrn(@Nonnull String urn);
+
+  void invalidateAll();
+}
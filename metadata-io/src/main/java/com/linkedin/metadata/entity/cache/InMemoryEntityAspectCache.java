@@ -0,0 +1,185 @@
+package com.linkedin.metadata.entity.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+
+/**
+ * Local, heap based {@link EntityAspectCache} bounded both by number of entries and by an estimate of the bytes held.
+ *
+ * Guava only supports a single eviction bound, so the entry bound is enforced through the weigher: every entry weighs
+ * at least maxBytes / maxEntries, which caps the number of resident entries at maxEntries.
+ *
+ * Entries are copied on the way in and out since {@link EntityAspect} is mutable and callers modify rows in place.
+ *
+ * Invalidations are tracked per urn through a fixed set of striped counters, so a row read while its urn is
+ * invalidated is not cached afterwards. Urns sharing a stripe only cost each other a cache fill.
+ */
+@Slf4j
+public class InMemoryEntityAspectCache implements EntityAspectCache {
+
+  // Rough per-entry overhead for the key, the value object and the cache's own bookkeeping
+  private static final int ENTRY_OVERHEAD_BYTES = 128;
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<EntityAspectIdentifier, EntityAspect> _cache;
+  private final int _minEntryWeight;
+  private final AtomicLong _weightedSize = new AtomicLong(0);
+  private final AtomicLongArray _urnGenerations = new AtomicLongArray(GENERATION_STRIPES);
+  private final AtomicLong _globalGeneration = new AtomicLong(0);
+
+  public InMemoryEntityAspectCache(final long maxEntries, final long maxBytes, final long ttlSeconds) {
+    if (maxEntries <= 0 || maxBytes <= 0) {
+      throw new IllegalArgumentException("Entity aspect cache bounds must be positive");
+    }
+    _minEntryWeight = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, maxBytes / maxEntries));
+    CacheBuilder<EntityAspectIdentifier, EntityAspect> builder = CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher(this::estimateWeight)
+        .removalListener(this::onRemoval);
+    if (ttlSeconds > 0) {
+      builder = builder.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS);
+    }
+    _cache = builder.build();
+
+    MetricUtils.gauge(this.getClass(), "entries", () -> _cache::size);
+    MetricUtils.gauge(this.getClass(), "bytes", () -> _weightedSize::get);
+  }
+
+  @Nonnull
+  @Override
+  public Map<EntityAspectIdentifier, EntityAspect> getAll(@Nonnull final Set<EntityAspectIdentifier> keys) {
+    final Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>();
+    int misses = 0;
+    for (EntityAspectIdentifier key : keys) {
+      if (key.getVersion() != ASPECT_LATEST_VERSION) {
+        continue;
+      }
+      final EntityAspect cached = _cache.getIfPresent(key);
+      if (cached != null) {
+        result.put(key, copy(cached));
+      } else {
+        misses++;
+      }
+    }
+    MetricUtils.counter(this.getClass(), "hit").inc(result.size());
+    MetricUtils.counter(this.getClass(), "miss").inc(misses);
+    return result;
+  }
+
+  @Override
+  public void put(@Nonnull final EntityAspect aspect) {
+    if (aspect.getVersion() != ASPECT_LATEST_VERSION) {
+      return;
+    }
+    final EntityAspectIdentifier key = aspect.toAspectIdentifier();
+    final EntityAspect value = copy(aspect);
+    _weightedSize.addAndGet(estimateWeight(key, value));
+    _cache.put(key, value);
+  }
+
+  @Override
+  public long getGeneration(@Nonnull final EntityAspectIdentifier key) {
+    // Both counters only grow, so their sum changes whenever either of them does
+    return _globalGeneration.get() + _urnGenerations.get(stripe(key.getUrn()));
+  }
+
+  @Override
+  public void putIfAbsent(@Nonnull final EntityAspect aspect, final long generation) {
+    if (aspect.getVersion() != ASPECT_LATEST_VERSION) {
+      return;
+    }
+    final EntityAspectIdentifier key = aspect.toAspectIdentifier();
+    if (getGeneration(key) != generation) {
+      return;
+    }
+    final EntityAspect value = copy(aspect);
+    final long weight = estimateWeight(key, value);
+    // Added before inserting, as the entry may be evicted right away
+    _weightedSize.addAndGet(weight);
+    if (_cache.asMap().putIfAbsent(key, value) != null) {
+      _weightedSize.addAndGet(-weight);
+    } else if (getGeneration(key) != generation) {
+      // Invalidated between the check and the insert, the invalidation may have missed the entry
+      _cache.asMap().remove(key, value);
+    }
+  }
+
+  @Override
+  public void invalidate(@Nonnull final String urn, @Nonnull final String aspectName) {
+    _urnGenerations.incrementAndGet(stripe(urn));
+    _cache.invalidate(new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION));
+    MetricUtils.counter(this.getClass(), "invalidation").inc();
+  }
+
+  @Override
+  public void invalidateUrn(@Nonnull final String urn) {
+    _urnGenerations.incrementAndGet(stripe(urn));
+    _cache.asMap().keySet().removeIf(key -> urn.equals(key.getUrn()));
+    MetricUtils.counter(this.getClass(), "invalidation").inc();
+  }
+
+  @Override
+  public void invalidateAll() {
+    _globalGeneration.incrementAndGet();
+    _cache.invalidateAll();
+  }
+
+  public long size() {
+    return _cache.size();
+  }
+
+  public long weightedSize() {
+    return _weightedSize.get();
+  }
+
+  private int estimateWeight(@Nonnull final EntityAspectIdentifier key, @Nonnull final EntityAspect value) {
+    // Strings are held as UTF-16 in the worst case
+    long bytes = ENTRY_OVERHEAD_BYTES
+        + 2L * (length(key.getUrn()) + length(key.getAspect()) + length(value.getMetadata())
+        + length(value.getSystemMetadata()) + length(value.getCreatedBy()) + length(value.getCreatedFor()));
+    return (int) Math.min(Integer.MAX_VALUE, Math.max(bytes, _minEntryWeight));
+  }
+
+  private void onRemoval(@Nonnull final RemovalNotification<EntityAspectIdentifier, EntityAspect> notification) {
+    if (notification.getKey() != null && notification.getValue() != null) {
+      // The weigher is deterministic, so the removed entry weighs what it weighed when it was added
+      _weightedSize.addAndGet(-estimateWeight(notification.getKey(), notification.getValue()));
+    }
+    if (notification.getCause() == RemovalCause.SIZE) {
+      MetricUtils.counter(this.getClass(), "eviction").inc();
+    } else if (notification.getCause() == RemovalCause.EXPIRED) {
+      MetricUtils.counter(this.getClass(), "expiration").inc();
+    }
+  }
+
+  private static int stripe(@Nonnull final String urn) {
+    return Math.floorMod(urn.hashCode(), GENERATION_STRIPES);
+  }
+
+  private static int length(@Nullable final String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  @Nonnull
+  private static EntityAspect copy(@Nonnull final EntityAspect aspect) {
+    return new EntityAspect(aspect.getUrn(), aspect.getAspect(), aspect.getVersion(), aspect.getMetadata(),
+        aspect.getSystemMetadata(), aspect.getCreatedOn(), aspect.getCreatedBy(), aspect.getCreatedFor());
+  }
+}
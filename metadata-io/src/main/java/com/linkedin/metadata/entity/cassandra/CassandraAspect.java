@@ -1,6 +1,7 @@
 package com.linkedin.metadata.entity.cassandra;
 
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.EntityAspect;
 import lombok.AllArgsConstructor;
@@ -59,7 +60,7 @@ public class CassandraAspect {
         row.getString(CassandraAspect.URN_COLUMN),
         row.getString(CassandraAspect.ASPECT_COLUMN),
         row.getLong(CassandraAspect.VERSION_COLUMN),
-        row.getString(CassandraAspect.METADATA_COLUMN),
+        AspectCodec.decode(row.getString(CassandraAspect.METADATA_COLUMN)),
         row.getString(CassandraAspect.SYSTEM_METADATA_COLUMN),
         row.getInstant(CassandraAspect.CREATED_ON_COLUMN) == null ? null : Timestamp.from(row.getInstant(CassandraAspect.CREATED_ON_COLUMN)),
         row.getString(CassandraAspect.CREATED_BY_COLUMN),
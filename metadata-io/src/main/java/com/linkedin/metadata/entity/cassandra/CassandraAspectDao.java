@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
 import com.linkedin.metadata.entity.EntityAspect;
@@ -31,6 +32,7 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
+import com.linkedin.util.Pair;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.HashMap;
@@ -55,11 +57,19 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   private final CqlSession _cqlSession;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
+  private AspectCodec _aspectCodec = AspectCodec.PLAIN;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
     _cqlSession = cqlSession;
   }
 
+  /**
+   * Sets the format aspects are written in, aspects are read whatever their format.
+   */
+  public void setAspectCodec(@Nonnull final AspectCodec aspectCodec) {
+    _aspectCodec = aspectCodec;
+  }
+
   public void setConnectionValidated(boolean validated) {
     _connectionValidated = validated;
     _canWrite = validated;
@@ -430,6 +440,19 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return null;
   }
 
+  @Override
+  public void insertAspects(@Nonnull final List<EbeanAspectV2> aspects) {
+    aspects.forEach(aspect -> saveAspect(aspect.toEntityAspect(), true));
+  }
+
+  @Nonnull
+  @Override
+  public List<EbeanAspectV2> getPagedAspectsAfter(final RestoreIndicesArgs args,
+      @Nullable final EbeanAspectV2.PrimaryKey after) {
+    // An empty page would end a restore as if every aspect had been restored
+    throw new UnsupportedOperationException("Paging aspects after a key is not supported by the Cassandra aspect store,"
+        + " restore indices without the streaming and direct arguments instead");
+  }
 
   @Override
   @Nonnull
@@ -458,6 +481,13 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return versions.get(aspectName);
   }
 
+  @Override
+  @Nonnull
+  public Pair<EntityAspect, Long> getLatestAspectWithNextVersion(@Nonnull final String urn,
+      @Nonnull final String aspectName) {
+    return Pair.of(getLatestAspect(urn, aspectName), getNextVersion(urn, aspectName));
+  }
+
   @Override
   public Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
     validateConnection();
@@ -473,6 +503,15 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return nextVersions;
   }
 
+  @Override
+  @Nonnull
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+    // Max versions are read per partition, there is no cheaper multi-urn query in Cassandra
+    Map<String, Map<String, Long>> result = new HashMap<>();
+    urnAspects.forEach((urn, aspectNames) -> result.put(urn, getNextVersions(urn, aspectNames)));
+    return result;
+  }
+
   @Override
   public long saveLatestAspect(
       @Nonnull final String urn,
@@ -541,7 +580,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
               .value(CassandraAspect.ASPECT_COLUMN, literal(aspect.getAspect()))
               .value(CassandraAspect.VERSION_COLUMN, literal(aspect.getVersion()))
               .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .value(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
+              .value(CassandraAspect.METADATA_COLUMN, literal(_aspectCodec.encode(aspect.getMetadata())))
               .value(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
               .value(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()))
               .value(CassandraAspect.ENTITY_COLUMN, literal(entity))
@@ -551,7 +590,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     } else {
 
       UpdateWithAssignments uwa = update(CassandraAspect.TABLE_NAME)
-              .setColumn(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
+              .setColumn(CassandraAspect.METADATA_COLUMN, literal(_aspectCodec.encode(aspect.getMetadata())))
               .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
               .setColumn(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
               .setColumn(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
@@ -616,6 +655,14 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect).collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public List<EntityAspect> getAspectVersionsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis) {
+    // Rows are read whole, as they are by getAspectsInRange
+    return getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
   private Iterable<Term> aspectNamesToLiterals(Set<String> aspectNames) {
     return aspectNames.stream().map(QueryBuilder::literal).collect(Collectors.toSet());
   }
@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.cassandra;
 
 import com.datahub.util.RecordUtils;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -29,10 +30,12 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.deleteFrom;
@@ -71,6 +74,32 @@ public class CassandraRetentionService extends RetentionService {
     }
   }
 
+  /**
+   * Issues the deletes of many aspects concurrently rather than one after the other. Each aspect lives in its own
+   * partition, so the deletes are not grouped in a batch statement.
+   */
+  @Override
+  @WithSpan
+  protected long applyRetention(@Nonnull List<RetentionRequest> requests, @Nonnull Retention retentionPolicy) {
+    if (retentionPolicy.data().isEmpty()) {
+      return 0;
+    }
+    List<CompletableFuture<AsyncResultSet>> deletes = new ArrayList<>();
+    for (RetentionRequest request : requests) {
+      if (retentionPolicy.hasVersion()) {
+        deletes.add(_cqlSession.executeAsync(versionBasedRetentionStatement(request.getUrn(), request.getAspectName(),
+            retentionPolicy.getVersion(), request.getMaxVersion())).toCompletableFuture());
+      }
+      if (retentionPolicy.hasTime()) {
+        deletes.add(_cqlSession.executeAsync(timeBasedRetentionStatement(request.getUrn(), request.getAspectName(),
+            retentionPolicy.getTime())).toCompletableFuture());
+      }
+    }
+    CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])).join();
+    // Cassandra does not report the number of rows deleted
+    return -1;
+  }
+
   @Override
   @WithSpan
   public void batchApplyRetention(@Nullable String entityName, @Nullable String aspectName) {
@@ -127,15 +156,20 @@ public class CassandraRetentionService extends RetentionService {
       @Nonnull Optional<Long> maxVersionFromUpdate) {
 
     long largestVersion = maxVersionFromUpdate.orElseGet(() -> getMaxVersion(urn, aspectName));
+    _cqlSession.execute(versionBasedRetentionStatement(urn, aspectName, retention, largestVersion));
+  }
 
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
+  private SimpleStatement versionBasedRetentionStatement(
+      @Nonnull final Urn urn,
+      @Nonnull final String aspectName,
+      @Nonnull final VersionBasedRetention retention,
+      final long largestVersion) {
+    return deleteFrom(CassandraAspect.TABLE_NAME)
         .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn.toString()))
         .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
         .whereColumn(CassandraAspect.VERSION_COLUMN).isGreaterThan(literal(Constants.ASPECT_LATEST_VERSION))
         .whereColumn(CassandraAspect.VERSION_COLUMN).isLessThanOrEqualTo(literal(largestVersion - retention.getMaxVersions() + 1L))
         .build();
-
-    _cqlSession.execute(ss);
   }
 
   private long getMaxVersion(@Nonnull final Urn urn, @Nonnull final String aspectName) {
@@ -154,14 +188,19 @@ public class CassandraRetentionService extends RetentionService {
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       @Nonnull final TimeBasedRetention retention) {
+    _cqlSession.execute(timeBasedRetentionStatement(urn, aspectName, retention));
+  }
+
+  private SimpleStatement timeBasedRetentionStatement(
+      @Nonnull final Urn urn,
+      @Nonnull final String aspectName,
+      @Nonnull final TimeBasedRetention retention) {
     Timestamp threshold = new Timestamp(_clock.millis() - retention.getMaxAgeInSeconds() * 1000);
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
+    return deleteFrom(CassandraAspect.TABLE_NAME)
         .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn.toString()))
         .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
         .whereColumn(CassandraAspect.CREATED_ON_COLUMN).isLessThanOrEqualTo(literal(threshold))
         .build();
-
-    _cqlSession.execute(ss);
   }
 
   private List<EntityAspectIdentifier> queryCandidates(@Nullable String entityName, @Nullable String aspectName) {
@@ -1,9 +1,14 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
 import com.linkedin.metadata.entity.EntityAspect;
@@ -13,12 +18,14 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
-import com.linkedin.metadata.search.utils.QueryUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.util.Pair;
 import io.ebean.DuplicateKeyException;
 import io.ebean.EbeanServer;
 import io.ebean.ExpressionList;
 import io.ebean.Junction;
 import io.ebean.PagedList;
+import io.ebean.PersistenceContextScope;
 import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
@@ -34,6 +41,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -60,8 +71,40 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // more testing.
   private int _queryKeysCount = 375; // 0 means no pagination on keys
 
+  // Max urn / aspect pairs per grouped max version statement. Each pair adds a disjunct to the predicate, and databases
+  // tend to give up on using the primary key for long disjunctions of composite keys, so this is kept well below 375.
+  private static final int MAX_VERSION_KEYS_PER_QUERY = 100;
+
+  // Runs the pages of a batchGet concurrently, null to run them one after the other on the calling thread
+  @Nullable
+  private final ExecutorService _batchGetExecutor;
+
+  private AspectCodec _aspectCodec = AspectCodec.PLAIN;
+
+  private final Timer _batchGetPageTimer = MetricUtils.timer(EbeanAspectDao.class, "batchGetPage");
+  private final Histogram _batchGetRowsPerQuery = MetricUtils.histogram(EbeanAspectDao.class, "batchGetRowsPerQuery");
+
   public EbeanAspectDao(@Nonnull final EbeanServer server) {
+    this(server, 1);
+  }
+
+  /**
+   * @param batchGetParallelism maximum number of pages of a batchGet queried concurrently, 1 to query the pages
+   *     serially. The pool is shared by every batchGet, which bounds the number of connections they hold.
+   */
+  public EbeanAspectDao(@Nonnull final EbeanServer server, final int batchGetParallelism) {
     _server = server;
+    _batchGetExecutor = batchGetParallelism > 1
+        ? Executors.newFixedThreadPool(batchGetParallelism,
+            new ThreadFactoryBuilder().setNameFormat("ebean-batch-get-%d").setDaemon(true).build())
+        : null;
+  }
+
+  /**
+   * Sets the format aspects are written in, aspects are read whatever their format.
+   */
+  public void setAspectCodec(@Nonnull final AspectCodec aspectCodec) {
+    _aspectCodec = aspectCodec;
   }
 
   @Override
@@ -165,8 +208,26 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     saveEbeanAspect(ebeanAspect, insert);
   }
 
+  @Override
+  public void insertAspects(@Nonnull final List<EbeanAspectV2> aspects) {
+    validateConnection();
+    try (Transaction transaction = _server.beginTransaction(TxScope.requiresNew())) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(aspects.size());
+      // Encoded copies, the rows of the caller are left as they are
+      final List<EbeanAspectV2> encoded = aspects.stream()
+          .map(aspect -> new EbeanAspectV2(aspect.getKey().getUrn(), aspect.getKey().getAspect(),
+              aspect.getKey().getVersion(), _aspectCodec.encode(aspect.getMetadata()), aspect.getCreatedOn(),
+              aspect.getCreatedBy(), aspect.getCreatedFor(), aspect.getSystemMetadata()))
+          .collect(Collectors.toList());
+      _server.insertAll(encoded, transaction);
+      transaction.commit();
+    }
+  }
+
   private void saveEbeanAspect(@Nonnull final EbeanAspectV2 ebeanAspect, final boolean insert) {
     validateConnection();
+    ebeanAspect.setMetadata(_aspectCodec.encode(ebeanAspect.getMetadata()));
     if (insert) {
       _server.insert(ebeanAspect);
     } else {
@@ -260,12 +321,14 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     } else {
       records = batchGet(ebeanKeys, _queryKeysCount);
     }
-    return records.stream().collect(Collectors.toMap(record -> record.getKey().toAspectIdentifier(), EbeanAspectV2::toEntityAspect));
+    // Padded statements return their last key more than once
+    return records.stream().collect(Collectors.toMap(record -> record.getKey().toAspectIdentifier(),
+        EbeanAspectV2::toEntityAspect, (first, second) -> first));
   }
 
   /**
-   * BatchGet that allows pagination on keys to avoid large queries.
-   * TODO: can further improve by running the sub queries in parallel
+   * BatchGet that allows pagination on keys to avoid large queries. Pages are queried concurrently when a batchGet
+   * executor is set, unless a transaction is in progress since its reads must go through its own connection.
    *
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
@@ -274,20 +337,39 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   private List<EbeanAspectV2> batchGet(@Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
     validateConnection();
 
-    int position = 0;
-
-    final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
-
-    while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
-      position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
-      finalResult.addAll(oneStatementResult);
+    final List<List<EbeanAspectV2.PrimaryKey>> pages = Lists.partition(new ArrayList<>(keys), keysCount);
+    final ExecutorService executor = _batchGetExecutor;
+    if (executor == null || pages.size() == 1 || _server.currentTransaction() != null) {
+      final List<EbeanAspectV2> finalResult = new ArrayList<>();
+      pages.forEach(page -> finalResult.addAll(batchGetUnion(page, keysCount)));
+      return finalResult;
     }
 
+    final List<CompletableFuture<List<EbeanAspectV2>>> futures = pages.stream()
+        .map(page -> CompletableFuture.supplyAsync(() -> batchGetUnion(page, keysCount), executor))
+        .collect(Collectors.toList());
+    final List<EbeanAspectV2> finalResult = new ArrayList<>();
+    try {
+      futures.forEach(future -> finalResult.addAll(future.join()));
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
     return finalResult;
   }
 
+  /**
+   * Number of keys a page of a batchGet is padded to: the next power of two, capped at the page size. This keeps the
+   * number of distinct statements small so that the database and the driver can reuse their prepared statements.
+   */
+  private static int batchGetStatementSize(final int keysCount, final int maxKeysCount) {
+    final int statementSize = Integer.highestOneBit(keysCount) == keysCount ? keysCount
+        : Integer.highestOneBit(keysCount) << 1;
+    return Math.min(statementSize, maxKeysCount);
+  }
+
   /**
    * Builds a single SELECT statement for batch get, which selects one entity, and then can be UNION'd with other SELECT
    * statements.
@@ -316,8 +398,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Nonnull
   private List<EbeanAspectV2> batchGetUnion(
       @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
-      final int keysCount,
-      final int position) {
+      final int maxKeysCount) {
     validateConnection();
 
     // Build one SELECT per key and then UNION ALL the results. This can be much more performant than OR'ing the
@@ -329,18 +410,20 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     // Note: UNION ALL should be safe and more performant than UNION. We're selecting the entire entity key (as well
     // as data), so each result should be unique. No need to deduplicate.
     // Another note: ebean doesn't support UNION ALL, so we need to manually build the SQL statement ourselves.
+    // The statement is padded with its last key up to a fixed number of SELECTs so that its text gets reused.
     final StringBuilder sb = new StringBuilder();
-    final int end = Math.min(keys.size(), position + keysCount);
+    final int statementSize = batchGetStatementSize(keys.size(), maxKeysCount);
     final Map<String, Object> params = new HashMap<>();
-    for (int index = position; index < end; index++) {
+    for (int index = 0; index < statementSize; index++) {
+      final EbeanAspectV2.PrimaryKey key = keys.get(Math.min(index, keys.size() - 1));
       sb.append(batchGetSelect(
-          index - position,
-          keys.get(index).getUrn(),
-          keys.get(index).getAspect(),
-          keys.get(index).getVersion(),
+          index,
+          key.getUrn(),
+          key.getAspect(),
+          key.getVersion(),
           params));
 
-      if (index != end - 1) {
+      if (index != statementSize - 1) {
         sb.append(" UNION ALL ");
       }
     }
@@ -357,7 +440,11 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       query.setParameter(param.getKey(), param.getValue());
     }
 
-    return query.findList();
+    try (Timer.Context ignored = _batchGetPageTimer.time()) {
+      final List<EbeanAspectV2> result = query.findList();
+      _batchGetRowsPerQuery.update(result.size());
+      return result;
+    }
   }
 
   @Override
@@ -410,6 +497,39 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Nonnull
   @Override
   public PagedList<EbeanAspectV2> getPagedAspects(final RestoreIndicesArgs args) {
+    return  latestAspectsQuery(args).orderBy()
+            .asc(EbeanAspectV2.URN_COLUMN)
+            .orderBy()
+            .asc(EbeanAspectV2.ASPECT_COLUMN)
+            .setFirstRow(args.start)
+            .setMaxRows(args.batchSize)
+            .findPagedList();
+  }
+
+  @Nonnull
+  @Override
+  public List<EbeanAspectV2> getPagedAspectsAfter(final RestoreIndicesArgs args,
+      @Nullable final EbeanAspectV2.PrimaryKey after) {
+    ExpressionList<EbeanAspectV2> exp = latestAspectsQuery(args);
+    if (after != null) {
+      // (urn, aspect) > (after.urn, after.aspect), spelled out as not every database supports row value comparisons
+      exp = exp.or()
+          .gt(EbeanAspectV2.URN_COLUMN, after.getUrn())
+          .and()
+          .eq(EbeanAspectV2.URN_COLUMN, after.getUrn())
+          .gt(EbeanAspectV2.ASPECT_COLUMN, after.getAspect())
+          .endAnd()
+          .endOr();
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .setMaxRows(args.batchSize)
+        .findList();
+  }
+
+  private ExpressionList<EbeanAspectV2> latestAspectsQuery(final RestoreIndicesArgs args) {
     ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
             .select(EbeanAspectV2.ALL_COLUMNS)
             .where()
@@ -423,13 +543,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (args.urnLike != null) {
       exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
     }
-    return  exp.orderBy()
-            .asc(EbeanAspectV2.URN_COLUMN)
-            .orderBy()
-            .asc(EbeanAspectV2.ASPECT_COLUMN)
-            .setFirstRow(args.start)
-            .setMaxRows(args.batchSize)
-            .findPagedList();
+    return exp;
   }
 
   @Override
@@ -471,7 +585,8 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         .asc(EbeanAspectV2.URN_COLUMN)
         .findPagedList();
 
-    final List<String> aspects = pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
+    final List<String> aspects = pagedList.getList().stream().map(aspect -> AspectCodec.decode(aspect.getMetadata()))
+        .collect(Collectors.toList());
     final ListResultMetadata listResultMetadata = toListResultMetadata(pagedList.getList().stream().map(
         EbeanAspectDao::toExtraInfo).collect(Collectors.toList()));
     return toListResult(aspects, listResultMetadata, pagedList, start);
@@ -530,6 +645,50 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result.isEmpty() ? 0 : result.get(0).getVersion() + 1L;
   }
 
+  @Override
+  @Nonnull
+  public Pair<EntityAspect, Long> getLatestAspectWithNextVersion(@Nonnull final String urn,
+      @Nonnull final String aspectName) {
+    validateConnection();
+
+    // A single statement returns both the latest row and the key of the highest previous version, if any:
+    //   SELECT urn, aspect, version, metadata, ... FROM metadata_aspect_v2 WHERE urn = :urn AND aspect = :aspect
+    //     AND version = 0
+    //   UNION ALL
+    //   SELECT urn, aspect, MAX(version), NULL, ... FROM metadata_aspect_v2 WHERE urn = :urn AND aspect = :aspect
+    //     AND version > 0 GROUP BY urn, aspect
+    final String table = EbeanAspectV2.class.getAnnotation(Table.class).name();
+    final String sql = String.format("SELECT urn, aspect, version, metadata, systemMetadata, createdOn, createdBy, "
+        + "createdFor FROM %s WHERE urn = :urn AND aspect = :aspect AND version = %d "
+        + "UNION ALL "
+        + "SELECT urn, aspect, MAX(version), NULL, NULL, NULL, NULL, NULL FROM %s WHERE urn = :urn AND aspect = :aspect "
+        + "AND version > %d GROUP BY urn, aspect", table, ASPECT_LATEST_VERSION, table, ASPECT_LATEST_VERSION);
+    final RawSql rawSql = RawSqlBuilder.parse(sql)
+        .columnMapping(EbeanAspectV2.URN_COLUMN, "key.urn")
+        .columnMapping(EbeanAspectV2.ASPECT_COLUMN, "key.aspect")
+        .columnMapping(EbeanAspectV2.VERSION_COLUMN, "key.version")
+        .create();
+    // The partial previous version row must not be merged with beans loaded by the transaction
+    final List<EbeanAspectV2> rows = _server.find(EbeanAspectV2.class)
+        .setRawSql(rawSql)
+        .setPersistenceContextScope(PersistenceContextScope.QUERY)
+        .setParameter("urn", urn)
+        .setParameter("aspect", aspectName)
+        .findList();
+
+    EntityAspect latest = null;
+    long maxVersion = -1;
+    for (EbeanAspectV2 row : rows) {
+      if (row.getKey().getVersion() == ASPECT_LATEST_VERSION) {
+        latest = row.toEntityAspect();
+        maxVersion = Math.max(maxVersion, ASPECT_LATEST_VERSION);
+      } else {
+        maxVersion = Math.max(maxVersion, row.getKey().getVersion());
+      }
+    }
+    return Pair.of(latest, maxVersion + 1);
+  }
+
   @Override
   public Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
     validateConnection();
@@ -570,6 +729,74 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result;
   }
 
+  @Override
+  @Nonnull
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+    validateConnection();
+    final Map<String, Map<String, Long>> result = new HashMap<>();
+    final List<EbeanAspectV2.PrimaryKey> keys = new ArrayList<>();
+    urnAspects.forEach((urn, aspectNames) -> {
+      final Map<String, Long> nextVersions = new HashMap<>();
+      for (String aspectName : aspectNames) {
+        nextVersions.put(aspectName, ASPECT_LATEST_VERSION);
+        keys.add(new EbeanAspectV2.PrimaryKey(urn, aspectName, ASPECT_LATEST_VERSION));
+      }
+      result.put(urn, nextVersions);
+    });
+
+    final int keysCount =
+        _queryKeysCount == 0 ? MAX_VERSION_KEYS_PER_QUERY : Math.min(_queryKeysCount, MAX_VERSION_KEYS_PER_QUERY);
+    for (int position = 0; position < keys.size(); position += keysCount) {
+      for (EbeanAspectV2 maxVersion : maxVersionsGroupBy(keys, keysCount, position)) {
+        final EbeanAspectV2.PrimaryKey key = maxVersion.getKey();
+        result.get(key.getUrn()).put(key.getAspect(), key.getVersion() + 1L);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Fetches the max version of one page of urn / aspect pairs in a single grouped statement:
+   *   SELECT urn, aspect, MAX(version) FROM metadata_aspect_v2
+   *   WHERE (urn = 'urn0' AND aspect = 'aspect0') OR (urn = 'urn1' AND aspect = 'aspect1') ...
+   *   GROUP BY urn, aspect
+   * Pairs without any row are absent from the result. Pages are at most {@link #MAX_VERSION_KEYS_PER_QUERY} pairs so
+   * that each disjunct stays a primary key range scan.
+   */
+  @Nonnull
+  private List<EbeanAspectV2> maxVersionsGroupBy(
+      @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
+      final int keysCount,
+      final int position) {
+    final StringBuilder sb = new StringBuilder(String.format("SELECT urn, aspect, MAX(version) FROM %s WHERE ",
+        EbeanAspectV2.class.getAnnotation(Table.class).name()));
+    final int end = Math.min(keys.size(), position + keysCount);
+    final Map<String, Object> params = new HashMap<>();
+    for (int index = position; index < end; index++) {
+      final String urnArg = "urn" + (index - position);
+      final String aspectArg = "aspect" + (index - position);
+      params.put(urnArg, keys.get(index).getUrn());
+      params.put(aspectArg, keys.get(index).getAspect());
+      sb.append(String.format("(urn = :%s AND aspect = :%s)", urnArg, aspectArg));
+      if (index != end - 1) {
+        sb.append(" OR ");
+      }
+    }
+    sb.append(" GROUP BY urn, aspect");
+
+    final RawSql rawSql = RawSqlBuilder.parse(sb.toString())
+        .columnMapping(EbeanAspectV2.URN_COLUMN, "key.urn")
+        .columnMapping(EbeanAspectV2.ASPECT_COLUMN, "key.aspect")
+        .columnMapping("MAX(version)", "key.version")
+        .create();
+
+    final Query<EbeanAspectV2> query = _server.find(EbeanAspectV2.class).setRawSql(rawSql);
+    for (Map.Entry<String, Object> param : params.entrySet()) {
+      query.setParameter(param.getKey(), param.getValue());
+    }
+    return query.findList();
+  }
+
   @Nonnull
   private <T> ListResult<T> toListResult(
       @Nonnull final List<T> values,
@@ -640,4 +867,27 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         .findList();
     return ebeanAspects.stream().map(EbeanAspectV2::toEntityAspect).collect(Collectors.toList());
   }
+
+  @Override
+  @Nonnull
+  public List<EntityAspect> getAspectVersionsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis) {
+    validateConnection();
+    List<EbeanAspectV2> ebeanAspects = _server.find(EbeanAspectV2.class)
+        .select(EbeanAspectV2.KEY_ID + "," + EbeanAspectV2.CREATED_ON_COLUMN)
+        .where()
+        .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
+        .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+        .inRange(EbeanAspectV2.CREATED_ON_COLUMN, new Timestamp(startTimeMillis), new Timestamp(endTimeMillis))
+        .findList();
+    // Built by hand, reading the other properties of the partially loaded beans would lazy load them
+    return ebeanAspects.stream().map(ebeanAspect -> {
+      final EntityAspect aspect = new EntityAspect();
+      aspect.setUrn(ebeanAspect.getKey().getUrn());
+      aspect.setAspect(ebeanAspect.getKey().getAspect());
+      aspect.setVersion(ebeanAspect.getKey().getVersion());
+      aspect.setCreatedOn(ebeanAspect.getCreatedOn());
+      return aspect;
+    }).collect(Collectors.toList());
+  }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import io.ebean.Model;
@@ -127,7 +128,7 @@ public class EbeanAspectV2 extends Model {
         getKey().getUrn(),
         getKey().getAspect(),
         getKey().getVersion(),
-        getMetadata(),
+        AspectCodec.decode(getMetadata()),
         getSystemMetadata(),
         getCreatedOn(),
         getCreatedBy(),
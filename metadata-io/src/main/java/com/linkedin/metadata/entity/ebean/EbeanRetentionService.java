@@ -1,7 +1,9 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
 import com.datahub.util.RecordUtils;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
@@ -37,6 +39,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class EbeanRetentionService extends RetentionService {
+  // Bounds the size of the batched DELETE statements
+  private static final int MAX_ASPECTS_PER_DELETE = 100;
+
   private final EntityService _entityService;
   private final EbeanServer _server;
   private final int _batchSize;
@@ -80,6 +85,51 @@ public class EbeanRetentionService extends RetentionService {
     }
   }
 
+  /**
+   * Deletes the versions of many aspects past their retention with one DELETE statement per chunk of aspects, the
+   * latest versions being known from the updates.
+   */
+  @Override
+  @WithSpan
+  protected long applyRetention(@Nonnull List<RetentionRequest> requests, @Nonnull Retention retentionPolicy) {
+    if (retentionPolicy.data().isEmpty()) {
+      return 0;
+    }
+    long rowsDeleted = 0;
+    for (List<RetentionRequest> chunk : Lists.partition(requests, MAX_ASPECTS_PER_DELETE)) {
+      ExpressionList<EbeanAspectV2> deleteQuery = _server.find(EbeanAspectV2.class)
+          .where()
+          .ne(EbeanAspectV2.VERSION_COLUMN, Constants.ASPECT_LATEST_VERSION)
+          .or();
+      boolean hasFilter = false;
+      for (RetentionRequest request : chunk) {
+        List<Expression> filterList = new ArrayList<>();
+        if (retentionPolicy.hasVersion()) {
+          getVersionBasedRetentionQuery(request.getUrn(), request.getAspectName(), retentionPolicy.getVersion(),
+              Optional.of(request.getMaxVersion())).ifPresent(filterList::add);
+        }
+        if (retentionPolicy.hasTime()) {
+          filterList.add(getTimeBasedRetentionQuery(retentionPolicy.getTime()));
+        }
+        if (filterList.isEmpty()) {
+          continue;
+        }
+        hasFilter = true;
+        ExpressionList<EbeanAspectV2> aspectFilter = deleteQuery.and()
+            .eq(EbeanAspectV2.URN_COLUMN, request.getUrn().toString())
+            .eq(EbeanAspectV2.ASPECT_COLUMN, request.getAspectName())
+            .or();
+        filterList.forEach(aspectFilter::add);
+        aspectFilter.endOr().endAnd();
+      }
+      // Only run delete if at least one of the retention policies are applicable
+      if (hasFilter) {
+        rowsDeleted += deleteQuery.endOr().delete();
+      }
+    }
+    return rowsDeleted;
+  }
+
   private long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     List<EbeanAspectV2> result = _server.find(EbeanAspectV2.class)
         .where()
@@ -247,7 +297,8 @@ public class EbeanRetentionService extends RetentionService {
         .findList()
         .stream()
         .collect(Collectors.toMap(EbeanAspectV2::getUrn,
-            row -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class, row.getMetadata())));
+            row -> RecordUtils.toRecordTemplate(DataHubRetentionConfig.class,
+                AspectCodec.decode(row.getMetadata()))));
   }
 
   private ExpressionList<EbeanAspectV2> queryCandidates(@Nullable String urn,
@@ -0,0 +1,164 @@
+package com.linkedin.metadata.entity.retention;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.RetentionService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Applies retention off the ingestion path. Aspects which got a new version are queued, deduplicated per urn and
+ * aspect keeping their latest version, and handed to the {@link RetentionService} in batches by a background worker,
+ * either every flushIntervalMs or as soon as a batch is full.
+ *
+ * The queue is bounded: once it holds maxQueueSize aspects, retention is applied synchronously by the writer, which
+ * slows ingestion down to the pace of the worker rather than growing the queue indefinitely. Aspects still queued when
+ * the service stops are left alone, their retention is applied on their next update or by a bulk application.
+ */
+@Slf4j
+public class RetentionQueue implements AutoCloseable {
+
+  private final RetentionService _retentionService;
+  private final int _batchSize;
+  private final int _maxQueueSize;
+  private final ScheduledExecutorService _executor;
+
+  private final Object _lock = new Object();
+  // Latest version of every queued aspect, oldest first
+  private final LinkedHashMap<AspectKey, QueuedAspect> _queue = new LinkedHashMap<>();
+  private final AtomicBoolean _drainScheduled = new AtomicBoolean();
+
+  private final Counter _rowsDeleted = MetricUtils.counter(RetentionQueue.class, "rowsDeleted");
+  private final Counter _overflows = MetricUtils.counter(RetentionQueue.class, "overflow");
+  private final Histogram _lagMs = MetricUtils.histogram(RetentionQueue.class, "lagMs");
+
+  public RetentionQueue(@Nonnull final RetentionService retentionService, final int batchSize,
+      final long flushIntervalMs, final int maxQueueSize) {
+    _retentionService = retentionService;
+    _batchSize = batchSize;
+    _maxQueueSize = maxQueueSize;
+    _executor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("retention-queue-%d").setDaemon(true).build());
+    _executor.scheduleWithFixedDelay(this::drain, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    MetricUtils.gauge(RetentionQueue.class, "queueDepth", () -> this::size);
+  }
+
+  /**
+   * Queues an aspect which got a new version for retention to be applied to it.
+   *
+   * @param urn Urn of the entity
+   * @param aspectName Name of the aspect
+   * @param maxVersion Latest version of the aspect
+   */
+  public void enqueue(@Nonnull final Urn urn, @Nonnull final String aspectName, final long maxVersion) {
+    final AspectKey key = new AspectKey(urn, aspectName);
+    final boolean batchFull;
+    synchronized (_lock) {
+      final QueuedAspect queued = _queue.get(key);
+      if (queued != null) {
+        queued._maxVersion = Math.max(queued._maxVersion, maxVersion);
+        return;
+      }
+      if (_queue.size() >= _maxQueueSize) {
+        batchFull = false;
+      } else {
+        _queue.put(key, new QueuedAspect(maxVersion, System.currentTimeMillis()));
+        batchFull = _queue.size() >= _batchSize;
+        if (!batchFull) {
+          return;
+        }
+      }
+    }
+    if (batchFull) {
+      if (_drainScheduled.compareAndSet(false, true)) {
+        _executor.execute(this::drain);
+      }
+      return;
+    }
+    // The queue is full, the writer applies retention itself
+    _overflows.inc();
+    _retentionService.applyRetention(urn, aspectName,
+        Optional.of(new RetentionService.RetentionContext(Optional.of(maxVersion))));
+  }
+
+  /**
+   * Applies retention to every queued aspect.
+   */
+  public void flush() {
+    drain();
+  }
+
+  private void drain() {
+    _drainScheduled.set(false);
+    List<RetentionService.RetentionRequest> batch;
+    while (!(batch = poll()).isEmpty()) {
+      try {
+        final long rowsDeleted = _retentionService.applyRetention(batch);
+        if (rowsDeleted > 0) {
+          _rowsDeleted.inc(rowsDeleted);
+        }
+      } catch (Exception e) {
+        MetricUtils.exceptionCounter(RetentionQueue.class, "applyRetentionFailed", e);
+        log.error("Failed to apply retention to {} aspects", batch.size(), e);
+      }
+    }
+  }
+
+  private List<RetentionService.RetentionRequest> poll() {
+    final List<RetentionService.RetentionRequest> batch = new ArrayList<>();
+    final long now = System.currentTimeMillis();
+    synchronized (_lock) {
+      final Iterator<Map.Entry<AspectKey, QueuedAspect>> iterator = _queue.entrySet().iterator();
+      while (iterator.hasNext() && batch.size() < _batchSize) {
+        final Map.Entry<AspectKey, QueuedAspect> entry = iterator.next();
+        batch.add(new RetentionService.RetentionRequest(entry.getKey().getUrn(), entry.getKey().getAspectName(),
+            entry.getValue()._maxVersion));
+        _lagMs.update(now - entry.getValue()._enqueuedAtMs);
+        iterator.remove();
+      }
+    }
+    return batch;
+  }
+
+  public int size() {
+    synchronized (_lock) {
+      return _queue.size();
+    }
+  }
+
+  @Override
+  public void close() {
+    _executor.shutdownNow();
+  }
+
+  @Value
+  private static class AspectKey {
+    Urn urn;
+    String aspectName;
+  }
+
+  private static class QueuedAspect {
+    private long _maxVersion;
+    private final long _enqueuedAtMs;
+
+    private QueuedAspect(long maxVersion, long enqueuedAtMs) {
+      _maxVersion = maxVersion;
+      _enqueuedAtMs = enqueuedAtMs;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.linkedin.metadata.graph;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Builds the {@link LineageRelationship}s of a lineage traversal, shared by the graph services answering lineage
+ * queries.
+ */
+public class LineageRelationshipUtils {
+
+  private static final String SOURCE = "source";
+  private static final String UI = "UI";
+
+  private LineageRelationshipUtils() { }
+
+  /**
+   * Adds an individual relationship edge to a running set of unique paths to each node in the graph.
+   *
+   * Specifically, this method updates 'existingPaths', which is a map of an entity urn representing a node in the
+   * lineage graph to the full paths that can be traversed to reach it from a the origin node for which lineage
+   * was requested.
+   *
+   * This method strictly assumes that edges are being added IN ORDER, level-by-level working outwards from the originally
+   * requested source node. If edges are added to the path set in an out of order manner, then the paths to a given node
+   * may be partial / incomplete.
+   *
+   * Note that calling this method twice with the same edge is not safe. It will result in duplicate paths being appended
+   * into the list of paths to the provided child urn.
+   *
+   * @param existingPaths a running set of unique, uni-directional paths to each node in the graph starting from the original root node
+   *                      for which lineage was requested.
+   * @param parentUrn the "parent" node (or source node) in the edge to add. This is a logical source node in a uni-directional path from the source
+   *                  to the destination node. Note that this is NOT always the URN corresponding to the "source" field that is physically stored
+   *                  inside the Graph Store.
+   * @param childUrn the "child" node (or dest node) in the edge to add. This is a logical dest node in a uni-directional path from the
+   *                 source to the destination node. Note that this is NOT always the URN corresponding to the "destination" field that is
+   *                 physically stored inside the Graph Store.
+   */
+  public static void addEdgeToPaths(
+      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
+      @Nonnull final Urn parentUrn,
+      @Nonnull final Urn childUrn) {
+    // Collect all full-paths to this child node. This is what will be returned.
+    UrnArrayArray pathsToParent = existingPaths.get(parentUrn);
+    if (pathsToParent != null && pathsToParent.size() > 0) {
+      // If there are existing paths to this parent node, then we attempt
+      // to append the child to each of the existing paths (lengthen it).
+      // We then store this as a separate, unique path associated with the child.
+      for (final UrnArray pathToParent : pathsToParent) {
+        UrnArray pathToChild = clonePath(pathToParent);
+        pathToChild.add(childUrn);
+        // Save these paths to the global structure for easy access on future iterations.
+        existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
+        existingPaths.get(childUrn).add(pathToChild);
+      }
+    } else {
+      // No existing paths to this parent urn. Let's create a new path to the child!
+      UrnArray pathToChild = new UrnArray();
+      pathToChild.addAll(ImmutableList.of(parentUrn, childUrn));
+      // Save these paths to the global structure for easy access on future iterations.
+      existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
+      existingPaths.get(childUrn).add(pathToChild);
+    }
+  }
+
+  public static LineageRelationship createLineageRelationship(
+      @Nonnull final String type,
+      @Nonnull final Urn entityUrn,
+      final int numHops,
+      @Nonnull final UrnArrayArray paths,
+      @Nullable final Long createdOn,
+      @Nullable final Urn createdActor,
+      @Nullable final Long updatedOn,
+      @Nullable final Urn updatedActor,
+      final boolean isManual
+  ) {
+    final LineageRelationship relationship =
+        new LineageRelationship().setType(type).setEntity(entityUrn).setDegree(numHops).setPaths(paths);
+    if (createdOn != null) {
+      relationship.setCreatedOn(createdOn);
+    }
+    if (createdActor != null) {
+      relationship.setCreatedActor(createdActor);
+    }
+    if (updatedOn != null) {
+      relationship.setUpdatedOn(updatedOn);
+    }
+    if (updatedActor != null) {
+      relationship.setUpdatedActor(updatedActor);
+    }
+    relationship.setIsManual(isManual);
+    return relationship;
+  }
+
+  /**
+   * Whether the edge was manually created from the UI, in which case time filters do not apply to it.
+   */
+  public static boolean isManual(@Nonnull final Edge edge) {
+    return edge.getProperties() != null && UI.equals(edge.getProperties().get(SOURCE));
+  }
+
+  private static UrnArray clonePath(final UrnArray basePath) {
+    try {
+      return basePath.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(String.format("Failed to clone path %s", basePath), e);
+    }
+  }
+}
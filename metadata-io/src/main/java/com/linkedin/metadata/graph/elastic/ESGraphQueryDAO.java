@@ -5,11 +5,11 @@ import com.datahub.util.exception.ESQueryException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphFilters;
 import com.linkedin.metadata.graph.LineageDirection;
 import com.linkedin.metadata.graph.LineageRelationship;
@@ -27,6 +27,7 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,6 +38,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -45,10 +47,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -337,57 +342,6 @@ public class ESGraphQueryDAO {
     return query;
   }
 
-  /**
-   * Adds an individual relationship edge to a running set of unique paths to each node in the graph.
-   *
-   * Specifically, this method updates 'existingPaths', which is a map of an entity urn representing a node in the
-   * lineage graph to the full paths that can be traversed to reach it from a the origin node for which lineage
-   * was requested.
-   *
-   * This method strictly assumes that edges are being added IN ORDER, level-by-level working outwards from the originally
-   * requested source node. If edges are added to the path set in an out of order manner, then the paths to a given node
-   * may be partial / incomplete.
-   *
-   * Note that calling this method twice with the same edge is not safe. It will result in duplicate paths being appended
-   * into the list of paths to the provided child urn.
-   *
-   * @param existingPaths a running set of unique, uni-directional paths to each node in the graph starting from the original root node
-   *                      for which lineage was requested.
-   * @param parentUrn the "parent" node (or source node) in the edge to add. This is a logical source node in a uni-directional path from the source
-   *                  to the destination node. Note that this is NOT always the URN corresponding to the "source" field that is physically stored
-   *                  inside the Graph Store.
-   * @param childUrn the "child" node (or dest node) in the edge to add. This is a logical dest node in a uni-directional path from the
-   *                 source to the destination node. Note that this is NOT always the URN corresponding to the "destination" field that is
-   *                 physically stored inside the Graph Store.
-   */
-  @VisibleForTesting
-  static void addEdgeToPaths(
-      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
-      @Nonnull final Urn parentUrn,
-      @Nonnull final Urn childUrn) {
-    // Collect all full-paths to this child node. This is what will be returned.
-    UrnArrayArray pathsToParent = existingPaths.get(parentUrn);
-    if (pathsToParent != null && pathsToParent.size() > 0) {
-      // If there are existing paths to this parent node, then we attempt
-      // to append the child to each of the existing paths (lengthen it).
-      // We then store this as a separate, unique path associated with the child.
-      for (final UrnArray pathToParent : pathsToParent) {
-        UrnArray pathToChild = clonePath(pathToParent);
-        pathToChild.add(childUrn);
-        // Save these paths to the global structure for easy access on future iterations.
-        existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-        existingPaths.get(childUrn).add(pathToChild);
-      }
-    } else {
-      // No existing paths to this parent urn. Let's create a new path to the child!
-      UrnArray pathToChild = new UrnArray();
-      pathToChild.addAll(ImmutableList.of(parentUrn, childUrn));
-      // Save these paths to the global structure for easy access on future iterations.
-      existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-      existingPaths.get(childUrn).add(pathToChild);
-    }
-  }
-
   // Given set of edges and the search response, extract all valid edges that originate from the input entityUrns
   @WithSpan
   private static List<LineageRelationship> extractRelationships(@Nonnull Set<Urn> entityUrns,
@@ -396,26 +350,15 @@ public class ESGraphQueryDAO {
     final List<LineageRelationship> result = new LinkedList<>();
     final SearchHit[] hits = searchResponse.getHits().getHits();
     for (SearchHit hit : hits) {
-      final Map<String, Object> document = hit.getSourceAsMap();
-      final Urn sourceUrn = UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
-      final Urn destinationUrn =
-          UrnUtils.getUrn(((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
-      final String type = document.get(RELATIONSHIP_TYPE).toString();
-      final Number createdOnNumber = (Number) document.getOrDefault(CREATED_ON, null);
-      final Long createdOn = createdOnNumber != null ? createdOnNumber.longValue() : null;
-      final Number updatedOnNumber = (Number) document.getOrDefault(UPDATED_ON, null);
-      final Long updatedOn = updatedOnNumber != null ? updatedOnNumber.longValue() : null;
-      final String createdActorString = (String) document.getOrDefault(CREATED_ACTOR, null);
-      final Urn createdActor = createdActorString == null ? null : UrnUtils.getUrn(createdActorString);
-      final String updatedActorString = (String) document.getOrDefault(UPDATED_ACTOR, null);
-      final Urn updatedActor = updatedActorString == null ? null : UrnUtils.getUrn(updatedActorString);
-      final Map<String, Object> properties;
-      if (document.containsKey(PROPERTIES) && document.get(PROPERTIES) instanceof Map) {
-        properties = (Map<String, Object>) document.get(PROPERTIES);
-      } else {
-        properties = Collections.emptyMap();
-      }
-      boolean isManual = properties.containsKey(SOURCE) && properties.get(SOURCE).equals("UI");
+      final Edge edge = toEdge(hit.getSourceAsMap());
+      final Urn sourceUrn = edge.getSource();
+      final Urn destinationUrn = edge.getDestination();
+      final String type = edge.getRelationshipType();
+      final Long createdOn = edge.getCreatedOn();
+      final Long updatedOn = edge.getUpdatedOn();
+      final Urn createdActor = edge.getCreatedActor();
+      final Urn updatedActor = edge.getUpdatedActor();
+      boolean isManual = LineageRelationshipUtils.isManual(edge);
 
       // Potential outgoing edge
       if (entityUrns.contains(sourceUrn)) {
@@ -427,9 +370,9 @@ public class ESGraphQueryDAO {
                 new EdgeInfo(type, RelationshipDirection.OUTGOING, destinationUrn.getEntityType().toLowerCase())))) {
           visitedEntities.add(destinationUrn);
           // Append the edge to a set of unique graph paths.
-          addEdgeToPaths(existingPaths, sourceUrn, destinationUrn);
+          LineageRelationshipUtils.addEdgeToPaths(existingPaths, sourceUrn, destinationUrn);
           final LineageRelationship relationship =
-              createLineageRelationship(
+              LineageRelationshipUtils.createLineageRelationship(
                   type,
                   destinationUrn,
                   numHops,
@@ -452,8 +395,8 @@ public class ESGraphQueryDAO {
             Pair.of(destinationUrn.getEntityType(), new EdgeInfo(type, RelationshipDirection.INCOMING, sourceUrn.getEntityType().toLowerCase())))) {
           visitedEntities.add(sourceUrn);
           // Append the edge to a set of unique graph paths.
-          addEdgeToPaths(existingPaths, destinationUrn, sourceUrn);
-          final LineageRelationship relationship = createLineageRelationship(
+          LineageRelationshipUtils.addEdgeToPaths(existingPaths, destinationUrn, sourceUrn);
+          final LineageRelationship relationship = LineageRelationshipUtils.createLineageRelationship(
               type,
               sourceUrn,
               numHops,
@@ -470,33 +413,71 @@ public class ESGraphQueryDAO {
     return result;
   }
 
-  private static LineageRelationship createLineageRelationship(
-      @Nonnull final String type,
-      @Nonnull final Urn entityUrn,
-      final int numHops,
-      @Nonnull final UrnArrayArray paths,
-      @Nullable final Long createdOn,
-      @Nullable final Urn createdActor,
-      @Nullable final Long updatedOn,
-      @Nullable final Urn updatedActor,
-      final boolean isManual
-  ) {
-    final LineageRelationship relationship =
-        new LineageRelationship().setType(type).setEntity(entityUrn).setDegree(numHops).setPaths(paths);
-    if (createdOn != null) {
-      relationship.setCreatedOn(createdOn);
-    }
-    if (createdActor != null) {
-      relationship.setCreatedActor(createdActor);
-    }
-    if (updatedOn != null) {
-      relationship.setUpdatedOn(updatedOn);
+  /**
+   * Reads an edge back from its graph index document.
+   */
+  @Nonnull
+  private static Edge toEdge(@Nonnull final Map<String, Object> document) {
+    final Urn sourceUrn = UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
+    final Urn destinationUrn =
+        UrnUtils.getUrn(((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
+    final String type = document.get(RELATIONSHIP_TYPE).toString();
+    final Number createdOnNumber = (Number) document.getOrDefault(CREATED_ON, null);
+    final Long createdOn = createdOnNumber != null ? createdOnNumber.longValue() : null;
+    final Number updatedOnNumber = (Number) document.getOrDefault(UPDATED_ON, null);
+    final Long updatedOn = updatedOnNumber != null ? updatedOnNumber.longValue() : null;
+    final String createdActorString = (String) document.getOrDefault(CREATED_ACTOR, null);
+    final Urn createdActor = createdActorString == null ? null : UrnUtils.getUrn(createdActorString);
+    final String updatedActorString = (String) document.getOrDefault(UPDATED_ACTOR, null);
+    final Urn updatedActor = updatedActorString == null ? null : UrnUtils.getUrn(updatedActorString);
+    final Map<String, Object> properties;
+    if (document.containsKey(PROPERTIES) && document.get(PROPERTIES) instanceof Map) {
+      properties = (Map<String, Object>) document.get(PROPERTIES);
+    } else {
+      properties = Collections.emptyMap();
     }
-    if (updatedActor != null) {
-      relationship.setUpdatedActor(updatedActor);
+    return new Edge(sourceUrn, destinationUrn, type, createdOn, createdActor, updatedOn, updatedActor, properties);
+  }
+
+  /**
+   * Streams every edge with one of the given relationship types out of the graph index.
+   */
+  public void scrollEdges(@Nonnull final Collection<String> relationshipTypes, final int batchSize,
+      @Nonnull final Consumer<Edge> consumer) {
+    final TimeValue keepAlive = TimeValue.timeValueMinutes(5);
+    final SearchRequest searchRequest = new SearchRequest(indexConvention.getIndexName(INDEX_NAME));
+    searchRequest.source(new SearchSourceBuilder()
+        .query(QueryBuilders.termsQuery(RELATIONSHIP_TYPE, relationshipTypes))
+        .size(batchSize));
+    searchRequest.scroll(keepAlive);
+
+    String scrollId = null;
+    try {
+      MetricUtils.counter(this.getClass(), SEARCH_EXECUTIONS_METRIC).inc();
+      SearchResponse response = client.search(searchRequest, RequestOptions.DEFAULT);
+      scrollId = response.getScrollId();
+      while (response.getHits().getHits().length > 0) {
+        for (SearchHit hit : response.getHits().getHits()) {
+          consumer.accept(toEdge(hit.getSourceAsMap()));
+        }
+        MetricUtils.counter(this.getClass(), SEARCH_EXECUTIONS_METRIC).inc();
+        response = client.scroll(new SearchScrollRequest(scrollId).scroll(keepAlive), RequestOptions.DEFAULT);
+        scrollId = response.getScrollId();
+      }
+    } catch (Exception e) {
+      log.error("Scrolling graph edges failed", e);
+      throw new ESQueryException("Scrolling graph edges failed:", e);
+    } finally {
+      if (scrollId != null) {
+        final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        try {
+          client.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+        } catch (Exception e) {
+          log.warn("Failed to clear graph edges scroll", e);
+        }
+      }
     }
-    relationship.setIsManual(isManual);
-    return relationship;
   }
 
   private static BoolQueryBuilder getOutGoingEdgeQuery(
@@ -522,14 +503,6 @@ public class ESGraphQueryDAO {
     return incomingEdgeQuery;
   }
 
-  private static UrnArray clonePath(final UrnArray basePath) {
-    try {
-      return basePath.clone();
-    } catch (CloneNotSupportedException e) {
-      throw new RuntimeException(String.format("Failed to clone path %s", basePath), e);
-    }
-  }
-
   private static QueryBuilder buildEntityTypesFilter(@Nonnull List<String> entityTypes, @Nonnull String prefix) {
     return QueryBuilders.termsQuery(prefix + ".entityType", entityTypes.stream().map(Object::toString).collect(Collectors.toList()));
   }
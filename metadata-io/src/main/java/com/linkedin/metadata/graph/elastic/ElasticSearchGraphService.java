@@ -13,6 +13,7 @@ import com.linkedin.metadata.graph.LineageDirection;
 import com.linkedin.metadata.graph.LineageRelationshipArray;
 import com.linkedin.metadata.graph.RelatedEntitiesResult;
 import com.linkedin.metadata.graph.RelatedEntity;
+import com.linkedin.metadata.graph.lineage.LineageGraphIndex;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.query.filter.Condition;
 import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
@@ -35,11 +36,13 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -60,6 +63,9 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   private final ESGraphQueryDAO _graphReadDAO;
   private final ESIndexBuilder _indexBuilder;
 
+  @Nullable
+  private volatile LineageGraphIndex _lineageIndex;
+
   private static final String DOC_DELIMETER = "--";
   public static final String INDEX_NAME = "graph_service_v1";
   private static final Map<String, Object> EMPTY_HASH = new HashMap<>();
@@ -127,6 +133,10 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     }
   }
 
+  public void setLineageIndex(@Nullable final LineageGraphIndex lineageIndex) {
+    _lineageIndex = lineageIndex;
+  }
+
   @Override
   public LineageRegistry getLineageRegistry() {
     return _lineageRegistry;
@@ -214,7 +224,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
       int offset,
       int count, int maxHops) {
     ESGraphQueryDAO.LineageResponse lineageResponse =
-        _graphReadDAO.getLineage(
+        getLineageResponse(
             entityUrn,
             direction,
             graphFilters,
@@ -238,7 +248,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
       int offset,
       int count, int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
     ESGraphQueryDAO.LineageResponse lineageResponse =
-        _graphReadDAO.getLineage(
+        getLineageResponse(
             entityUrn,
             direction,
             graphFilters,
@@ -254,6 +264,29 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
         .setTotal(lineageResponse.getTotal());
   }
 
+  /**
+   * Serves lineage from the in-memory lineage index once it is loaded, and from the graph index otherwise.
+   */
+  private ESGraphQueryDAO.LineageResponse getLineageResponse(@Nonnull Urn entityUrn,
+      @Nonnull LineageDirection direction, GraphFilters graphFilters, int offset, int count, int maxHops,
+      @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    final LineageGraphIndex lineageIndex = _lineageIndex;
+    if (lineageIndex != null && lineageIndex.isReady()) {
+      return lineageIndex.getLineage(entityUrn, direction, graphFilters, offset, count, maxHops, startTimeMillis,
+          endTimeMillis);
+    }
+    return _graphReadDAO.getLineage(entityUrn, direction, graphFilters, offset, count, maxHops, startTimeMillis,
+        endTimeMillis);
+  }
+
+  /**
+   * Streams every edge of the given relationship types, used to load the in-memory lineage index.
+   */
+  public void scrollEdges(@Nonnull Collection<String> relationshipTypes, int batchSize,
+      @Nonnull Consumer<Edge> consumer) {
+    _graphReadDAO.scrollEdges(relationshipTypes, batchSize, consumer);
+  }
+
   private Filter createUrnFilter(@Nonnull final Urn urn) {
     Filter filter = new Filter();
     CriterionArray criterionArray = new CriterionArray();
@@ -0,0 +1,588 @@
+package com.linkedin.metadata.graph.lineage;
+
+import com.codahale.metrics.Timer;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.LineageRelationshipUtils;
+import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * In-memory index of the lineage edges of the graph, answering multi-hop lineage queries without a round trip to the
+ * graph store per hop.
+ *
+ * Urns and relationship types are interned to integer ids, and edges are kept in primitive arrays indexed by edge id.
+ * Adjacency is stored in compressed sparse row form (an offsets array per node into a flat array of edge ids), for
+ * both outgoing and incoming edges. Edges added since the last compaction live in small per-node delta lists and
+ * removed edges are tombstoned, the CSR arrays being rebuilt once the deltas exceed the compaction threshold.
+ *
+ * Only edges whose relationship type represents lineage according to the {@link LineageRegistry} are indexed.
+ * {@link #getLineage} follows the same traversal as {@link ESGraphQueryDAO#getLineage} and returns the same
+ * relationships, paths and degrees, although relationships reached through several parents at the same hop may be
+ * attributed to a different parent since the graph store returns edges in no particular order.
+ */
+@Slf4j
+public class LineageGraphIndex {
+
+  private static final int NONE = -1;
+  private static final long MISSING = Long.MIN_VALUE;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final LineageRegistry _lineageRegistry;
+  private final Set<String> _lineageRelationshipTypes;
+  private final int _compactionThreshold;
+  private final GraphQueryConfiguration _graphQueryConfiguration;
+  private final ReentrantReadWriteLock _lock = new ReentrantReadWriteLock();
+  private volatile boolean _ready = false;
+  private final CompletableFuture<Void> _loaded = new CompletableFuture<>();
+
+  // Interned urns, both graph nodes and edge actors
+  private final Map<Urn, Integer> _urnIds = new HashMap<>();
+  private final List<Urn> _urns = new ArrayList<>();
+  private final Map<String, Integer> _typeIds = new HashMap<>();
+  private final List<String> _types = new ArrayList<>();
+
+  // Edge table, indexed by edge id
+  private int _edgeCount = 0;
+  private int[] _edgeSource = new int[INITIAL_CAPACITY];
+  private int[] _edgeDestination = new int[INITIAL_CAPACITY];
+  private int[] _edgeType = new int[INITIAL_CAPACITY];
+  private long[] _edgeCreatedOn = new long[INITIAL_CAPACITY];
+  private int[] _edgeCreatedActor = new int[INITIAL_CAPACITY];
+  private long[] _edgeUpdatedOn = new long[INITIAL_CAPACITY];
+  private int[] _edgeUpdatedActor = new int[INITIAL_CAPACITY];
+  private BitSet _manualEdges = new BitSet();
+  private final BitSet _removedEdges = new BitSet();
+  private int _removedCount = 0;
+
+  // CSR adjacency of the edges present at the last compaction
+  private int[] _outOffsets = new int[1];
+  private int[] _outEdges = new int[0];
+  private int[] _inOffsets = new int[1];
+  private int[] _inEdges = new int[0];
+
+  // Edges added since the last compaction
+  private final Map<Integer, IntList> _outDelta = new HashMap<>();
+  private final Map<Integer, IntList> _inDelta = new HashMap<>();
+  private int _deltaCount = 0;
+
+  public LineageGraphIndex(@Nonnull final LineageRegistry lineageRegistry, final int compactionThreshold,
+      @Nonnull final GraphQueryConfiguration graphQueryConfiguration) {
+    _lineageRegistry = lineageRegistry;
+    _lineageRelationshipTypes = lineageRegistry.getLineageRelationshipTypes();
+    _compactionThreshold = compactionThreshold;
+    _graphQueryConfiguration = graphQueryConfiguration;
+
+    MetricUtils.gauge(this.getClass(), "nodes", () -> this::nodeCount);
+    MetricUtils.gauge(this.getClass(), "edges", () -> this::edgeCount);
+  }
+
+  /**
+   * Whether the index has been fully loaded and can serve queries.
+   */
+  public boolean isReady() {
+    return _ready;
+  }
+
+  /**
+   * Marks the initial load as complete, compacting the edges loaded so far.
+   */
+  public void markReady() {
+    _lock.writeLock().lock();
+    try {
+      compact();
+      _ready = true;
+    } finally {
+      _lock.writeLock().unlock();
+    }
+    log.info("Lineage graph index ready with {} nodes and {} edges", nodeCount(), edgeCount());
+    _loaded.complete(null);
+  }
+
+  /**
+   * Completes once the initial load is complete, see {@link #markReady()}.
+   */
+  @Nonnull
+  public CompletableFuture<Void> onLoaded() {
+    return _loaded;
+  }
+
+  /**
+   * Stops serving queries from the index for good, e.g. when a change could not be applied to it and it no longer
+   * matches the graph.
+   */
+  public void disable() {
+    _ready = false;
+    log.error("Lineage graph index disabled, lineage will be served from the graph index");
+  }
+
+  public boolean isLineageRelationship(@Nonnull final String relationshipType) {
+    return _lineageRelationshipTypes.contains(relationshipType);
+  }
+
+  @Nonnull
+  public Set<String> getLineageRelationshipTypes() {
+    return Collections.unmodifiableSet(_lineageRelationshipTypes);
+  }
+
+  /**
+   * Adds an edge, or updates it if it is already present. As in the graph index, the creation time and actor of an
+   * existing edge are kept.
+   */
+  public void addEdge(@Nonnull final Edge edge) {
+    if (!isLineageRelationship(edge.getRelationshipType())) {
+      return;
+    }
+    _lock.writeLock().lock();
+    try {
+      final int source = internUrn(edge.getSource());
+      final int destination = internUrn(edge.getDestination());
+      final int type = internType(edge.getRelationshipType());
+      int edgeId = findEdge(source, destination, type);
+      if (edgeId == NONE) {
+        edgeId = appendEdge(source, destination, type);
+        _outDelta.computeIfAbsent(source, key -> new IntList()).add(edgeId);
+        _inDelta.computeIfAbsent(destination, key -> new IntList()).add(edgeId);
+        _deltaCount++;
+        setCreated(edgeId, edge);
+      } else if (_edgeCreatedOn[edgeId] == MISSING && _edgeCreatedActor[edgeId] == NONE) {
+        setCreated(edgeId, edge);
+      }
+      setUpdated(edgeId, edge);
+      maybeCompact();
+    } finally {
+      _lock.writeLock().unlock();
+    }
+  }
+
+  public void removeEdge(@Nonnull final Edge edge) {
+    if (!isLineageRelationship(edge.getRelationshipType())) {
+      return;
+    }
+    _lock.writeLock().lock();
+    try {
+      final Integer source = _urnIds.get(edge.getSource());
+      final Integer destination = _urnIds.get(edge.getDestination());
+      final Integer type = _typeIds.get(edge.getRelationshipType());
+      if (source == null || destination == null || type == null) {
+        return;
+      }
+      final int edgeId = findEdge(source, destination, type);
+      if (edgeId != NONE) {
+        markRemoved(edgeId);
+        maybeCompact();
+      }
+    } finally {
+      _lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the edges of the given relationship types going out of (or into) a node.
+   */
+  public void removeEdgesFromNode(@Nonnull final Urn urn, @Nonnull final Collection<String> relationshipTypes,
+      @Nonnull final RelationshipDirection direction) {
+    _lock.writeLock().lock();
+    try {
+      final Integer node = _urnIds.get(urn);
+      if (node == null) {
+        return;
+      }
+      final Set<Integer> types = new HashSet<>();
+      relationshipTypes.forEach(type -> {
+        final Integer typeId = _typeIds.get(type);
+        if (typeId != null) {
+          types.add(typeId);
+        }
+      });
+      final List<Integer> toRemove = new ArrayList<>();
+      forEachEdge(node, direction == RelationshipDirection.OUTGOING, edgeId -> {
+        if (types.contains(_edgeType[edgeId])) {
+          toRemove.add(edgeId);
+        }
+      });
+      toRemove.forEach(this::markRemoved);
+      maybeCompact();
+    } finally {
+      _lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes every edge going out of or into a node.
+   */
+  public void removeNode(@Nonnull final Urn urn) {
+    _lock.writeLock().lock();
+    try {
+      final Integer node = _urnIds.get(urn);
+      if (node == null) {
+        return;
+      }
+      final List<Integer> toRemove = new ArrayList<>();
+      forEachEdge(node, true, toRemove::add);
+      forEachEdge(node, false, toRemove::add);
+      toRemove.forEach(this::markRemoved);
+      maybeCompact();
+    } finally {
+      _lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Level order traversal of the lineage graph, see {@link ESGraphQueryDAO#getLineage}. Like the graph store query,
+   * each hop goes through the current level in batches of the configured batch size, and follows at most the
+   * configured max result of matching edges per batch.
+   */
+  @Nonnull
+  public ESGraphQueryDAO.LineageResponse getLineage(@Nonnull Urn entityUrn, @Nonnull LineageDirection direction,
+      @Nonnull GraphFilters graphFilters, int offset, int count, int maxHops, @Nullable Long startTimeMillis,
+      @Nullable Long endTimeMillis) {
+    final List<LineageRelationship> result = new ArrayList<>();
+    _lock.readLock().lock();
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getLineage").time()) {
+      final Integer root = _urnIds.get(entityUrn);
+      if (root != null) {
+        traverse(root, direction, new HashSet<>(graphFilters.getAllowedEntityTypes()), maxHops, startTimeMillis,
+            endTimeMillis, result);
+      }
+    } finally {
+      _lock.readLock().unlock();
+    }
+
+    final List<LineageRelationship> subList;
+    if (offset >= result.size()) {
+      subList = Collections.emptyList();
+    } else {
+      subList = result.subList(offset, Math.min(offset + count, result.size()));
+    }
+    return new ESGraphQueryDAO.LineageResponse(result.size(), subList);
+  }
+
+  private void traverse(final int root, @Nonnull final LineageDirection direction,
+      @Nonnull final Set<String> allowedEntityTypes, final int maxHops, @Nullable final Long startTimeMillis,
+      @Nullable final Long endTimeMillis, @Nonnull final List<LineageRelationship> result) {
+    final boolean filterOnTime = startTimeMillis != null && endTimeMillis != null;
+    final BitSet visited = new BitSet(_urns.size());
+    visited.set(root);
+    final Map<Urn, UrnArrayArray> existingPaths = new HashMap<>();
+    final Map<String, HopEdges> hopEdgesPerEntityType = new HashMap<>();
+    IntList currentLevel = new IntList();
+    currentLevel.add(root);
+
+    final int batchSize = _graphQueryConfiguration.getBatchSize();
+    final int maxResult = _graphQueryConfiguration.getMaxResult();
+
+    for (int hop = 1; hop <= maxHops && currentLevel.size > 0; hop++) {
+      final IntList nextLevel = new IntList();
+      final int[] matched = {0};
+      for (int i = 0; i < currentLevel.size; i++) {
+        if (i % batchSize == 0) {
+          matched[0] = 0;
+        }
+        final int node = currentLevel.values[i];
+        final Urn nodeUrn = _urns.get(node);
+        if (!allowedEntityTypes.contains(nodeUrn.getEntityType())) {
+          continue;
+        }
+        final HopEdges hopEdges = hopEdgesPerEntityType.computeIfAbsent(nodeUrn.getEntityType(),
+            entityType -> hopEdges(entityType, direction));
+        for (int pass = 0; pass < 2; pass++) {
+          final boolean outgoing = pass == 0;
+          final Map<Integer, Set<String>> validTypes = outgoing ? hopEdges.outgoing : hopEdges.incoming;
+          if (validTypes.isEmpty()) {
+            continue;
+          }
+          final int currentHop = hop;
+          forEachEdge(node, outgoing, edgeId -> {
+            final Set<String> opposingEntityTypes = validTypes.get(_edgeType[edgeId]);
+            final int other = outgoing ? _edgeDestination[edgeId] : _edgeSource[edgeId];
+            if (opposingEntityTypes == null) {
+              return;
+            }
+            final Urn otherUrn = _urns.get(other);
+            if (!opposingEntityTypes.contains(otherUrn.getEntityType().toLowerCase())
+                || !allowedEntityTypes.contains(otherUrn.getEntityType())
+                || (filterOnTime && !inTimeWindow(edgeId, startTimeMillis, endTimeMillis))) {
+              return;
+            }
+            // The graph store only returns the first max result hits of a batch, visited entities included
+            if (matched[0]++ >= maxResult || visited.get(other)) {
+              return;
+            }
+            visited.set(other);
+            LineageRelationshipUtils.addEdgeToPaths(existingPaths, nodeUrn, otherUrn);
+            result.add(LineageRelationshipUtils.createLineageRelationship(
+                _types.get(_edgeType[edgeId]),
+                otherUrn,
+                currentHop,
+                existingPaths.getOrDefault(otherUrn, new UrnArrayArray()),
+                _edgeCreatedOn[edgeId] == MISSING ? null : _edgeCreatedOn[edgeId],
+                _edgeCreatedActor[edgeId] == NONE ? null : _urns.get(_edgeCreatedActor[edgeId]),
+                _edgeUpdatedOn[edgeId] == MISSING ? null : _edgeUpdatedOn[edgeId],
+                _edgeUpdatedActor[edgeId] == NONE ? null : _urns.get(_edgeUpdatedActor[edgeId]),
+                _manualEdges.get(edgeId)));
+            nextLevel.add(other);
+          });
+        }
+      }
+      currentLevel = nextLevel;
+    }
+  }
+
+  /**
+   * Same semantics as {@link com.linkedin.metadata.graph.elastic.TimeFilterUtils#getEdgeTimeFilterQuery}.
+   */
+  private boolean inTimeWindow(final int edgeId, final long startTimeMillis, final long endTimeMillis) {
+    final long createdOn = _edgeCreatedOn[edgeId];
+    final long updatedOn = _edgeUpdatedOn[edgeId];
+    if (createdOn != MISSING && createdOn >= startTimeMillis && createdOn <= endTimeMillis) {
+      return true;
+    }
+    if (updatedOn != MISSING && updatedOn >= startTimeMillis && updatedOn <= endTimeMillis) {
+      return true;
+    }
+    final boolean createdOnMissing = createdOn == MISSING || createdOn == 0;
+    final boolean updatedOnMissing = updatedOn == MISSING || updatedOn == 0;
+    return (createdOnMissing && updatedOnMissing) || _manualEdges.get(edgeId);
+  }
+
+  @Nonnull
+  private HopEdges hopEdges(@Nonnull final String entityType, @Nonnull final LineageDirection direction) {
+    final HopEdges hopEdges = new HopEdges();
+    for (EdgeInfo edgeInfo : _lineageRegistry.getLineageRelationships(entityType, direction)) {
+      final Integer typeId = _typeIds.get(edgeInfo.getType());
+      if (typeId == null) {
+        continue;
+      }
+      final Map<Integer, Set<String>> validTypes =
+          edgeInfo.getDirection() == RelationshipDirection.OUTGOING ? hopEdges.outgoing : hopEdges.incoming;
+      validTypes.computeIfAbsent(typeId, key -> new HashSet<>()).add(edgeInfo.getOpposingEntityType().toLowerCase());
+    }
+    return hopEdges;
+  }
+
+  private void forEachEdge(final int node, final boolean outgoing, @Nonnull final IntConsumer consumer) {
+    final int[] offsets = outgoing ? _outOffsets : _inOffsets;
+    final int[] edges = outgoing ? _outEdges : _inEdges;
+    if (node + 1 < offsets.length) {
+      for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+        if (!_removedEdges.get(edges[i])) {
+          consumer.accept(edges[i]);
+        }
+      }
+    }
+    final IntList delta = (outgoing ? _outDelta : _inDelta).get(node);
+    if (delta != null) {
+      for (int i = 0; i < delta.size; i++) {
+        if (!_removedEdges.get(delta.values[i])) {
+          consumer.accept(delta.values[i]);
+        }
+      }
+    }
+  }
+
+  private int findEdge(final int source, final int destination, final int type) {
+    final int[] found = {NONE};
+    forEachEdge(source, true, edgeId -> {
+      if (found[0] == NONE && _edgeDestination[edgeId] == destination && _edgeType[edgeId] == type) {
+        found[0] = edgeId;
+      }
+    });
+    return found[0];
+  }
+
+  private int appendEdge(final int source, final int destination, final int type) {
+    if (_edgeCount == _edgeSource.length) {
+      final int capacity = _edgeSource.length * 2;
+      _edgeSource = Arrays.copyOf(_edgeSource, capacity);
+      _edgeDestination = Arrays.copyOf(_edgeDestination, capacity);
+      _edgeType = Arrays.copyOf(_edgeType, capacity);
+      _edgeCreatedOn = Arrays.copyOf(_edgeCreatedOn, capacity);
+      _edgeCreatedActor = Arrays.copyOf(_edgeCreatedActor, capacity);
+      _edgeUpdatedOn = Arrays.copyOf(_edgeUpdatedOn, capacity);
+      _edgeUpdatedActor = Arrays.copyOf(_edgeUpdatedActor, capacity);
+    }
+    final int edgeId = _edgeCount++;
+    _edgeSource[edgeId] = source;
+    _edgeDestination[edgeId] = destination;
+    _edgeType[edgeId] = type;
+    return edgeId;
+  }
+
+  private void setCreated(final int edgeId, @Nonnull final Edge edge) {
+    _edgeCreatedOn[edgeId] = edge.getCreatedOn() == null ? MISSING : edge.getCreatedOn();
+    _edgeCreatedActor[edgeId] = edge.getCreatedActor() == null ? NONE : internUrn(edge.getCreatedActor());
+  }
+
+  private void setUpdated(final int edgeId, @Nonnull final Edge edge) {
+    _edgeUpdatedOn[edgeId] = edge.getUpdatedOn() == null ? MISSING : edge.getUpdatedOn();
+    _edgeUpdatedActor[edgeId] = edge.getUpdatedActor() == null ? NONE : internUrn(edge.getUpdatedActor());
+    _manualEdges.set(edgeId, LineageRelationshipUtils.isManual(edge));
+  }
+
+  private void markRemoved(final int edgeId) {
+    if (!_removedEdges.get(edgeId)) {
+      _removedEdges.set(edgeId);
+      _removedCount++;
+    }
+  }
+
+  private int internUrn(@Nonnull final Urn urn) {
+    return _urnIds.computeIfAbsent(urn, key -> {
+      _urns.add(key);
+      return _urns.size() - 1;
+    });
+  }
+
+  private int internType(@Nonnull final String type) {
+    return _typeIds.computeIfAbsent(type, key -> {
+      _types.add(key);
+      return _types.size() - 1;
+    });
+  }
+
+  private void maybeCompact() {
+    // Compacting once at the end of the initial load is cheaper than compacting along the way
+    if (_ready && _deltaCount + _removedCount > _compactionThreshold) {
+      compact();
+    }
+  }
+
+  /**
+   * Rebuilds the edge table without the removed edges, and the CSR adjacency from it.
+   */
+  private void compact() {
+    final long start = System.currentTimeMillis();
+    final int liveCount = _edgeCount - _removedCount;
+    final int capacity = Math.max(INITIAL_CAPACITY, liveCount);
+    final int[] source = new int[capacity];
+    final int[] destination = new int[capacity];
+    final int[] type = new int[capacity];
+    final long[] createdOn = new long[capacity];
+    final int[] createdActor = new int[capacity];
+    final long[] updatedOn = new long[capacity];
+    final int[] updatedActor = new int[capacity];
+    final BitSet manual = new BitSet(liveCount);
+
+    int next = 0;
+    for (int edgeId = 0; edgeId < _edgeCount; edgeId++) {
+      if (_removedEdges.get(edgeId)) {
+        continue;
+      }
+      source[next] = _edgeSource[edgeId];
+      destination[next] = _edgeDestination[edgeId];
+      type[next] = _edgeType[edgeId];
+      createdOn[next] = _edgeCreatedOn[edgeId];
+      createdActor[next] = _edgeCreatedActor[edgeId];
+      updatedOn[next] = _edgeUpdatedOn[edgeId];
+      updatedActor[next] = _edgeUpdatedActor[edgeId];
+      manual.set(next, _manualEdges.get(edgeId));
+      next++;
+    }
+
+    _edgeSource = source;
+    _edgeDestination = destination;
+    _edgeType = type;
+    _edgeCreatedOn = createdOn;
+    _edgeCreatedActor = createdActor;
+    _edgeUpdatedOn = updatedOn;
+    _edgeUpdatedActor = updatedActor;
+    _manualEdges = manual;
+    _edgeCount = liveCount;
+    _removedEdges.clear();
+    _removedCount = 0;
+    _outDelta.clear();
+    _inDelta.clear();
+    _deltaCount = 0;
+
+    final int nodeCount = _urns.size();
+    _outOffsets = new int[nodeCount + 1];
+    _inOffsets = new int[nodeCount + 1];
+    _outEdges = new int[liveCount];
+    _inEdges = new int[liveCount];
+    buildAdjacency(_edgeSource, _outOffsets, _outEdges);
+    buildAdjacency(_edgeDestination, _inOffsets, _inEdges);
+
+    MetricUtils.counter(this.getClass(), "compaction").inc();
+    log.debug("Compacted lineage graph index to {} edges in {} ms", liveCount, System.currentTimeMillis() - start);
+  }
+
+  /**
+   * Counting sort of the edge ids by their endpoint.
+   */
+  private void buildAdjacency(@Nonnull final int[] endpoints, @Nonnull final int[] offsets, @Nonnull final int[] edges) {
+    for (int edgeId = 0; edgeId < _edgeCount; edgeId++) {
+      offsets[endpoints[edgeId] + 1]++;
+    }
+    for (int node = 1; node < offsets.length; node++) {
+      offsets[node] += offsets[node - 1];
+    }
+    final int[] position = Arrays.copyOf(offsets, offsets.length - 1);
+    for (int edgeId = 0; edgeId < _edgeCount; edgeId++) {
+      edges[position[endpoints[edgeId]]++] = edgeId;
+    }
+  }
+
+  private int nodeCount() {
+    _lock.readLock().lock();
+    try {
+      return _urns.size();
+    } finally {
+      _lock.readLock().unlock();
+    }
+  }
+
+  private int edgeCount() {
+    _lock.readLock().lock();
+    try {
+      return _edgeCount - _removedCount;
+    } finally {
+      _lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Relationship type ids that can be followed from an entity type, with the entity types they may lead to.
+   */
+  private static class HopEdges {
+    private final Map<Integer, Set<String>> outgoing = new HashMap<>();
+    private final Map<Integer, Set<String>> incoming = new HashMap<>();
+  }
+
+  private static class IntList {
+    private int[] values = new int[4];
+    private int size = 0;
+
+    private void add(final int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+}
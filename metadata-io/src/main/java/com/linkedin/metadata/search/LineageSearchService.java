@@ -23,29 +23,35 @@ import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import com.linkedin.metadata.search.cache.SearchCacheCodec;
+import com.linkedin.metadata.search.cache.SingleFlight;
 import com.linkedin.metadata.search.utils.FilterUtils;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 
 import java.net.URISyntaxException;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -55,7 +61,6 @@ import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.search.utils.SearchUtils.applyDefaultSearchFlags;
 
 
-@RequiredArgsConstructor
 @Slf4j
 public class LineageSearchService {
   private static final SearchFlags DEFAULT_SERVICE_SEARCH_FLAGS = new SearchFlags()
@@ -71,7 +76,13 @@ public class LineageSearchService {
   private final boolean cacheEnabled;
   private final SearchLineageCacheConfiguration cacheConfiguration;
 
-  private final ExecutorService cacheRefillExecutor = Executors.newFixedThreadPool(1);
+  // Refills stale cache entries in the background, dropping refills beyond its queue rather than piling them up
+  private final ThreadPoolExecutor cacheRefillExecutor;
+  // Keys with a refill queued or running, so that a stale entry is refilled once however often it is read
+  private final Set<EntityLineageResultCacheKey> pendingRefills = ConcurrentHashMap.newKeySet();
+  // Concurrent lineage searches from the same entity and time range share a single graph traversal when caching
+  private final SingleFlight<List<Object>, EntityLineageResult> inFlightLineage =
+      new SingleFlight<>("lineage", SearchCacheCodec::copy);
 
   private static final String DEGREE_FILTER = "degree";
   private static final String DEGREE_FILTER_INPUT = "degree.keyword";
@@ -90,6 +101,22 @@ public class LineageSearchService {
       DATA_FLOW_ENTITY_NAME,
       DATA_JOB_ENTITY_NAME);
 
+  public LineageSearchService(SearchService searchService, GraphService graphService, @Nullable Cache cache,
+      boolean cacheEnabled, SearchLineageCacheConfiguration cacheConfiguration) {
+    _searchService = searchService;
+    _graphService = graphService;
+    this.cache = cache;
+    this.cacheEnabled = cacheEnabled;
+    this.cacheConfiguration = cacheConfiguration;
+    this.cacheRefillExecutor = new ThreadPoolExecutor(cacheConfiguration.getRefillPoolSize(),
+        cacheConfiguration.getRefillPoolSize(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(cacheConfiguration.getRefillQueueSize()), (task, executor) -> {
+          MetricUtils.counter(this.getClass(), "cacheRefillDropped").inc();
+          pendingRefills.remove(((CacheRefill) task).cacheKey);
+        });
+    this.cacheRefillExecutor.allowCoreThreadTimeOut(true);
+  }
+
   /**
    * Gets a list of documents that match given search request that is related to the input entity
    *
@@ -138,9 +165,8 @@ public class LineageSearchService {
     EntityLineageResult lineageResult;
     FreshnessStats freshnessStats = new FreshnessStats().setCached(Boolean.FALSE);
     if (cachedLineageResult == null || finalFlags.isSkipCache()) {
-      lineageResult =
-          _graphService.getLineage(sourceUrn, direction, 0, MAX_RELATIONSHIPS, maxHops, startTimeMillis,
-              endTimeMillis);
+      lineageResult = getLineage(cacheEnabled && !finalFlags.isSkipCache(), sourceUrn, direction, maxHops,
+          startTimeMillis, endTimeMillis);
       if (cacheEnabled) {
         try {
           cache.put(cacheKey,
@@ -158,20 +184,7 @@ public class LineageSearchService {
       // set up cache refill if needed
       if (System.currentTimeMillis() - cachedLineageResult.getTimestamp() > cacheConfiguration.getTTLMillis()) {
         log.info("Cached lineage entry for: {} is older than one day. Will refill.", sourceUrn);
-        Integer finalMaxHops = maxHops;
-        this.cacheRefillExecutor.submit(() -> {
-          log.debug("Cache refill started.");
-          CachedEntityLineageResult reFetchLineageResult = cache.get(cacheKey, CachedEntityLineageResult.class);
-          if (reFetchLineageResult == null || System.currentTimeMillis() - reFetchLineageResult.getTimestamp() > cacheConfiguration.getTTLMillis()
-          ) {
-            // we have to refetch
-            EntityLineageResult result = _graphService.getLineage(sourceUrn, direction, 0, MAX_RELATIONSHIPS, finalMaxHops, startTimeMillis, endTimeMillis);
-            cache.put(cacheKey, result);
-            log.debug("Refilled Cached lineage entry for: {}.", sourceUrn);
-          } else {
-            log.debug("Cache refill not needed. {}", System.currentTimeMillis() - reFetchLineageResult.getTimestamp());
-          }
-        });
+        refill(cacheKey, sourceUrn, direction, maxHops, startTimeMillis, endTimeMillis);
       }
     }
 
@@ -215,6 +228,67 @@ public class LineageSearchService {
     }
   }
 
+  /**
+   * Traverses the lineage graph. When coalescing, joins the traversal already in flight for the same request if any.
+   * Callers only coalesce when the result may be served from the cache anyway, the key holds the exact time range
+   * rather than the truncated one of the cache key.
+   */
+  private EntityLineageResult getLineage(boolean coalesce, @Nonnull Urn sourceUrn,
+      @Nonnull LineageDirection direction, int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    final Supplier<EntityLineageResult> traversal =
+        () -> _graphService.getLineage(sourceUrn, direction, 0, MAX_RELATIONSHIPS, maxHops, startTimeMillis,
+            endTimeMillis);
+    if (!coalesce) {
+      return traversal.get();
+    }
+    return inFlightLineage.execute(Arrays.asList(sourceUrn, direction, maxHops, startTimeMillis, endTimeMillis),
+        traversal);
+  }
+
+  /**
+   * Refills a stale cache entry in the background, unless a refill of it is already pending.
+   */
+  private void refill(@Nonnull EntityLineageResultCacheKey cacheKey, @Nonnull Urn sourceUrn,
+      @Nonnull LineageDirection direction, int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
+    if (!pendingRefills.add(cacheKey)) {
+      return;
+    }
+    cacheRefillExecutor.execute(new CacheRefill(cacheKey, () -> {
+      try {
+        log.debug("Cache refill started.");
+        CachedEntityLineageResult reFetchLineageResult = cache.get(cacheKey, CachedEntityLineageResult.class);
+        if (reFetchLineageResult == null
+            || System.currentTimeMillis() - reFetchLineageResult.getTimestamp() > cacheConfiguration.getTTLMillis()) {
+          // we have to refetch
+          EntityLineageResult result = getLineage(true, sourceUrn, direction, maxHops, startTimeMillis,
+              endTimeMillis);
+          cache.put(cacheKey, new CachedEntityLineageResult(result, System.currentTimeMillis()));
+          log.debug("Refilled Cached lineage entry for: {}.", sourceUrn);
+        } else {
+          log.debug("Cache refill not needed. {}", System.currentTimeMillis() - reFetchLineageResult.getTimestamp());
+        }
+      } catch (Exception e) {
+        log.warn("Failed to refill cacheKey {}", cacheKey, e);
+      } finally {
+        pendingRefills.remove(cacheKey);
+      }
+    }));
+  }
+
+  private static class CacheRefill implements Runnable {
+    private final EntityLineageResultCacheKey cacheKey;
+    private final Runnable refill;
+
+    private CacheRefill(EntityLineageResultCacheKey cacheKey, Runnable refill) {
+      this.cacheKey = cacheKey;
+      this.refill = refill;
+    }
+
+    @Override
+    public void run() {
+      refill.run();
+    }
+  }
 
   @VisibleForTesting
   boolean canDoLightning(List<LineageRelationship> lineageRelationships, String input, Filter inputFilters,
@@ -577,7 +651,7 @@ public class LineageSearchService {
     EntityLineageResult lineageResult;
     if (cachedLineageResult == null) {
       maxHops = maxHops != null ? maxHops : 1000;
-      lineageResult = _graphService.getLineage(sourceUrn, direction, 0, MAX_RELATIONSHIPS, maxHops,
+      lineageResult = getLineage(cacheEnabled && !searchFlags.isSkipCache(), sourceUrn, direction, maxHops,
           startTimeMillis, endTimeMillis);
       if (cacheEnabled) {
         cache.put(cacheKey, new CachedEntityLineageResult(lineageResult, System.currentTimeMillis()));
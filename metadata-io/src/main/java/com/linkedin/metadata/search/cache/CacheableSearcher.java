@@ -8,6 +8,7 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -16,14 +17,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.cache.Cache;
 
-import static com.datahub.util.RecordUtils.*;
-
 
 /**
  * Wrapper class to allow searching in batches and caching the results.
+ *
+ * Concurrent searches of the same batch of the same cache run only once on a cache miss, see {@link SingleFlight}, so
+ * that a burst of identical queries, such as many users opening the same page, results in a single search. Searches
+ * are only coalesced when their results may be served from the cache anyway, and on the whole request: the cache key,
+ * the search flags and the request key, which holds the remaining arguments of the search such as its facets.
  */
 @RequiredArgsConstructor
 public class CacheableSearcher<K> {
+  private static final SingleFlight<List<Object>, SearchResult> IN_FLIGHT_BATCHES =
+      new SingleFlight<>("searchBatch", SearchCacheCodec::copy);
+
   @Nonnull
   private final Cache cache;
   private final int batchSize;
@@ -34,6 +41,14 @@ public class CacheableSearcher<K> {
   @Nullable
   private final SearchFlags searchFlags;
   private final boolean enableCache;
+  // Arguments of the search not part of the cache key, only used to tell concurrent searches apart
+  @Nullable
+  private final Object requestKey;
+
+  public CacheableSearcher(@Nonnull Cache cache, int batchSize, Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator, @Nullable SearchFlags searchFlags, boolean enableCache) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, searchFlags, enableCache, null);
+  }
 
   @Value
   public static class QueryPagination implements Serializable {
@@ -90,25 +105,26 @@ public class CacheableSearcher<K> {
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getBatch").time()) {
       QueryPagination batch = getBatchQuerySize(batchId);
       SearchResult result;
+      K cacheKey = cacheKeyGenerator.apply(batch);
       if (enableCache) {
-        K cacheKey = cacheKeyGenerator.apply(batch);
         if ((searchFlags == null || !searchFlags.isSkipCache())) {
           try (Timer.Context ignored2 = MetricUtils.timer(this.getClass(), "getBatch_cache").time()) {
             Timer.Context cacheAccess = MetricUtils.timer(this.getClass(), "getBatch_cache_access").time();
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(SearchResult.class, json) : null;
+            result = SearchCacheCodec.get(cache, cacheKey, SearchResult.class);
             cacheAccess.stop();
             if (result == null) {
               Timer.Context cacheMiss = MetricUtils.timer(this.getClass(), "getBatch_cache_miss").time();
-              result = searcher.apply(batch);
-              cache.put(cacheKey, toJsonString(result));
+              result = IN_FLIGHT_BATCHES.execute(Arrays.asList(cache.getName(), cacheKey, searchFlags, requestKey),
+                  () -> searcher.apply(batch));
+              SearchCacheCodec.put(cache, cacheKey, result);
               cacheMiss.stop();
               MetricUtils.counter(this.getClass(), "getBatch_cache_miss_count").inc();
             }
           }
         } else {
+          // A fresh result was explicitly requested, it must not be shared with a search already in flight
           result = searcher.apply(batch);
-          cache.put(cacheKey, toJsonString(result));
+          SearchCacheCodec.put(cache, cacheKey, result);
         }
       } else {
         result = searcher.apply(batch);
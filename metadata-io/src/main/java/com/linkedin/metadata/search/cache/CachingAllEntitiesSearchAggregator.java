@@ -30,7 +30,7 @@ public class CachingAllEntitiesSearchAggregator {
         querySize -> aggregator.search(entities, input, postFilters, sortCriterion, querySize.getFrom(),
             querySize.getSize(), searchFlags, facets),
         querySize -> Quintet.with(entities, input, postFilters != null ? toJsonString(postFilters) : null,
-            sortCriterion != null ? toJsonString(sortCriterion) : null, querySize), searchFlags, enableCache)
+            sortCriterion != null ? toJsonString(sortCriterion) : null, querySize), searchFlags, enableCache, facets)
         .getSearchResults(from, size);
   }
 }
@@ -0,0 +1,158 @@
+package com.linkedin.metadata.search.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.PsonDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import static com.datahub.util.RecordUtils.*;
+
+
+/**
+ * Reads and writes search results in the search caches as compact binary values.
+ *
+ * Records are encoded as PSON, a binary form of their data maps that stores every distinct field name once, and the
+ * larger ones are deflated on top of it. Values are byte arrays, which every cache implementation can store and size
+ * without knowing about records. JSON strings written by earlier versions are still read.
+ *
+ * Earlier versions fail on byte array values rather than ignoring them, so a cluster cache must not be shared with them
+ * during a rolling upgrade: cluster caches are named after {@link #FORMAT_VERSION}.
+ *
+ * Hits, misses, value sizes and the time spent encoding and decoding values are reported per cache name.
+ */
+@Slf4j
+public class SearchCacheCodec {
+
+  /**
+   * Version of the format of the cached values, to bump whenever replicas of the previous version can't read them.
+   */
+  public static final String FORMAT_VERSION = "v2";
+
+  // First byte of every encoded value
+  private static final byte PSON = 0;
+  private static final byte DEFLATED_PSON = 1;
+
+  // Values below this size do not shrink enough to be worth deflating
+  private static final int DEFLATE_THRESHOLD_BYTES = 1024;
+
+  private static final PsonDataCodec CODEC = new PsonDataCodec();
+
+  private SearchCacheCodec() {
+  }
+
+  /**
+   * Returns the record cached under a key, or null if it is absent or can't be decoded.
+   */
+  @Nullable
+  public static <T extends RecordTemplate> T get(@Nonnull final Cache cache, @Nonnull final Object key,
+      @Nonnull final Class<T> type) {
+    final Cache.ValueWrapper wrapper = cache.get(key);
+    final Object value = wrapper != null ? wrapper.get() : null;
+    if (value == null) {
+      MetricUtils.get().counter(MetricRegistry.name(SearchCacheCodec.class, cache.getName(), "miss")).inc();
+      return null;
+    }
+    MetricUtils.get().counter(MetricRegistry.name(SearchCacheCodec.class, cache.getName(), "hit")).inc();
+    try (Timer.Context ignored = MetricUtils.get()
+        .timer(MetricRegistry.name(SearchCacheCodec.class, cache.getName(), "deserialize")).time()) {
+      return decode(type, value);
+    } catch (RuntimeException e) {
+      // Treat undecodable values as misses, the caller will overwrite them
+      log.warn("Failed to decode value of cache {}, ignoring it", cache.getName(), e);
+      return null;
+    }
+  }
+
+  public static void put(@Nonnull final Cache cache, @Nonnull final Object key, @Nonnull final RecordTemplate record) {
+    final byte[] value;
+    try (Timer.Context ignored = MetricUtils.get()
+        .timer(MetricRegistry.name(SearchCacheCodec.class, cache.getName(), "serialize")).time()) {
+      value = encode(record);
+    }
+    MetricUtils.get().histogram(MetricRegistry.name(SearchCacheCodec.class, cache.getName(), "value_bytes"))
+        .update(value.length);
+    cache.put(key, value);
+  }
+
+  /**
+   * Returns a deep copy of a record, for callers sharing a record that may be modified.
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public static <T extends RecordTemplate> T copy(@Nonnull final T record) {
+    try {
+      return (T) record.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(String.format("Failed to copy record of type %s", record.getClass()), e);
+    }
+  }
+
+  @Nonnull
+  static byte[] encode(@Nonnull final RecordTemplate record) {
+    try {
+      final byte[] pson = CODEC.mapToBytes(record.data());
+      if (pson.length < DEFLATE_THRESHOLD_BYTES) {
+        return prepend(PSON, pson);
+      }
+      final ByteArrayOutputStream output = new ByteArrayOutputStream(pson.length / 4 + 1);
+      output.write(DEFLATED_PSON);
+      try (DeflaterOutputStream deflater = new DeflaterOutputStream(output, new Deflater(Deflater.BEST_SPEED))) {
+        deflater.write(pson);
+      }
+      return output.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode cached value", e);
+    }
+  }
+
+  @Nonnull
+  static <T extends RecordTemplate> T decode(@Nonnull final Class<T> type, @Nonnull final Object value) {
+    if (value instanceof String) {
+      return toRecordTemplate(type, (String) value);
+    }
+    if (!(value instanceof byte[]) || ((byte[]) value).length == 0) {
+      throw new IllegalArgumentException(String.format("Unexpected cached value of type %s", value.getClass()));
+    }
+    final byte[] bytes = (byte[]) value;
+    try {
+      final DataMap dataMap;
+      switch (bytes[0]) {
+        case PSON:
+          dataMap = CODEC.bytesToMap(Arrays.copyOfRange(bytes, 1, bytes.length));
+          break;
+        case DEFLATED_PSON:
+          try (InflaterInputStream inflater =
+              new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            dataMap = CODEC.readMap(inflater);
+          }
+          break;
+        default:
+          throw new IllegalArgumentException(String.format("Unknown cached value format %s", bytes[0]));
+      }
+      return toRecordTemplate(type, dataMap);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to decode cached value", e);
+    }
+  }
+
+  private static byte[] prepend(final byte header, final byte[] bytes) {
+    final byte[] result = new byte[bytes.length + 1];
+    result[0] = header;
+    System.arraycopy(bytes, 0, result, 1, bytes.length);
+    return result;
+  }
+}
@@ -0,0 +1,109 @@
+package com.linkedin.metadata.search.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Coalesces concurrent computations of the same key: the first caller computes the value while the callers arriving
+ * before it is done wait for it and share its result, or its exception. Nothing is kept once the computation is done,
+ * caching is left to the callers.
+ *
+ * Results such as records are mutable, so when a result is shared every caller but one gets its own copy of it. The
+ * computing caller keeps the original when nobody waited for it, which is the common case.
+ *
+ * The number of coalesced calls and of computations in flight are reported under the given name.
+ */
+public class SingleFlight<K, V> {
+
+  private final String _name;
+  private final UnaryOperator<V> _copier;
+  private final Map<K, Flight<V>> _inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * @param name name of the metrics of this instance
+   * @param copier copies a result shared with a waiting caller
+   */
+  public SingleFlight(@Nonnull final String name, @Nonnull final UnaryOperator<V> copier) {
+    _name = name;
+    _copier = copier;
+    MetricUtils.gauge(SingleFlight.class, MetricRegistry.name(name, "in_flight"), () -> _inFlight::size);
+  }
+
+  /**
+   * Computes the value of a key, or waits for the computation already in flight for it.
+   */
+  public V execute(@Nonnull final K key, @Nonnull final Supplier<V> supplier) {
+    final Flight<V> flight = new Flight<>();
+    while (true) {
+      final Flight<V> inFlight = _inFlight.putIfAbsent(key, flight);
+      if (inFlight == null) {
+        break;
+      }
+      if (inFlight.follow()) {
+        MetricUtils.counter(SingleFlight.class, MetricRegistry.name(_name, "coalesced")).inc();
+        return _copier.apply(join(inFlight._result));
+      }
+      // The flight just landed, its result may already be stale for us
+      _inFlight.remove(key, inFlight);
+    }
+
+    final V value;
+    try {
+      value = supplier.get();
+    } catch (RuntimeException | Error e) {
+      flight.land();
+      _inFlight.remove(key, flight);
+      flight._result.completeExceptionally(e);
+      throw e;
+    }
+    final boolean followed = flight.land();
+    _inFlight.remove(key, flight);
+    flight._result.complete(value);
+    // Followers copy the original, so it must not be handed out to a caller that may modify it
+    return followed ? _copier.apply(value) : value;
+  }
+
+  private static <V> V join(@Nonnull final CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * A computation in flight, which callers may follow until it lands.
+   */
+  private static class Flight<V> {
+    private final CompletableFuture<V> _result = new CompletableFuture<>();
+    private boolean _landed = false;
+    private boolean _followed = false;
+
+    synchronized boolean follow() {
+      if (_landed) {
+        return false;
+      }
+      _followed = true;
+      return true;
+    }
+
+    /**
+     * Stops accepting followers, returns whether there were any.
+     */
+    synchronized boolean land() {
+      _landed = true;
+      return _followed;
+    }
+  }
+}
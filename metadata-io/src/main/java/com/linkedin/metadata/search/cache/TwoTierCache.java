@@ -0,0 +1,91 @@
+package com.linkedin.metadata.search.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Callable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.cache.Cache;
+
+
+/**
+ * A cache reading through a local near cache in front of a shared cluster cache.
+ *
+ * Values found in the cluster cache are copied to the near cache, and writes go to both. Evictions only reach the near
+ * cache of this node, so the near cache is expected to have a short time to live bounding how stale other nodes get.
+ */
+public class TwoTierCache implements Cache {
+
+  private final Cache _nearCache;
+  private final Cache _clusterCache;
+
+  public TwoTierCache(@Nonnull final Cache nearCache, @Nonnull final Cache clusterCache) {
+    _nearCache = nearCache;
+    _clusterCache = clusterCache;
+  }
+
+  @Override
+  @Nonnull
+  public String getName() {
+    return _clusterCache.getName();
+  }
+
+  @Override
+  @Nonnull
+  public Object getNativeCache() {
+    return _clusterCache.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@Nonnull final Object key) {
+    final ValueWrapper nearValue = _nearCache.get(key);
+    if (nearValue != null) {
+      MetricUtils.get().counter(MetricRegistry.name(this.getClass(), getName(), "near_hit")).inc();
+      return nearValue;
+    }
+    final ValueWrapper clusterValue = _clusterCache.get(key);
+    if (clusterValue != null) {
+      MetricUtils.get().counter(MetricRegistry.name(this.getClass(), getName(), "cluster_hit")).inc();
+      _nearCache.put(key, clusterValue.get());
+    }
+    return clusterValue;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull final Object key, @Nullable final Class<T> type) {
+    final ValueWrapper wrapper = get(key);
+    final Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+    }
+    return (T) value;
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@Nonnull final Object key, @Nonnull final Callable<T> valueLoader) {
+    return _nearCache.get(key, () -> _clusterCache.get(key, valueLoader));
+  }
+
+  @Override
+  public void put(@Nonnull final Object key, @Nullable final Object value) {
+    _clusterCache.put(key, value);
+    _nearCache.put(key, value);
+  }
+
+  @Override
+  public void evict(@Nonnull final Object key) {
+    _clusterCache.evict(key);
+    _nearCache.evict(key);
+  }
+
+  @Override
+  public void clear() {
+    _clusterCache.clear();
+    _nearCache.clear();
+  }
+}
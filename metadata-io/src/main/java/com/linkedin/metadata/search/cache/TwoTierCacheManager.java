@@ -0,0 +1,46 @@
+package com.linkedin.metadata.search.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+
+/**
+ * Layers the caches of a node local {@link CacheManager} in front of the caches of a cluster wide one, see
+ * {@link TwoTierCache}.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+  private final CacheManager _nearCacheManager;
+  private final CacheManager _clusterCacheManager;
+  private final Map<String, Cache> _caches = new ConcurrentHashMap<>();
+
+  public TwoTierCacheManager(@Nonnull final CacheManager nearCacheManager,
+      @Nonnull final CacheManager clusterCacheManager) {
+    _nearCacheManager = nearCacheManager;
+    _clusterCacheManager = clusterCacheManager;
+  }
+
+  @Override
+  @Nullable
+  public Cache getCache(@Nonnull final String name) {
+    return _caches.computeIfAbsent(name, key -> {
+      final Cache nearCache = _nearCacheManager.getCache(key);
+      final Cache clusterCache = _clusterCacheManager.getCache(key);
+      if (clusterCache == null) {
+        return null;
+      }
+      return nearCache != null ? new TwoTierCache(nearCache, clusterCache) : clusterCache;
+    });
+  }
+
+  @Override
+  @Nonnull
+  public Collection<String> getCacheNames() {
+    return _clusterCacheManager.getCacheNames();
+  }
+}
@@ -34,6 +34,7 @@ import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
 import org.elasticsearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -309,27 +310,66 @@ public class ESIndexBuilder {
     }
 
     log.info("Reindex from {} to {} succeeded", indexState.name(), tempIndexName);
-    // Check if the original index is aliased or not
-    GetAliasesResponse aliasesResponse = searchClient.indices().getAlias(
-            new GetAliasesRequest(indexState.name()).indices(indexState.indexPattern()), RequestOptions.DEFAULT);
-
-    // If not aliased, delete the original index
-    final Collection<String> aliasedIndexDelete;
-    if (aliasesResponse.getAliases().isEmpty()) {
-      log.info("Deleting index {} to allow alias creation", indexState.name());
-      aliasedIndexDelete = List.of(indexState.name());
-    } else {
-      log.info("Deleting old indices in existing alias {}", aliasesResponse.getAliases().keySet());
-      aliasedIndexDelete = aliasesResponse.getAliases().keySet();
+    swapAlias(indexState, tempIndexName);
+  }
+
+  /**
+   * Creates an empty index, named after the given one, to be loaded with bulk writes and then put in its place with
+   * {@link #swapIndex(ReindexConfig, String)}. The new index is neither refreshed nor replicated until then.
+   *
+   * @return the name of the new index
+   */
+  public String createBulkLoadIndex(ReindexConfig indexState) throws IOException {
+    final String tempIndexName = indexState.name() + "_" + System.currentTimeMillis();
+    final Map<String, Object> bulkLoadSettings =
+        new HashMap<>((Map<String, Object>) indexState.targetSettings().get("index"));
+    bulkLoadSettings.put("refresh_interval", "-1");
+    bulkLoadSettings.put("number_of_replicas", 0);
+    final CreateIndexRequest createIndexRequest = new CreateIndexRequest(tempIndexName);
+    createIndexRequest.mapping(indexState.targetMappings());
+    createIndexRequest.settings(ImmutableMap.of("index", bulkLoadSettings));
+    searchClient.indices().create(createIndexRequest, RequestOptions.DEFAULT);
+    log.info("Created index {} for bulk loading {}", tempIndexName, indexState.name());
+    return tempIndexName;
+  }
+
+  /**
+   * Restores the settings of an index created by {@link #createBulkLoadIndex(ReindexConfig)} once it has been loaded,
+   * and makes it the target of the alias of the index it replaces.
+   */
+  public void swapIndex(ReindexConfig indexState, String tempIndexName) throws IOException {
+    final Map<String, Object> targetSettings = (Map<String, Object>) indexState.targetSettings().get("index");
+    final UpdateSettingsRequest request = new UpdateSettingsRequest(tempIndexName);
+    request.settings(ImmutableMap.of(
+        "index.refresh_interval", targetSettings.get("refresh_interval"),
+        "index.number_of_replicas", targetSettings.get("number_of_replicas")));
+    searchClient.indices().putSettings(request, RequestOptions.DEFAULT);
+    searchClient.indices().refresh(new RefreshRequest(tempIndexName), RequestOptions.DEFAULT);
+    swapAlias(indexState, tempIndexName);
+  }
+
+  private void swapAlias(ReindexConfig indexState, String tempIndexName) throws IOException {
+    AliasActions addAction = AliasActions.add().alias(indexState.name()).index(tempIndexName);
+    IndicesAliasesRequest aliasesRequest = new IndicesAliasesRequest().addAliasAction(addAction);
+    if (searchClient.indices().exists(new GetIndexRequest(indexState.name()), RequestOptions.DEFAULT)) {
+      // Check if the original index is aliased or not
+      GetAliasesResponse aliasesResponse = searchClient.indices().getAlias(
+              new GetAliasesRequest(indexState.name()).indices(indexState.indexPattern()), RequestOptions.DEFAULT);
+
+      // If not aliased, delete the original index
+      final Collection<String> aliasedIndexDelete;
+      if (aliasesResponse.getAliases().isEmpty()) {
+        log.info("Deleting index {} to allow alias creation", indexState.name());
+        aliasedIndexDelete = List.of(indexState.name());
+      } else {
+        log.info("Deleting old indices in existing alias {}", aliasesResponse.getAliases().keySet());
+        aliasedIndexDelete = aliasesResponse.getAliases().keySet();
+      }
+      aliasesRequest.addAliasAction(AliasActions.removeIndex().indices(aliasedIndexDelete.toArray(new String[0])));
     }
 
     // Add alias for the new index
-    AliasActions removeAction = AliasActions.removeIndex()
-            .indices(aliasedIndexDelete.toArray(new String[0]));
-    AliasActions addAction = AliasActions.add().alias(indexState.name()).index(tempIndexName);
-    searchClient.indices()
-        .updateAliases(new IndicesAliasesRequest().addAliasAction(removeAction).addAliasAction(addAction),
-            RequestOptions.DEFAULT);
+    searchClient.indices().updateAliases(aliasesRequest, RequestOptions.DEFAULT);
 
     log.info("Finished setting up {}", indexState.name());
   }
@@ -0,0 +1,147 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * AIMD controller for bulk requests: tracks a target number of actions per bulk and a limit on in-flight bulks.
+ *
+ * Every bulk that completes under the target latency without rejections grows the bulk target additively and the
+ * concurrency limit by one, while a slow, rejected or failed bulk halves both. Callers over the concurrency limit block
+ * in {@link #acquire()} until an in-flight bulk completes, which pushes back on producers rather than buffering.
+ */
+@Slf4j
+public class AdaptiveBulkLimiter {
+
+    private final int minBulkActions;
+    private final int maxBulkActions;
+    private final int bulkActionsStep;
+    private final int maxConcurrentRequests;
+    private final long targetLatencyMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private int bulkActions;
+    private int concurrentRequests;
+    private int inFlight = 0;
+
+    public AdaptiveBulkLimiter(int minBulkActions, int maxBulkActions, int maxConcurrentRequests, long targetLatencyMs) {
+        if (minBulkActions <= 0 || maxBulkActions < minBulkActions || maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid adaptive bulk bounds: minBulkActions %s, maxBulkActions %s, maxConcurrentRequests %s",
+                    minBulkActions, maxBulkActions, maxConcurrentRequests));
+        }
+        this.minBulkActions = minBulkActions;
+        this.maxBulkActions = maxBulkActions;
+        this.bulkActionsStep = Math.max(1, minBulkActions / 2);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.targetLatencyMs = targetLatencyMs;
+        // Start in the middle and let the observed latencies move it
+        this.bulkActions = minBulkActions + (maxBulkActions - minBulkActions) / 2;
+        this.concurrentRequests = Math.max(1, maxConcurrentRequests / 2);
+
+        MetricUtils.gauge(this.getClass(), "bulk_actions_target", () -> this::getBulkActions);
+        MetricUtils.gauge(this.getClass(), "concurrent_requests_limit", () -> this::getConcurrentRequests);
+        MetricUtils.gauge(this.getClass(), "in_flight_requests", () -> this::getInFlight);
+    }
+
+    /**
+     * Blocks until a bulk request may be sent.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight >= concurrentRequests) {
+                MetricUtils.counter(this.getClass(), "backpressure").inc();
+                while (inFlight >= concurrentRequests) {
+                    permitReleased.await();
+                }
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - 1);
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Feeds back the outcome of a bulk request.
+     *
+     * @param latencyMs wall clock time of the bulk request
+     * @param rejections number of items rejected because the cluster was overloaded
+     */
+    public void onBulkCompleted(long latencyMs, int rejections) {
+        if (rejections > 0 || latencyMs > targetLatencyMs) {
+            decrease();
+        } else {
+            increase();
+        }
+    }
+
+    public void onBulkFailed() {
+        decrease();
+    }
+
+    public int getBulkActions() {
+        lock.lock();
+        try {
+            return bulkActions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getConcurrentRequests() {
+        lock.lock();
+        try {
+            return concurrentRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void increase() {
+        lock.lock();
+        try {
+            bulkActions = Math.min(maxBulkActions, bulkActions + bulkActionsStep);
+            concurrentRequests = Math.min(maxConcurrentRequests, concurrentRequests + 1);
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease() {
+        lock.lock();
+        try {
+            bulkActions = Math.max(minBulkActions, bulkActions / 2);
+            concurrentRequests = Math.max(1, concurrentRequests / 2);
+            log.debug("Backing off bulk requests to {} actions and {} concurrent requests", bulkActions,
+                    concurrentRequests);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -7,21 +7,33 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
+import org.elasticsearch.rest.RestStatus;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Builder(builderMethodName = "hiddenBuilder")
@@ -48,16 +60,41 @@ public class ESBulkProcessor implements Closeable {
     private Long retryInterval = 1L;
     @Builder.Default
     private TimeValue defaultTimeout = TimeValue.timeValueMinutes(1);
+    // Flush once the pending requests reach this size, regardless of their number
+    @Builder.Default
+    private Long bulkBytesLimit = 5L * 1024 * 1024;
+    // Upper bound on the number of bulk requests in flight, further writes block until one completes
+    @Builder.Default
+    private Integer maxConcurrentRequests = 1;
+    // Adapt the bulk size and concurrency from observed latencies and rejections, see AdaptiveBulkLimiter
+    @Builder.Default
+    @NonNull
+    private Boolean adaptive = false;
+    @Builder.Default
+    private Integer minBulkRequestsLimit = 50;
+    @Builder.Default
+    private Long targetLatencyMs = 1000L;
     @Getter
     private final WriteRequest.RefreshPolicy writeRequestRefreshPolicy;
     @Setter(AccessLevel.NONE)
     @Getter(AccessLevel.NONE)
+    private final AdaptiveBulkLimiter adaptiveLimiter;
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
     private final BulkProcessor bulkProcessor;
 
+    // Actions added but not yet handed to a bulk request
+    private final AtomicInteger pendingActions = new AtomicInteger(0);
+    // Items which could not be written, once retries are exhausted
+    private final AtomicLong failedItems = new AtomicLong(0);
+    private final Map<Long, Long> bulkStartTimes = new ConcurrentHashMap<>();
+
     private ESBulkProcessor(@NonNull RestHighLevelClient searchClient, @NonNull Boolean async, Integer bulkRequestsLimit,
                             Integer bulkFlushPeriod, Integer numRetries, Long retryInterval,
-                            TimeValue defaultTimeout, WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
-                            BulkProcessor ignored) {
+                            TimeValue defaultTimeout, Long bulkBytesLimit, Integer maxConcurrentRequests,
+                            @NonNull Boolean adaptive, Integer minBulkRequestsLimit, Long targetLatencyMs,
+                            WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
+                            AdaptiveBulkLimiter ignoredLimiter, BulkProcessor ignored) {
         this.searchClient = searchClient;
         this.async = async;
         this.bulkRequestsLimit = bulkRequestsLimit;
@@ -65,13 +102,28 @@ public class ESBulkProcessor implements Closeable {
         this.numRetries = numRetries;
         this.retryInterval = retryInterval;
         this.defaultTimeout = defaultTimeout;
+        this.bulkBytesLimit = bulkBytesLimit;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.adaptive = adaptive;
+        this.minBulkRequestsLimit = minBulkRequestsLimit;
+        this.targetLatencyMs = targetLatencyMs;
         this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
+        this.adaptiveLimiter = adaptive
+                ? new AdaptiveBulkLimiter(Math.min(minBulkRequestsLimit, bulkRequestsLimit), bulkRequestsLimit,
+                maxConcurrentRequests, targetLatencyMs)
+                : null;
         this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
     }
 
     public ESBulkProcessor add(DocWriteRequest<?> request) {
         MetricUtils.counter(this.getClass(), ES_WRITES_METRIC).inc();
+        // Counted before adding, as adding may hand the action to a bulk request right away
+        final int pending = adaptiveLimiter != null ? pendingActions.incrementAndGet() : 0;
         bulkProcessor.add(request);
+        // The bulk processor flushes at the hard limits, flush earlier when the adaptive target is lower
+        if (adaptiveLimiter != null && pending >= adaptiveLimiter.getBulkActions()) {
+            bulkProcessor.flush();
+        }
         return this;
     }
 
@@ -110,38 +162,169 @@ public class ESBulkProcessor implements Closeable {
     }
 
     private BulkProcessor toBulkProcessor() {
-        return BulkProcessor.builder((request, bulkListener) -> {
+        return configure(BulkProcessor.builder((request, bulkListener) -> {
+                    if (!acquirePermit(bulkListener)) {
+                        return;
+                    }
+                    final ActionListener<BulkResponse> releasingListener = releasePermitBefore(bulkListener,
+                            System.nanoTime());
                     try {
                         BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
-                        bulkListener.onResponse(response);
+                        releasingListener.onResponse(response);
                     } catch (IOException e) {
-                        bulkListener.onFailure(e);
+                        releasingListener.onFailure(e);
                         throw new RuntimeException(e);
                     }
-                }, BulkListener.getInstance(writeRequestRefreshPolicy))
-                .setBulkActions(bulkRequestsLimit)
-                .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-                // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other retry methods)
-                .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-                .build();
+                }, new InstrumentedBulkListener(BulkListener.getInstance(writeRequestRefreshPolicy))));
     }
 
     private BulkProcessor toAsyncBulkProcessor() {
-        return BulkProcessor.builder((request, bulkListener) -> {
-            searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
-            }, BulkListener.getInstance(writeRequestRefreshPolicy))
+        return configure(BulkProcessor.builder((request, bulkListener) -> {
+            if (acquirePermit(bulkListener)) {
+                searchClient.bulkAsync(request, RequestOptions.DEFAULT, releasePermitBefore(bulkListener,
+                        System.nanoTime()));
+            }
+            }, new InstrumentedBulkListener(BulkListener.getInstance(writeRequestRefreshPolicy))));
+    }
+
+    private BulkProcessor configure(BulkProcessor.Builder builder) {
+        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other retry methods)
+        final BackoffPolicy backoffPolicy = adaptive
+                ? BackoffPolicy.exponentialBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries)
+                : BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries);
+        // When adaptive, the limiter is what bounds the requests in flight. Its limit never exceeds
+        // maxConcurrentRequests, so the bound of the bulk processor, which also counts the requests waiting for a
+        // permit, is never the tighter one
+        return builder
                 .setBulkActions(bulkRequestsLimit)
+                .setBulkSize(new ByteSizeValue(bulkBytesLimit, ByteSizeUnit.BYTES))
+                .setConcurrentRequests(maxConcurrentRequests)
                 .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-                // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other retry methods)
-                .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
+                .setBackoffPolicy(backoffPolicy)
                 .build();
     }
 
+    private boolean acquirePermit(ActionListener<BulkResponse> bulkListener) {
+        if (adaptiveLimiter == null) {
+            return true;
+        }
+        try {
+            adaptiveLimiter.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            bulkListener.onFailure(e);
+            return false;
+        }
+    }
+
+    /**
+     * Releases the permit of a request and feeds its outcome to the adaptive limiter. The latency is measured from the
+     * time the permit was acquired, so that waiting for a permit does not count as the cluster being slow, and every
+     * attempt of a request retried after rejections is fed back on its own.
+     */
+    private ActionListener<BulkResponse> releasePermitBefore(ActionListener<BulkResponse> bulkListener,
+                                                             long sentAtNanos) {
+        if (adaptiveLimiter == null) {
+            return bulkListener;
+        }
+        // Released before notifying, as a 429 retry acquires a new permit from the listener
+        return ActionListener.wrap(response -> {
+            adaptiveLimiter.release();
+            int rejections = 0;
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed() && item.status() == RestStatus.TOO_MANY_REQUESTS) {
+                    rejections++;
+                }
+            }
+            adaptiveLimiter.onBulkCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAtNanos),
+                    rejections);
+            bulkListener.onResponse(response);
+        }, e -> {
+            adaptiveLimiter.release();
+            adaptiveLimiter.onBulkFailed();
+            bulkListener.onFailure(e);
+        });
+    }
+
+    /**
+     * Publishes per index bulk metrics.
+     */
+    private class InstrumentedBulkListener implements BulkProcessor.Listener {
+        private final BulkProcessor.Listener delegate;
+
+        private InstrumentedBulkListener(BulkProcessor.Listener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request) {
+            if (adaptiveLimiter != null) {
+                pendingActions.addAndGet(-request.numberOfActions());
+            }
+            bulkStartTimes.put(executionId, System.nanoTime());
+            MetricUtils.histogram(ESBulkProcessor.class, "bulk_bytes").update(request.estimatedSizeInBytes());
+            delegate.beforeBulk(executionId, request);
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed()) {
+                    failedItems.incrementAndGet();
+                }
+                if (item.isFailed() && item.status() == RestStatus.TOO_MANY_REQUESTS) {
+                    MetricUtils.counter(ESBulkProcessor.class, item.getIndex() + "_bulk_rejections").inc();
+                }
+            }
+            recordIndexMetrics(request, latencyMs(executionId));
+            delegate.afterBulk(executionId, request, response);
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+            recordIndexMetrics(request, latencyMs(executionId));
+            failedItems.addAndGet(request.numberOfActions());
+            delegate.afterBulk(executionId, request, failure);
+        }
+
+        private long latencyMs(long executionId) {
+            final Long startTime = bulkStartTimes.remove(executionId);
+            return startTime == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        }
+
+        private void recordIndexMetrics(BulkRequest request, long latencyMs) {
+            final Map<String, Long> actionsByIndex = request.requests().stream()
+                    .collect(Collectors.groupingBy(DocWriteRequest::index, Collectors.counting()));
+            actionsByIndex.forEach((index, actions) -> {
+                MetricUtils.histogram(ESBulkProcessor.class, index + "_bulk_actions").update(actions);
+                MetricUtils.timer(ESBulkProcessor.class, index + "_bulk_latency").update(latencyMs, TimeUnit.MILLISECONDS);
+            });
+        }
+    }
+
     @Override
     public void close() throws IOException {
         bulkProcessor.close();
     }
 
+    /**
+     * Flushes the pending requests and waits for all bulk requests in flight to complete, after which the processor
+     * accepts no more requests.
+     *
+     * @return false if the bulk requests did not complete before the timeout
+     */
+    public boolean awaitClose(long timeout, TimeUnit unit) throws InterruptedException {
+        return bulkProcessor.awaitClose(timeout, unit);
+    }
+
+    /**
+     * Returns the number of items which could not be written since the processor was created.
+     */
+    public long getFailedItems() {
+        return failedItems.get();
+    }
+
     public void flush() {
         bulkProcessor.flush();
     }
@@ -2,27 +2,21 @@ package com.linkedin.metadata.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
-import com.linkedin.common.InputField;
-import com.linkedin.common.InputFields;
 import com.linkedin.common.Status;
 import com.linkedin.common.urn.Urn;
-import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.dataset.FineGrainedLineage;
-import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphIndexUtils;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.dgraph.DgraphGraphService;
-import com.linkedin.metadata.key.SchemaFieldKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
-import com.linkedin.metadata.models.RelationshipFieldSpec;
-import com.linkedin.metadata.models.extractor.FieldExtractor;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
@@ -35,6 +29,7 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.SystemMetadata;
@@ -45,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,7 +56,7 @@ import static com.linkedin.metadata.search.utils.QueryUtils.*;
 
 @Slf4j
 public class UpdateIndicesService {
-  private static final String DOWNSTREAM_OF = "DownstreamOf";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   private final GraphService _graphService;
   private final EntitySearchService _entitySearchService;
@@ -112,6 +108,38 @@ public class UpdateIndicesService {
     }
   }
 
+  /**
+   * Micro-batched version of {@link #handleChangeEvent(MetadataChangeLog)}, meant for a list of events in log order.
+   *
+   * Search document updates for the same urn are merged into a single partial update, system metadata updates for the
+   * same urn and aspect are reduced to the last one, and graph edge operations are deduplicated so that only the last
+   * operation on a given edge is written. Search and system metadata writes then go through the shared bulk processor
+   * together. Pending writes are flushed before any delete, status change or non-diff graph update so that the
+   * resulting state matches processing the events one by one.
+   *
+   * A failure to process an event is logged and does not prevent the rest of the batch from being written.
+   *
+   * @param events the change events to be processed, in order.
+   */
+  public void handleChangeEvents(@Nonnull final List<MetadataChangeLog> events) {
+    final IndexWriteBatch batch = new IndexWriteBatch();
+    for (MetadataChangeLog event : events) {
+      try {
+        if (UPDATE_CHANGE_TYPES.contains(event.getChangeType())) {
+          handleUpdateChangeEvent(event, batch);
+        } else if (event.getChangeType() == ChangeType.DELETE) {
+          flush(batch);
+          handleDeleteChangeEvent(event);
+        }
+      } catch (Exception e) {
+        MetricUtils.counter(this.getClass(), "batch_event_failure").inc();
+        log.error("Failed to update indices for MCL with urn {}, aspect {}", event.getEntityUrn(), event.getAspectName(), e);
+      }
+    }
+    flush(batch);
+    MetricUtils.histogram(this.getClass(), "batch_size").update(events.size());
+  }
+
 
   /**
    * This very important method processes {@link MetadataChangeLog} events
@@ -124,6 +152,10 @@ public class UpdateIndicesService {
    * @param event the change event to be processed.
    */
   public void handleUpdateChangeEvent(@Nonnull final MetadataChangeLog event) {
+    handleUpdateChangeEvent(event, null);
+  }
+
+  private void handleUpdateChangeEvent(@Nonnull final MetadataChangeLog event, @Nullable final IndexWriteBatch batch) {
 
     final EntitySpec entitySpec = getEventEntitySpec(event);
     final Urn urn = EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
@@ -158,19 +190,22 @@ public class UpdateIndicesService {
       // Inject into the System Metadata Index when an aspect is non-timeseries only.
       // TODO: Verify whether timeseries aspects can be dropped into System Metadata as well
       // without impacting rollbacks.
-      updateSystemMetadata(event.getSystemMetadata(), urn, aspectSpec, aspect);
+      updateSystemMetadata(event.getSystemMetadata(), urn, aspectSpec, aspect, batch);
     }
 
     // Step 1. For all aspects, attempt to update Search
-    updateSearchService(entitySpec.getName(), urn, aspectSpec, aspect, event.getSystemMetadata(), previousAspect);
+    updateSearchService(entitySpec.getName(), urn, aspectSpec, aspect, event.getSystemMetadata(), previousAspect, batch);
 
     // Step 2. For all aspects, attempt to update Graph
     SystemMetadata systemMetadata = event.getSystemMetadata();
     if (_graphDiffMode && !(_graphService instanceof DgraphGraphService)
         && (systemMetadata == null || systemMetadata.getProperties() == null
         || !Boolean.parseBoolean(systemMetadata.getProperties().get(FORCE_INDEXING_KEY)))) {
-      updateGraphServiceDiff(urn, aspectSpec, previousAspect, aspect, event);
+      updateGraphServiceDiff(urn, aspectSpec, previousAspect, aspect, event, batch);
     } else {
+      if (batch != null) {
+        flushGraph(batch);
+      }
       updateGraphService(urn, aspectSpec, aspect, event);
     }
   }
@@ -216,93 +251,6 @@ public class UpdateIndicesService {
     }
   }
 
-  // TODO: remove this method once we implement sourceOverride when creating graph edges
-  private void updateFineGrainedEdgesAndRelationships(
-      RecordTemplate aspect,
-      List<Edge> edgesToAdd,
-      HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded
-  ) {
-    UpstreamLineage upstreamLineage = new UpstreamLineage(aspect.data());
-    if (upstreamLineage.getFineGrainedLineages() != null) {
-      for (FineGrainedLineage fineGrainedLineage : upstreamLineage.getFineGrainedLineages()) {
-        if (!fineGrainedLineage.hasDownstreams() || !fineGrainedLineage.hasUpstreams()) {
-          break;
-        }
-        // for every downstream, create an edge with each of the upstreams
-        for (Urn downstream : fineGrainedLineage.getDownstreams()) {
-          for (Urn upstream : fineGrainedLineage.getUpstreams()) {
-            // TODO: add edges uniformly across aspects
-            edgesToAdd.add(new Edge(downstream, upstream, DOWNSTREAM_OF, null, null, null, null, null));
-            Set<String> relationshipTypes = urnToRelationshipTypesBeingAdded.getOrDefault(downstream, new HashSet<>());
-            relationshipTypes.add(DOWNSTREAM_OF);
-            urnToRelationshipTypesBeingAdded.put(downstream, relationshipTypes);
-          }
-        }
-      }
-    }
-  }
-
-  private Urn generateSchemaFieldUrn(@Nonnull final String resourceUrn, @Nonnull final String fieldPath) {
-    // we rely on schemaField fieldPaths to be encoded since we do that with fineGrainedLineage on the ingestion side
-    final String encodedFieldPath = fieldPath.replaceAll("\\(", "%28").replaceAll("\\)", "%29").replaceAll(",", "%2C");
-    final SchemaFieldKey key = new SchemaFieldKey().setParent(UrnUtils.getUrn(resourceUrn)).setFieldPath(encodedFieldPath);
-    return EntityKeyUtils.convertEntityKeyToUrn(key, Constants.SCHEMA_FIELD_ENTITY_NAME);
-  }
-
-  // TODO: remove this method once we implement sourceOverride and update inputFields aspect
-  private void updateInputFieldEdgesAndRelationships(
-      @Nonnull final Urn urn,
-      @Nonnull final InputFields inputFields,
-      @Nonnull final List<Edge> edgesToAdd,
-      @Nonnull final HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded
-  ) {
-    if (inputFields.hasFields()) {
-      for (final InputField field : inputFields.getFields()) {
-        if (field.hasSchemaFieldUrn() && field.hasSchemaField() && field.getSchemaField().hasFieldPath()) {
-          final Urn sourceFieldUrn = generateSchemaFieldUrn(urn.toString(), field.getSchemaField().getFieldPath());
-          // TODO: add edges uniformly across aspects
-          edgesToAdd.add(new Edge(sourceFieldUrn, field.getSchemaFieldUrn(), DOWNSTREAM_OF, null, null, null, null, null));
-          final Set<String> relationshipTypes = urnToRelationshipTypesBeingAdded.getOrDefault(sourceFieldUrn, new HashSet<>());
-          relationshipTypes.add(DOWNSTREAM_OF);
-          urnToRelationshipTypesBeingAdded.put(sourceFieldUrn, relationshipTypes);
-        }
-      }
-    }
-  }
-
-  private Pair<List<Edge>, HashMap<Urn, Set<String>>> getEdgesAndRelationshipTypesFromAspect(
-      @Nonnull final Urn urn,
-      @Nonnull final AspectSpec aspectSpec,
-      @Nonnull final RecordTemplate aspect,
-      @Nonnull final MetadataChangeLog event,
-      final boolean isNewAspectVersion
-  ) {
-    final List<Edge> edgesToAdd = new ArrayList<>();
-    final HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded = new HashMap<>();
-
-    // we need to manually set schemaField <-> schemaField edges for fineGrainedLineage and inputFields
-    // since @Relationship only links between the parent entity urn and something else.
-    if (aspectSpec.getName().equals(Constants.UPSTREAM_LINEAGE_ASPECT_NAME)) {
-      updateFineGrainedEdgesAndRelationships(aspect, edgesToAdd, urnToRelationshipTypesBeingAdded);
-    }
-    if (aspectSpec.getName().equals(Constants.INPUT_FIELDS_ASPECT_NAME)) {
-      final InputFields inputFields = new InputFields(aspect.data());
-      updateInputFieldEdgesAndRelationships(urn, inputFields, edgesToAdd, urnToRelationshipTypesBeingAdded);
-    }
-
-    Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs());
-
-    for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
-      Set<String> relationshipTypes = urnToRelationshipTypesBeingAdded.getOrDefault(urn, new HashSet<>());
-      relationshipTypes.add(entry.getKey().getRelationshipName());
-      urnToRelationshipTypesBeingAdded.put(urn, relationshipTypes);
-      final List<Edge> newEdges = GraphIndexUtils.extractGraphEdges(entry, aspect, urn, event, isNewAspectVersion);
-      edgesToAdd.addAll(newEdges);
-    }
-    return Pair.of(edgesToAdd, urnToRelationshipTypesBeingAdded);
-  }
-
   /**
    * Process snapshot and update graph index
    */
@@ -313,7 +261,7 @@ public class UpdateIndicesService {
       @Nonnull final MetadataChangeLog event
   ) {
     Pair<List<Edge>, HashMap<Urn, Set<String>>> edgeAndRelationTypes =
-        getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true);
+        GraphIndexUtils.getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true);
 
     final List<Edge> edgesToAdd = edgeAndRelationTypes.getFirst();
     final HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded = edgeAndRelationTypes.getSecond();
@@ -333,11 +281,13 @@ public class UpdateIndicesService {
       @Nonnull final AspectSpec aspectSpec,
       @Nullable final RecordTemplate oldAspect,
       @Nonnull final RecordTemplate newAspect,
-      @Nonnull final MetadataChangeLog event
+      @Nonnull final MetadataChangeLog event,
+      @Nullable final IndexWriteBatch batch
   ) {
     Pair<List<Edge>, HashMap<Urn, Set<String>>> oldEdgeAndRelationTypes = null;
     if (oldAspect != null) {
-      oldEdgeAndRelationTypes = getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, oldAspect, event, false);
+      oldEdgeAndRelationTypes =
+          GraphIndexUtils.getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, oldAspect, event, false);
     }
 
     final List<Edge> oldEdges =
@@ -345,7 +295,7 @@ public class UpdateIndicesService {
     final Set<Edge> oldEdgeSet = new HashSet<>(oldEdges);
 
     Pair<List<Edge>, HashMap<Urn, Set<String>>> newEdgeAndRelationTypes =
-        getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, newAspect, event, true);
+        GraphIndexUtils.getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, newAspect, event, true);
 
     final List<Edge> newEdges = newEdgeAndRelationTypes.getFirst();
     final Set<Edge> newEdgeSet = new HashSet<>(newEdges);
@@ -363,6 +313,13 @@ public class UpdateIndicesService {
     // Edges to update
     final List<Edge> mergedEdges = getMergedEdges(oldEdgeSet, newEdgeSet);
 
+    if (batch != null) {
+      subtractiveDifference.forEach(edge -> batch.addEdgeOperation(edge, EdgeOperation.REMOVE));
+      additiveDifference.forEach(edge -> batch.addEdgeOperation(edge, EdgeOperation.ADD));
+      mergedEdges.forEach(edge -> batch.addEdgeOperation(edge, EdgeOperation.UPSERT));
+      return;
+    }
+
     // Remove any old edges that no longer exist first
     if (subtractiveDifference.size() > 0) {
       log.debug("Removing edges: {}", subtractiveDifference);
@@ -406,7 +363,7 @@ public class UpdateIndicesService {
    * Process snapshot and update search index
    */
   private void updateSearchService(String entityName, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect,
-      @Nullable SystemMetadata systemMetadata, @Nullable RecordTemplate previousAspect) {
+      @Nullable SystemMetadata systemMetadata, @Nullable RecordTemplate previousAspect, @Nullable IndexWriteBatch batch) {
     Optional<String> searchDocument;
     Optional<String> previousSearchDocument = Optional.empty();
     try {
@@ -448,6 +405,10 @@ public class UpdateIndicesService {
       }
     }
 
+    if (batch != null) {
+      batch.addSearchDocument(entityName, docId.get(), searchDocumentValue);
+      return;
+    }
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId.get());
   }
 
@@ -468,11 +429,20 @@ public class UpdateIndicesService {
     });
   }
 
-  private void updateSystemMetadata(SystemMetadata systemMetadata, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
-    _systemMetadataService.insert(systemMetadata, urn.toString(), aspectSpec.getName());
+  private void updateSystemMetadata(SystemMetadata systemMetadata, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect,
+      @Nullable IndexWriteBatch batch) {
+    if (batch != null) {
+      batch.addSystemMetadata(urn.toString(), aspectSpec.getName(), systemMetadata);
+    } else {
+      _systemMetadataService.insert(systemMetadata, urn.toString(), aspectSpec.getName());
+    }
 
     // If processing status aspect update all aspects for this urn to removed
     if (aspectSpec.getName().equals(Constants.STATUS_ASPECT_NAME)) {
+      if (batch != null) {
+        // The status applies to the aspects known so far, including the pending ones
+        flushSystemMetadata(batch);
+      }
       _systemMetadataService.setDocStatus(urn.toString(), ((Status) aspect).isRemoved());
     }
   }
@@ -502,7 +472,7 @@ public class UpdateIndicesService {
     }
 
     Pair<List<Edge>, HashMap<Urn, Set<String>>> edgeAndRelationTypes =
-        getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true);
+        GraphIndexUtils.getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true);
 
     final HashMap<Urn, Set<String>> urnToRelationshipTypesBeingAdded = edgeAndRelationTypes.getSecond();
     if (urnToRelationshipTypesBeingAdded.size() > 0) {
@@ -542,6 +512,146 @@ public class UpdateIndicesService {
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId);
   }
 
+  private void flush(@Nonnull final IndexWriteBatch batch) {
+    flushSystemMetadata(batch);
+    flushSearch(batch);
+    flushGraph(batch);
+  }
+
+  private void flushSystemMetadata(@Nonnull final IndexWriteBatch batch) {
+    if (batch.systemMetadata.isEmpty()) {
+      return;
+    }
+    // Each insert replaces every field of the document, so only the last one for a given aspect needs to be written
+    batch.systemMetadata.forEach((key, systemMetadata) ->
+        _systemMetadataService.insert(systemMetadata, key.getFirst(), key.getSecond()));
+    recordCoalescing("system_metadata", batch.systemMetadataCount, batch.systemMetadata.size());
+    batch.systemMetadata.clear();
+    batch.systemMetadataCount = 0;
+  }
+
+  private void flushSearch(@Nonnull final IndexWriteBatch batch) {
+    if (batch.searchDocuments.isEmpty()) {
+      return;
+    }
+    int written = 0;
+    for (Map.Entry<Pair<String, String>, List<String>> entry : batch.searchDocuments.entrySet()) {
+      final Optional<String> document = mergeSearchDocuments(entry.getValue());
+      if (document.isPresent()) {
+        _entitySearchService.upsertDocument(entry.getKey().getFirst(), document.get(), entry.getKey().getSecond());
+        written++;
+      }
+    }
+    recordCoalescing("search", batch.searchDocumentCount, written);
+    batch.searchDocuments.clear();
+    batch.searchDocumentCount = 0;
+  }
+
+  private void flushGraph(@Nonnull final IndexWriteBatch batch) {
+    if (batch.edgeOperations.isEmpty()) {
+      return;
+    }
+    // Only the last operation on a given edge survives, so the relative order of different edges does not matter
+    batch.edgeOperations.forEach((edge, operation) -> {
+      if (operation == EdgeOperation.REMOVE) {
+        _graphService.removeEdge(edge);
+      }
+    });
+    batch.edgeOperations.forEach((edge, operation) -> {
+      if (operation == EdgeOperation.ADD) {
+        _graphService.addEdge(edge);
+      }
+    });
+    batch.edgeOperations.forEach((edge, operation) -> {
+      if (operation == EdgeOperation.UPSERT) {
+        _graphService.upsertEdge(edge);
+      }
+    });
+    recordCoalescing("graph", batch.edgeOperationCount, batch.edgeOperations.size());
+    batch.edgeOperations.clear();
+    batch.edgeOperationCount = 0;
+  }
+
+  /**
+   * Merges partial search documents for the same document id the way successive partial updates of Elasticsearch
+   * would: objects are merged recursively, later documents overriding the other fields of earlier ones.
+   */
+  @VisibleForTesting
+  static Optional<String> mergeSearchDocuments(@Nonnull final List<String> documents) {
+    if (documents.size() == 1) {
+      return Optional.of(documents.get(0));
+    }
+    try {
+      final ObjectNode merged = OBJECT_MAPPER.createObjectNode();
+      for (String document : documents) {
+        mergeObjects(merged, (ObjectNode) OBJECT_MAPPER.readTree(document));
+      }
+      return Optional.of(OBJECT_MAPPER.writeValueAsString(merged));
+    } catch (JsonProcessingException | ClassCastException e) {
+      log.error("Failed to merge search documents {}", documents, e);
+      return Optional.empty();
+    }
+  }
+
+  private static void mergeObjects(@Nonnull final ObjectNode target, @Nonnull final ObjectNode source) {
+    source.fields().forEachRemaining(field -> {
+      final JsonNode existing = target.get(field.getKey());
+      if (existing instanceof ObjectNode && field.getValue() instanceof ObjectNode) {
+        mergeObjects((ObjectNode) existing, (ObjectNode) field.getValue());
+      } else {
+        target.set(field.getKey(), field.getValue());
+      }
+    });
+  }
+
+  private void recordCoalescing(@Nonnull final String index, final int requested, final int written) {
+    MetricUtils.counter(this.getClass(), index + "_requested_writes").inc(requested);
+    MetricUtils.counter(this.getClass(), index + "_coalesced_writes").inc(written);
+    if (requested > 0) {
+      // Percentage of the requested writes that were saved by coalescing
+      MetricUtils.histogram(this.getClass(), index + "_coalescing_ratio").update(100L * (requested - written) / requested);
+    }
+  }
+
+  private enum EdgeOperation {
+    ADD, REMOVE, UPSERT
+  }
+
+  /**
+   * System metadata, search and graph writes accumulated by {@link #handleChangeEvents(List)} until they are flushed.
+   */
+  private static class IndexWriteBatch {
+    private final Map<Pair<String, String>, SystemMetadata> systemMetadata = new LinkedHashMap<>();
+    private final Map<Pair<String, String>, List<String>> searchDocuments = new LinkedHashMap<>();
+    private final Map<Edge, EdgeOperation> edgeOperations = new LinkedHashMap<>();
+    private int systemMetadataCount = 0;
+    private int searchDocumentCount = 0;
+    private int edgeOperationCount = 0;
+
+    private void addSystemMetadata(@Nonnull final String urn, @Nonnull final String aspectName,
+        @Nullable final SystemMetadata metadata) {
+      // Inserting no system metadata is a no-op, it must not replace a pending update
+      if (metadata == null) {
+        return;
+      }
+      systemMetadata.put(Pair.of(urn, aspectName), metadata);
+      systemMetadataCount++;
+    }
+
+    private void addSearchDocument(@Nonnull final String entityName, @Nonnull final String docId,
+        @Nonnull final String document) {
+      searchDocuments.computeIfAbsent(Pair.of(entityName, docId), key -> new ArrayList<>()).add(document);
+      searchDocumentCount++;
+    }
+
+    private void addEdgeOperation(@Nonnull final Edge edge, @Nonnull final EdgeOperation operation) {
+      // Remove first so that the edge moves to the end, along with its latest properties
+      edgeOperations.remove(edge);
+      edgeOperations.put(edge, operation);
+      edgeOperationCount++;
+    }
+  }
+
   private EntitySpec getEventEntitySpec(@Nonnull final MetadataChangeLog event) {
     try {
       return _entityRegistry.getEntitySpec(event.getEntityType());
@@ -6,9 +6,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.diff.JsonDiff;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -27,6 +31,7 @@ import com.linkedin.metadata.timeline.eventgenerator.GlossaryTermsChangeEventGen
 import com.linkedin.metadata.timeline.eventgenerator.InstitutionalMemoryChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.OwnershipChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.SchemaMetadataChangeEventGenerator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,12 +41,20 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
 import org.apache.commons.collections.CollectionUtils;
 
 import static com.linkedin.common.urn.VersionedUrnUtils.*;
@@ -62,10 +75,38 @@ public class TimelineServiceImpl implements TimelineService {
   private final EntityChangeEventGeneratorFactory _entityChangeEventGeneratorFactory;
   private final EntityRegistry _entityRegistry;
   private final HashMap<String, HashMap<ChangeCategory, Set<String>>> entityTypeElementAspectRegistry = new HashMap<>();
+  // Semantic diffs between two versions of an aspect, which never change once both versions exist
+  @Nullable
+  private final Cache<DiffKey, Optional<ChangeTransaction>> _diffCache;
+  // Diffs the versions of different aspects concurrently
+  @Nullable
+  private final ExecutorService _diffExecutor;
 
   public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry) {
+    this(aspectDao, entityRegistry, 0, 0, 1);
+  }
+
+  /**
+   * @param diffCacheMaxSize max number of cached semantic diffs, 0 to disable the cache
+   * @param diffCacheTtlSeconds time to live of the cached semantic diffs, 0 to keep them until evicted
+   * @param diffThreads number of threads diffing the versions of different aspects, 1 to diff them on the calling
+   *                    thread
+   */
+  public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry,
+      long diffCacheMaxSize, long diffCacheTtlSeconds, int diffThreads) {
     this._aspectDao = aspectDao;
     _entityRegistry = entityRegistry;
+    if (diffCacheMaxSize > 0) {
+      CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(diffCacheMaxSize);
+      if (diffCacheTtlSeconds > 0) {
+        builder = builder.expireAfterWrite(diffCacheTtlSeconds, TimeUnit.SECONDS);
+      }
+      _diffCache = builder.build();
+    } else {
+      _diffCache = null;
+    }
+    _diffExecutor = diffThreads > 1 ? Executors.newFixedThreadPool(diffThreads,
+        new ThreadFactoryBuilder().setNameFormat("timeline-diff-%d").setDaemon(true).build()) : null;
 
     // TODO: Simplify this structure.
     // TODO: Load up from yaml file
@@ -199,8 +240,19 @@ public class TimelineServiceImpl implements TimelineService {
         .filter(aspectSpec -> !aspectSpec.isTimeseries())
         .map(AspectSpec::getName)
         .collect(Collectors.toSet());
-    List<EntityAspect> aspectsInRange = this._aspectDao.getAspectsInRange(urn, fullAspectNames, startTimeMillis,
-        endTimeMillis);
+    // Only the requested aspects are diffed, the versions of the others are only needed for the version stamps
+    Set<String> diffedAspectNames = fullAspectNames.stream().filter(aspectNames::contains).collect(Collectors.toSet());
+    Set<String> stampedAspectNames = fullAspectNames.stream()
+        .filter(aspectName -> !aspectNames.contains(aspectName))
+        .collect(Collectors.toSet());
+    List<EntityAspect> aspectsInRange = new ArrayList<>();
+    if (!diffedAspectNames.isEmpty()) {
+      aspectsInRange.addAll(this._aspectDao.getAspectsInRange(urn, diffedAspectNames, startTimeMillis, endTimeMillis));
+    }
+    if (!stampedAspectNames.isEmpty()) {
+      aspectsInRange.addAll(
+          this._aspectDao.getAspectVersionsInRange(urn, stampedAspectNames, startTimeMillis, endTimeMillis));
+    }
 
     // Prepopulate with all versioned aspectNames -> ignore timeseries using
     // registry
@@ -210,12 +262,14 @@ public class TimelineServiceImpl implements TimelineService {
 
     // TODO: There are some extra steps happening here, we need to clean up how
     // transactions get combined across differs
-    SortedMap<Long, List<ChangeTransaction>> semanticDiffs = aspectRowSetMap.entrySet()
+    List<TreeSet<EntityAspect>> aspectTimelines = aspectRowSetMap.entrySet()
         .stream()
         .filter(entry -> aspectNames.contains(entry.getKey()))
         .map(Map.Entry::getValue)
-        .map(value -> computeDiffs(value, urn.getEntityType(), elementNames, rawDiffRequested))
-        .collect(TreeMap::new, this::combineComputedDiffsPerTransactionId, this::combineComputedDiffsPerTransactionId);
+        .collect(Collectors.toList());
+    SortedMap<Long, List<ChangeTransaction>> semanticDiffs = new TreeMap<>();
+    computeAllDiffs(aspectTimelines, urn, elementNames, rawDiffRequested)
+        .forEach(computedDiffs -> combineComputedDiffsPerTransactionId(semanticDiffs, computedDiffs));
     // TODO:Move this down
     assignSemanticVersions(semanticDiffs);
     List<ChangeTransaction> changeTransactions = semanticDiffs.values().stream().collect(ArrayList::new,
@@ -251,6 +305,8 @@ public class TimelineServiceImpl implements TimelineService {
     // we need to pull previous versions of these aspects that are currently at a 0
     Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), fullAspectNames);
 
+    // Previous versions are read in a single batch once all of them are known
+    Map<String, EntityAspectIdentifier> previousVersionKeys = new HashMap<>();
     for (Map.Entry<String, TreeSet<EntityAspect>> aspectMinVersion : aspectRowSetMap.entrySet()) {
       TreeSet<EntityAspect> aspectSet = aspectMinVersion.getValue();
 
@@ -269,13 +325,22 @@ public class TimelineServiceImpl implements TimelineService {
         if (oldestAspect != null) {
           versionToGet = (oldestAspect.getVersion() == 0L) ? nextVersion - 1 : oldestAspect.getVersion() - 1;
         }
-        EntityAspect row = _aspectDao.getAspect(urn.toString(), aspectMinVersion.getKey(), versionToGet);
+        previousVersionKeys.put(aspectMinVersion.getKey(),
+            new EntityAspectIdentifier(urn.toString(), aspectMinVersion.getKey(), versionToGet));
+      }
+    }
+
+    if (!previousVersionKeys.isEmpty()) {
+      Map<EntityAspectIdentifier, EntityAspect> previousVersions =
+          _aspectDao.batchGet(new HashSet<>(previousVersionKeys.values()));
+      previousVersionKeys.forEach((aspectName, key) -> {
+        EntityAspect row = previousVersions.get(key);
         if (row != null) {
           aspectRowSetMap.get(row.getAspect()).add(row);
         } else {
-          aspectMinVersion.getValue().add(createSentinel(aspectMinVersion.getKey()));
+          aspectRowSetMap.get(aspectName).add(createSentinel(aspectName));
         }
-      }
+      });
     }
     return aspectRowSetMap;
   }
@@ -341,8 +406,42 @@ public class TimelineServiceImpl implements TimelineService {
     return timestampVersionCache;
   }
 
+  /**
+   * Computes the diffs of every aspect timeline, concurrently if there is an executor for it, and returns them in the
+   * order of the timelines.
+   */
+  private List<SortedMap<Long, List<ChangeTransaction>>> computeAllDiffs(List<TreeSet<EntityAspect>> aspectTimelines,
+      Urn urn, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+    if (_diffExecutor == null || aspectTimelines.size() <= 1) {
+      return aspectTimelines.stream()
+          .map(aspectTimeline -> computeDiffs(aspectTimeline, urn, elementNames, rawDiffsRequested))
+          .collect(Collectors.toList());
+    }
+    List<Future<SortedMap<Long, List<ChangeTransaction>>>> futures = aspectTimelines.stream()
+        .map(aspectTimeline -> _diffExecutor.submit(
+            () -> computeDiffs(aspectTimeline, urn, elementNames, rawDiffsRequested)))
+        .collect(Collectors.toList());
+    List<SortedMap<Long, List<ChangeTransaction>>> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<SortedMap<Long, List<ChangeTransaction>>> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Interrupted while computing the timeline of " + urn, e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to compute the timeline of " + urn, e.getCause());
+    }
+    return results;
+  }
+
   private SortedMap<Long, List<ChangeTransaction>> computeDiffs(TreeSet<EntityAspect> aspectTimeline,
-      String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+      Urn urn, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
     EntityAspect previousValue = null;
     SortedMap<Long, List<ChangeTransaction>> changeTransactionsMap = new TreeMap<>();
     long transactionId;
@@ -351,7 +450,7 @@ public class TimelineServiceImpl implements TimelineService {
       if (previousValue != null) {
         // we skip the first element and only compare once we have two in hand
         changeTransactionsMap.put(transactionId,
-            computeDiff(previousValue, currentValue, entityType, elementNames, rawDiffsRequested));
+            computeDiff(previousValue, currentValue, urn, elementNames, rawDiffsRequested));
       }
       previousValue = currentValue;
     }
@@ -359,20 +458,39 @@ public class TimelineServiceImpl implements TimelineService {
   }
 
   private List<ChangeTransaction> computeDiff(@Nonnull EntityAspect previousValue, @Nonnull EntityAspect currentValue,
-      String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+      Urn urn, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
     String aspectName = currentValue.getAspect();
 
     List<ChangeTransaction> semanticChangeTransactions = new ArrayList<>();
-    JsonPatch rawDiff = getRawDiff(previousValue, currentValue);
+    JsonPatch rawDiff = null;
     for (ChangeCategory element : elementNames) {
       EntityChangeEventGenerator entityChangeEventGenerator;
-      entityChangeEventGenerator = _entityChangeEventGeneratorFactory.getGenerator(entityType, element, aspectName);
+      entityChangeEventGenerator =
+          _entityChangeEventGeneratorFactory.getGenerator(urn.getEntityType(), element, aspectName);
       if (entityChangeEventGenerator != null) {
+        DiffKey diffKey = new DiffKey(urn.toString(), aspectName, previousValue.getVersion(),
+            previousValue.getCreatedOn().getTime(), currentValue.getVersion(), currentValue.getCreatedOn().getTime(),
+            element, rawDiffsRequested);
+        Optional<ChangeTransaction> cached = _diffCache == null ? null : _diffCache.getIfPresent(diffKey);
+        if (cached != null) {
+          MetricUtils.counter(this.getClass(), "diffCacheHit").inc();
+          cached.map(TimelineServiceImpl::copy).ifPresent(semanticChangeTransactions::add);
+          continue;
+        }
+        if (rawDiff == null) {
+          rawDiff = getRawDiff(previousValue, currentValue);
+        }
         try {
           ChangeTransaction changeTransaction =
               entityChangeEventGenerator.getSemanticDiff(previousValue, currentValue, element, rawDiff,
                   rawDiffsRequested);
-          if (CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents())) {
+          boolean hasChanges = CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents());
+          if (_diffCache != null) {
+            MetricUtils.counter(this.getClass(), "diffCacheMiss").inc();
+            // The transactions handed out are modified when combined, the cache keeps its own copy
+            _diffCache.put(diffKey, hasChanges ? Optional.of(copy(changeTransaction)) : Optional.empty());
+          }
+          if (hasChanges) {
             semanticChangeTransactions.add(changeTransaction);
           }
         } catch (Exception e) {
@@ -503,4 +621,35 @@ public class TimelineServiceImpl implements TimelineService {
     }
     return combinedChangeTransactions;
   }
+
+  private static ChangeTransaction copy(ChangeTransaction changeTransaction) {
+    return ChangeTransaction.builder()
+        .timestamp(changeTransaction.getTimestamp())
+        .actor(changeTransaction.getActor())
+        .proxy(changeTransaction.getProxy())
+        .reporter(changeTransaction.getReporter())
+        .semVer(changeTransaction.getSemVer())
+        .semVerChange(changeTransaction.getSemVerChange())
+        .changeEvents(changeTransaction.getChangeEvents() == null ? null
+            : new ArrayList<>(changeTransaction.getChangeEvents()))
+        .rawDiff(changeTransaction.getRawDiff())
+        .versionStamp(changeTransaction.getVersionStamp())
+        .build();
+  }
+
+  /**
+   * Identifies a semantic diff between two versions of an aspect. A version number alone does not identify a value, as
+   * the latest version is always 0, so versions are also identified by their creation time.
+   */
+  @Value
+  private static class DiffKey {
+    String urn;
+    String aspectName;
+    long previousVersion;
+    long previousCreatedOn;
+    long currentVersion;
+    long currentCreatedOn;
+    ChangeCategory element;
+    boolean rawDiffRequested;
+  }
 }
@@ -0,0 +1,68 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import com.linkedin.metadata.search.elasticsearch.update.AdaptiveBulkLimiter;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AdaptiveBulkLimiterTest {
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        AdaptiveBulkLimiter limiter = new AdaptiveBulkLimiter(100, 1000, 8, 500);
+        assertEquals(limiter.getBulkActions(), 550);
+        assertEquals(limiter.getConcurrentRequests(), 4);
+
+        limiter.onBulkCompleted(100, 0);
+        assertEquals(limiter.getBulkActions(), 600);
+        assertEquals(limiter.getConcurrentRequests(), 5);
+
+        // Slow bulk
+        limiter.onBulkCompleted(1000, 0);
+        assertEquals(limiter.getBulkActions(), 300);
+        assertEquals(limiter.getConcurrentRequests(), 2);
+
+        // Rejected bulk
+        limiter.onBulkCompleted(100, 1);
+        assertEquals(limiter.getBulkActions(), 150);
+        assertEquals(limiter.getConcurrentRequests(), 1);
+
+        // Bounded on both ends
+        limiter.onBulkFailed();
+        assertEquals(limiter.getBulkActions(), 100);
+        assertEquals(limiter.getConcurrentRequests(), 1);
+        for (int i = 0; i < 100; i++) {
+            limiter.onBulkCompleted(100, 0);
+        }
+        assertEquals(limiter.getBulkActions(), 1000);
+        assertEquals(limiter.getConcurrentRequests(), 8);
+    }
+
+    @Test
+    public void testAcquireBlocksAtConcurrencyLimit() throws Exception {
+        AdaptiveBulkLimiter limiter = new AdaptiveBulkLimiter(10, 10, 1, 500);
+        limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        limiter.release();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        assertEquals(limiter.getInFlight(), 1);
+        writer.join();
+    }
+}
@@ -0,0 +1,38 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.data.template.RecordUtils;
+import com.linkedin.metadata.AspectGenerationUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AspectCodecTest {
+
+  private static final String LARGE_ASPECT = RecordUtils.toJsonString(
+      AspectGenerationUtils.createCorpUserInfo(StringUtils.repeat("email", 500) + "@test.com"));
+  private static final String SMALL_ASPECT = RecordUtils.toJsonString(
+      AspectGenerationUtils.createCorpUserInfo("email@test.com"));
+
+  @Test
+  public void testRoundTrip() {
+    AspectCodec codec = new AspectCodec(true, 100);
+    String encoded = codec.encode(LARGE_ASPECT);
+    assertTrue(AspectCodec.isEncoded(encoded));
+    assertTrue(encoded.length() < LARGE_ASPECT.length());
+    assertEquals(AspectCodec.decode(encoded), LARGE_ASPECT);
+    // Already encoded aspects are left as is
+    assertEquals(codec.encode(encoded), encoded);
+  }
+
+  @Test
+  public void testPlainAspects() {
+    AspectCodec codec = new AspectCodec(true, 1024);
+    assertEquals(codec.encode(SMALL_ASPECT), SMALL_ASPECT);
+    assertEquals(AspectCodec.PLAIN.encode(LARGE_ASPECT), LARGE_ASPECT);
+    assertEquals(AspectCodec.decode(LARGE_ASPECT), LARGE_ASPECT);
+    assertNull(codec.encode(null));
+    assertNull(AspectCodec.decode(null));
+  }
+}
@@ -4,12 +4,15 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.RecordUtils;
 import com.linkedin.identity.CorpUserInfo;
 import com.linkedin.metadata.AspectGenerationUtils;
 import com.linkedin.metadata.EbeanTestUtils;
 import com.linkedin.metadata.config.PreProcessHooks;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.EbeanRetentionService;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.registry.EntityRegistryException;
@@ -21,6 +24,15 @@ import io.ebean.EbeanServer;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -183,4 +195,112 @@ public class EbeanEntityServiceTest extends EntityServiceTest<EbeanAspectDao, Eb
     }
     System.out.println("done");
   }
+
+  @Test
+  public void testGetPagedAspectsAfter() throws AssertionError {
+    SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata();
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    String keyAspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserKey().schema());
+    for (int i = 1; i <= 3; i++) {
+      Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test" + i);
+      _entityService.ingestAspect(entityUrn, aspectName,
+          AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com"), TEST_AUDIT_STAMP, metadata1);
+      _entityService.ingestAspect(entityUrn, keyAspectName, new CorpUserKey().setUsername("test" + i),
+          TEST_AUDIT_STAMP, metadata1);
+    }
+
+    RestoreIndicesArgs args = new RestoreIndicesArgs().setBatchSize(4);
+    List<EbeanAspectV2> batch1 = _entityService.getPagedAspectsAfter(args, null);
+    assertEquals(batch1.size(), 4);
+    List<EbeanAspectV2> batch2 = _entityService.getPagedAspectsAfter(args, batch1.get(3).getKey());
+    assertEquals(batch2.size(), 2);
+    assertTrue(_entityService.getPagedAspectsAfter(args, batch2.get(1).getKey()).isEmpty());
+
+    List<String> keys = Stream.concat(batch1.stream(), batch2.stream())
+        .map(row -> row.getKey().getUrn() + " " + row.getKey().getAspect())
+        .collect(Collectors.toList());
+    assertEquals(keys, keys.stream().sorted().distinct().collect(Collectors.toList()));
+    assertEquals(keys.size(), 6);
+
+    // Filters still apply
+    args.setAspectName(aspectName);
+    List<EbeanAspectV2> infos = _entityService.getPagedAspectsAfter(args, batch1.get(0).getKey());
+    assertEquals(infos.stream().map(row -> row.getKey().getAspect()).distinct().collect(Collectors.toList()),
+        List.of(aspectName));
+    assertEquals(infos.size(), 2);
+  }
+
+  @Test
+  public void testInsertAspects() throws AssertionError {
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    List<EbeanAspectV2> rows = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      rows.add(new EbeanAspectV2("urn:li:corpuser:restored" + i, aspectName, 0L,
+          RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com")),
+          new Timestamp(TEST_AUDIT_STAMP.getTime()), TEST_AUDIT_STAMP.getActor().toString(), null, null));
+    }
+    _entityService.insertAspects(rows);
+
+    RecordTemplate restored = _entityService.getLatestAspect(UrnUtils.getUrn("urn:li:corpuser:restored2"), aspectName);
+    assertEquals(restored, AspectGenerationUtils.createCorpUserInfo("email2@test.com"));
+    assertEquals(_entityService.getPagedAspectsAfter(new RestoreIndicesArgs().setBatchSize(10)
+        .setUrnLike("urn:li:corpuser:restored%"), null).size(), 3);
+    // The rows of the caller are not encoded in place
+    assertEquals(rows.get(1).getMetadata(),
+        RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email2@test.com")));
+
+    // Existing rows are replaced by upserts
+    _entityService.upsertAspect(new EbeanAspectV2("urn:li:corpuser:restored2", aspectName, 0L,
+        RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("replaced@test.com")),
+        new Timestamp(TEST_AUDIT_STAMP.getTime()), TEST_AUDIT_STAMP.getActor().toString(), null, null));
+    restored = _entityService.getLatestAspect(UrnUtils.getUrn("urn:li:corpuser:restored2"), aspectName);
+    assertEquals(restored, AspectGenerationUtils.createCorpUserInfo("replaced@test.com"));
+  }
+
+  @Test
+  public void testBatchGetParallelPages() throws AssertionError {
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    List<EbeanAspectV2> rows = new ArrayList<>();
+    Set<EntityAspectIdentifier> keys = new HashSet<>();
+    // More keys than fit in a single page, the last page being padded
+    for (int i = 0; i < 400; i++) {
+      rows.add(new EbeanAspectV2("urn:li:corpuser:batch" + i, aspectName, 0L,
+          RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com")),
+          new Timestamp(TEST_AUDIT_STAMP.getTime()), TEST_AUDIT_STAMP.getActor().toString(), null, null));
+      keys.add(new EntityAspectIdentifier("urn:li:corpuser:batch" + i, aspectName, 0L));
+    }
+    _entityService.insertAspects(rows);
+    keys.add(new EntityAspectIdentifier("urn:li:corpuser:missing", aspectName, 0L));
+
+    EbeanAspectDao parallelAspectDao = new EbeanAspectDao(_aspectDao.getServer(), 4);
+    parallelAspectDao.setConnectionValidated(true);
+    Map<EntityAspectIdentifier, EntityAspect> result = parallelAspectDao.batchGet(keys);
+    assertEquals(result.size(), 400);
+    assertEquals(result.get(new EntityAspectIdentifier("urn:li:corpuser:batch399", aspectName, 0L)).getMetadata(),
+        RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email399@test.com")));
+
+    // Serial pages return the same aspects
+    assertEquals(_aspectDao.batchGet(keys), result);
+  }
+
+  @Test
+  public void testCompressedAspects() throws AssertionError {
+    Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:compressed");
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+    CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email1@test.com");
+    // Large enough to be worth compressing
+    CorpUserInfo writeAspect2 = AspectGenerationUtils.createCorpUserInfo(StringUtils.repeat("email2", 100) + "@test.com");
+    SystemMetadata metadata = AspectGenerationUtils.createSystemMetadata();
+
+    // Plain and compressed rows are read alike
+    _entityService.ingestAspect(entityUrn, aspectName, writeAspect1, TEST_AUDIT_STAMP, metadata);
+    _aspectDao.setAspectCodec(new AspectCodec(true, 0));
+    _entityService.ingestAspect(entityUrn, aspectName, writeAspect2, TEST_AUDIT_STAMP, metadata);
+
+    EbeanAspectV2 latestRow = _aspectDao.getServer().find(EbeanAspectV2.class,
+        new EbeanAspectV2.PrimaryKey(entityUrn.toString(), aspectName, 0));
+    assertTrue(AspectCodec.isEncoded(latestRow.getMetadata()));
+    assertEquals(_entityService.getLatestAspect(entityUrn, aspectName), writeAspect2);
+    assertEquals(_entityService.getAspect(entityUrn, aspectName, 1), writeAspect1);
+  }
 }
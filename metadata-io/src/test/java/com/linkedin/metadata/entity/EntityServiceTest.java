@@ -33,6 +33,7 @@ import com.linkedin.metadata.aspect.CorpUserAspect;
 import com.linkedin.metadata.aspect.CorpUserAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.retention.RetentionQueue;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.AspectSpec;
@@ -61,6 +62,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.junit.Assert;
 import org.mockito.ArgumentCaptor;
@@ -692,6 +695,87 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
             Mockito.eq(gmce));
     }
 
+    @Test
+    public void testIngestProposalBatch() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,batch1,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,batch2,PROD)");
+        DatasetProperties first = new DatasetProperties().setName("first");
+        DatasetProperties second = new DatasetProperties().setName("second");
+
+        List<MetadataChangeProposal> mcps = ImmutableList.of(
+            datasetPropertiesProposal(entityUrn1, first),
+            datasetPropertiesProposal(entityUrn2, first),
+            // Touches an aspect already in the batch, must be applied after the first proposal
+            datasetPropertiesProposal(entityUrn1, second));
+        List<EntityService.IngestProposalResult> results = _entityService.ingestProposalBatch(mcps, TEST_AUDIT_STAMP, false);
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).getUrn(), entityUrn1);
+        assertEquals(results.get(1).getUrn(), entityUrn2);
+        assertEquals(results.get(2).getUrn(), entityUrn1);
+        results.forEach(result -> {
+            assertTrue(result.isDidUpdate());
+            assertFalse(result.isQueued());
+        });
+
+        assertTrue(DataTemplateUtil.areEqual(second, _entityService.getLatestAspect(entityUrn1, "datasetProperties")));
+        assertTrue(DataTemplateUtil.areEqual(first, _entityService.getAspect(entityUrn1, "datasetProperties", 1)));
+        assertTrue(DataTemplateUtil.areEqual(first, _entityService.getLatestAspect(entityUrn2, "datasetProperties")));
+
+        verify(_mockProducer, times(3)).produceMetadataChangeLog(Mockito.any(), Mockito.any(),
+            Mockito.any(MetadataChangeLog.class));
+    }
+
+    @Test
+    public void testIngestProposalBatchEmitsInInputOrder() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,batchOrder,PROD)");
+        DatasetProfile datasetProfile = new DatasetProfile().setRowCount(1000).setColumnCount(15).setTimestampMillis(0L);
+        MetadataChangeProposal profileProposal = new MetadataChangeProposal();
+        profileProposal.setEntityUrn(entityUrn);
+        profileProposal.setChangeType(ChangeType.UPSERT);
+        profileProposal.setEntityType("dataset");
+        profileProposal.setAspectName("datasetProfile");
+        profileProposal.setAspect(GenericRecordUtils.serializeAspect(datasetProfile));
+
+        // The timeseries proposal sits between two chunks, its change log must not overtake the first one
+        _entityService.ingestProposalBatch(ImmutableList.of(
+            datasetPropertiesProposal(entityUrn, new DatasetProperties().setName("first")),
+            profileProposal,
+            datasetPropertiesProposal(entityUrn, new DatasetProperties().setName("second"))), TEST_AUDIT_STAMP, false);
+
+        ArgumentCaptor<MetadataChangeLog> changeLogs = ArgumentCaptor.forClass(MetadataChangeLog.class);
+        verify(_mockProducer, times(3)).produceMetadataChangeLog(Mockito.eq(entityUrn), Mockito.any(),
+            changeLogs.capture());
+        assertEquals(changeLogs.getAllValues().stream().map(MetadataChangeLog::getAspectName).collect(Collectors.toList()),
+            ImmutableList.of("datasetProperties", "datasetProfile", "datasetProperties"));
+    }
+
+    @Test
+    public void testIngestProposalBatchAsync() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,batch,PROD)");
+        MetadataChangeProposal mcp = datasetPropertiesProposal(entityUrn, new DatasetProperties().setName("async"));
+
+        List<EntityService.IngestProposalResult> results =
+            _entityService.ingestProposalBatch(ImmutableList.of(mcp), TEST_AUDIT_STAMP, true);
+
+        assertEquals(results.size(), 1);
+        assertTrue(results.get(0).isQueued());
+        assertNull(_entityService.getLatestAspect(entityUrn, "datasetProperties"));
+        verify(_mockProducer, times(1)).produceMetadataChangeProposal(Mockito.eq(entityUrn), Mockito.eq(mcp));
+    }
+
+    @Nonnull
+    private static MetadataChangeProposal datasetPropertiesProposal(@Nonnull Urn entityUrn,
+        @Nonnull DatasetProperties datasetProperties) {
+        MetadataChangeProposal mcp = new MetadataChangeProposal();
+        mcp.setEntityUrn(entityUrn);
+        mcp.setChangeType(ChangeType.UPSERT);
+        mcp.setEntityType("dataset");
+        mcp.setAspectName("datasetProperties");
+        mcp.setAspect(GenericRecordUtils.serializeAspect(datasetProperties));
+        return mcp;
+    }
+
     @Test
     public void testUpdateGetAspect() throws AssertionError {
         // Test Writing a CorpUser Entity
@@ -1112,6 +1196,65 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertEquals(_entityService.listLatestAspects(entityUrn.getEntityType(), aspectName2, 0, 10).getTotalCount(), 1);
     }
 
+    @Test
+    public void testGetLatestAspectWithNextVersion() throws AssertionError {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test");
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+        SystemMetadata metadata = AspectGenerationUtils.createSystemMetadata();
+
+        Pair<EntityAspect, Long> latest = _aspectDao.getLatestAspectWithNextVersion(entityUrn.toString(), aspectName);
+        assertNull(latest.getFirst());
+        assertEquals(latest.getSecond(), Long.valueOf(0));
+
+        _entityService.ingestAspect(entityUrn, aspectName,
+            AspectGenerationUtils.createCorpUserInfo("email1@test.com"), TEST_AUDIT_STAMP, metadata);
+        latest = _aspectDao.getLatestAspectWithNextVersion(entityUrn.toString(), aspectName);
+        assertEquals(latest.getFirst().getMetadata(),
+            RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email1@test.com")));
+        assertEquals(latest.getSecond(), Long.valueOf(1));
+
+        for (int i = 2; i <= 3; i++) {
+            _entityService.ingestAspect(entityUrn, aspectName,
+                AspectGenerationUtils.createCorpUserInfo("email" + i + "@test.com"), TEST_AUDIT_STAMP, metadata);
+        }
+        latest = _aspectDao.getLatestAspectWithNextVersion(entityUrn.toString(), aspectName);
+        assertEquals(latest.getFirst().getMetadata(),
+            RecordUtils.toJsonString(AspectGenerationUtils.createCorpUserInfo("email3@test.com")));
+        assertEquals(latest.getSecond(), Long.valueOf(_aspectDao.getNextVersion(entityUrn.toString(), aspectName)));
+        assertEquals(latest.getSecond(), Long.valueOf(3));
+    }
+
+    @Test
+    public void testRetentionQueue() throws AssertionError {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test1");
+        SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata();
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        _retentionService.setRetention(null, null, new DataHubRetentionConfig().setRetention(
+            new Retention().setVersion(new VersionBasedRetention().setMaxVersions(2))));
+        // Flushed explicitly only
+        RetentionQueue retentionQueue = new RetentionQueue(_retentionService, 100, TimeUnit.HOURS.toMillis(1), 1000);
+        _entityService.setRetentionQueue(retentionQueue);
+        try {
+            for (int i = 0; i < 4; i++) {
+                _entityService.ingestAspect(entityUrn, aspectName,
+                    AspectGenerationUtils.createCorpUserInfo("email_" + i + "@test.com"), TEST_AUDIT_STAMP, metadata1);
+            }
+            // Retention is deferred until the queue is flushed, the aspect is queued once
+            assertNotNull(_entityService.getAspect(entityUrn, aspectName, 1));
+            assertEquals(retentionQueue.size(), 1);
+
+            retentionQueue.flush();
+            assertEquals(retentionQueue.size(), 0);
+            assertNull(_entityService.getAspect(entityUrn, aspectName, 1));
+            assertNotNull(_entityService.getAspect(entityUrn, aspectName, 2));
+            assertNotNull(_entityService.getAspect(entityUrn, aspectName, 3));
+        } finally {
+            _entityService.setRetentionQueue(null);
+            retentionQueue.close();
+        }
+    }
+
     @Test
     public void testIngestAspectIfNotPresent() throws AssertionError {
         Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test1");
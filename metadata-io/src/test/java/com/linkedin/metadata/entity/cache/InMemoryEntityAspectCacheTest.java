@@ -0,0 +1,138 @@
+package com.linkedin.metadata.entity.cache;
+
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import java.sql.Timestamp;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class InMemoryEntityAspectCacheTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+
+  private static EntityAspect aspect(String urn, String aspectName, long version, String metadata) {
+    return new EntityAspect(urn, aspectName, version, metadata, null, new Timestamp(0), "urn:li:corpuser:actor", null);
+  }
+
+  @Test
+  public void testGetAllReturnsCachedLatestVersions() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(100, 1024 * 1024, 0);
+    cache.put(aspect(URN, "corpUserInfo", 0, "{}"));
+    // Only latest versions are ever cached
+    cache.put(aspect(URN, "corpUserKey", 1, "{}"));
+
+    EntityAspectIdentifier latest = new EntityAspectIdentifier(URN, "corpUserInfo", 0);
+    EntityAspectIdentifier versioned = new EntityAspectIdentifier(URN, "corpUserKey", 1);
+    Map<EntityAspectIdentifier, EntityAspect> result = cache.getAll(ImmutableSet.of(latest, versioned));
+
+    assertEquals(result.size(), 1);
+    assertEquals(result.get(latest).getMetadata(), "{}");
+    assertEquals(cache.size(), 1);
+  }
+
+  @Test
+  public void testCachedRowsAreCopied() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(100, 1024 * 1024, 0);
+    EntityAspect original = aspect(URN, "corpUserInfo", 0, "{\"active\":true}");
+    cache.put(original);
+    original.setMetadata("{}");
+
+    EntityAspectIdentifier key = new EntityAspectIdentifier(URN, "corpUserInfo", 0);
+    EntityAspect cached = cache.getAll(ImmutableSet.of(key)).get(key);
+    assertEquals(cached.getMetadata(), "{\"active\":true}");
+
+    cached.setMetadata("{}");
+    assertEquals(cache.getAll(ImmutableSet.of(key)).get(key).getMetadata(), "{\"active\":true}");
+  }
+
+  @Test
+  public void testPutIfAbsentKeepsNewerRows() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(100, 1024 * 1024, 0);
+    cache.put(aspect(URN, "corpUserInfo", 0, "{\"active\":true}"));
+    long weightedSize = cache.weightedSize();
+    EntityAspectIdentifier key = new EntityAspectIdentifier(URN, "corpUserInfo", 0);
+    long generation = cache.getGeneration(key);
+    // A read of the row as it was before the write must not replace it
+    cache.putIfAbsent(aspect(URN, "corpUserInfo", 0, "{}"), generation);
+    cache.putIfAbsent(aspect(URN, "corpUserStatus", 0, "{}"), generation);
+
+    assertEquals(cache.getAll(ImmutableSet.of(key)).get(key).getMetadata(), "{\"active\":true}");
+    assertEquals(cache.size(), 2);
+    assertTrue(cache.weightedSize() > weightedSize);
+  }
+
+  @Test
+  public void testPutIfAbsentSkipsRowsInvalidatedWhileRead() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(100, 1024 * 1024, 0);
+    EntityAspectIdentifier key = new EntityAspectIdentifier(URN, "corpUserInfo", 0);
+    EntityAspectIdentifier otherKey = new EntityAspectIdentifier("urn:li:corpuser:other", "corpUserInfo", 0);
+
+    // The row is deleted or written elsewhere while it is read from the database
+    long generation = cache.getGeneration(key);
+    long otherGeneration = cache.getGeneration(otherKey);
+    cache.invalidate(URN, "corpUserInfo");
+    cache.putIfAbsent(aspect(URN, "corpUserInfo", 0, "{}"), generation);
+    assertEquals(cache.size(), 0);
+
+    generation = cache.getGeneration(key);
+    cache.invalidateUrn(URN);
+    cache.putIfAbsent(aspect(URN, "corpUserInfo", 0, "{}"), generation);
+    assertEquals(cache.size(), 0);
+
+    generation = cache.getGeneration(key);
+    cache.invalidateAll();
+    cache.putIfAbsent(aspect(URN, "corpUserInfo", 0, "{}"), generation);
+    assertEquals(cache.size(), 0);
+    assertEquals(cache.weightedSize(), 0);
+
+    // Rows read after the invalidation are cached
+    cache.putIfAbsent(aspect(URN, "corpUserInfo", 0, "{}"), cache.getGeneration(key));
+    assertEquals(cache.size(), 1);
+    assertNotEquals(cache.getGeneration(otherKey), otherGeneration);
+  }
+
+  @Test
+  public void testInvalidation() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(100, 1024 * 1024, 0);
+    cache.put(aspect(URN, "corpUserInfo", 0, "{}"));
+    cache.put(aspect(URN, "corpUserStatus", 0, "{}"));
+    cache.put(aspect("urn:li:corpuser:other", "corpUserInfo", 0, "{}"));
+
+    cache.invalidate(URN, "corpUserInfo");
+    assertEquals(cache.size(), 2);
+
+    cache.invalidateUrn(URN);
+    assertEquals(cache.size(), 1);
+
+    cache.invalidateAll();
+    assertEquals(cache.size(), 0);
+    assertEquals(cache.weightedSize(), 0);
+  }
+
+  @Test
+  public void testEntryCountBound() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(10, 1024 * 1024, 0);
+    for (int i = 0; i < 100; i++) {
+      cache.put(aspect(URN + i, "corpUserInfo", 0, "{}"));
+    }
+    assertTrue(cache.size() <= 10);
+  }
+
+  @Test
+  public void testByteBound() {
+    InMemoryEntityAspectCache cache = new InMemoryEntityAspectCache(1000, 64 * 1024, 0);
+    StringBuilder largeMetadata = new StringBuilder();
+    for (int i = 0; i < 4 * 1024; i++) {
+      largeMetadata.append('x');
+    }
+    for (int i = 0; i < 100; i++) {
+      cache.put(aspect(URN + i, "corpUserInfo", 0, largeMetadata.toString()));
+    }
+    assertTrue(cache.size() < 100);
+    assertTrue(cache.weightedSize() <= 64 * 1024);
+  }
+}
@@ -8,6 +8,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageRelationshipUtils;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import java.net.URL;
@@ -57,7 +58,7 @@ public class ESGraphQueryDAOTest {
 
     // Case 0: Add with no existing paths.
     Map<Urn, UrnArrayArray> nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     UrnArrayArray expectedPathsToChild = new UrnArrayArray(ImmutableList.of(
         new UrnArray(ImmutableList.of(
             testParent,
@@ -69,7 +70,7 @@ public class ESGraphQueryDAOTest {
     // Case 1: No paths to parent.
     nodePaths = new HashMap<>();
     nodePaths.put(UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Other,PROD)"), new UrnArrayArray());
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     expectedPathsToChild = new UrnArrayArray(ImmutableList.of(
         new UrnArray(ImmutableList.of(
             testParent,
@@ -88,7 +89,7 @@ public class ESGraphQueryDAOTest {
         ))
     ));
     nodePaths.put(testParent, existingPathsToParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     expectedPathsToChild = new UrnArrayArray(ImmutableList.of(
         new UrnArray(ImmutableList.of(
             testParentParent,
@@ -112,7 +113,7 @@ public class ESGraphQueryDAOTest {
         ))
     ));
     nodePaths.put(testParent, existingPathsToParent2);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     expectedPathsToChild = new UrnArrayArray(ImmutableList.of(
         new UrnArray(ImmutableList.of(
             testParentParent,
@@ -129,9 +130,9 @@ public class ESGraphQueryDAOTest {
 
     // Case 4: Build graph from empty by adding multiple edges
     nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParentParent, testParent);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParentParent2, testParent);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
 
     // Verify no paths to the grand-parents
     Assert.assertNull(nodePaths.get(testParentParent));
@@ -169,12 +170,12 @@ public class ESGraphQueryDAOTest {
     // Also test duplicate edge addition
     nodePaths = new HashMap<>();
     // Add edge to testChild first! Before path to testParent has been constructed.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     // Duplicate paths WILL appear if you add the same edge twice. Documenting that here.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParent, testChild);
     // Now construct paths to testParent.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParentParent, testParent);
+    LineageRelationshipUtils.addEdgeToPaths(nodePaths, testParentParent2, testParent);
 
     // Verify no paths to the grand-parents
     Assert.assertNull(nodePaths.get(testParentParent));
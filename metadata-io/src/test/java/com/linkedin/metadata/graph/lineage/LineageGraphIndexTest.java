@@ -0,0 +1,143 @@
+package com.linkedin.metadata.graph.lineage;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.testng.Assert.*;
+
+
+public class LineageGraphIndexTest {
+
+  private static final String DOWNSTREAM_OF = "DownstreamOf";
+  private static final GraphFilters DATASETS = new GraphFilters(ImmutableList.of(DATASET_ENTITY_NAME));
+
+  private static final Urn DATASET_ONE = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,one,PROD)");
+  private static final Urn DATASET_TWO = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,two,PROD)");
+  private static final Urn DATASET_THREE = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,three,PROD)");
+  private static final Urn DATASET_FOUR = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,four,PROD)");
+  private static final Urn ACTOR = UrnUtils.getUrn("urn:li:corpuser:datahub");
+
+  private LineageGraphIndex _index;
+
+  @BeforeMethod
+  public void setup() {
+    _index = new LineageGraphIndex(new LineageRegistry(SnapshotEntityRegistry.getInstance()), 2,
+        GraphQueryConfiguration.testDefaults);
+    // one <- two <- three, one <- four
+    _index.addEdge(new Edge(DATASET_ONE, DATASET_TWO, DOWNSTREAM_OF, 10L, ACTOR, null, null, null));
+    _index.addEdge(new Edge(DATASET_TWO, DATASET_THREE, DOWNSTREAM_OF, 20L, ACTOR, null, null, null));
+    _index.addEdge(new Edge(DATASET_ONE, DATASET_FOUR, DOWNSTREAM_OF, 30L, null, null, null, null));
+    _index.markReady();
+  }
+
+  @Test
+  public void testMultiHopLineage() {
+    ESGraphQueryDAO.LineageResponse upstream =
+        _index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 3, null, null);
+    assertEquals(upstream.getTotal(), 3);
+    Map<Urn, LineageRelationship> relationships = byEntity(upstream.getLineageRelationships());
+    assertEquals(relationships.get(DATASET_TWO).getDegree().intValue(), 1);
+    assertEquals(relationships.get(DATASET_TWO).getCreatedActor(), ACTOR);
+    assertEquals(relationships.get(DATASET_FOUR).getDegree().intValue(), 1);
+    assertEquals(relationships.get(DATASET_THREE).getDegree().intValue(), 2);
+    assertEquals(relationships.get(DATASET_THREE).getPaths(),
+        new UrnArrayArray(Collections.singletonList(new UrnArray(ImmutableList.of(DATASET_ONE, DATASET_TWO, DATASET_THREE)))));
+
+    ESGraphQueryDAO.LineageResponse downstream =
+        _index.getLineage(DATASET_THREE, LineageDirection.DOWNSTREAM, DATASETS, 0, 10, 3, null, null);
+    assertEquals(byEntity(downstream.getLineageRelationships()).keySet(), ImmutableList.of(DATASET_TWO, DATASET_ONE)
+        .stream().collect(Collectors.toSet()));
+
+    // Hops, paging and time window
+    assertEquals(_index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 1, null, null).getTotal(), 2);
+    ESGraphQueryDAO.LineageResponse page =
+        _index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 2, 10, 3, null, null);
+    assertEquals(page.getTotal(), 3);
+    assertEquals(page.getLineageRelationships().size(), 1);
+    assertEquals(byEntity(_index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 3, 25L, 35L)
+        .getLineageRelationships()).keySet(), Collections.singleton(DATASET_FOUR));
+  }
+
+  @Test
+  public void testIncrementalUpdates() {
+    // Re-adding an edge updates it in place, keeping its creation time and actor
+    _index.addEdge(new Edge(DATASET_ONE, DATASET_TWO, DOWNSTREAM_OF, 40L, null, 40L, ACTOR, null));
+    ESGraphQueryDAO.LineageResponse upstream =
+        _index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 1, null, null);
+    assertEquals(upstream.getTotal(), 2);
+    LineageRelationship updated = byEntity(upstream.getLineageRelationships()).get(DATASET_TWO);
+    assertEquals(updated.getUpdatedOn().longValue(), 40L);
+    assertEquals(updated.getCreatedOn().longValue(), 10L);
+    assertEquals(updated.getCreatedActor(), ACTOR);
+
+    // Crosses the compaction threshold
+    _index.removeEdge(new Edge(DATASET_TWO, DATASET_THREE, DOWNSTREAM_OF, null, null, null, null, null));
+    _index.addEdge(new Edge(DATASET_FOUR, DATASET_THREE, DOWNSTREAM_OF, null, null, null, null, null));
+    _index.removeEdgesFromNode(DATASET_ONE, Collections.singleton(DOWNSTREAM_OF), RelationshipDirection.OUTGOING);
+    _index.addEdge(new Edge(DATASET_ONE, DATASET_FOUR, DOWNSTREAM_OF, null, null, null, null, null));
+
+    Map<Urn, LineageRelationship> relationships = byEntity(
+        _index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 3, null, null)
+            .getLineageRelationships());
+    assertEquals(relationships.keySet(), ImmutableList.of(DATASET_FOUR, DATASET_THREE).stream().collect(Collectors.toSet()));
+    assertEquals(relationships.get(DATASET_THREE).getDegree().intValue(), 2);
+
+    _index.removeNode(DATASET_FOUR);
+    assertEquals(_index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 3, null, null).getTotal(), 0);
+  }
+
+  @Test
+  public void testMaxResultPerBatch() {
+    GraphQueryConfiguration graphQueryConfiguration = new GraphQueryConfiguration();
+    graphQueryConfiguration.setBatchSize(1);
+    graphQueryConfiguration.setMaxResult(1);
+    LineageGraphIndex index = new LineageGraphIndex(new LineageRegistry(SnapshotEntityRegistry.getInstance()), 2,
+        graphQueryConfiguration);
+    index.addEdge(new Edge(DATASET_ONE, DATASET_TWO, DOWNSTREAM_OF, null, null, null, null, null));
+    index.addEdge(new Edge(DATASET_ONE, DATASET_THREE, DOWNSTREAM_OF, null, null, null, null, null));
+    index.addEdge(new Edge(DATASET_TWO, DATASET_FOUR, DOWNSTREAM_OF, null, null, null, null, null));
+    index.markReady();
+
+    // Only one of the two upstreams of the first hop
+    ESGraphQueryDAO.LineageResponse upstream =
+        index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM, DATASETS, 0, 10, 1, null, null);
+    assertEquals(upstream.getTotal(), 1);
+    // Each node of the next hop is its own batch
+    ESGraphQueryDAO.LineageResponse downstream =
+        index.getLineage(DATASET_FOUR, LineageDirection.DOWNSTREAM, DATASETS, 0, 10, 2, null, null);
+    assertEquals(downstream.getTotal(), 2);
+  }
+
+  @Test
+  public void testIgnoresNonLineageEdges() {
+    _index.addEdge(new Edge(DATASET_ONE, ACTOR, "OwnedBy", null, null, null, null, null));
+    assertFalse(_index.isLineageRelationship("OwnedBy"));
+    assertEquals(_index.getLineage(DATASET_ONE, LineageDirection.UPSTREAM,
+        new GraphFilters(ImmutableList.of(DATASET_ENTITY_NAME, CORP_USER_ENTITY_NAME)), 0, 10, 1, null, null).getTotal(),
+        2);
+  }
+
+  private static Map<Urn, LineageRelationship> byEntity(List<LineageRelationship> relationships) {
+    return relationships.stream().collect(Collectors.toMap(LineageRelationship::getEntity, Function.identity()));
+  }
+}
@@ -10,6 +10,12 @@ import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.mockito.Mockito;
@@ -147,6 +153,33 @@ public class CacheableSearcherTest {
     Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
   }
 
+  @Test
+  public void testConcurrentSearchesOfDifferentRequestsAreNotCoalesced() throws Exception {
+    Cache cache = cacheManager.getCache("differentRequestsSearcher");
+    // Both searches have to be running at the same time for either of them to complete
+    CountDownLatch running = new CountDownLatch(2);
+    Function<CacheableSearcher.QueryPagination, SearchResult> searcher = qs -> {
+      running.countDown();
+      try {
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      return getSearchResult(qs, 10);
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<SearchResult> withFacets = executor.submit(() -> new CacheableSearcher<>(cache, 10, searcher,
+          CacheableSearcher.QueryPagination::getFrom, null, true, List.of("platform")).getSearchResults(0, 10));
+      Future<SearchResult> withoutFacets = executor.submit(() -> new CacheableSearcher<>(cache, 10, searcher,
+          CacheableSearcher.QueryPagination::getFrom, null, true, null).getSearchResults(0, 10));
+      assertEquals(withFacets.get(20, TimeUnit.SECONDS).getEntities().size(), 10);
+      assertEquals(withoutFacets.get(20, TimeUnit.SECONDS).getEntities().size(), 10);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private SearchResult getEmptySearchResult(CacheableSearcher.QueryPagination queryPagination) {
     return new SearchResult().setEntities(new SearchEntityArray())
         .setNumEntities(0)
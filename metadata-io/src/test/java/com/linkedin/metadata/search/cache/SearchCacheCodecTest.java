@@ -0,0 +1,67 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.Test;
+
+import static com.datahub.util.RecordUtils.*;
+import static org.testng.Assert.*;
+
+
+public class SearchCacheCodecTest {
+
+  @Test
+  public void testRoundTrip() {
+    for (int size : List.of(0, 1, 1000)) {
+      SearchResult searchResult = getSearchResult(size);
+      byte[] encoded = SearchCacheCodec.encode(searchResult);
+      assertEquals(SearchCacheCodec.decode(SearchResult.class, encoded), searchResult);
+    }
+    // Large results are deflated
+    assertTrue(SearchCacheCodec.encode(getSearchResult(1000)).length < toJsonString(getSearchResult(1000)).length() / 4);
+  }
+
+  @Test
+  public void testReadsJsonValues() {
+    Cache cache = new ConcurrentMapCache("test");
+    SearchResult searchResult = getSearchResult(10);
+    cache.put("json", toJsonString(searchResult));
+    assertEquals(SearchCacheCodec.get(cache, "json", SearchResult.class), searchResult);
+  }
+
+  @Test
+  public void testGetAndPut() {
+    Cache cache = new ConcurrentMapCache("test");
+    SearchResult searchResult = getSearchResult(10);
+    assertNull(SearchCacheCodec.get(cache, "key", SearchResult.class));
+
+    SearchCacheCodec.put(cache, "key", searchResult);
+    assertTrue(cache.get("key").get() instanceof byte[]);
+    assertEquals(SearchCacheCodec.get(cache, "key", SearchResult.class), searchResult);
+
+    // Undecodable values are misses
+    cache.put("key", new byte[]{42});
+    assertNull(SearchCacheCodec.get(cache, "key", SearchResult.class));
+  }
+
+  private static SearchResult getSearchResult(int size) {
+    List<SearchEntity> entities = IntStream.range(0, size)
+        .mapToObj(i -> new SearchEntity().setEntity(
+            UrnUtils.getUrn(String.format("urn:li:dataset:(urn:li:dataPlatform:hive,table%d,PROD)", i))))
+        .collect(Collectors.toList());
+    return new SearchResult()
+        .setEntities(new SearchEntityArray(entities))
+        .setMetadata(new SearchResultMetadata())
+        .setFrom(0)
+        .setPageSize(size)
+        .setNumEntities(size);
+  }
+}
@@ -0,0 +1,100 @@
+package com.linkedin.metadata.search.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class SingleFlightTest {
+
+  private static final int CALLERS = 4;
+
+  @Test
+  public void testConcurrentCallersShareComputation() throws Exception {
+    final SingleFlight<String, StringBuilder> singleFlight =
+        new SingleFlight<>("singleFlightTest", value -> new StringBuilder(value));
+    final AtomicInteger computations = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    try {
+      final List<Future<StringBuilder>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+          computations.incrementAndGet();
+          awaitQuietly(release);
+          return new StringBuilder("value");
+        })));
+      }
+      // Let every caller join the computation before it completes
+      Thread.sleep(200);
+      release.countDown();
+
+      final List<StringBuilder> values = new ArrayList<>();
+      for (Future<StringBuilder> result : results) {
+        values.add(result.get(10, TimeUnit.SECONDS));
+      }
+      assertEquals(computations.get(), 1);
+      values.forEach(value -> assertEquals(value.toString(), "value"));
+      // Every caller got its own copy
+      assertEquals(values.stream().distinct().count(), CALLERS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testSequentialCallersCompute() {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>("singleFlightTest", value -> value);
+    final AtomicInteger computations = new AtomicInteger();
+    assertEquals(singleFlight.execute("key", () -> "value" + computations.incrementAndGet()), "value1");
+    assertEquals(singleFlight.execute("key", () -> "value" + computations.incrementAndGet()), "value2");
+  }
+
+  @Test
+  public void testExceptionPropagatesToFollowers() throws Exception {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>("singleFlightTest", value -> value);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    try {
+      final List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+          awaitQuietly(release);
+          throw new IllegalStateException("failed");
+        })));
+      }
+      Thread.sleep(200);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        try {
+          result.get(10, TimeUnit.SECONDS);
+          fail("Expected the computation to fail");
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+      }
+      // Failures are not remembered
+      assertEquals(singleFlight.execute("key", () -> "value"), "value");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitQuietly(final CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
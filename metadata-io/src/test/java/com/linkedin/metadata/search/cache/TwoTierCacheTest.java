@@ -0,0 +1,69 @@
+package com.linkedin.metadata.search.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class TwoTierCacheTest {
+
+  private Cache _nearCache;
+  private Cache _clusterCache;
+  private Cache _cache;
+
+  @BeforeMethod
+  public void setup() {
+    _nearCache = new ConcurrentMapCache("test");
+    _clusterCache = new ConcurrentMapCache("test");
+    _cache = new TwoTierCache(_nearCache, _clusterCache);
+  }
+
+  @Test
+  public void testPutWritesBothTiers() {
+    _cache.put("key", "value");
+    assertEquals(_nearCache.get("key", String.class), "value");
+    assertEquals(_clusterCache.get("key", String.class), "value");
+    assertEquals(_cache.get("key", String.class), "value");
+  }
+
+  @Test
+  public void testClusterHitPopulatesNearCache() {
+    // Written by another node
+    _clusterCache.put("key", "value");
+    assertNull(_nearCache.get("key"));
+
+    assertEquals(_cache.get("key", String.class), "value");
+    assertEquals(_nearCache.get("key", String.class), "value");
+  }
+
+  @Test
+  public void testNearCacheServesStaleValuesUntilExpiry() {
+    _cache.put("key", "value");
+    // Evicted by another node
+    _clusterCache.evict("key");
+    assertEquals(_cache.get("key", String.class), "value");
+
+    _cache.evict("key");
+    assertNull(_cache.get("key"));
+  }
+
+  @Test
+  public void testValueLoader() {
+    assertEquals(_cache.get("key", () -> "loaded"), "loaded");
+    assertEquals(_clusterCache.get("key", String.class), "loaded");
+    assertEquals(_cache.get("key", () -> "reloaded"), "loaded");
+  }
+
+  @Test
+  public void testCacheManager() {
+    TwoTierCacheManager cacheManager =
+        new TwoTierCacheManager(new ConcurrentMapCacheManager(), new ConcurrentMapCacheManager());
+    Cache cache = cacheManager.getCache("test");
+    assertTrue(cache instanceof TwoTierCache);
+    assertSame(cacheManager.getCache("test"), cache);
+  }
+}
@@ -0,0 +1,35 @@
+package com.linkedin.metadata.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class UpdateIndicesServiceTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void testMergeSearchDocumentsMergesNestedObjects() throws Exception {
+    final String merged = UpdateIndicesService.mergeSearchDocuments(List.of(
+        "{\"urn\":\"urn:li:corpuser:a\",\"customProperties\":{\"a\":\"1\",\"b\":\"1\"},\"tags\":[\"x\"]}",
+        "{\"urn\":\"urn:li:corpuser:a\",\"customProperties\":{\"b\":\"2\",\"c\":\"2\"},\"tags\":[\"y\"]}"
+    )).get();
+
+    final JsonNode expected = OBJECT_MAPPER.readTree(
+        "{\"urn\":\"urn:li:corpuser:a\",\"customProperties\":{\"a\":\"1\",\"b\":\"2\",\"c\":\"2\"},\"tags\":[\"y\"]}");
+    Assert.assertEquals(OBJECT_MAPPER.readTree(merged), expected);
+  }
+
+  @Test
+  public void testMergeSearchDocumentsReplacesValuesOfDifferentTypes() throws Exception {
+    final String merged = UpdateIndicesService.mergeSearchDocuments(List.of(
+        "{\"removed\":{\"value\":true}}",
+        "{\"removed\":false}"
+    )).get();
+
+    Assert.assertEquals(OBJECT_MAPPER.readTree(merged), OBJECT_MAPPER.readTree("{\"removed\":false}"));
+  }
+}
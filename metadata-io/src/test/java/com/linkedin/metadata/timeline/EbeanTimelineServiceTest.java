@@ -1,12 +1,23 @@
 package com.linkedin.metadata.timeline;
 
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.EbeanTestUtils;
 import com.linkedin.metadata.config.PreProcessHooks;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.models.registry.EntityRegistryException;
+import com.linkedin.metadata.timeline.data.ChangeCategory;
+import com.linkedin.metadata.timeline.data.ChangeTransaction;
+import com.linkedin.util.Pair;
 import io.ebean.EbeanServer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -38,6 +49,43 @@ public class EbeanTimelineServiceTest extends TimelineServiceTest<EbeanAspectDao
         _mockUpdateIndicesService, preProcessHooks);
   }
 
+  @Test
+  public void testGetTimelineWithDiffCache() throws Exception {
+    Urn entityUrn = Urn.createFromString(
+        "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.cachedTable" + System.currentTimeMillis() + ",PROD)");
+    String aspectName = "schemaMetadata";
+    for (int i = 5; i > 0; i--) {
+      AuditStamp daysAgo = createTestAuditStamp(i);
+      _entityService.ingestAspects(entityUrn,
+          Collections.singletonList(new Pair<>(aspectName, getSchemaMetadata("Description for day " + i))),
+          daysAgo, getSystemMetadata(daysAgo, "run-" + i));
+    }
+
+    Set<ChangeCategory> elements = new HashSet<>(Arrays.asList(ChangeCategory.TECHNICAL_SCHEMA,
+        ChangeCategory.DOCUMENTATION));
+    long startTime = createTestAuditStamp(10).getTime();
+    TimelineServiceImpl cachingTimelineService = new TimelineServiceImpl(_aspectDao, _testEntityRegistry, 100, 0, 2);
+    List<String> expected =
+        describe(_entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null, false));
+    // Range queries are only supported by the relational implementation
+    Assert.assertFalse(expected.isEmpty());
+    // Cached diffs are the same as computed ones, and are not modified by the requests they are served to
+    for (int i = 0; i < 3; i++) {
+      Assert.assertEquals(
+          describe(cachingTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null, false)), expected);
+    }
+  }
+
+  private static List<String> describe(List<ChangeTransaction> changeTransactions) {
+    List<String> descriptions = new ArrayList<>();
+    for (ChangeTransaction changeTransaction : changeTransactions) {
+      descriptions.add(String.format("%s %s %s %s %s", changeTransaction.getTimestamp(),
+          changeTransaction.getSemVer(), changeTransaction.getSemVerChange(), changeTransaction.getVersionStamp(),
+          changeTransaction.getChangeEvents().size()));
+    }
+    return descriptions;
+  }
+
   /**
    * Ideally, all tests would be in the base class, so they're reused between all implementations.
    * When that's the case - test runner will ignore this class (and its base!) so we keep this dummy test
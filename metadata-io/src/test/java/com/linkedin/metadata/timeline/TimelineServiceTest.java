@@ -110,7 +110,7 @@ abstract public class TimelineServiceTest<T_AD extends AspectDao> {
     //Assert.assertEquals(changes.get(1).getTimestamp(), timestamps.get(5).getTime().longValue());
   }
 
-  private static AuditStamp createTestAuditStamp(int daysAgo) {
+  protected static AuditStamp createTestAuditStamp(int daysAgo) {
     try {
       Long timestamp = System.currentTimeMillis() - (daysAgo * 24 * 60 * 60 * 1000L);
       Long timestampRounded = 1000 * (timestamp / 1000);
@@ -120,14 +120,14 @@ abstract public class TimelineServiceTest<T_AD extends AspectDao> {
     }
   }
 
-  private SystemMetadata getSystemMetadata(AuditStamp twoDaysAgo, String s) {
+  protected SystemMetadata getSystemMetadata(AuditStamp twoDaysAgo, String s) {
     SystemMetadata metadata1 = new SystemMetadata();
     metadata1.setLastObserved(twoDaysAgo.getTime());
     metadata1.setRunId(s);
     return metadata1;
   }
 
-  private SchemaMetadata getSchemaMetadata(String s) {
+  protected SchemaMetadata getSchemaMetadata(String s) {
     SchemaField field1 = new SchemaField()
         .setFieldPath("column1")
         .setDescription(s)
@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @Conditional(MetadataChangeLogProcessorCondition.class)
+@ConditionalOnProperty(name = "kafka.listener.mclBatch.enabled", havingValue = "false", matchIfMissing = true)
 @Import({
     UpdateIndicesHook.class,
     IngestionSchedulerHook.class,
@@ -89,7 +91,7 @@ public class MetadataChangeLogProcessor {
         log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
       }
     }
-    // TODO: Manually commit kafka offsets after full processing.
+    // Offsets are auto-committed in this mode, see ParallelMetadataChangeLogProcessor to commit after full processing.
     MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc();
     log.debug("Successfully completed MCL hooks for urn: {}, key: {}", event.getEntityUrn(),
         event.getEntityKeyAspect());
@@ -0,0 +1,212 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
+import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
+import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
+import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Worker pool counterpart of {@link MetadataChangeLogProcessor}, enabled with kafka.listener.mclBatch.enabled.
+ *
+ * Records of a poll are fanned out to a fixed number of lanes by hashing their key (the entity urn), so events for
+ * the same entity are still processed in offset order while different entities are processed concurrently. Each lane
+ * hands its events to the enabled hooks as a single batch (see {@link MetadataChangeLogHook#invokeBatch(List)}), one
+ * hook after the other in their configured order, as hooks may rely on the effects of the previous ones.
+ *
+ * Offsets are committed manually, once every hook has completed for every record of the poll. A failing hook fails the
+ * whole poll, which the error handler of the kafkaManualCommitBatchEventConsumer container factory hands to this
+ * listener again with an exponential backoff until it succeeds, the partitions being paused meanwhile: failed events
+ * are never skipped. A redelivered lane resumes from the hook that failed, so hooks which completed for its events are
+ * not run again and lanes which completed are skipped. Events are only seen again by every hook if the poll is
+ * delivered differently, e.g. after a rebalance or a restart, so hooks still have to tolerate seeing events again.
+ */
+@Slf4j
+@Component
+@Conditional(MetadataChangeLogProcessorCondition.class)
+@ConditionalOnProperty(name = "kafka.listener.mclBatch.enabled", havingValue = "true")
+@Import({
+    UpdateIndicesHook.class,
+    IngestionSchedulerHook.class,
+    EntityChangeEventGeneratorHook.class,
+    KafkaEventConsumerFactory.class,
+    SiblingAssociationHook.class
+})
+@EnableKafka
+public class ParallelMetadataChangeLogProcessor {
+
+  @Getter
+  private final List<MetadataChangeLogHook> hooks;
+  private final List<ThreadPoolExecutor> lanes;
+  // Events queued or being processed per lane
+  private final List<AtomicInteger> laneEvents;
+  // Number of hooks which completed for the records of a lane of a failed poll, keyed by the offsets of the records
+  private final Map<List<String>, Integer> completedHooks = new ConcurrentHashMap<>();
+
+  private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram commitLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "commitLag"));
+
+  @Autowired
+  public ParallelMetadataChangeLogProcessor(List<MetadataChangeLogHook> metadataChangeLogHooks,
+      @Qualifier("configurationProvider") ConfigurationProvider configurationProvider) {
+    this.hooks = metadataChangeLogHooks.stream().filter(MetadataChangeLogHook::isEnabled).collect(Collectors.toList());
+    this.hooks.forEach(MetadataChangeLogHook::init);
+
+    final int laneCount = configurationProvider.getKafka().getListener().getMclBatch().getParallelism();
+    this.lanes = new ArrayList<>(laneCount);
+    this.laneEvents = new ArrayList<>(laneCount);
+    for (int i = 0; i < laneCount; i++) {
+      // Single threaded lanes keep the events of an entity in order
+      final ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setNameFormat("mcl-lane-" + i).setDaemon(true).build());
+      final AtomicInteger events = new AtomicInteger();
+      MetricUtils.gauge(this.getClass(), "lane_" + i + "_buffered_events", () -> events::get);
+      this.lanes.add(lane);
+      this.laneEvents.add(events);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    lanes.forEach(ThreadPoolExecutor::shutdown);
+  }
+
+  @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
+      "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+      "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
+          + "}"}, containerFactory = "kafkaManualCommitBatchEventConsumer")
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      final Acknowledgment acknowledgment) {
+    final long receivedAt = System.currentTimeMillis();
+    long oldestTimestamp = receivedAt;
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      kafkaLagStats.update(receivedAt - consumerRecord.timestamp());
+      oldestTimestamp = Math.min(oldestTimestamp, consumerRecord.timestamp());
+    }
+    MetricUtils.counter(this.getClass(), "received_mcl_count").inc(consumerRecords.size());
+
+    final List<List<ConsumerRecord<String, GenericRecord>>> recordsByLane = new ArrayList<>(lanes.size());
+    for (int i = 0; i < lanes.size(); i++) {
+      recordsByLane.add(new ArrayList<>());
+    }
+    consumerRecords.forEach(consumerRecord -> recordsByLane.get(laneOf(consumerRecord)).add(consumerRecord));
+
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(lanes.size());
+    for (int i = 0; i < lanes.size(); i++) {
+      final List<ConsumerRecord<String, GenericRecord>> laneRecords = recordsByLane.get(i);
+      if (!laneRecords.isEmpty()) {
+        final AtomicInteger events = laneEvents.get(i);
+        events.addAndGet(laneRecords.size());
+        futures.add(CompletableFuture.runAsync(() -> {
+          try {
+            process(laneRecords);
+          } finally {
+            events.addAndGet(-laneRecords.size());
+          }
+        }, lanes.get(i)));
+      }
+    }
+    // Throws if a hook failed, in which case the batch is not acknowledged and will be redelivered
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    acknowledgment.acknowledge();
+    // Failed polls are redelivered before anything else is consumed, nothing is left to resume once one succeeds
+    completedHooks.clear();
+    commitLagStats.update(System.currentTimeMillis() - oldestTimestamp);
+  }
+
+  private int laneOf(@Nonnull final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final String key = consumerRecord.key();
+    return key == null ? 0 : Math.floorMod(key.hashCode(), lanes.size());
+  }
+
+  private void process(@Nonnull final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final List<String> offsets = consumerRecords.stream()
+        .map(consumerRecord -> consumerRecord.topic() + "-" + consumerRecord.partition() + "@" + consumerRecord.offset())
+        .collect(Collectors.toList());
+    final int firstHook = completedHooks.getOrDefault(offsets, 0);
+    if (firstHook >= hooks.size()) {
+      return;
+    }
+    final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      final GenericRecord record = consumerRecord.value();
+      log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+      try {
+        final MetadataChangeLog event = EventUtils.avroToPegasusMCL(record);
+        log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
+            event.getEntityKeyAspect());
+        events.add(event);
+      } catch (Exception e) {
+        MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+        log.error("Error deserializing message due to: ", e);
+        log.error("Message: {}", record.toString());
+      }
+    }
+    if (events.isEmpty()) {
+      return;
+    }
+
+    log.debug("Invoking MCL hooks for {} events, starting from hook {}", events.size(), firstHook);
+    for (int i = firstHook; i < hooks.size(); i++) {
+      try {
+        invokeHook(hooks.get(i), events);
+      } catch (RuntimeException e) {
+        completedHooks.put(offsets, i);
+        throw e;
+      }
+    }
+    completedHooks.put(offsets, hooks.size());
+
+    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+    log.debug("Successfully completed MCL hooks for {} events", events.size());
+  }
+
+  private void invokeHook(@Nonnull final MetadataChangeLogHook hook, @Nonnull final List<MetadataChangeLog> events) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
+        .time()) {
+      hook.invokeBatch(events);
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      throw new RuntimeException(
+          String.format("Failed to execute MCL hook with name %s", hook.getClass().getCanonicalName()), e);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.kafka.hook;
 
 import com.linkedin.mxe.MetadataChangeLog;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 
@@ -29,4 +30,27 @@ public interface MetadataChangeLogHook {
    * Invoke the hook when a MetadataChangeLog is received
    */
   void invoke(@Nonnull MetadataChangeLog log) throws Exception;
+
+  /**
+   * Invoke the hook with a list of MetadataChangeLogs, in log order. Hooks able to coalesce work across events can
+   * override this, by default the events are handed to {@link #invoke(MetadataChangeLog)} one at a time. A failing
+   * event does not prevent the following ones from being processed, the first failure is rethrown at the end.
+   */
+  default void invokeBatch(@Nonnull List<MetadataChangeLog> logs) throws Exception {
+    Exception failure = null;
+    for (MetadataChangeLog log : logs) {
+      try {
+        invoke(log);
+      } catch (Exception e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
 }
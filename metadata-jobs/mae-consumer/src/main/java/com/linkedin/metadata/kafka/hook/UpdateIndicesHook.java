@@ -8,6 +8,8 @@ import com.linkedin.gms.factory.search.SearchDocumentTransformerFactory;
 import com.linkedin.gms.factory.timeseries.TimeseriesAspectServiceFactory;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.mxe.MetadataChangeLog;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,14 +43,27 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
 
   @Override
   public void invoke(@Nonnull final MetadataChangeLog event) {
+    if (isPreProcessed(event)) {
+      return;
+    }
+    _updateIndicesService.handleChangeEvent(event);
+  }
+
+  @Override
+  public void invokeBatch(@Nonnull final List<MetadataChangeLog> events) {
+    _updateIndicesService.handleChangeEvents(
+        events.stream().filter(event -> !isPreProcessed(event)).collect(Collectors.toList()));
+  }
+
+  private static boolean isPreProcessed(@Nonnull final MetadataChangeLog event) {
     if (event.getSystemMetadata() != null) {
       if (event.getSystemMetadata().getProperties() != null) {
         if (UI_SOURCE.equals(event.getSystemMetadata().getProperties().get(APP_SOURCE))) {
           // If coming from the UI, we pre-process the Update Indices hook as a fast path to avoid Kafka lag
-          return;
+          return true;
         }
       }
     }
-    _updateIndicesService.handleChangeEvent(event);
+    return false;
   }
 }
@@ -0,0 +1,160 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.config.kafka.BatchListenerConfiguration;
+import com.linkedin.metadata.config.kafka.KafkaConfiguration;
+import com.linkedin.metadata.config.kafka.ListenerConfiguration;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class ParallelMetadataChangeLogProcessorTest {
+
+  private static final int URNS = 8;
+  private static final int EVENTS_PER_URN = 20;
+
+  private RecordingHook _firstHook;
+  private RecordingHook _secondHook;
+  private ParallelMetadataChangeLogProcessor _processor;
+
+  @BeforeMethod
+  public void setup() {
+    BatchListenerConfiguration mclBatch = new BatchListenerConfiguration();
+    mclBatch.setEnabled(true);
+    mclBatch.setParallelism(4);
+    ListenerConfiguration listener = new ListenerConfiguration();
+    listener.setMclBatch(mclBatch);
+    KafkaConfiguration kafka = new KafkaConfiguration();
+    kafka.setListener(listener);
+    ConfigurationProvider configurationProvider = new ConfigurationProvider();
+    configurationProvider.setKafka(kafka);
+
+    _firstHook = new RecordingHook();
+    _secondHook = new RecordingHook();
+    _processor = new ParallelMetadataChangeLogProcessor(List.of(_firstHook, _secondHook), configurationProvider);
+  }
+
+  @AfterMethod
+  public void teardown() {
+    _processor.shutdown();
+  }
+
+  @Test
+  public void testEventsOfAnEntityAreProcessedInOrder() throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    long offset = 0;
+    for (int version = 0; version < EVENTS_PER_URN; version++) {
+      for (int i = 0; i < URNS; i++) {
+        String urn = "urn:li:corpuser:user" + i;
+        records.add(new ConsumerRecord<>("MetadataChangeLog_Versioned_v1", 0, offset++, urn,
+            EventUtils.pegasusToAvroMCL(changeLog(urn, version))));
+      }
+    }
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    _processor.consume(records, acknowledgment);
+
+    verify(acknowledgment, times(1)).acknowledge();
+    for (RecordingHook hook : List.of(_firstHook, _secondHook)) {
+      assertEquals(hook._runIdsByUrn.size(), URNS);
+      List<String> expected = new ArrayList<>();
+      for (int version = 0; version < EVENTS_PER_URN; version++) {
+        expected.add("run-" + version);
+      }
+      hook._runIdsByUrn.values().forEach(runIds -> assertEquals(runIds, expected));
+    }
+  }
+
+  @Test
+  public void testFailingHookCausesRedelivery() throws Exception {
+    _firstHook._fail = true;
+    String urn = "urn:li:corpuser:datahub";
+    List<ConsumerRecord<String, GenericRecord>> records = Collections.singletonList(new ConsumerRecord<>(
+        "MetadataChangeLog_Versioned_v1", 0, 0L, urn, EventUtils.pegasusToAvroMCL(changeLog(urn, 0))));
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    assertThrows(CompletionException.class, () -> _processor.consume(records, acknowledgment));
+    verify(acknowledgment, never()).acknowledge();
+    // Hooks run in order, the hooks after the failing one have not seen the event yet
+    assertTrue(_secondHook._runIdsByUrn.isEmpty());
+
+    // The redelivered batch is not skipped by the hook which failed
+    _firstHook._fail = false;
+    _processor.consume(records, acknowledgment);
+
+    verify(acknowledgment, times(1)).acknowledge();
+    assertEquals(_firstHook._runIdsByUrn.get(urn), Collections.singletonList("run-0"));
+    assertEquals(_secondHook._runIdsByUrn.get(urn), Collections.singletonList("run-0"));
+  }
+
+  @Test
+  public void testRedeliveryResumesFromTheFailingHook() throws Exception {
+    _secondHook._fail = true;
+    String urn = "urn:li:corpuser:datahub";
+    List<ConsumerRecord<String, GenericRecord>> records = Collections.singletonList(new ConsumerRecord<>(
+        "MetadataChangeLog_Versioned_v1", 0, 0L, urn, EventUtils.pegasusToAvroMCL(changeLog(urn, 0))));
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    assertThrows(CompletionException.class, () -> _processor.consume(records, acknowledgment));
+    assertEquals(_firstHook._runIdsByUrn.get(urn), Collections.singletonList("run-0"));
+
+    // The hook which completed does not see the redelivered event again
+    _secondHook._fail = false;
+    _processor.consume(records, acknowledgment);
+
+    verify(acknowledgment, times(1)).acknowledge();
+    assertEquals(_firstHook._runIdsByUrn.get(urn), Collections.singletonList("run-0"));
+    assertEquals(_secondHook._runIdsByUrn.get(urn), Collections.singletonList("run-0"));
+
+    // Once acknowledged, the same offsets delivered again, e.g. after a rebalance, go through every hook
+    _processor.consume(records, acknowledgment);
+    assertEquals(_firstHook._runIdsByUrn.get(urn), List.of("run-0", "run-0"));
+  }
+
+  @Nonnull
+  private static MetadataChangeLog changeLog(@Nonnull String urn, int version) {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(CORP_USER_ENTITY_NAME);
+    event.setEntityUrn(UrnUtils.getUrn(urn));
+    event.setAspectName(CORP_USER_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setSystemMetadata(new SystemMetadata().setRunId("run-" + version));
+    return event;
+  }
+
+  private static class RecordingHook implements MetadataChangeLogHook {
+    private final Map<String, List<String>> _runIdsByUrn = new ConcurrentHashMap<>();
+    private volatile boolean _fail = false;
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog event) {
+      if (_fail) {
+        throw new RuntimeException("Hook failure");
+      }
+      // Lanes are keyed by urn, so a single thread appends to a given list
+      _runIdsByUrn.computeIfAbsent(event.getEntityUrn().toString(), key -> new ArrayList<>())
+          .add(event.getSystemMetadata().getRunId());
+    }
+  }
+}
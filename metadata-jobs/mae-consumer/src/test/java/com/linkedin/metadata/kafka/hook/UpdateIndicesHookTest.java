@@ -52,6 +52,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.kafka.hook.MCLProcessingTestDataGenerator.*;
@@ -182,6 +183,28 @@ public class UpdateIndicesHookTest {
     );
   }
 
+  @Test
+  public void testBatchCoalescesSearchAndGraphWrites() throws Exception {
+    _updateIndicesService.setGraphDiffMode(true);
+    _updateIndicesService.setSearchDiffMode(true);
+
+    // newLineage followed by addLineage for the same dataset
+    MetadataChangeLog newLineage = createBaseChangeLog();
+    MetadataChangeLog addLineage = setPreviousData(createBaseChangeLog(), newLineage);
+    addLineage = modifyAspect(addLineage, addLineageEdge(createBaseLineageAspect()));
+
+    _updateIndicesHook.invokeBatch(List.of(newLineage, addLineage));
+
+    // The first upstream is added then updated, which collapses into a single upsert
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.times(1)).upsertEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.times(0)).removeEdge(Mockito.any());
+    // Both document updates are merged into one
+    Mockito.verify(_mockEntitySearchService, Mockito.times(1))
+        .upsertDocument(Mockito.eq(DATASET_ENTITY_NAME), Mockito.any(),
+            Mockito.eq(URLEncoder.encode(TEST_DATASET_URN, StandardCharsets.UTF_8)));
+  }
+
   @Test
   public void testMCLProcessExhaustive() throws URISyntaxException {
 
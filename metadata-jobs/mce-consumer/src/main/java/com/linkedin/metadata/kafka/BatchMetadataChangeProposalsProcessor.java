@@ -0,0 +1,264 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datahub.authentication.Authentication;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.kafka.DataHubKafkaProducerFactory;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.entity.AspectUtils;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.FailedMetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.Topics;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Batch counterpart of {@link MetadataChangeProposalsProcessor}, enabled with kafka.listener.mcpBatch.enabled.
+ *
+ * Each poll is deserialized in parallel, then split into groups of proposals sharing the same entity urn. Groups are
+ * ingested concurrently through the in-process {@link EntityService}, while the proposals of a group are ingested in
+ * offset order with a single {@link EntityService#ingestProposalBatch(List, AuditStamp, boolean, Consumer)} call.
+ * When a group fails, the proposals not applied before the failure are retried one by one so that only the failing
+ * ones are routed to the FMCP topic. Applied proposals are never written twice, re-applying patches would not be
+ * idempotent.
+ */
+@Slf4j
+@Component
+@Import({SystemAuthenticationFactory.class, KafkaEventConsumerFactory.class, DataHubKafkaProducerFactory.class})
+@Conditional(MetadataChangeProposalProcessorCondition.class)
+@ConditionalOnProperty(name = "kafka.listener.mcpBatch.enabled", havingValue = "true")
+@EnableKafka
+public class BatchMetadataChangeProposalsProcessor {
+
+  private final Authentication _systemAuthentication;
+  private final EntityService _entityService;
+  private final EntitySearchService _entitySearchService;
+  private final Producer<String, IndexedRecord> _kafkaProducer;
+  private final ExecutorService _executor;
+  private final String _fmcpTopicName;
+
+  private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+
+  public BatchMetadataChangeProposalsProcessor(
+      @Nonnull final Authentication systemAuthentication,
+      @Nonnull @Qualifier("entityService") final EntityService entityService,
+      @Nonnull @Qualifier("entitySearchService") final EntitySearchService entitySearchService,
+      @Nonnull final Producer<String, IndexedRecord> kafkaProducer,
+      @Nonnull @Qualifier("configurationProvider") final ConfigurationProvider configurationProvider,
+      @Nonnull @Value("${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_PROPOSAL + "}")
+      final String fmcpTopicName) {
+    _systemAuthentication = systemAuthentication;
+    _entityService = entityService;
+    _entitySearchService = entitySearchService;
+    _kafkaProducer = kafkaProducer;
+    _executor = Executors.newFixedThreadPool(configurationProvider.getKafka().getListener().getMcpBatch().getParallelism(),
+        new ThreadFactoryBuilder().setNameFormat("mcp-batch-processor-%d").setDaemon(true).build());
+    _fmcpTopicName = fmcpTopicName;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    _executor.shutdown();
+  }
+
+  @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
+      "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
+          + "}", containerFactory = "kafkaBatchEventConsumer")
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    batchSizeStats.update(consumerRecords.size());
+    final long now = System.currentTimeMillis();
+    consumerRecords.forEach(consumerRecord -> kafkaLagStats.update(now - consumerRecord.timestamp()));
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      // 1. Deserialize in parallel, keeping the records in offset order
+      final List<MetadataChangeProposal> proposals = joinAll(consumerRecords.stream()
+          .map(consumerRecord -> CompletableFuture.supplyAsync(() -> deserialize(consumerRecord), _executor))
+          .collect(Collectors.toList()));
+
+      // 2. Group by entity so that proposals for the same entity are ingested in order
+      final Map<String, List<MetadataChangeProposal>> proposalsByEntity = new LinkedHashMap<>();
+      for (int i = 0; i < consumerRecords.size(); i++) {
+        final MetadataChangeProposal proposal = proposals.get(i);
+        if (proposal != null) {
+          proposalsByEntity.computeIfAbsent(groupKey(consumerRecords.get(i), proposal), key -> new ArrayList<>())
+              .add(proposal);
+        }
+      }
+
+      // 3. Ingest the groups concurrently
+      joinAll(proposalsByEntity.values().stream()
+          .map(group -> CompletableFuture.runAsync(() -> ingest(group), _executor))
+          .collect(Collectors.toList()));
+    }
+  }
+
+  @Nullable
+  private MetadataChangeProposal deserialize(@Nonnull final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final GenericRecord record = consumerRecord.value();
+    try {
+      final MetadataChangeProposal event = EventUtils.avroToPegasusMCP(record);
+      log.debug("MetadataChangeProposal {}", event);
+      return event;
+    } catch (Throwable throwable) {
+      log.error("MCP Processor Error", throwable);
+      log.error("Message: {}", record);
+      // The proposal could not be read, the original record goes along with the error instead
+      sendFailedMCP(new MetadataChangeProposal(), String.format(
+          "Failed to deserialize record %s-%d@%d with key %s: %s%n%s", consumerRecord.topic(),
+          consumerRecord.partition(), consumerRecord.offset(), consumerRecord.key(), record,
+          ExceptionUtils.getStackTrace(throwable)));
+      return null;
+    }
+  }
+
+  @Nonnull
+  private static String groupKey(@Nonnull final ConsumerRecord<String, GenericRecord> consumerRecord,
+      @Nonnull final MetadataChangeProposal proposal) {
+    if (proposal.hasEntityUrn()) {
+      return proposal.getEntityUrn().toString();
+    }
+    // Proposals identified by their key aspect are produced keyed by urn
+    return consumerRecord.key() == null ? "" : consumerRecord.key();
+  }
+
+  private void ingest(@Nonnull final List<MetadataChangeProposal> group) {
+    final AuditStamp auditStamp = createAuditStamp();
+    // Additional changes (e.g. default aspects) follow their proposal
+    final List<MetadataChangeProposal> proposals = new ArrayList<>();
+    final List<Integer> inputPositions = new ArrayList<>();
+    final List<EntityService.IngestProposalResult> appliedResults = new ArrayList<>();
+    try {
+      for (MetadataChangeProposal proposal : group) {
+        inputPositions.add(proposals.size());
+        proposals.add(proposal);
+        proposals.addAll(AspectUtils.getAdditionalChanges(proposal, _entityService));
+      }
+      _entityService.ingestProposalBatch(proposals, auditStamp, false, appliedResults::add);
+    } catch (Throwable batchThrowable) {
+      log.warn("Failed to ingest {} proposals as a batch after applying {} of {}, retrying the others one by one",
+          group.size(), appliedResults.size(), proposals.size(), batchThrowable);
+      MetricUtils.counter(this.getClass(), "batchFallback").inc();
+    }
+
+    final int applied = appliedResults.size();
+    for (int i = 0; i < group.size(); i++) {
+      final MetadataChangeProposal proposal = group.get(i);
+      try {
+        final EntityService.IngestProposalResult result;
+        if (i < inputPositions.size() && inputPositions.get(i) < applied) {
+          // Applied with the batch, only additional changes cut off by the failure are left to apply
+          final int end = i + 1 < inputPositions.size() ? inputPositions.get(i + 1) : proposals.size();
+          if (end > applied) {
+            _entityService.ingestProposalBatch(proposals.subList(applied, end), auditStamp, false);
+          }
+          result = appliedResults.get(inputPositions.get(i));
+        } else {
+          result = ingestOne(proposal, auditStamp);
+        }
+        appendRunId(proposal, result);
+      } catch (Throwable throwable) {
+        log.error("MCP Processor Error", throwable);
+        log.error("Message: {}", proposal);
+        sendFailedMCP(proposal, ExceptionUtils.getStackTrace(throwable));
+      }
+    }
+  }
+
+  /**
+   * Mirrors what the ingestProposal Rest.li action does for a single proposal: ingest it along with its additional
+   * changes.
+   */
+  @Nonnull
+  private EntityService.IngestProposalResult ingestOne(@Nonnull final MetadataChangeProposal proposal,
+      @Nonnull final AuditStamp auditStamp) {
+    final List<MetadataChangeProposal> proposals = new ArrayList<>();
+    proposals.add(proposal);
+    proposals.addAll(AspectUtils.getAdditionalChanges(proposal, _entityService));
+    return _entityService.ingestProposalBatch(proposals, auditStamp, false).get(0);
+  }
+
+  /**
+   * Indexes the run id of a synchronously written proposal, as the ingestProposal Rest.li action does.
+   */
+  private void appendRunId(@Nonnull final MetadataChangeProposal proposal,
+      @Nonnull final EntityService.IngestProposalResult result) {
+    if (!result.isQueued() && proposal.getSystemMetadata() != null && proposal.getSystemMetadata().hasRunId()) {
+      final Urn urn = result.getUrn();
+      _entitySearchService.appendRunId(urn.getEntityType(), urn, proposal.getSystemMetadata().getRunId());
+    }
+  }
+
+  @Nonnull
+  private AuditStamp createAuditStamp() {
+    // TODO: Get this from the event itself.
+    return new AuditStamp().setTime(System.currentTimeMillis())
+        .setActor(UrnUtils.getUrn(_systemAuthentication.getActor().toUrnStr()));
+  }
+
+  @Nonnull
+  private static <T> List<T> joinAll(@Nonnull final List<CompletableFuture<T>> futures) {
+    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
+  private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull String error) {
+    final FailedMetadataChangeProposal failedMetadataChangeProposal = createFailedMCPEvent(event, error);
+    try {
+      final GenericRecord genericFailedMCERecord = EventUtils.pegasusToAvroFailedMCP(failedMetadataChangeProposal);
+      log.debug("Sending FailedMessages to topic - {}", _fmcpTopicName);
+      log.info("Error while processing FMCP: FailedMetadataChangeProposal - {}", failedMetadataChangeProposal);
+      _kafkaProducer.send(new ProducerRecord<>(_fmcpTopicName, genericFailedMCERecord));
+    } catch (IOException e) {
+      log.error("Error while sending FailedMetadataChangeProposal: Exception  - {}, FailedMetadataChangeProposal - {}",
+          e.getStackTrace(), failedMetadataChangeProposal);
+    }
+  }
+
+  @Nonnull
+  private FailedMetadataChangeProposal createFailedMCPEvent(@Nonnull MetadataChangeProposal event,
+      @Nonnull String error) {
+    final FailedMetadataChangeProposal fmcp = new FailedMetadataChangeProposal();
+    fmcp.setError(error);
+    fmcp.setMetadataChangeProposal(event);
+    return fmcp;
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -38,6 +39,7 @@ import org.springframework.stereotype.Component;
 @Import({RestliEntityClientFactory.class, SystemAuthenticationFactory.class, KafkaEventConsumerFactory.class,
     DataHubKafkaProducerFactory.class})
 @Conditional(MetadataChangeProposalProcessorCondition.class)
+@ConditionalOnProperty(name = "kafka.listener.mcpBatch.enabled", havingValue = "false", matchIfMissing = true)
 @EnableKafka
 @RequiredArgsConstructor
 public class MetadataChangeProposalsProcessor {
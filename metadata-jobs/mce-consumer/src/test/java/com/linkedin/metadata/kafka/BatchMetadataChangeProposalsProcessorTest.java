@@ -0,0 +1,200 @@
+package com.linkedin.metadata.kafka;
+
+import com.datahub.authentication.Actor;
+import com.datahub.authentication.ActorType;
+import com.datahub.authentication.Authentication;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.config.kafka.BatchListenerConfiguration;
+import com.linkedin.metadata.config.kafka.KafkaConfiguration;
+import com.linkedin.metadata.config.kafka.ListenerConfiguration;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class BatchMetadataChangeProposalsProcessorTest {
+
+  private static final String TOPIC = "MetadataChangeProposal_v1";
+  private static final String FMCP_TOPIC = "FailedMetadataChangeProposal_v1";
+  private static final Urn USER_1 = UrnUtils.getUrn("urn:li:corpuser:user1");
+  private static final Urn USER_2 = UrnUtils.getUrn("urn:li:corpuser:user2");
+
+  private EntityService _entityService;
+  private EntitySearchService _entitySearchService;
+  private Producer<String, IndexedRecord> _producer;
+  private BatchMetadataChangeProposalsProcessor _processor;
+  private long _offset;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    BatchListenerConfiguration mcpBatch = new BatchListenerConfiguration();
+    mcpBatch.setEnabled(true);
+    mcpBatch.setParallelism(4);
+    ListenerConfiguration listener = new ListenerConfiguration();
+    listener.setMcpBatch(mcpBatch);
+    KafkaConfiguration kafka = new KafkaConfiguration();
+    kafka.setListener(listener);
+    ConfigurationProvider configurationProvider = new ConfigurationProvider();
+    configurationProvider.setKafka(kafka);
+
+    _entityService = mock(EntityService.class);
+    when(_entityService.getKeyAspectSpec(CORP_USER_ENTITY_NAME)).thenReturn(
+        SnapshotEntityRegistry.getInstance().getEntitySpec(CORP_USER_ENTITY_NAME).getKeyAspectSpec());
+    _entitySearchService = mock(EntitySearchService.class);
+    _producer = mock(Producer.class);
+    _processor = new BatchMetadataChangeProposalsProcessor(
+        new Authentication(new Actor(ActorType.USER, "datahub"), "creds"), _entityService, _entitySearchService,
+        _producer, configurationProvider, FMCP_TOPIC);
+    _offset = 0;
+  }
+
+  @AfterMethod
+  public void teardown() {
+    _processor.shutdown();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testProposalsAreGroupedByEntity() throws Exception {
+    MetadataChangeProposal first = proposal(USER_1, "run-1");
+    MetadataChangeProposal second = proposal(USER_2, "run-2");
+    MetadataChangeProposal third = proposal(USER_1, "run-3");
+    List<List<MetadataChangeProposal>> batches = Collections.synchronizedList(new ArrayList<>());
+    when(_entityService.ingestProposalBatch(anyList(), any(), anyBoolean(), any(Consumer.class))).thenAnswer(
+        invocation -> {
+          List<MetadataChangeProposal> batch = new ArrayList<>(invocation.getArgument(0));
+          batches.add(batch);
+          return applyAll(batch, invocation.getArgument(3));
+        });
+
+    _processor.consume(records(first, second, third));
+
+    assertEquals(batches.size(), 2);
+    assertTrue(batches.contains(List.of(first, third)));
+    assertTrue(batches.contains(List.of(second)));
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-1");
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_2, "run-2");
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-3");
+    verify(_entityService, never()).ingestProposalBatch(anyList(), any(), anyBoolean());
+    verify(_producer, never()).send(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFallbackOnlyRetriesProposalsNotApplied() throws Exception {
+    MetadataChangeProposal applied = proposal(USER_1, "run-1");
+    MetadataChangeProposal retried = proposal(USER_1, "run-2");
+    MetadataChangeProposal failing = proposal(USER_1, "run-3");
+    // The batch applies the first proposal, then fails
+    when(_entityService.ingestProposalBatch(anyList(), any(), anyBoolean(), any(Consumer.class))).thenAnswer(
+        invocation -> {
+          List<MetadataChangeProposal> batch = invocation.getArgument(0);
+          applyAll(batch.subList(0, 1), invocation.getArgument(3));
+          throw new RuntimeException("Batch failure");
+        });
+    when(_entityService.ingestProposalBatch(anyList(), any(), anyBoolean())).thenAnswer(invocation -> {
+      List<MetadataChangeProposal> batch = invocation.getArgument(0);
+      if (batch.contains(failing)) {
+        throw new RuntimeException("Proposal failure");
+      }
+      return applyAll(batch, result -> { });
+    });
+
+    _processor.consume(records(applied, retried, failing));
+
+    ArgumentCaptor<List<MetadataChangeProposal>> retries = ArgumentCaptor.forClass(List.class);
+    verify(_entityService, times(2)).ingestProposalBatch(retries.capture(), any(), eq(false));
+    assertEquals(retries.getAllValues(), List.of(List.of(retried), List.of(failing)));
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-1");
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-2");
+    verify(_entitySearchService, never()).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-3");
+
+    ArgumentCaptor<ProducerRecord<String, IndexedRecord>> failed = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(_producer, times(1)).send(failed.capture());
+    assertEquals(failed.getValue().topic(), FMCP_TOPIC);
+    GenericRecord failedProposal =
+        (GenericRecord) ((GenericRecord) failed.getValue().value()).get("metadataChangeProposal");
+    assertEquals(((GenericRecord) failedProposal.get("systemMetadata")).get("runId").toString(), "run-3");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testUndeserializableRecordIsSentToFailedTopic() throws Exception {
+    MetadataChangeProposal valid = proposal(USER_1, "run-1");
+    when(_entityService.ingestProposalBatch(anyList(), any(), anyBoolean(), any(Consumer.class))).thenAnswer(
+        invocation -> applyAll(invocation.getArgument(0), invocation.getArgument(3)));
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    records.add(new ConsumerRecord<>(TOPIC, 0, 41L, USER_2.toString(), mock(GenericRecord.class)));
+    records.addAll(records(valid));
+
+    _processor.consume(records);
+
+    ArgumentCaptor<ProducerRecord<String, IndexedRecord>> failed = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(_producer, times(1)).send(failed.capture());
+    assertEquals(failed.getValue().topic(), FMCP_TOPIC);
+    String error = ((GenericRecord) failed.getValue().value()).get("error").toString();
+    assertTrue(error.startsWith("Failed to deserialize record " + TOPIC + "-0@41 with key " + USER_2));
+    verify(_entitySearchService, times(1)).appendRunId(CORP_USER_ENTITY_NAME, USER_1, "run-1");
+  }
+
+  @Nonnull
+  private List<ConsumerRecord<String, GenericRecord>> records(@Nonnull MetadataChangeProposal... proposals)
+      throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (MetadataChangeProposal proposal : proposals) {
+      records.add(new ConsumerRecord<>(TOPIC, 0, _offset++, proposal.getEntityUrn().toString(),
+          EventUtils.pegasusToAvroMCP(proposal)));
+    }
+    return records;
+  }
+
+  @Nonnull
+  private static List<EntityService.IngestProposalResult> applyAll(@Nonnull List<MetadataChangeProposal> proposals,
+      @Nonnull Consumer<EntityService.IngestProposalResult> appliedResults) {
+    List<EntityService.IngestProposalResult> results = proposals.stream()
+        .map(proposal -> new EntityService.IngestProposalResult(proposal.getEntityUrn(), true, false))
+        .collect(Collectors.toList());
+    results.forEach(appliedResults);
+    return results;
+  }
+
+  @Nonnull
+  private static MetadataChangeProposal proposal(@Nonnull Urn urn, @Nonnull String runId) {
+    MetadataChangeProposal proposal = new MetadataChangeProposal();
+    proposal.setEntityType(CORP_USER_ENTITY_NAME);
+    proposal.setEntityUrn(urn);
+    proposal.setAspectName(CORP_USER_KEY_ASPECT_NAME);
+    proposal.setChangeType(ChangeType.UPSERT);
+    proposal.setAspect(GenericRecordUtils.serializeAspect(new CorpUserKey().setUsername(urn.getId())));
+    proposal.setSystemMetadata(new SystemMetadata().setRunId(runId));
+    return proposal;
+  }
+}
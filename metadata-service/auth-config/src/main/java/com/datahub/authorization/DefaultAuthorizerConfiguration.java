@@ -13,4 +13,12 @@ public class DefaultAuthorizerConfiguration {
    * The duration between policies cache refreshes.
    */
   private int cacheRefreshIntervalSecs;
+  /**
+   * How long the groups and roles of actors, and the owners of resources, are cached. 0 disables caching.
+   */
+  private int actorCacheTtlSeconds;
+  /**
+   * Maximum number of actors, and separately resources, cached.
+   */
+  private int actorCacheMaxSize;
 }
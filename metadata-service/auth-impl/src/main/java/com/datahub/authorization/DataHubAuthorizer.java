@@ -1,5 +1,7 @@
 package com.datahub.authorization;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.Authentication;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.annotations.VisibleForTesting;
@@ -7,16 +9,22 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubPolicyInfo;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +60,9 @@ public class DataHubAuthorizer implements Authorizer {
   // Not concurrent data structure because writes are always against the entire thing.
   private final Map<String, List<DataHubPolicyInfo>> _policyCache = new HashMap<>(); // Shared Policy Cache.
 
+  // Active policies by privilege, resource type and actor, swapped as a whole on every refresh.
+  private volatile PolicyIndex _policyIndex = PolicyIndex.EMPTY;
+
   private final ScheduledExecutorService _refreshExecutorService = Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable _policyRefreshRunnable;
   private final PolicyEngine _policyEngine;
@@ -66,10 +77,28 @@ public class DataHubAuthorizer implements Authorizer {
       final int delayIntervalSeconds,
       final int refreshIntervalSeconds,
       final AuthorizationMode mode) {
+    this(systemAuthentication, entityClient, delayIntervalSeconds, refreshIntervalSeconds, mode, 0, 0);
+  }
+
+  /**
+   * @param actorCacheTtlSeconds how long the groups and roles of an actor are reused across requests, 0 to disable.
+   *                             Membership changes may take up to this long to be reflected in authorization decisions.
+   * @param actorCacheMaxSize maximum number of actors whose groups and roles are cached
+   */
+  public DataHubAuthorizer(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final int actorCacheTtlSeconds,
+      final int actorCacheMaxSize) {
     _systemAuthentication = Objects.requireNonNull(systemAuthentication);
     _mode = Objects.requireNonNull(mode);
-    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient));
-    _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyCache);
+    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient), actorCacheTtlSeconds,
+        actorCacheMaxSize);
+    _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyCache,
+        policyIndex -> _policyIndex = policyIndex);
     _refreshExecutorService.scheduleAtFixedRate(_policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
   }
 
@@ -86,20 +115,87 @@ public class DataHubAuthorizer implements Authorizer {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
+    // Allow all mode grants any privilege some policy refers to, no need to evaluate them.
+    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+      final List<DataHubPolicyInfo> policies = _policyCache.getOrDefault(request.getPrivilege(), new ArrayList<>());
+      return policies.isEmpty()
+          ? new AuthorizationResult(request, AuthorizationResult.Type.DENY, null)
+          : new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
+              String.format("Granted by policy with type: %s", policies.get(0).getType()));
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "authorize").time()) {
+      return authorizeWithIndex(request);
+    }
+  }
+
+  /**
+   * Evaluates the indexed policies that may grant the request, in stages of increasing cost: first the policies
+   * applying to the actor directly, then the ones applying to its groups and finally to its roles. Groups and roles are
+   * only resolved when some policy of the privilege refers to them.
+   */
+  private AuthorizationResult authorizeWithIndex(@Nonnull final AuthorizationRequest request) {
+    final Urn actor;
+    try {
+      actor = Urn.createFromString(request.getActorUrn());
+    } catch (URISyntaxException e) {
+      log.error(String.format("Failed to bind actor %s to an URN. Actors must be URNs. Denying the authorization request",
+          request.getActorUrn()));
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
+
     Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(request.getPrivilege(), new ArrayList<>());
+    // 1. Fetch the policies relevant to the requested privilege and resource type.
+    final List<PolicyIndex.ActorIndex> actorIndices =
+        _policyIndex.get(request.getPrivilege(), request.getResourceSpec().map(ResourceSpec::getType).orElse(null));
+    final Set<DataHubPolicyInfo> evaluated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // 2. Evaluate the policies applying to the actor itself, to all users or groups, or to resource owners.
+    final List<DataHubPolicyInfo> candidates = new ArrayList<>();
+    actorIndices.forEach(index -> index.collectUserPolicies(actor, candidates));
+    Optional<DataHubPolicyInfo> grantingPolicy = findGrantingPolicy(candidates, evaluated, actor, request, resolvedResourceSpec);
+
+    // 3. Evaluate the policies applying to the groups of the actor.
+    if (grantingPolicy.isEmpty() && actorIndices.stream().anyMatch(PolicyIndex.ActorIndex::hasGroupPolicies)) {
+      final Set<Urn> groups = _policyEngine.resolveGroups(actor);
+      candidates.clear();
+      actorIndices.forEach(index -> index.collectGroupPolicies(groups, candidates));
+      grantingPolicy = findGrantingPolicy(candidates, evaluated, actor, request, resolvedResourceSpec);
+    }
 
-    // 2. Evaluate each policy.
-    for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
+    // 4. Evaluate the policies applying to the roles of the actor.
+    if (grantingPolicy.isEmpty() && actorIndices.stream().anyMatch(PolicyIndex.ActorIndex::hasRolePolicies)) {
+      final Set<Urn> roles = _policyEngine.resolveRoles(actor);
+      candidates.clear();
+      actorIndices.forEach(index -> index.collectRolePolicies(roles, candidates));
+      grantingPolicy = findGrantingPolicy(candidates, evaluated, actor, request, resolvedResourceSpec);
+    }
+
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "evaluated_policies")).update(evaluated.size());
+    return grantingPolicy
+        .map(policy -> new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
+            String.format("Granted by policy with type: %s", policy.getType())))
+        .orElseGet(() -> new AuthorizationResult(request, AuthorizationResult.Type.DENY,  null));
+  }
+
+  private Optional<DataHubPolicyInfo> findGrantingPolicy(
+      final List<DataHubPolicyInfo> candidates,
+      final Set<DataHubPolicyInfo> evaluated,
+      final Urn actor,
+      final AuthorizationRequest request,
+      final Optional<ResolvedResourceSpec> resourceSpec) {
+    for (DataHubPolicyInfo policy : candidates) {
+      // A policy may be indexed under several actors, only evaluate it once
+      if (!evaluated.add(policy)) {
+        continue;
+      }
+      if (_policyEngine.evaluatePolicy(policy, actor, request.getPrivilege(), resourceSpec).isGranted()) {
         // Short circuit if policy has granted privileges to this actor.
-        return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
-            String.format("Granted by policy with type: %s", policy.getType()));
+        return Optional.of(policy);
       }
     }
-    return new AuthorizationResult(request, AuthorizationResult.Type.DENY,  null);
+    return Optional.empty();
   }
 
   public List<String> getGrantedPrivileges(final String actorUrn, final Optional<ResourceSpec> resourceSpec) {
@@ -154,10 +250,14 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   /**
-   * Invalidates the policy cache and fires off a refresh thread. Should be invoked
-   * when a policy is created, modified, or deleted.
+   * Invalidates the policy cache, along with the cached groups and roles of actors and owners of resources, and fires
+   * off a refresh thread. Should be invoked when a policy is created, modified, or deleted.
    */
   public void invalidateCache() {
+    _policyEngine.invalidateActorCaches();
+    if (_resourceSpecResolver instanceof DefaultResourceSpecResolver) {
+      ((DefaultResourceSpecResolver) _resourceSpecResolver).invalidateCaches();
+    }
     _refreshExecutorService.execute(_policyRefreshRunnable);
   }
 
@@ -177,27 +277,12 @@ public class DataHubAuthorizer implements Authorizer {
     return systemAuthentication.getActor().toUrnStr().equals(request.getActorUrn());
   }
 
-  /**
-   * Returns true if a policy grants the requested privilege for a given actor and resource.
-   */
-  private boolean isRequestGranted(final DataHubPolicyInfo policy, final AuthorizationRequest request, final Optional<ResolvedResourceSpec> resourceSpec) {
-    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
-      return true;
-    }
-    final PolicyEngine.PolicyEvaluationResult result = _policyEngine.evaluatePolicy(
-        policy,
-        request.getActorUrn(),
-        request.getPrivilege(),
-        resourceSpec
-    );
-    return result.isGranted();
-  }
-
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
    * Currently, the refresh logic is not very smart. When the cache is invalidated, we simply re-fetch the
-   * entire cache using Policies stored in the backend.
+   * entire cache using Policies stored in the backend. Once all policies are fetched, they are compiled into a new
+   * {@link PolicyIndex}.
    */
   @VisibleForTesting
   @RequiredArgsConstructor
@@ -206,12 +291,14 @@ public class DataHubAuthorizer implements Authorizer {
     private final Authentication _systemAuthentication;
     private final PolicyFetcher _policyFetcher;
     private final Map<String, List<DataHubPolicyInfo>> _policyCache;
+    private final Consumer<PolicyIndex> _policyIndexConsumer;
 
     @Override
     public void run() {
       try {
         // Populate new cache and swap.
         Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        final List<DataHubPolicyInfo> fetchedPolicies = new ArrayList<>();
 
         int start = 0;
         int count = 30;
@@ -223,6 +310,7 @@ public class DataHubAuthorizer implements Authorizer {
                 policyFetchResult = _policyFetcher.fetchPolicies(start, count, _systemAuthentication);
 
             addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult.getPolicies().forEach(policy -> fetchedPolicies.add(policy.getPolicyInfo()));
 
             total = policyFetchResult.getTotal();
             start = start + count;
@@ -236,6 +324,7 @@ public class DataHubAuthorizer implements Authorizer {
             _policyCache.putAll(newCache);
           }
         }
+        _policyIndexConsumer.accept(new PolicyIndex(fetchedPolicies));
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
         log.error("Caught exception while loading Policy cache. Will retry on next scheduled attempt.", e);
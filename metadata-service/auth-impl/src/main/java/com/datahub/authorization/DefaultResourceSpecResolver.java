@@ -15,12 +15,30 @@ import java.util.stream.Collectors;
 
 public class DefaultResourceSpecResolver implements ResourceSpecResolver {
   private final List<ResourceFieldResolverProvider> _resourceFieldResolverProviders;
+  private final OwnerFieldResolverProvider _ownerFieldResolverProvider;
 
   public DefaultResourceSpecResolver(Authentication systemAuthentication, EntityClient entityClient) {
+    this(systemAuthentication, entityClient, 0, 0);
+  }
+
+  /**
+   * @param ownersCacheTtlSeconds how long the owners of a resource are reused across requests, 0 to disable
+   * @param ownersCacheMaxSize maximum number of resources whose owners are cached
+   */
+  public DefaultResourceSpecResolver(Authentication systemAuthentication, EntityClient entityClient,
+      int ownersCacheTtlSeconds, int ownersCacheMaxSize) {
+    _ownerFieldResolverProvider =
+        new OwnerFieldResolverProvider(entityClient, systemAuthentication, ownersCacheTtlSeconds, ownersCacheMaxSize);
     _resourceFieldResolverProviders =
         ImmutableList.of(new EntityTypeFieldResolverProvider(), new EntityUrnFieldResolverProvider(),
-            new DomainFieldResolverProvider(entityClient, systemAuthentication),
-            new OwnerFieldResolverProvider(entityClient, systemAuthentication));
+            new DomainFieldResolverProvider(entityClient, systemAuthentication), _ownerFieldResolverProvider);
+  }
+
+  /**
+   * Drops the cached owners of resources.
+   */
+  public void invalidateCaches() {
+    _ownerFieldResolverProvider.invalidateCache();
   }
 
   @Override
@@ -1,7 +1,10 @@
 package com.datahub.authorization;
 
 import com.datahub.authentication.Authentication;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.StringArray;
@@ -12,6 +15,7 @@ import com.linkedin.identity.GroupMembership;
 import com.linkedin.identity.NativeGroupMembership;
 import com.linkedin.identity.RoleMembership;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubActorFilter;
 import com.linkedin.policy.DataHubPolicyInfo;
 import com.linkedin.policy.DataHubResourceFilter;
@@ -27,20 +31,70 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class PolicyEngine {
 
   private final Authentication _systemAuthentication;
   private final EntityClient _entityClient;
+  // Groups and roles of actors across evaluations, null when not caching
+  @Nullable
+  private final Cache<Urn, Set<Urn>> _groupsCache;
+  @Nullable
+  private final Cache<Urn, Set<Urn>> _rolesCache;
+
+  public PolicyEngine(final Authentication systemAuthentication, final EntityClient entityClient) {
+    this(systemAuthentication, entityClient, 0, 0);
+  }
+
+  /**
+   * @param actorCacheTtlSeconds how long the resolved groups and roles of an actor are reused, 0 to resolve them on
+   *                             every evaluation
+   * @param actorCacheMaxSize maximum number of actors whose groups and roles are cached
+   */
+  public PolicyEngine(final Authentication systemAuthentication, final EntityClient entityClient,
+      final int actorCacheTtlSeconds, final int actorCacheMaxSize) {
+    _systemAuthentication = systemAuthentication;
+    _entityClient = entityClient;
+    if (actorCacheTtlSeconds > 0) {
+      _groupsCache = newActorCache(actorCacheTtlSeconds, actorCacheMaxSize);
+      _rolesCache = newActorCache(actorCacheTtlSeconds, actorCacheMaxSize);
+      MetricUtils.gauge(this.getClass(), "groups_cache_hit_rate", () -> () -> _groupsCache.stats().hitRate());
+      MetricUtils.gauge(this.getClass(), "roles_cache_hit_rate", () -> () -> _rolesCache.stats().hitRate());
+    } else {
+      _groupsCache = null;
+      _rolesCache = null;
+    }
+  }
+
+  private static Cache<Urn, Set<Urn>> newActorCache(final int ttlSeconds, final int maxSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Drops the cached groups and roles of all actors.
+   */
+  public void invalidateActorCaches() {
+    if (_groupsCache != null) {
+      _groupsCache.invalidateAll();
+    }
+    if (_rolesCache != null) {
+      _rolesCache.invalidateAll();
+    }
+  }
 
   public PolicyEvaluationResult evaluatePolicy(
       final DataHubPolicyInfo policy,
@@ -207,7 +261,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by constructing PolicyMatchFilter object
    * from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -343,25 +397,44 @@ public class PolicyEngine {
         .anyMatch(actorRoles::contains);
   }
 
+  /**
+   * Returns the roles of an actor, from the actor cache when enabled.
+   */
+  Set<Urn> resolveRoles(Urn actor) {
+    return resolveRoles(actor, new PolicyEvaluationContext());
+  }
+
+  /**
+   * Returns the groups of an actor, from the actor cache when enabled.
+   */
+  Set<Urn> resolveGroups(Urn actor) {
+    return resolveGroups(actor, new PolicyEvaluationContext());
+  }
+
   private Set<Urn> resolveRoles(Urn actor, PolicyEvaluationContext context) {
     if (context.roles != null) {
       return context.roles;
     }
 
-    Set<Urn> roles = new HashSet<>();
-    final EnvelopedAspectMap aspectMap;
-
+    final Set<Urn> roles;
     try {
-      final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
-          Collections.singleton(ROLE_MEMBERSHIP_ASPECT_NAME), _systemAuthentication).get(actor);
-      if (corpUser == null || !corpUser.hasAspects()) {
-        return roles;
-      }
-      aspectMap = corpUser.getAspects();
+      roles = _rolesCache != null ? getCached(_rolesCache, actor, () -> fetchRoles(actor)) : fetchRoles(actor);
     } catch (Exception e) {
       log.error(String.format("Failed to fetch %s for urn %s", ROLE_MEMBERSHIP_ASPECT_NAME, actor), e);
+      return new HashSet<>();
+    }
+    context.setRoles(roles);
+    return roles;
+  }
+
+  private Set<Urn> fetchRoles(Urn actor) throws Exception {
+    Set<Urn> roles = new HashSet<>();
+    final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
+        Collections.singleton(ROLE_MEMBERSHIP_ASPECT_NAME), _systemAuthentication).get(actor);
+    if (corpUser == null || !corpUser.hasAspects()) {
       return roles;
     }
+    final EnvelopedAspectMap aspectMap = corpUser.getAspects();
 
     if (!aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
       return roles;
@@ -370,7 +443,6 @@ public class PolicyEngine {
     RoleMembership roleMembership = new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data());
     if (roleMembership.hasRoles()) {
       roles.addAll(roleMembership.getRoles());
-      context.setRoles(roles);
     }
     return roles;
   }
@@ -380,34 +452,49 @@ public class PolicyEngine {
       return context.groups;
     }
 
-    Set<Urn> groups = new HashSet<>();
-    final EnvelopedAspectMap aspectMap;
-
+    final Set<Urn> groups;
     try {
-      final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
-              ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME), _systemAuthentication)
-          .get(actor);
-      if (corpUser == null || !corpUser.hasAspects()) {
-        return groups;
-      }
-      aspectMap = corpUser.getAspects();
+      groups = _groupsCache != null ? getCached(_groupsCache, actor, () -> fetchGroups(actor)) : fetchGroups(actor);
     } catch (Exception e) {
       throw new RuntimeException(String.format("Failed to fetch %s and %s for urn %s", GROUP_MEMBERSHIP_ASPECT_NAME,
           NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME, actor), e);
     }
 
+    context.setGroups(groups); // Cache the groups.
+    return groups;
+  }
+
+  private Set<Urn> fetchGroups(Urn actor) throws Exception {
+    Set<Urn> groups = new HashSet<>();
+    final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
+            ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME), _systemAuthentication)
+        .get(actor);
+    if (corpUser == null || !corpUser.hasAspects()) {
+      return groups;
+    }
+    final EnvelopedAspectMap aspectMap = corpUser.getAspects();
+
     Optional<GroupMembership> maybeGroupMembership = resolveGroupMembership(aspectMap);
     maybeGroupMembership.ifPresent(groupMembership -> groups.addAll(groupMembership.getGroups()));
 
     Optional<NativeGroupMembership> maybeNativeGroupMembership = resolveNativeGroupMembership(aspectMap);
     maybeNativeGroupMembership.ifPresent(
         nativeGroupMembership -> groups.addAll(nativeGroupMembership.getNativeGroups()));
-
-    context.setGroups(groups); // Cache the groups.
     return groups;
   }
 
-  // TODO: Optimization - Cache the group membership. Refresh periodically.
+  /**
+   * Failed lookups are not cached, they are retried on the next evaluation.
+   */
+  private static Set<Urn> getCached(Cache<Urn, Set<Urn>> cache, Urn actor, Callable<Set<Urn>> loader)
+      throws Exception {
+    try {
+      return cache.get(actor, () -> Collections.unmodifiableSet(loader.call()));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
   private Optional<GroupMembership> resolveGroupMembership(final EnvelopedAspectMap aspectMap) {
     if (aspectMap.containsKey(GROUP_MEMBERSHIP_ASPECT_NAME)) {
       return Optional.of(new GroupMembership(aspectMap.get(GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data()));
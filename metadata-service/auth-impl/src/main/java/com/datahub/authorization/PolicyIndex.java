@@ -0,0 +1,162 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Policies compiled for fast authorization checks, rebuilt on every policy refresh.
+ *
+ * Policies are grouped by privilege, then by the resource type their resource filter is restricted to, and finally
+ * by the users, groups and roles named in their actor filter. An authorization check thus only evaluates the few
+ * policies that could possibly grant it, and only resolves the groups or roles of the actor when some candidate
+ * policy depends on them.
+ *
+ * The index only narrows down the candidates, {@link PolicyEngine} still evaluates them in full.
+ */
+class PolicyIndex {
+
+  static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyList());
+
+  // Policies without a resource type restriction, including platform policies
+  private static final String ANY_RESOURCE_TYPE = "*";
+
+  private final Map<String, Map<String, ActorIndex>> _index = new HashMap<>();
+  private final int _size;
+
+  PolicyIndex(@Nonnull final Collection<DataHubPolicyInfo> policies) {
+    int size = 0;
+    for (DataHubPolicyInfo policy : policies) {
+      if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())) {
+        continue;
+      }
+      final Set<String> resourceTypes = getResourceTypes(policy);
+      for (String privilege : policy.getPrivileges()) {
+        final Map<String, ActorIndex> byResourceType = _index.computeIfAbsent(privilege, key -> new HashMap<>());
+        if (resourceTypes == null) {
+          byResourceType.computeIfAbsent(ANY_RESOURCE_TYPE, key -> new ActorIndex()).add(policy);
+        } else {
+          resourceTypes.forEach(type -> byResourceType.computeIfAbsent(type, key -> new ActorIndex()).add(policy));
+        }
+      }
+      size++;
+    }
+    _size = size;
+  }
+
+  int size() {
+    return _size;
+  }
+
+  /**
+   * Returns the actor indices of the policies that may grant a privilege on a resource type, the type being null when
+   * the request has no resource.
+   */
+  @Nonnull
+  List<ActorIndex> get(@Nonnull final String privilege, @Nullable final String resourceType) {
+    final Map<String, ActorIndex> byResourceType = _index.get(privilege);
+    if (byResourceType == null) {
+      return Collections.emptyList();
+    }
+    final List<ActorIndex> result = new ArrayList<>(2);
+    Optional.ofNullable(byResourceType.get(ANY_RESOURCE_TYPE)).ifPresent(result::add);
+    if (resourceType != null) {
+      Optional.ofNullable(byResourceType.get(resourceType)).ifPresent(result::add);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the resource types a policy is restricted to, or null if it may apply to any resource. This may be a
+   * superset of the types the policy actually matches, never a subset.
+   */
+  @Nullable
+  private static Set<String> getResourceTypes(@Nonnull final DataHubPolicyInfo policy) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType()) || policy.getResources() == null) {
+      return null;
+    }
+    // Every criterion has to match, so any type criterion restricts the policy to its values
+    for (PolicyMatchCriterion criterion : PolicyEngine.getFilter(policy.getResources()).getCriteria()) {
+      if (ResourceFieldType.RESOURCE_TYPE.name().equalsIgnoreCase(criterion.getField())
+          && criterion.getCondition() == PolicyMatchCondition.EQUALS) {
+        return Set.copyOf(criterion.getValues());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Policies of a privilege and resource type, by the actors they apply to.
+   */
+  static class ActorIndex {
+    private final List<DataHubPolicyInfo> _allUsers = new ArrayList<>();
+    private final List<DataHubPolicyInfo> _allGroups = new ArrayList<>();
+    private final List<DataHubPolicyInfo> _resourceOwners = new ArrayList<>();
+    private final Map<Urn, List<DataHubPolicyInfo>> _byUser = new HashMap<>();
+    private final Map<Urn, List<DataHubPolicyInfo>> _byGroup = new HashMap<>();
+    private final Map<Urn, List<DataHubPolicyInfo>> _byRole = new HashMap<>();
+
+    private void add(@Nonnull final DataHubPolicyInfo policy) {
+      final DataHubActorFilter actors = policy.getActors();
+      if (actors.isAllUsers()) {
+        _allUsers.add(policy);
+      }
+      if (actors.isAllGroups()) {
+        _allGroups.add(policy);
+      }
+      if (actors.isResourceOwners()) {
+        _resourceOwners.add(policy);
+      }
+      if (actors.hasUsers()) {
+        actors.getUsers().forEach(user -> _byUser.computeIfAbsent(user, key -> new ArrayList<>()).add(policy));
+      }
+      if (actors.hasGroups()) {
+        actors.getGroups().forEach(group -> _byGroup.computeIfAbsent(group, key -> new ArrayList<>()).add(policy));
+      }
+      if (actors.hasRoles()) {
+        actors.getRoles().forEach(role -> _byRole.computeIfAbsent(role, key -> new ArrayList<>()).add(policy));
+      }
+    }
+
+    /**
+     * Policies that may apply to an actor without resolving its groups or roles. Owners, which may also be groups, are
+     * resolved when evaluating the policy.
+     */
+    void collectUserPolicies(@Nonnull final Urn actor, @Nonnull final Collection<DataHubPolicyInfo> result) {
+      result.addAll(_allUsers);
+      result.addAll(_allGroups);
+      result.addAll(_byUser.getOrDefault(actor, Collections.emptyList()));
+      result.addAll(_resourceOwners);
+    }
+
+    boolean hasGroupPolicies() {
+      return !_byGroup.isEmpty();
+    }
+
+    void collectGroupPolicies(@Nonnull final Set<Urn> groups, @Nonnull final Collection<DataHubPolicyInfo> result) {
+      groups.forEach(group -> result.addAll(_byGroup.getOrDefault(group, Collections.emptyList())));
+    }
+
+    boolean hasRolePolicies() {
+      return !_byRole.isEmpty();
+    }
+
+    void collectRolePolicies(@Nonnull final Set<Urn> roles, @Nonnull final Collection<DataHubPolicyInfo> result) {
+      roles.forEach(role -> result.addAll(_byRole.getOrDefault(role, Collections.emptyList())));
+    }
+  }
+}
@@ -4,6 +4,8 @@ import com.datahub.authentication.Authentication;
 import com.datahub.authorization.FieldResolver;
 import com.datahub.authorization.ResourceFieldType;
 import com.datahub.authorization.ResourceSpec;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -11,21 +13,57 @@ import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 
 /**
  * Provides field resolver for owners given resourceSpec
+ *
+ * Owners can optionally be cached for a short time, since the same resources tend to be authorized many times in a row
+ * when rendering a page.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class OwnerFieldResolverProvider implements ResourceFieldResolverProvider {
 
   private final EntityClient _entityClient;
   private final Authentication _systemAuthentication;
+  @Nullable
+  private final Cache<Urn, FieldResolver.FieldValue> _ownersCache;
+
+  public OwnerFieldResolverProvider(EntityClient entityClient, Authentication systemAuthentication) {
+    this(entityClient, systemAuthentication, 0, 0);
+  }
+
+  public OwnerFieldResolverProvider(EntityClient entityClient, Authentication systemAuthentication,
+      int cacheTtlSeconds, int cacheMaxSize) {
+    _entityClient = entityClient;
+    _systemAuthentication = systemAuthentication;
+    if (cacheTtlSeconds > 0) {
+      final Cache<Urn, FieldResolver.FieldValue> ownersCache = CacheBuilder.newBuilder()
+          .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+          .maximumSize(cacheMaxSize)
+          .recordStats()
+          .build();
+      MetricUtils.gauge(this.getClass(), "owners_cache_hit_rate", () -> () -> ownersCache.stats().hitRate());
+      _ownersCache = ownersCache;
+    } else {
+      _ownersCache = null;
+    }
+  }
+
+  /**
+   * Drops the cached owners, if any.
+   */
+  public void invalidateCache() {
+    if (_ownersCache != null) {
+      _ownersCache.invalidateAll();
+    }
+  }
 
   @Override
   public ResourceFieldType getFieldType() {
@@ -39,6 +77,22 @@ public class OwnerFieldResolverProvider implements ResourceFieldResolverProvider
 
   private FieldResolver.FieldValue getOwners(ResourceSpec resourceSpec) {
     Urn entityUrn = UrnUtils.getUrn(resourceSpec.getResource());
+    if (_ownersCache == null) {
+      return fetchOwners(entityUrn);
+    }
+    final FieldResolver.FieldValue cached = _ownersCache.getIfPresent(entityUrn);
+    if (cached != null) {
+      return cached;
+    }
+    final FieldResolver.FieldValue owners = fetchOwners(entityUrn);
+    // Failed lookups resolve to the shared empty value, they are retried rather than cached
+    if (owners != FieldResolver.emptyFieldValue()) {
+      _ownersCache.put(entityUrn, owners);
+    }
+    return owners;
+  }
+
+  private FieldResolver.FieldValue fetchOwners(Urn entityUrn) {
     EnvelopedAspect ownershipAspect;
     try {
       EntityResponse response = _entityClient.getV2(entityUrn.getEntityType(), entityUrn,
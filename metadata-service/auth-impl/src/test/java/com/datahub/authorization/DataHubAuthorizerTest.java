@@ -43,6 +43,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -205,6 +207,34 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
   }
 
+  @Test
+  public void testInvalidateCacheDropsCachedOwners() throws Exception {
+    final Authentication systemAuthentication = new Authentication(
+        new Actor(ActorType.USER, DATAHUB_SYSTEM_CLIENT_ID),
+        ""
+    );
+    final DefaultResourceSpecResolver resourceSpecResolver =
+        new DefaultResourceSpecResolver(systemAuthentication, _entityClient, 30, 10);
+    final DataHubAuthorizer dataHubAuthorizer = new DataHubAuthorizer(
+        systemAuthentication,
+        _entityClient,
+        10,
+        10,
+        DataHubAuthorizer.AuthorizationMode.DEFAULT
+    );
+    dataHubAuthorizer.init(Collections.emptyMap(),
+        new AuthorizerContext(Collections.emptyMap(), resourceSpecResolver));
+    final ResourceSpec resourceSpec = new ResourceSpec("dataset", "urn:li:dataset:test");
+
+    resourceSpecResolver.resolve(resourceSpec).getOwners();
+    resourceSpecResolver.resolve(resourceSpec).getOwners();
+    verify(_entityClient, times(1)).getV2(any(), any(), eq(Collections.singleton(OWNERSHIP_ASPECT_NAME)), any());
+
+    dataHubAuthorizer.invalidateCache();
+    resourceSpecResolver.resolve(resourceSpec).getOwners();
+    verify(_entityClient, times(2)).getV2(any(), any(), eq(Collections.singleton(OWNERSHIP_ASPECT_NAME)), any());
+  }
+
   @Test
   public void testAuthorizedActorsActivePolicy() throws Exception {
     final AuthorizedActors actors =
@@ -0,0 +1,113 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchCriterionArray;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.ACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.INACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.METADATA_POLICY_TYPE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.PLATFORM_POLICY_TYPE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+public class PolicyIndexTest {
+
+  private static final Urn USER = UrnUtils.getUrn("urn:li:corpuser:user1");
+  private static final Urn OTHER_USER = UrnUtils.getUrn("urn:li:corpuser:user2");
+  private static final Urn GROUP = UrnUtils.getUrn("urn:li:corpGroup:group1");
+  private static final Urn ROLE = UrnUtils.getUrn("urn:li:dataHubRole:Editor");
+
+  @Test
+  public void testIndexByPrivilegeAndResourceType() {
+    final DataHubPolicyInfo datasetPolicy = createPolicy(METADATA_POLICY_TYPE, "EDIT_ENTITY_TAGS",
+        new DataHubActorFilter().setAllUsers(true), new DataHubResourceFilter().setType("dataset").setAllResources(true));
+    final DataHubPolicyInfo chartPolicy = createPolicy(METADATA_POLICY_TYPE, "EDIT_ENTITY_TAGS",
+        new DataHubActorFilter().setAllUsers(true), new DataHubResourceFilter().setFilter(new PolicyMatchFilter()
+            .setCriteria(new PolicyMatchCriterionArray(ImmutableList.of(new PolicyMatchCriterion()
+                .setField("RESOURCE_TYPE").setValues(new StringArray(ImmutableList.of("chart", "dashboard"))))))));
+    final DataHubPolicyInfo anyResourcePolicy = createPolicy(METADATA_POLICY_TYPE, "EDIT_ENTITY_TAGS",
+        new DataHubActorFilter().setAllUsers(true), null);
+    final DataHubPolicyInfo platformPolicy = createPolicy(PLATFORM_POLICY_TYPE, "MANAGE_POLICIES",
+        new DataHubActorFilter().setAllUsers(true), null);
+    final DataHubPolicyInfo inactivePolicy = createPolicy(METADATA_POLICY_TYPE, "EDIT_ENTITY_TAGS",
+        new DataHubActorFilter().setAllUsers(true), null).setState(INACTIVE_POLICY_STATE);
+
+    final PolicyIndex index = new PolicyIndex(
+        ImmutableList.of(datasetPolicy, chartPolicy, anyResourcePolicy, platformPolicy, inactivePolicy));
+
+    assertEquals(index.size(), 4);
+    assertEquals(collectUserPolicies(index, "EDIT_ENTITY_TAGS", "dataset", USER),
+        ImmutableSet.of(anyResourcePolicy, datasetPolicy));
+    assertEquals(collectUserPolicies(index, "EDIT_ENTITY_TAGS", "dashboard", USER),
+        ImmutableSet.of(anyResourcePolicy, chartPolicy));
+    assertEquals(collectUserPolicies(index, "EDIT_ENTITY_TAGS", null, USER), ImmutableSet.of(anyResourcePolicy));
+    assertEquals(collectUserPolicies(index, "MANAGE_POLICIES", null, USER), ImmutableSet.of(platformPolicy));
+    assertTrue(index.get("EDIT_ENTITY_OWNERS", "dataset").isEmpty());
+  }
+
+  @Test
+  public void testIndexByActor() {
+    final DataHubPolicyInfo userPolicy = createPolicy(PLATFORM_POLICY_TYPE, "MANAGE_POLICIES",
+        new DataHubActorFilter().setUsers(new UrnArray(ImmutableList.of(USER))), null);
+    final DataHubPolicyInfo groupPolicy = createPolicy(PLATFORM_POLICY_TYPE, "MANAGE_POLICIES",
+        new DataHubActorFilter().setGroups(new UrnArray(ImmutableList.of(GROUP))), null);
+    final DataHubPolicyInfo rolePolicy = createPolicy(PLATFORM_POLICY_TYPE, "MANAGE_POLICIES",
+        new DataHubActorFilter().setRoles(new UrnArray(ImmutableList.of(ROLE))), null);
+
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(userPolicy, groupPolicy, rolePolicy));
+    final PolicyIndex.ActorIndex actorIndex = index.get("MANAGE_POLICIES", null).get(0);
+
+    assertEquals(collectUserPolicies(index, "MANAGE_POLICIES", null, USER), ImmutableSet.of(userPolicy));
+    assertTrue(collectUserPolicies(index, "MANAGE_POLICIES", null, OTHER_USER).isEmpty());
+
+    assertTrue(actorIndex.hasGroupPolicies());
+    final List<DataHubPolicyInfo> groupPolicies = new ArrayList<>();
+    actorIndex.collectGroupPolicies(ImmutableSet.of(GROUP), groupPolicies);
+    assertEquals(groupPolicies, ImmutableList.of(groupPolicy));
+
+    assertTrue(actorIndex.hasRolePolicies());
+    final List<DataHubPolicyInfo> rolePolicies = new ArrayList<>();
+    actorIndex.collectRolePolicies(ImmutableSet.of(UrnUtils.getUrn("urn:li:dataHubRole:Reader")), rolePolicies);
+    assertTrue(rolePolicies.isEmpty());
+
+    assertFalse(PolicyIndex.EMPTY.get("MANAGE_POLICIES", null).stream()
+        .anyMatch(PolicyIndex.ActorIndex::hasGroupPolicies));
+  }
+
+  private static ImmutableSet<DataHubPolicyInfo> collectUserPolicies(final PolicyIndex index, final String privilege,
+      final String resourceType, final Urn actor) {
+    final List<DataHubPolicyInfo> result = new ArrayList<>();
+    index.get(privilege, resourceType).forEach(actorIndex -> actorIndex.collectUserPolicies(actor, result));
+    return ImmutableSet.copyOf(result);
+  }
+
+  private static DataHubPolicyInfo createPolicy(final String type, final String privilege,
+      final DataHubActorFilter actors, final DataHubResourceFilter resources) {
+    final DataHubPolicyInfo policy = new DataHubPolicyInfo()
+        .setType(type)
+        .setState(ACTIVE_POLICY_STATE)
+        .setPrivileges(new StringArray(ImmutableList.of(privilege)))
+        .setDisplayName(privilege)
+        .setEditable(true)
+        .setActors(actors);
+    if (resources != null) {
+      policy.setResources(resources);
+    }
+    return policy;
+  }
+}
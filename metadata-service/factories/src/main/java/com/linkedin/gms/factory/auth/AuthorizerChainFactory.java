@@ -2,6 +2,7 @@ package com.linkedin.gms.factory.auth;
 
 import com.datahub.authorization.AuthorizerChain;
 import com.datahub.authorization.DataHubAuthorizer;
+import com.datahub.authorization.DefaultAuthorizerConfiguration;
 import com.datahub.authorization.DefaultResourceSpecResolver;
 import com.datahub.plugins.PluginConstant;
 import com.datahub.authentication.Authentication;
@@ -80,7 +81,9 @@ public class AuthorizerChainFactory {
   }
 
   private ResourceSpecResolver initResolver() {
-    return new DefaultResourceSpecResolver(systemAuthentication, entityClient);
+    final DefaultAuthorizerConfiguration config = configurationProvider.getAuthorization().getDefaultAuthorizer();
+    return new DefaultResourceSpecResolver(systemAuthentication, entityClient, config.getActorCacheTtlSeconds(),
+        config.getActorCacheMaxSize());
   }
 
   private List<Authorizer> initCustomAuthorizers(ResourceSpecResolver resolver) {
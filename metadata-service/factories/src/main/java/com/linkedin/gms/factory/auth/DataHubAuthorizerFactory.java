@@ -35,6 +35,12 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
+  @Value("${authorization.defaultAuthorizer.actorCacheTtlSeconds:30}")
+  private Integer actorCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.actorCacheMaxSize:10000}")
+  private Integer actorCacheMaxSize;
+
   @Bean(name = "dataHubAuthorizer")
   @Scope("singleton")
   @Nonnull
@@ -44,6 +50,6 @@ public class DataHubAuthorizerFactory {
         : DataHubAuthorizer.AuthorizationMode.ALLOW_ALL;
 
     return new DataHubAuthorizer(systemAuthentication, entityClient, 10,
-        policyCacheRefreshIntervalSeconds, mode);
+        policyCacheRefreshIntervalSeconds, mode, actorCacheTtlSeconds, actorCacheMaxSize);
   }
 }
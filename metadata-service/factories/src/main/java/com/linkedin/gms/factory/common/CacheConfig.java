@@ -8,10 +8,21 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.cache.NamedCacheConfiguration;
+import com.linkedin.metadata.config.cache.PrimaryCacheConfiguration;
+import com.linkedin.metadata.search.cache.SearchCacheCodec;
+import com.linkedin.metadata.search.cache.TwoTierCacheManager;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -21,54 +32,110 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class CacheConfig {
 
-  @Value("${cache.primary.ttlSeconds:600}")
-  private int cacheTtlSeconds;
-
-  @Value("${cache.primary.maxSize:10000}")
-  private int cacheMaxSize;
+  @Autowired
+  private ConfigurationProvider configurationProvider;
 
   @Value("${searchService.cache.hazelcast.serviceName:hazelcast-service}")
   private String hazelcastServiceName;
 
+  @Value("${searchService.cache.nearCache.ttlSeconds:30}")
+  private int nearCacheTtlSeconds;
+
+  @Value("${searchService.cache.nearCache.maxSizeBytes:104857600}")
+  private long nearCacheMaxSizeBytes;
+
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "caffeine")
   public CacheManager caffeineCacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-    cacheManager.setCaffeine(caffeineCacheBuilder());
-    return cacheManager;
-  }
-
-  private Caffeine<Object, Object> caffeineCacheBuilder() {
-    return Caffeine.newBuilder()
-        .initialCapacity(100)
-        .maximumSize(cacheMaxSize)
-        .expireAfterAccess(cacheTtlSeconds, TimeUnit.SECONDS)
-        .recordStats();
+    return new ConfigurableCaffeineCacheManager(configurationProvider.getCache().getPrimary());
   }
 
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "hazelcast")
   public CacheManager hazelcastCacheManager() {
+    return new InstrumentedHazelcastCacheManager(hazelcastInstance());
+  }
+
+  /**
+   * Hazelcast shared across the cluster, fronted by a small Caffeine cache on every node that saves the network hop for
+   * hot queries. The near cache expires shortly after write since it doesn't see evictions from other nodes.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "twoTier")
+  public CacheManager twoTierCacheManager() {
+    CaffeineCacheManager nearCacheManager = new CaffeineCacheManager();
+    nearCacheManager.setCaffeine(Caffeine.newBuilder()
+        .maximumWeight(nearCacheMaxSizeBytes)
+        .weigher(ConfigurableCaffeineCacheManager::weigh)
+        .expireAfterWrite(nearCacheTtlSeconds, TimeUnit.SECONDS)
+        .recordStats());
+    return new TwoTierCacheManager(nearCacheManager, new InstrumentedHazelcastCacheManager(hazelcastInstance()));
+  }
+
+  /**
+   * Name of the Hazelcast map backing a cache. Maps are versioned with the format of the values written by
+   * {@link SearchCacheCodec}, so replicas of different versions never read each other's values during a rolling upgrade.
+   */
+  private static String clusterCacheName(String name) {
+    return name + "_" + SearchCacheCodec.FORMAT_VERSION;
+  }
+
+  private HazelcastInstance hazelcastInstance() {
+    final PrimaryCacheConfiguration primary = configurationProvider.getCache().getPrimary();
     Config config = new Config();
-    // TODO: This setting is equivalent to expireAfterAccess, refreshes timer after a get, put, containsKey etc.
-    //       is this behavior what we actually desire? Should we change it now?
-    MapConfig mapConfig = new MapConfig().setMaxIdleSeconds(cacheTtlSeconds);
-
-    EvictionConfig evictionConfig = new EvictionConfig()
-        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
-        .setSize(cacheMaxSize)
-        .setEvictionPolicy(EvictionPolicy.LFU);
-    mapConfig.setEvictionConfig(evictionConfig);
-    mapConfig.setName("default");
-    config.addMapConfig(mapConfig);
+    config.addMapConfig(mapConfig("default", primary.getCacheConfiguration("default")));
+    if (primary.getCaches() != null) {
+      primary.getCaches().keySet().forEach(name ->
+          config.addMapConfig(mapConfig(clusterCacheName(name), primary.getCacheConfiguration(name))));
+    }
 
     config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
     config.getNetworkConfig().getJoin().getKubernetesConfig().setEnabled(true)
         .setProperty("service-dns", hazelcastServiceName);
 
-    
-    HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+    return Hazelcast.newHazelcastInstance(config);
+  }
+
+  private static MapConfig mapConfig(String name, NamedCacheConfiguration cacheConfiguration) {
+    MapConfig mapConfig = new MapConfig(name);
+    if (cacheConfiguration.getExpiry() == NamedCacheConfiguration.Expiry.WRITE) {
+      mapConfig.setTimeToLiveSeconds(cacheConfiguration.getTtlSeconds().intValue());
+    } else {
+      // Equivalent to expireAfterAccess, refreshes timer after a get, put, containsKey etc.
+      mapConfig.setMaxIdleSeconds(cacheConfiguration.getTtlSeconds().intValue());
+    }
+
+    EvictionConfig evictionConfig = new EvictionConfig().setEvictionPolicy(EvictionPolicy.LFU);
+    if (cacheConfiguration.getMaxBytes() != null) {
+      // Values are stored serialized, so the used heap is their serialized size
+      evictionConfig.setMaxSizePolicy(MaxSizePolicy.USED_HEAP_SIZE)
+          .setSize((int) Math.max(1, cacheConfiguration.getMaxBytes() / (1024 * 1024)));
+    } else {
+      evictionConfig.setMaxSizePolicy(MaxSizePolicy.PER_NODE).setSize(cacheConfiguration.getMaxSize().intValue());
+    }
+    mapConfig.setEvictionConfig(evictionConfig);
+    return mapConfig;
+  }
+
+  /**
+   * Backs every cache with its versioned map, see {@link #clusterCacheName}, and reports the entry count and memory cost
+   * of the entries owned by this node, for every cache.
+   */
+  private static class InstrumentedHazelcastCacheManager extends HazelcastCacheManager {
+    private final Set<String> _instrumentedCaches = ConcurrentHashMap.newKeySet();
+
+    InstrumentedHazelcastCacheManager(HazelcastInstance hazelcastInstance) {
+      super(hazelcastInstance);
+    }
 
-    return new HazelcastCacheManager(hazelcastInstance);
+    @Override
+    public Cache getCache(String name) {
+      if (_instrumentedCaches.add(name)) {
+        final IMap<Object, Object> map = getHazelcastInstance().getMap(clusterCacheName(name));
+        MetricUtils.gauge(CacheConfig.class, name + "_entries", () -> () -> map.getLocalMapStats().getOwnedEntryCount());
+        MetricUtils.gauge(CacheConfig.class, name + "_bytes", () -> () -> map.getLocalMapStats().getOwnedEntryMemoryCost());
+      }
+      return super.getCache(clusterCacheName(name));
+    }
   }
-}
\ No newline at end of file
+}
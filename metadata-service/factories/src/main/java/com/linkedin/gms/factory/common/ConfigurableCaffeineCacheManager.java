@@ -0,0 +1,79 @@
+package com.linkedin.gms.factory.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.metadata.config.cache.NamedCacheConfiguration;
+import com.linkedin.metadata.config.cache.PrimaryCacheConfiguration;
+import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+
+/**
+ * A {@link CaffeineCacheManager} building every cache from its own configuration, see
+ * {@link PrimaryCacheConfiguration#getCacheConfiguration(String)}.
+ *
+ * Caches with a byte budget are weighed by the serialized size of their values. The entry count and weight of every
+ * cache are reported as gauges.
+ */
+public class ConfigurableCaffeineCacheManager extends CaffeineCacheManager {
+
+  // Rough size of keys and entry bookkeeping
+  private static final int ENTRY_OVERHEAD_BYTES = 128;
+  // Rough size of values we can't weigh
+  private static final int UNKNOWN_VALUE_BYTES = 1024;
+
+  private final PrimaryCacheConfiguration _configuration;
+
+  public ConfigurableCaffeineCacheManager(@Nonnull final PrimaryCacheConfiguration configuration) {
+    _configuration = configuration;
+  }
+
+  @Override
+  @Nonnull
+  protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(@Nonnull final String name) {
+    final NamedCacheConfiguration config = _configuration.getCacheConfiguration(name);
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .initialCapacity(100)
+        .recordStats();
+    if (config.getMaxBytes() != null) {
+      builder = builder.maximumWeight(config.getMaxBytes()).weigher(ConfigurableCaffeineCacheManager::weigh);
+    } else {
+      builder = builder.maximumSize(config.getMaxSize());
+    }
+    if (config.getExpiry() == NamedCacheConfiguration.Expiry.WRITE) {
+      builder = builder.expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS);
+    } else {
+      builder = builder.expireAfterAccess(config.getTtlSeconds(), TimeUnit.SECONDS);
+    }
+    final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = builder.build();
+
+    MetricUtils.gauge(this.getClass(), name + "_entries", () -> cache::estimatedSize);
+    if (config.getMaxBytes() != null) {
+      MetricUtils.gauge(this.getClass(), name + "_bytes", () -> () -> cache.policy().eviction()
+          .map(eviction -> eviction.weightedSize().orElse(0L))
+          .orElse(0L));
+    }
+    MetricUtils.gauge(this.getClass(), name + "_hit_rate", () -> () -> cache.stats().hitRate());
+    return cache;
+  }
+
+  /**
+   * Approximate heap size of a cache entry in bytes. Search results are cached as byte arrays, see SearchCacheCodec,
+   * and lineage results as compressed bytes.
+   */
+  static int weigh(@Nonnull final Object key, @Nonnull final Object value) {
+    final int valueBytes;
+    if (value instanceof byte[]) {
+      valueBytes = ((byte[]) value).length;
+    } else if (value instanceof String) {
+      valueBytes = ((String) value).length() * 2;
+    } else if (value instanceof CachedEntityLineageResult) {
+      valueBytes = ((CachedEntityLineageResult) value).getCompressedSize();
+    } else {
+      valueBytes = UNKNOWN_VALUE_BYTES;
+    }
+    return ENTRY_OVERHEAD_BYTES + valueBytes;
+  }
+}
@@ -5,11 +5,13 @@ import com.datahub.authorization.AuthorizationConfiguration;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.config.cache.CacheConfiguration;
+import com.linkedin.metadata.config.graphql.GraphQLConfiguration;
 import com.linkedin.metadata.config.DataHubConfiguration;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.IngestionConfiguration;
 import com.linkedin.metadata.config.SystemUpdateConfiguration;
 import com.linkedin.metadata.config.TestsConfiguration;
+import com.linkedin.metadata.config.TimelineConfiguration;
 import com.linkedin.metadata.config.ViewsConfiguration;
 import com.linkedin.metadata.config.VisualConfiguration;
 import com.linkedin.metadata.config.kafka.KafkaConfiguration;
@@ -83,4 +85,14 @@ public class ConfigurationProvider {
    * Configuration for the health check server
    */
   private HealthCheckConfiguration healthCheck;
+
+  /**
+   * GraphQL execution configurations
+   */
+  private GraphQLConfiguration graphQL;
+
+  /**
+   * Timeline service configurations
+   */
+  private TimelineConfiguration timeline;
 }
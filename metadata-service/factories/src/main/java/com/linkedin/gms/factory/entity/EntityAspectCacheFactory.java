@@ -0,0 +1,39 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.cache.EntityAspectCacheConfiguration;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.cache.EntityAspectCache;
+import com.linkedin.metadata.entity.cache.InMemoryEntityAspectCache;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+
+@Slf4j
+@Configuration
+public class EntityAspectCacheFactory {
+
+  @Autowired
+  @Qualifier("entityService")
+  private EntityService _entityService;
+
+  @Bean(name = "entityAspectCache")
+  @DependsOn({"entityService"})
+  @ConditionalOnProperty(name = "cache.entityAspect.enabled", havingValue = "true")
+  @Nonnull
+  protected EntityAspectCache createInstance(final ConfigurationProvider configurationProvider) {
+    final EntityAspectCacheConfiguration config = configurationProvider.getCache().getEntityAspect();
+    final EntityAspectCache aspectCache =
+        new InMemoryEntityAspectCache(config.getMaxSize(), config.getMaxBytes(), config.getTtlSeconds());
+    _entityService.setAspectCache(aspectCache);
+    log.info("Entity aspect cache enabled. maxSize: {}, maxBytes: {}, ttlSeconds: {}", config.getMaxSize(),
+        config.getMaxBytes(), config.getTtlSeconds());
+    return aspectCache;
+  }
+}
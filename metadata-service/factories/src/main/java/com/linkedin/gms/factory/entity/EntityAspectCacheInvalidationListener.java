@@ -0,0 +1,96 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.entity.cache.EntityAspectCache;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Drops latest aspect rows from the local {@link EntityAspectCache} when a MetadataChangeLog for them is observed, so
+ * that writes served by other replicas become visible on this one.
+ *
+ * Every replica has to see every change log, so each instance consumes under its own consumer group, suffixed with its
+ * host name by default so that restarts reuse the group. Older change logs are skipped: the first time a partition is
+ * assigned the consumer starts from its end and drops every cached row, which may have been read before the seek.
+ * Later assignments of the same partition, e.g. after a rebalance, resume from the committed offset so that no
+ * invalidation published in between is lost.
+ */
+@Slf4j
+@Component
+@EnableKafka
+@Import({KafkaEventConsumerFactory.class})
+@ConditionalOnProperty(name = {"cache.entityAspect.enabled", "cache.entityAspect.invalidationEnabled"}, havingValue = "true")
+public class EntityAspectCacheInvalidationListener implements ConsumerSeekAware {
+
+  private static final String CONSUMER_GROUP_PREFIX =
+      "${ENTITY_ASPECT_CACHE_KAFKA_CONSUMER_GROUP_PREFIX:generic-aspect-cache-invalidation-client}";
+  private static final String CONSUMER_GROUP_INSTANCE_ID =
+      "${ENTITY_ASPECT_CACHE_KAFKA_CONSUMER_INSTANCE_ID:#{T(java.net.InetAddress).getLocalHost().getHostName()}}";
+
+  private final EntityAspectCache _aspectCache;
+  private final Set<TopicPartition> _seekedPartitions = ConcurrentHashMap.newKeySet();
+
+  public EntityAspectCacheInvalidationListener(@Qualifier("entityAspectCache") EntityAspectCache aspectCache) {
+    _aspectCache = aspectCache;
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+    final Set<TopicPartition> newPartitions = assignments.keySet().stream()
+        .filter(_seekedPartitions::add)
+        .collect(Collectors.toSet());
+    if (!newPartitions.isEmpty()) {
+      callback.seekToEnd(newPartitions);
+      _aspectCache.invalidateAll();
+    }
+  }
+
+  @KafkaListener(id = "entityAspectCacheInvalidation", idIsGroup = false,
+      groupId = CONSUMER_GROUP_PREFIX + "-" + CONSUMER_GROUP_INSTANCE_ID,
+      topics = {"${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"},
+      containerFactory = "kafkaEventConsumer", concurrency = "1", properties = {"auto.offset.reset=latest"})
+  public void invalidate(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final MetadataChangeLog event;
+    try {
+      event = EventUtils.avroToPegasusMCL(consumerRecord.value());
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message, unable to invalidate cached aspect: ", e);
+      return;
+    }
+
+    if (!event.hasEntityUrn()) {
+      // Without an urn there is nothing to key the invalidation on, the cache TTL bounds staleness instead
+      MetricUtils.counter(this.getClass(), "missing_urn").inc();
+      return;
+    }
+
+    final String urn = event.getEntityUrn().toString();
+    if (event.getChangeType() == ChangeType.DELETE || !event.hasAspectName()) {
+      // A deleted key aspect removes every aspect of the entity, invalidate conservatively
+      _aspectCache.invalidateUrn(urn);
+    } else {
+      _aspectCache.invalidate(urn, event.getAspectName());
+    }
+    MetricUtils.counter(this.getClass(), "invalidated_mcl_count").inc();
+  }
+}
@@ -1,10 +1,12 @@
 package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.linkedin.metadata.entity.AspectCodec;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.EbeanServer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,12 +17,23 @@ import javax.annotation.Nonnull;
 @Configuration
 public class EntityAspectDaoFactory {
 
+  @Value("${entityService.ebean.batchGetParallelism:4}")
+  private int _batchGetParallelism;
+
+  @Value("${entityService.compression.enabled:false}")
+  private boolean _compressionEnabled;
+
+  @Value("${entityService.compression.minSizeBytes:1024}")
+  private int _compressionMinSizeBytes;
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
   @Nonnull
   protected AspectDao createEbeanInstance(EbeanServer server) {
-    return new EbeanAspectDao(server);
+    EbeanAspectDao aspectDao = new EbeanAspectDao(server, _batchGetParallelism);
+    aspectDao.setAspectCodec(new AspectCodec(_compressionEnabled, _compressionMinSizeBytes));
+    return aspectDao;
   }
 
   @Bean(name = "entityAspectDao")
@@ -28,6 +41,8 @@ public class EntityAspectDaoFactory {
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
   protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+    CassandraAspectDao aspectDao = new CassandraAspectDao(session);
+    aspectDao.setAspectCodec(new AspectCodec(_compressionEnabled, _compressionMinSizeBytes));
+    return aspectDao;
   }
 }
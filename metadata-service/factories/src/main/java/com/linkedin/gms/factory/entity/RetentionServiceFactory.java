@@ -6,6 +6,7 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.cassandra.CassandraRetentionService;
 import com.linkedin.metadata.entity.ebean.EbeanRetentionService;
+import com.linkedin.metadata.entity.retention.RetentionQueue;
 import io.ebean.EbeanServer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -30,6 +31,18 @@ public class RetentionServiceFactory {
   @Value("${RETENTION_APPLICATION_BATCH_SIZE:1000}")
   private Integer _batchSize;
 
+  @Value("${entityService.retention.async.enabled:false}")
+  private Boolean _asyncEnabled;
+
+  @Value("${entityService.retention.async.batchSize:100}")
+  private Integer _asyncBatchSize;
+
+  @Value("${entityService.retention.async.flushIntervalMs:1000}")
+  private Long _asyncFlushIntervalMs;
+
+  @Value("${entityService.retention.async.maxQueueSize:100000}")
+  private Integer _asyncMaxQueueSize;
+
 
   @Bean(name = "retentionService")
   @DependsOn({"cassandraSession", "entityService"})
@@ -37,7 +50,7 @@ public class RetentionServiceFactory {
   @Nonnull
   protected RetentionService createCassandraInstance(CqlSession session) {
     RetentionService retentionService = new CassandraRetentionService(_entityService, session, _batchSize);
-    _entityService.setRetentionService(retentionService);
+    setRetentionService(retentionService);
     return retentionService;
   }
 
@@ -48,7 +61,15 @@ public class RetentionServiceFactory {
   @Nonnull
   protected RetentionService createEbeanInstance(EbeanServer server) {
     RetentionService retentionService = new EbeanRetentionService(_entityService, server, _batchSize);
-    _entityService.setRetentionService(retentionService);
+    setRetentionService(retentionService);
     return retentionService;
   }
+
+  private void setRetentionService(@Nonnull RetentionService retentionService) {
+    _entityService.setRetentionService(retentionService);
+    if (_asyncEnabled) {
+      _entityService.setRetentionQueue(
+          new RetentionQueue(retentionService, _asyncBatchSize, _asyncFlushIntervalMs, _asyncMaxQueueSize));
+    }
+  }
 }
@@ -10,6 +10,7 @@ import com.linkedin.datahub.graphql.GmsGraphQLEngine;
 import com.linkedin.datahub.graphql.GmsGraphQLEngineArgs;
 import com.linkedin.datahub.graphql.GraphQLEngine;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.auth.DataHubTokenServiceFactory;
 import com.linkedin.gms.factory.common.GitVersionFactory;
@@ -20,6 +21,7 @@ import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
 import com.linkedin.gms.factory.recommendation.RecommendationServiceFactory;
+import com.linkedin.metadata.config.graphql.GraphQLConcurrencyConfiguration;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphClient;
 import com.linkedin.metadata.graph.GraphService;
@@ -35,10 +37,18 @@ import com.linkedin.metadata.service.ViewService;
 import com.linkedin.metadata.service.LineageService;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.UsageClient;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -48,6 +58,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
+@Slf4j
 @Configuration
 @Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, RestliEntityClientFactory.class,
     RecommendationServiceFactory.class, EntityRegistryFactory.class, DataHubTokenServiceFactory.class,
@@ -167,7 +178,8 @@ public class GraphQLEngineFactory {
 
   @Bean(name = "graphQLEngine")
   @Nonnull
-  protected GraphQLEngine getInstance() {
+  protected GraphQLEngine getInstance(@Qualifier("graphQLWorkerPool") final ExecutorService graphQLWorkerPool) {
+    GraphQLConcurrencyUtils.setExecutorService(graphQLWorkerPool);
     GmsGraphQLEngineArgs args = new GmsGraphQLEngineArgs();
     args.setEntityClient(_entityClient);
     args.setGraphClient(_graphClient);
@@ -207,6 +219,44 @@ public class GraphQLEngineFactory {
     args.setDataProductService(_dataProductService);
     return new GmsGraphQLEngine(
             args
-    ).builder().build();
+    ).builder()
+        .setQueryTimeoutSeconds(_configProvider.getGraphQL().getQueryTimeoutSeconds())
+        .setQueryCacheSize(_configProvider.getGraphQL().getQueryCacheSize())
+        .setPersistedQueriesEnabled(_configProvider.getGraphQL().isPersistedQueriesEnabled())
+        .build();
+  }
+
+  @Bean(name = "graphQLWorkerPool", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService graphQLWorkerPool() {
+    final GraphQLConcurrencyConfiguration config = _configProvider.getGraphQL().getConcurrency();
+    if (config.isVirtualThreads()) {
+      try {
+        // Resolved reflectively so the service still builds and runs on JVMs without virtual threads
+        final ExecutorService executorService =
+            (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        log.info("Running GraphQL resolvers on virtual threads");
+        return executorService;
+      } catch (ReflectiveOperationException e) {
+        log.warn("Virtual threads are not supported by this JVM, running GraphQL resolvers on a thread pool");
+      }
+    }
+    // Threads above the core size are only started once the queue is full, so the pool runs with its maximum size as
+    // core size and lets idle core threads time out instead
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        config.getMaxPoolSize(),
+        config.getMaxPoolSize(),
+        config.getKeepAliveSeconds(),
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(config.getQueueSize()),
+        new ThreadFactoryBuilder().setNameFormat("graphql-resolver-%d").setDaemon(true).build(),
+        // Pushes back on the request threads once saturated
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    MetricUtils.gauge(GraphQLConcurrencyUtils.class, "active_threads", () -> executor::getActiveCount);
+    MetricUtils.gauge(GraphQLConcurrencyUtils.class, "pool_size", () -> executor::getPoolSize);
+    MetricUtils.gauge(GraphQLConcurrencyUtils.class, "queue_size", () -> () -> executor.getQueue().size());
+    log.info("Running GraphQL resolvers on a pool of up to {} threads", config.getMaxPoolSize());
+    return executor;
   }
 }
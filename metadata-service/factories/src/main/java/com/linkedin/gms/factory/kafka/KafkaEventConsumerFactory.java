@@ -5,10 +5,12 @@ import com.linkedin.gms.factory.kafka.schemaregistry.AwsGlueSchemaRegistryFactor
 import com.linkedin.gms.factory.kafka.schemaregistry.InternalSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.KafkaSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.SchemaRegistryConfig;
+import com.linkedin.metadata.config.kafka.BatchListenerConfiguration;
 import com.linkedin.metadata.config.kafka.KafkaConfiguration;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +25,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 @Slf4j
 @Configuration
 @Import({KafkaSchemaRegistryFactory.class, AwsGlueSchemaRegistryFactory.class, InternalSchemaRegistryFactory.class})
 public class KafkaEventConsumerFactory {
 
+    private static final long MANUAL_COMMIT_RETRY_INITIAL_INTERVAL_MS = 1000L;
+    private static final long MANUAL_COMMIT_RETRY_MAX_INTERVAL_MS = 60000L;
 
     private int kafkaEventConsumerConcurrency;
 
@@ -103,6 +110,56 @@ public class KafkaEventConsumerFactory {
         return factory;
     }
 
+    @Bean(name = "kafkaBatchEventConsumer")
+    protected KafkaListenerContainerFactory<?> createBatchInstance(
+            @Qualifier("configurationProvider") ConfigurationProvider provider,
+            @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory) {
+        return buildBatchInstance(kafkaConsumerFactory, provider.getKafka().getListener().getMcpBatch(), false);
+    }
+
+    @Bean(name = "kafkaManualCommitBatchEventConsumer")
+    protected KafkaListenerContainerFactory<?> createManualCommitBatchInstance(
+            @Qualifier("configurationProvider") ConfigurationProvider provider,
+            @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory) {
+        return buildBatchInstance(kafkaConsumerFactory, provider.getKafka().getListener().getMclBatch(), true);
+    }
+
+    private KafkaListenerContainerFactory<?> buildBatchInstance(
+            DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory,
+            BatchListenerConfiguration batchConfiguration,
+            boolean manualCommit) {
+        // Same consumer properties as the record based listeners, only the number of records per poll and possibly
+        // the commit mode differ
+        Map<String, Object> batchProperties = new HashMap<>(kafkaConsumerFactory.getConfigurationProperties());
+        batchProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchConfiguration.getMaxPollRecords());
+        if (manualCommit) {
+            batchProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        }
+
+        ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(batchProperties));
+        factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+        factory.setConcurrency(kafkaEventConsumerConcurrency);
+        factory.setBatchListener(true);
+        if (manualCommit) {
+            // Offsets are committed once the listener acknowledges the whole batch
+            factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+            // A batch failing with anything but a BatchListenerFailedException is handed to the listener again, the
+            // partitions being paused meanwhile. The backoff never runs out, so failed records are retried until they
+            // succeed instead of being logged and skipped after a few attempts as with the default error handler.
+            ExponentialBackOff backOff = new ExponentialBackOff(MANUAL_COMMIT_RETRY_INITIAL_INTERVAL_MS, 2.0);
+            backOff.setMaxInterval(MANUAL_COMMIT_RETRY_MAX_INTERVAL_MS);
+            factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        }
+
+        log.info(String.format("Batch KafkaListenerContainerFactory built successfully. Consumer concurrency = %s, "
+                + "max poll records = %s, manual commit = %s", kafkaEventConsumerConcurrency,
+                batchConfiguration.getMaxPollRecords(), manualCommit));
+
+        return factory;
+    }
+
     @Bean(name = "duheKafkaEventConsumer")
     protected KafkaListenerContainerFactory<?> duheKafkaEventConsumer(
             @Qualifier("duheKafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory) {
@@ -0,0 +1,153 @@
+package com.linkedin.gms.factory.lineage;
+
+import com.linkedin.gms.factory.common.ElasticSearchGraphServiceFactory;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
+import com.linkedin.metadata.graph.lineage.LineageGraphIndex;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.Topics;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+
+/**
+ * Creates the in-memory {@link LineageGraphIndex} and plugs it into the Elasticsearch graph service.
+ *
+ * The index is loaded from the graph index on a background thread, lineage queries being served by Elasticsearch until
+ * the load completes. A failed load is retried a few times, after which lineage keeps being served by Elasticsearch.
+ *
+ * The offsets of the MetadataChangeLog topic are captured before the load starts, so that
+ * {@link LineageGraphIndexUpdateListener} replays the change logs the loaded edges may not reflect yet. These are the
+ * offsets committed by the consumer updating the graph index, which may lag behind the topic, or the end of the topic
+ * for partitions it has not committed yet.
+ */
+@Slf4j
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({ElasticSearchGraphServiceFactory.class, KafkaEventConsumerFactory.class})
+public class LineageGraphIndexFactory {
+  private static final int BOOTSTRAP_MAX_ATTEMPTS = 5;
+  private static final long BOOTSTRAP_INITIAL_BACKOFF_MS = 10000;
+
+  @Autowired
+  @Qualifier("elasticSearchGraphService")
+  private ElasticSearchGraphService _elasticSearchGraphService;
+
+  @Autowired
+  private ConfigurationProvider configurationProvider;
+
+  @Autowired
+  @Qualifier("kafkaConsumerFactory")
+  private DefaultKafkaConsumerFactory<String, GenericRecord> _kafkaConsumerFactory;
+
+  @Value("${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}")
+  private String metadataChangeLogTopicName;
+
+  @Value("${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}")
+  private String metadataChangeLogConsumerGroup;
+
+  @Value("${graphService.lineageIndex.compactionThreshold}")
+  private Integer compactionThreshold;
+
+  @Value("${graphService.lineageIndex.bootstrapBatchSize}")
+  private Integer bootstrapBatchSize;
+
+  /**
+   * Offsets of the MetadataChangeLog topic partitions to replay from once the index is loaded, empty if they could not
+   * be read.
+   */
+  @Bean(name = "lineageGraphIndexStartOffsets")
+  @ConditionalOnProperty(name = "graphService.lineageIndex.enabled", havingValue = "true")
+  @Nonnull
+  protected Map<TopicPartition, Long> createStartOffsets() {
+    // Only reads the committed offsets of the group, never joins it nor commits
+    final Properties properties = new Properties();
+    properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+    try (Consumer<String, GenericRecord> consumer = _kafkaConsumerFactory.createConsumer(
+        metadataChangeLogConsumerGroup, null, "lineage-index-offsets", properties)) {
+      final Set<TopicPartition> partitions = consumer.partitionsFor(metadataChangeLogTopicName).stream()
+          .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+          .collect(Collectors.toSet());
+      final Map<TopicPartition, Long> offsets = new HashMap<>(consumer.endOffsets(partitions));
+      consumer.committed(partitions).forEach((partition, committed) -> {
+        if (committed != null) {
+          offsets.merge(partition, committed.offset(), Math::min);
+        }
+      });
+      return offsets;
+    } catch (Exception e) {
+      log.error("Failed to read the offsets of {}, the lineage graph index may miss changes made while it loads",
+          metadataChangeLogTopicName, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  @Bean(name = "lineageGraphIndex")
+  @DependsOn({"elasticSearchGraphService", "lineageGraphIndexStartOffsets"})
+  @ConditionalOnProperty(name = "graphService.lineageIndex.enabled", havingValue = "true")
+  @Nonnull
+  protected LineageGraphIndex createInstance() {
+    final LineageGraphIndex lineageIndex =
+        new LineageGraphIndex(_elasticSearchGraphService.getLineageRegistry(), compactionThreshold,
+            configurationProvider.getElasticSearch().getSearch().getGraph());
+    _elasticSearchGraphService.setLineageIndex(lineageIndex);
+
+    final Thread bootstrap = new Thread(() -> load(lineageIndex), "lineage-index-bootstrap");
+    bootstrap.setDaemon(true);
+    bootstrap.start();
+    return lineageIndex;
+  }
+
+  /**
+   * Loads the index, retrying with an exponential backoff. Adding an edge twice only updates it, so a retry simply
+   * scans the graph index again over the edges already loaded.
+   */
+  private void load(@Nonnull final LineageGraphIndex lineageIndex) {
+    long backoffMs = BOOTSTRAP_INITIAL_BACKOFF_MS;
+    for (int attempt = 1; attempt <= BOOTSTRAP_MAX_ATTEMPTS; attempt++) {
+      final long start = System.currentTimeMillis();
+      try {
+        _elasticSearchGraphService.scrollEdges(lineageIndex.getLineageRelationshipTypes(), bootstrapBatchSize,
+            lineageIndex::addEdge);
+        lineageIndex.markReady();
+        log.info("Loaded lineage graph index in {} ms", System.currentTimeMillis() - start);
+        return;
+      } catch (Exception e) {
+        MetricUtils.counter(this.getClass(), "bootstrap_failure").inc();
+        log.error("Failed to load lineage graph index, attempt {} of {}", attempt, BOOTSTRAP_MAX_ATTEMPTS, e);
+      }
+      if (attempt < BOOTSTRAP_MAX_ATTEMPTS) {
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        backoffMs *= 2;
+      }
+    }
+    log.error("Gave up loading the lineage graph index, lineage will be served from the graph index");
+  }
+}
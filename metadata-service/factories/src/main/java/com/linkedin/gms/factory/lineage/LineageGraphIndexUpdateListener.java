@@ -0,0 +1,202 @@
+package com.linkedin.gms.factory.lineage;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphIndexUtils;
+import com.linkedin.metadata.graph.lineage.LineageGraphIndex;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.mxe.Topics;
+import com.linkedin.util.Pair;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Keeps the local {@link LineageGraphIndex} in sync with the graph by applying the lineage edges of every
+ * MetadataChangeLog, diffing the previous and new aspect versions the same way the graph index is updated.
+ *
+ * Every replica keeps its own copy of the index, so each instance consumes under its own consumer group, suffixed with
+ * its host name by default so that restarts reuse the group. The index is reloaded from the graph index on startup and
+ * the consumer only starts once that load is complete, so that a change log is never undone by a stale edge the load
+ * reads afterwards. On the first assignment it seeks to the offsets captured right before the load rather than
+ * resuming from its committed offsets: change logs the graph index may have missed are replayed over the loaded index.
+ *
+ * A change log that cannot be applied leaves the index out of sync with the graph, the index is then disabled and
+ * lineage is served from the graph index again.
+ */
+@Slf4j
+@Component
+@EnableKafka
+@Import({KafkaEventConsumerFactory.class, LineageGraphIndexFactory.class})
+@ConditionalOnProperty(name = "graphService.lineageIndex.enabled", havingValue = "true")
+public class LineageGraphIndexUpdateListener implements ConsumerSeekAware {
+
+  private static final String CONSUMER_GROUP_PREFIX =
+      "${LINEAGE_INDEX_KAFKA_CONSUMER_GROUP_PREFIX:generic-lineage-index-client}";
+  private static final String CONSUMER_GROUP_INSTANCE_ID =
+      "${LINEAGE_INDEX_KAFKA_CONSUMER_INSTANCE_ID:#{T(java.net.InetAddress).getLocalHost().getHostName()}}";
+  private static final String LISTENER_ID = "lineageGraphIndexUpdate";
+
+  private final LineageGraphIndex _lineageIndex;
+  private final EntityRegistry _entityRegistry;
+  private final KafkaListenerEndpointRegistry _registry;
+  // Offsets not yet sought to, partitions are only sought on their first assignment
+  private final Map<TopicPartition, Long> _startOffsets;
+
+  public LineageGraphIndexUpdateListener(@Qualifier("lineageGraphIndex") LineageGraphIndex lineageIndex,
+      @Qualifier("entityRegistry") EntityRegistry entityRegistry,
+      @Qualifier("lineageGraphIndexStartOffsets") Map<TopicPartition, Long> startOffsets,
+      KafkaListenerEndpointRegistry registry) {
+    _lineageIndex = lineageIndex;
+    _entityRegistry = entityRegistry;
+    _startOffsets = new ConcurrentHashMap<>(startOffsets);
+    _registry = registry;
+  }
+
+  /**
+   * Starts consuming once the index is loaded, listener containers are registered by the time the context is refreshed.
+   */
+  @EventListener(ContextRefreshedEvent.class)
+  public void startWhenLoaded() {
+    _lineageIndex.onLoaded().thenRun(() -> {
+      log.info("Lineage graph index loaded, applying change logs");
+      _registry.getListenerContainer(LISTENER_ID).start();
+    });
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+    assignments.keySet().forEach(partition -> {
+      final Long offset = _startOffsets.remove(partition);
+      if (offset != null) {
+        log.info("Seeking lineage graph index consumer of {} to {}", partition, offset);
+        callback.seek(partition.topic(), partition.partition(), offset);
+      }
+    });
+  }
+
+  @KafkaListener(id = LISTENER_ID, idIsGroup = false, autoStartup = "false",
+      groupId = CONSUMER_GROUP_PREFIX + "-" + CONSUMER_GROUP_INSTANCE_ID,
+      topics = {"${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"},
+      containerFactory = "kafkaEventConsumer", concurrency = "1", properties = {"auto.offset.reset=latest"})
+  public void update(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    if (!_lineageIndex.isReady()) {
+      // Disabled after a failure, it is no longer served
+      return;
+    }
+    try {
+      apply(EventUtils.avroToPegasusMCL(consumerRecord.value()));
+      MetricUtils.counter(this.getClass(), "applied_mcl_count").inc();
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "apply_failure").inc();
+      log.error("Failed to apply MetadataChangeLog at {}-{}@{} to the lineage graph index: ", consumerRecord.topic(),
+          consumerRecord.partition(), consumerRecord.offset(), e);
+      _lineageIndex.disable();
+    }
+  }
+
+  private void apply(@Nonnull final MetadataChangeLog event) {
+    if (!event.hasAspectName()) {
+      return;
+    }
+    final EntitySpec entitySpec = _entityRegistry.getEntitySpec(event.getEntityType());
+    final AspectSpec aspectSpec = entitySpec.getAspectSpec(event.getAspectName());
+    if (aspectSpec == null || aspectSpec.isTimeseries()) {
+      return;
+    }
+    final Urn urn = EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
+
+    if (event.getChangeType() == ChangeType.DELETE) {
+      if (aspectSpec.getName().equals(entitySpec.getKeyAspectName())) {
+        _lineageIndex.removeNode(urn);
+      } else if (event.hasPreviousAspectValue()) {
+        getEdges(urn, aspectSpec, event.getPreviousAspectValue(), event, false).forEach(_lineageIndex::removeEdge);
+      } else {
+        final Set<String> relationshipTypes = new HashSet<>();
+        aspectSpec.getRelationshipFieldSpecs().forEach(spec -> relationshipTypes.add(spec.getRelationshipName()));
+        _lineageIndex.removeEdgesFromNode(urn, relationshipTypes, RelationshipDirection.OUTGOING);
+      }
+      return;
+    }
+
+    if (!event.hasAspect()) {
+      return;
+    }
+    final Pair<List<Edge>, HashMap<Urn, Set<String>>> edgesAndRelationshipTypes =
+        getEdgesAndRelationshipTypes(urn, aspectSpec, event.getAspect(), event, true);
+    final Set<Edge> newEdges = new HashSet<>(edgesAndRelationshipTypes.getFirst());
+    if (isReplace(event)) {
+      // Same as the graph index when it is not diffed, the outgoing edges of the aspect are replaced
+      edgesAndRelationshipTypes.getSecond().forEach((source, relationshipTypes) ->
+          _lineageIndex.removeEdgesFromNode(source, relationshipTypes, RelationshipDirection.OUTGOING));
+    } else {
+      getEdges(urn, aspectSpec, event.getPreviousAspectValue(), event, false).stream()
+          .filter(edge -> !newEdges.contains(edge))
+          .forEach(_lineageIndex::removeEdge);
+    }
+    newEdges.forEach(_lineageIndex::addEdge);
+  }
+
+  /**
+   * Whether the edges of the aspect have to be replaced rather than diffed against the previous version, in which
+   * case edges missed by the index (e.g. written before a restore) are dropped as well.
+   */
+  private static boolean isReplace(@Nonnull final MetadataChangeLog event) {
+    if (!event.hasPreviousAspectValue() || event.getChangeType() == ChangeType.RESTATE) {
+      return true;
+    }
+    final SystemMetadata systemMetadata = event.getSystemMetadata();
+    return systemMetadata != null && systemMetadata.getProperties() != null
+        && Boolean.parseBoolean(systemMetadata.getProperties().get(FORCE_INDEXING_KEY));
+  }
+
+  @Nonnull
+  private static List<Edge> getEdges(@Nonnull final Urn urn, @Nonnull final AspectSpec aspectSpec,
+      @Nonnull final GenericAspect genericAspect, @Nonnull final MetadataChangeLog event,
+      final boolean isNewAspectVersion) {
+    return getEdgesAndRelationshipTypes(urn, aspectSpec, genericAspect, event, isNewAspectVersion).getFirst();
+  }
+
+  @Nonnull
+  private static Pair<List<Edge>, HashMap<Urn, Set<String>>> getEdgesAndRelationshipTypes(@Nonnull final Urn urn,
+      @Nonnull final AspectSpec aspectSpec, @Nonnull final GenericAspect genericAspect,
+      @Nonnull final MetadataChangeLog event, final boolean isNewAspectVersion) {
+    final RecordTemplate aspect =
+        GenericRecordUtils.deserializeAspect(genericAspect.getValue(), genericAspect.getContentType(), aspectSpec);
+    return GraphIndexUtils.getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, isNewAspectVersion);
+  }
+}
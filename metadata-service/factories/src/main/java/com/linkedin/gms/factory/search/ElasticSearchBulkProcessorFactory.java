@@ -44,6 +44,21 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.refreshPolicy}")
   private String refreshPolicy;
 
+  @Value("${elasticsearch.bulkProcessor.bytesLimit}")
+  private Long bulkBytesLimit;
+
+  @Value("${elasticsearch.bulkProcessor.maxConcurrentRequests}")
+  private Integer maxConcurrentRequests;
+
+  @Value("#{new Boolean('${elasticsearch.bulkProcessor.adaptive.enabled}')}")
+  private boolean adaptive;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.minRequestsLimit}")
+  private Integer minBulkRequestsLimit;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.targetLatencyMs}")
+  private Long targetLatencyMs;
+
   @Bean(name = "elasticSearchBulkProcessor")
   @Nonnull
   protected ESBulkProcessor getInstance() {
@@ -53,6 +68,11 @@ public class ElasticSearchBulkProcessorFactory {
             .bulkRequestsLimit(bulkRequestsLimit)
             .retryInterval(retryInterval)
             .numRetries(numRetries)
+            .bulkBytesLimit(bulkBytesLimit)
+            .maxConcurrentRequests(maxConcurrentRequests)
+            .adaptive(adaptive)
+            .minBulkRequestsLimit(minBulkRequestsLimit)
+            .targetLatencyMs(targetLatencyMs)
             .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
             .build();
   }
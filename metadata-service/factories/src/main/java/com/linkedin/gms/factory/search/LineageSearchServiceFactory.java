@@ -3,9 +3,11 @@ package com.linkedin.gms.factory.search;
 import com.linkedin.gms.factory.common.GraphServiceFactory;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.config.cache.SearchLineageCacheConfiguration;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -20,14 +22,25 @@ import org.springframework.context.annotation.PropertySource;
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class LineageSearchServiceFactory {
 
+  private static final String LINEAGE_CACHE_NAME = "relationshipSearchService";
+
   @Bean(name = "relationshipSearchService")
   @Primary
   @Nonnull
   protected LineageSearchService getInstance(CacheManager cacheManager, GraphService graphService,
        SearchService searchService, ConfigurationProvider configurationProvider) {
     boolean cacheEnabled = configurationProvider.getFeatureFlags().isLineageSearchCacheEnabled();
+    // A refresh-ahead age configured for the lineage cache itself takes precedence over cache.search.lineage.ttlSeconds
+    final SearchLineageCacheConfiguration lineageCacheConfiguration = new SearchLineageCacheConfiguration();
+    final SearchLineageCacheConfiguration configured = configurationProvider.getCache().getSearch().getLineage();
+    lineageCacheConfiguration.setTtlSeconds(configured.getTtlSeconds());
+    lineageCacheConfiguration.setLightningThreshold(configured.getLightningThreshold());
+    lineageCacheConfiguration.setRefillPoolSize(configured.getRefillPoolSize());
+    lineageCacheConfiguration.setRefillQueueSize(configured.getRefillQueueSize());
+    Optional.ofNullable(configurationProvider.getCache().getPrimary()
+        .getCacheConfiguration(LINEAGE_CACHE_NAME).getRefreshAfterWriteSeconds())
+        .ifPresent(lineageCacheConfiguration::setTtlSeconds);
     return new LineageSearchService(searchService, graphService,
-        cacheEnabled ? cacheManager.getCache("relationshipSearchService") : null, cacheEnabled,
-            configurationProvider.getCache().getSearch().getLineage());
+        cacheEnabled ? cacheManager.getCache(LINEAGE_CACHE_NAME) : null, cacheEnabled, lineageCacheConfiguration);
   }
 }
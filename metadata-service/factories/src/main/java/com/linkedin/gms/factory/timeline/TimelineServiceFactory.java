@@ -1,6 +1,8 @@
 package com.linkedin.gms.factory.timeline;
 
+import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.config.TimelineConfiguration;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeline.TimelineService;
@@ -21,7 +23,10 @@ public class TimelineServiceFactory {
   @Bean(name = "timelineService")
   @DependsOn({"entityAspectDao", "entityService", "entityRegistry"})
   @Nonnull
-  protected TimelineService timelineService(@Qualifier("entityAspectDao") AspectDao aspectDao, EntityRegistry entityRegistry) {
-    return new TimelineServiceImpl(aspectDao, entityRegistry);
+  protected TimelineService timelineService(@Qualifier("entityAspectDao") AspectDao aspectDao, EntityRegistry entityRegistry,
+      ConfigurationProvider configurationProvider) {
+    final TimelineConfiguration config = configurationProvider.getTimeline();
+    return new TimelineServiceImpl(aspectDao, entityRegistry, config.getDiffCacheMaxSize(),
+        config.getDiffCacheTtlSeconds(), config.getDiffThreads());
   }
 }
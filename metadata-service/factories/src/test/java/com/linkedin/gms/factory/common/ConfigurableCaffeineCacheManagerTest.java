@@ -0,0 +1,72 @@
+package com.linkedin.gms.factory.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.linkedin.metadata.config.cache.NamedCacheConfiguration;
+import com.linkedin.metadata.config.cache.PrimaryCacheConfiguration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ConfigurableCaffeineCacheManagerTest {
+
+    @Test
+    public void testPerCacheConfiguration() {
+        NamedCacheConfiguration lineage = new NamedCacheConfiguration();
+        lineage.setMaxBytes(10_000L);
+        lineage.setExpiry(NamedCacheConfiguration.Expiry.WRITE);
+        NamedCacheConfiguration autoComplete = new NamedCacheConfiguration();
+        autoComplete.setTtlSeconds(60L);
+
+        PrimaryCacheConfiguration primary = new PrimaryCacheConfiguration();
+        primary.setMaxSize(100);
+        primary.setTtlSeconds(600);
+        primary.setCaches(Map.of("lineage", lineage, "autoComplete", autoComplete));
+
+        NamedCacheConfiguration resolved = primary.getCacheConfiguration("autoComplete");
+        Assert.assertEquals(resolved.getTtlSeconds().longValue(), 60L);
+        Assert.assertEquals(resolved.getMaxSize().longValue(), 100L);
+        Assert.assertEquals(resolved.getExpiry(), NamedCacheConfiguration.Expiry.ACCESS);
+
+        ConfigurableCaffeineCacheManager cacheManager = new ConfigurableCaffeineCacheManager(primary);
+
+        Cache<Object, Object> lineageCache = nativeCache(cacheManager, "lineage");
+        Assert.assertEquals(lineageCache.policy().eviction().get().getMaximum(), 10_000L);
+        Assert.assertTrue(lineageCache.policy().expireAfterWrite().isPresent());
+        Assert.assertFalse(lineageCache.policy().expireAfterAccess().isPresent());
+
+        Cache<Object, Object> autoCompleteCache = nativeCache(cacheManager, "autoComplete");
+        Assert.assertEquals(autoCompleteCache.policy().eviction().get().getMaximum(), 100L);
+        Assert.assertEquals(autoCompleteCache.policy().expireAfterAccess().get().getExpiresAfter(TimeUnit.SECONDS), 60L);
+
+        Cache<Object, Object> otherCache = nativeCache(cacheManager, "other");
+        Assert.assertEquals(otherCache.policy().expireAfterAccess().get().getExpiresAfter(TimeUnit.SECONDS), 600L);
+    }
+
+    @Test
+    public void testWeighing() {
+        NamedCacheConfiguration weighed = new NamedCacheConfiguration();
+        weighed.setMaxBytes(10_000L);
+        PrimaryCacheConfiguration primary = new PrimaryCacheConfiguration();
+        primary.setMaxSize(100);
+        primary.setTtlSeconds(600);
+        primary.setCaches(Map.of("weighed", weighed));
+
+        Cache<Object, Object> cache = nativeCache(new ConfigurableCaffeineCacheManager(primary), "weighed");
+        cache.put("small", new byte[100]);
+        cache.put("large", new byte[5000]);
+        cache.cleanUp();
+        Assert.assertEquals(cache.policy().eviction().get().weightedSize().getAsLong(), 5100L + 256L);
+
+        // Over budget, some entries get evicted
+        cache.put("larger", new byte[8000]);
+        cache.cleanUp();
+        Assert.assertTrue(cache.policy().eviction().get().weightedSize().getAsLong() <= 10_000L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(ConfigurableCaffeineCacheManager cacheManager, String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
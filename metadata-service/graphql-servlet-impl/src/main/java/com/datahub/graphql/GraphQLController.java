@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -38,6 +40,11 @@ import static com.linkedin.metadata.Constants.*;
 @RestController
 public class GraphQLController {
 
+  /**
+   * Requests setting this header to true get tracing information in the extensions of their response.
+   */
+  private static final String TRACE_HEADER_NAME = "X-DataHub-Trace";
+
   public GraphQLController() {
     MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "error"));
     MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "call"));
@@ -70,12 +77,18 @@ public class GraphQLController {
     }
 
     /*
-     * Extract "query" field
+     * Extract "query" field, it may be omitted for persisted queries
      */
     JsonNode queryJson = bodyJson.get("query");
-    if (queryJson == null) {
+    JsonNode extensionsJson = bodyJson.get("extensions");
+    if (queryJson == null && (extensionsJson == null || extensionsJson.isNull())) {
       return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
     }
+    final String query = queryJson != null && !queryJson.isNull() ? queryJson.asText() : null;
+    final Map<String, Object> extensions = (extensionsJson != null && !extensionsJson.isNull())
+      ? new ObjectMapper().convertValue(extensionsJson, new TypeReference<Map<String, Object>>() { })
+      : Collections.emptyMap();
+    final boolean tracing = Boolean.parseBoolean(httpEntity.getHeaders().getFirst(TRACE_HEADER_NAME));
 
     /*
      * Extract "variables" map
@@ -100,7 +113,11 @@ public class GraphQLController {
       /*
        * Execute GraphQL Query
        */
-      ExecutionResult executionResult = _engine.execute(queryJson.asText(), variables, context);
+      final long startTime = System.currentTimeMillis();
+      final AtomicReference<String> rootFieldName = new AtomicReference<>();
+      ExecutionResult executionResult = _engine.execute(query, variables, extensions, tracing, context,
+          rootFieldName::set);
+      final long duration = System.currentTimeMillis() - startTime;
 
       if (executionResult.getErrors().size() != 0) {
         // There were GraphQL errors. Report in error logs.
@@ -118,9 +135,7 @@ public class GraphQLController {
        * Format & Return Response
        */
       try {
-        submitMetrics(executionResult);
-        // Remove tracing from response to reduce bulk, not used by the frontend
-        executionResult.getExtensions().remove("tracing");
+        submitMetrics(executionResult, rootFieldName.get(), duration);
         String responseBodyStr = new ObjectMapper().writeValueAsString(executionResult.toSpecification());
         return new ResponseEntity<>(responseBodyStr, HttpStatus.OK);
       } catch (IllegalArgumentException | JsonProcessingException e) {
@@ -152,7 +167,7 @@ public class GraphQLController {
   }
 
   @SuppressWarnings("unchecked")
-  private void submitMetrics(ExecutionResult executionResult) {
+  private void submitMetrics(ExecutionResult executionResult, @Nullable String rootFieldName, long duration) {
     try {
       observeErrors(executionResult);
       MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "call")).inc();
@@ -167,6 +182,11 @@ public class GraphQLController {
                 parentResolver = resolvers.stream().filter(resolver -> resolver.get("parentType").equals("Query")).findFirst();
         String fieldName = parentResolver.isPresent() ? (String) parentResolver.get().get("fieldName") : "UNKNOWN";
         MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), fieldName)).update(totalDuration);
+      } else {
+        // Tracing was not requested, the root field of the parsed query is used as the keys of the result may be aliases.
+        // It is a field of the schema, so clients cannot create new metrics.
+        String metricName = rootFieldName != null ? rootFieldName : "UNKNOWN";
+        MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), metricName)).update(duration);
       }
     } catch (Exception e) {
       MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "submitMetrics", "exception")).inc();
@@ -146,9 +146,7 @@ public class EntitiesController {
       throw new UnauthorizedException(actorUrnStr + " is unauthorized to edit entities.");
     }
 
-    List<Pair<String, Boolean>> responses = proposals.stream()
-        .map(proposal -> MappingUtil.ingestProposal(proposal, actorUrnStr, _entityService))
-        .collect(Collectors.toList());
+    List<Pair<String, Boolean>> responses = MappingUtil.ingestProposalBatch(proposals, actorUrnStr, _entityService);
     if (responses.stream().anyMatch(Pair::getSecond)) {
       return ResponseEntity.status(HttpStatus.CREATED)
           .body(responses.stream().filter(Pair::getSecond).map(Pair::getFirst).collect(Collectors.toList()));
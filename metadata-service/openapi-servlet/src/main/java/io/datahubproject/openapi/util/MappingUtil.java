@@ -39,6 +39,7 @@ import io.datahubproject.openapi.generated.MetadataChangeProposal;
 import io.datahubproject.openapi.generated.OneOfEnvelopedAspectValue;
 import io.datahubproject.openapi.generated.OneOfGenericAspectValue;
 import io.datahubproject.openapi.generated.Status;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -285,6 +286,50 @@ public class MappingUtil {
     }
   }
 
+  /**
+   * Ingests the proposals and their additional changes through {@link EntityService#ingestProposalBatch}, returning
+   * the urn and whether it was updated for each provided proposal, in order.
+   */
+  public static List<Pair<String, Boolean>> ingestProposalBatch(List<com.linkedin.mxe.MetadataChangeProposal> serviceProposals,
+      String actorUrn, EntityService entityService) {
+    // TODO: Use the actor present in the IC.
+    Timer.Context context = MetricUtils.timer("postEntities").time();
+    final com.linkedin.common.AuditStamp auditStamp =
+        new com.linkedin.common.AuditStamp().setTime(System.currentTimeMillis())
+            .setActor(UrnUtils.getUrn(actorUrn));
+
+    final List<com.linkedin.mxe.MetadataChangeProposal> proposals = new ArrayList<>();
+    final List<Integer> inputPositions = new ArrayList<>();
+    for (com.linkedin.mxe.MetadataChangeProposal serviceProposal : serviceProposals) {
+      inputPositions.add(proposals.size());
+      proposals.add(serviceProposal);
+      proposals.addAll(AspectUtils.getAdditionalChanges(serviceProposal, entityService));
+    }
+
+    log.debug("Proposals: {}", serviceProposals.size());
+    Throwable exceptionally = null;
+    try {
+      List<EntityService.IngestProposalResult> proposalResults = entityService.ingestProposalBatch(proposals, auditStamp, false);
+      return inputPositions.stream()
+          .map(proposalResults::get)
+          .map(proposalResult -> new Pair<>(proposalResult.getUrn().toString(), proposalResult.isDidUpdate()))
+          .collect(Collectors.toList());
+    } catch (ValidationException ve) {
+      exceptionally = ve;
+      throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, ve.getMessage(), null, null, null);
+    } catch (Exception e) {
+      exceptionally = e;
+      throw e;
+    } finally {
+      if (exceptionally != null) {
+        MetricUtils.counter(MetricRegistry.name("postEntities", "failed")).inc();
+      } else {
+        MetricUtils.counter(MetricRegistry.name("postEntities", "success")).inc();
+      }
+      context.stop();
+    }
+  }
+
   public static MetadataChangeProposal mapToProposal(UpsertAspectRequest aspectRequest) {
     MetadataChangeProposal metadataChangeProposal = new MetadataChangeProposal();
     io.datahubproject.openapi.generated.GenericAspect
@@ -10,6 +10,7 @@ import com.linkedin.aspect.GetTimeseriesAspectValuesResponse;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.authorization.PoliciesConfig;
@@ -40,7 +41,9 @@ import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -63,12 +66,14 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
+  private static final String ACTION_INGEST_PROPOSAL_BATCH = "ingestProposalBatch";
   private static final String ACTION_GET_COUNT = "getCount";
   private static final String ACTION_RESTORE_INDICES = "restoreIndices";
 
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ASPECT = "aspect";
   private static final String PARAM_PROPOSAL = "proposal";
+  private static final String PARAM_PROPOSALS = "proposals";
   private static final String PARAM_START_TIME_MILLIS = "startTimeMillis";
   private static final String PARAM_END_TIME_MILLIS = "endTimeMillis";
   private static final String PARAM_LATEST_VALUE = "latestValue";
@@ -172,21 +177,10 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
       @ActionParam(PARAM_ASYNC) @Optional(UNSET) String async) throws URISyntaxException {
     log.info("INGEST PROPOSAL proposal: {}", metadataChangeProposal);
 
-    boolean asyncBool;
-    if (UNSET.equals(async)) {
-      asyncBool = Boolean.parseBoolean(System.getenv(ASYNC_INGEST_DEFAULT_NAME));
-    } else {
-      asyncBool = Boolean.parseBoolean(async);
-    }
+    final boolean asyncBool = isAsync(async);
 
     Authentication authentication = AuthenticationContext.getAuthentication();
-    EntitySpec entitySpec = _entityService.getEntityRegistry().getEntitySpec(metadataChangeProposal.getEntityType());
-    Urn urn = EntityKeyUtils.getUrnFromProposal(metadataChangeProposal, entitySpec.getKeyAspectSpec());
-    if (Boolean.parseBoolean(System.getenv(REST_API_AUTHORIZATION_ENABLED_ENV))
-        && !isAuthorized(authentication, _authorizer, ImmutableList.of(PoliciesConfig.EDIT_ENTITY_PRIVILEGE),
-        new ResourceSpec(urn.getEntityType(), urn.toString()))) {
-      throw new RestLiServiceException(HttpStatus.S_401_UNAUTHORIZED, "User is unauthorized to modify entity " + urn);
-    }
+    checkEditAuthorized(authentication, metadataChangeProposal);
     String actorUrnStr = authentication.getActor().toUrnStr();
     final AuditStamp auditStamp = new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(actorUrnStr));
 
@@ -209,6 +203,56 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
     }, MetricRegistry.name(this.getClass(), "ingestProposal"));
   }
 
+  /**
+   * Ingests many proposals at once, writing them to the primary store in as few transactions as possible.
+   * Returns the urn of each provided proposal, in order.
+   */
+  @Action(name = ACTION_INGEST_PROPOSAL_BATCH)
+  @Nonnull
+  @WithSpan
+  public Task<StringArray> ingestProposalBatch(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals,
+      @ActionParam(PARAM_ASYNC) @Optional(UNSET) String async) throws URISyntaxException {
+    log.info("INGEST PROPOSAL BATCH proposals: {}", metadataChangeProposals.length);
+
+    final boolean asyncBool = isAsync(async);
+
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    for (MetadataChangeProposal metadataChangeProposal : metadataChangeProposals) {
+      checkEditAuthorized(authentication, metadataChangeProposal);
+    }
+    String actorUrnStr = authentication.getActor().toUrnStr();
+    final AuditStamp auditStamp = new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(actorUrnStr));
+
+    return RestliUtil.toTask(() -> {
+      try {
+        // Additional changes (e.g. default aspects) follow their proposal, results are only returned for the input
+        final List<MetadataChangeProposal> proposals = new ArrayList<>();
+        final List<Integer> inputPositions = new ArrayList<>();
+        for (MetadataChangeProposal metadataChangeProposal : metadataChangeProposals) {
+          inputPositions.add(proposals.size());
+          proposals.add(metadataChangeProposal);
+          proposals.addAll(AspectUtils.getAdditionalChanges(metadataChangeProposal, _entityService));
+        }
+
+        final List<EntityService.IngestProposalResult> results =
+            _entityService.ingestProposalBatch(proposals, auditStamp, asyncBool);
+
+        final StringArray responseUrns = new StringArray();
+        for (int i = 0; i < metadataChangeProposals.length; i++) {
+          final EntityService.IngestProposalResult result = results.get(inputPositions.get(i));
+          if (!result.isQueued()) {
+            tryIndexRunId(result.getUrn(), metadataChangeProposals[i].getSystemMetadata(), _entitySearchService);
+          }
+          responseUrns.add(result.getUrn().toString());
+        }
+        return responseUrns;
+      } catch (ValidationException e) {
+        throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
+      }
+    }, MetricRegistry.name(this.getClass(), "ingestProposalBatch"));
+  }
+
   @Action(name = ACTION_GET_COUNT)
   @Nonnull
   @WithSpan
@@ -259,6 +303,24 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
     }, MetricRegistry.name(this.getClass(), "restoreIndices"));
   }
 
+  private static boolean isAsync(@Nonnull final String async) {
+    if (UNSET.equals(async)) {
+      return Boolean.parseBoolean(System.getenv(ASYNC_INGEST_DEFAULT_NAME));
+    }
+    return Boolean.parseBoolean(async);
+  }
+
+  private void checkEditAuthorized(@Nonnull final Authentication authentication,
+      @Nonnull final MetadataChangeProposal metadataChangeProposal) {
+    EntitySpec entitySpec = _entityService.getEntityRegistry().getEntitySpec(metadataChangeProposal.getEntityType());
+    Urn urn = EntityKeyUtils.getUrnFromProposal(metadataChangeProposal, entitySpec.getKeyAspectSpec());
+    if (Boolean.parseBoolean(System.getenv(REST_API_AUTHORIZATION_ENABLED_ENV))
+        && !isAuthorized(authentication, _authorizer, ImmutableList.of(PoliciesConfig.EDIT_ENTITY_PRIVILEGE),
+        new ResourceSpec(urn.getEntityType(), urn.toString()))) {
+      throw new RestLiServiceException(HttpStatus.S_401_UNAUTHORIZED, "User is unauthorized to modify entity " + urn);
+    }
+  }
+
   private static void tryIndexRunId(final Urn urn, final @Nullable SystemMetadata systemMetadata,
                                    final EntitySearchService entitySearchService) {
     if (systemMetadata != null && systemMetadata.hasRunId()) {
@@ -0,0 +1,79 @@
+package com.linkedin.metadata.utils.elasticsearch;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.EntitySpec;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Index naming convention which resolves some indices to other ones, for instance to write into freshly created indices
+ * before they replace the live ones. Patterns and entity name extraction are those of the underlying convention.
+ */
+public class RedirectingIndexConvention implements IndexConvention {
+  private final IndexConvention _delegate;
+  // Map from index name -> name of the index to use instead
+  private final Map<String, String> _redirects;
+
+  public RedirectingIndexConvention(@Nonnull IndexConvention delegate, @Nonnull Map<String, String> redirects) {
+    _delegate = delegate;
+    _redirects = redirects;
+  }
+
+  private String redirect(String indexName) {
+    return _redirects.getOrDefault(indexName, indexName);
+  }
+
+  @Override
+  public Optional<String> getPrefix() {
+    return _delegate.getPrefix();
+  }
+
+  @Nonnull
+  @Override
+  public String getIndexName(Class<? extends RecordTemplate> documentClass) {
+    return redirect(_delegate.getIndexName(documentClass));
+  }
+
+  @Nonnull
+  @Override
+  public String getIndexName(EntitySpec entitySpec) {
+    return redirect(_delegate.getIndexName(entitySpec));
+  }
+
+  @Nonnull
+  @Override
+  public String getIndexName(String baseIndexName) {
+    return redirect(_delegate.getIndexName(baseIndexName));
+  }
+
+  @Nonnull
+  @Override
+  public String getEntityIndexName(String entityName) {
+    return redirect(_delegate.getEntityIndexName(entityName));
+  }
+
+  @Nonnull
+  @Override
+  public String getTimeseriesAspectIndexName(String entityName, String aspectName) {
+    return redirect(_delegate.getTimeseriesAspectIndexName(entityName, aspectName));
+  }
+
+  @Nonnull
+  @Override
+  public String getAllEntityIndicesPattern() {
+    return _delegate.getAllEntityIndicesPattern();
+  }
+
+  @Nonnull
+  @Override
+  public String getAllTimeseriesAspectIndicesPattern() {
+    return _delegate.getAllTimeseriesAspectIndicesPattern();
+  }
+
+  @Override
+  public Optional<String> getEntityName(String indexName) {
+    return _delegate.getEntityName(indexName);
+  }
+}
@@ -1,6 +1,8 @@
 package com.linkedin.metadata.utils.metrics;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.SharedMetricRegistries;
 import com.codahale.metrics.Timer;
@@ -48,4 +50,12 @@ public class MetricUtils {
   public static Timer timer(String metricName) {
     return REGISTRY.timer(MetricRegistry.name(metricName));
   }
+
+  public static Histogram histogram(Class<?> klass, String metricName) {
+    return REGISTRY.histogram(MetricRegistry.name(klass, metricName));
+  }
+
+  public static <T> Gauge<T> gauge(Class<?> klass, String metricName, MetricRegistry.MetricSupplier<Gauge<T>> supplier) {
+    return REGISTRY.gauge(MetricRegistry.name(klass, metricName), supplier);
+  }
 }
@@ -0,0 +1,22 @@
+package com.linkedin.metadata.utils.elasticsearch;
+
+import java.util.Map;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class RedirectingIndexConventionTest {
+
+  @Test
+  public void testRedirectEntityIndex() {
+    IndexConvention indexConvention = new RedirectingIndexConvention(new IndexConventionImpl("prefix"),
+        Map.of("prefix_datasetindex_v2", "prefix_datasetindex_v2_1683649932260"));
+    assertEquals(indexConvention.getEntityIndexName("dataset"), "prefix_datasetindex_v2_1683649932260");
+    assertEquals(indexConvention.getEntityIndexName("chart"), "prefix_chartindex_v2");
+    assertEquals(indexConvention.getIndexName("datasetindex_v2"), "prefix_datasetindex_v2_1683649932260");
+    assertEquals(indexConvention.getEntityName("prefix_datasetindex_v2_1683649932260"), Optional.of("dataset"));
+    assertEquals(indexConvention.getAllEntityIndicesPattern(), "prefix_*index_v2");
+  }
+}